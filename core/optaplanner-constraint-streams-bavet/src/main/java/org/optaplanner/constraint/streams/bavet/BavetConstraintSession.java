@@ -19,8 +19,10 @@
 
 package org.optaplanner.constraint.streams.bavet;
 
+import java.util.Arrays;
 import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.concurrent.RecursiveAction;
 
 import org.optaplanner.constraint.streams.bavet.common.AbstractNode;
 import org.optaplanner.constraint.streams.bavet.uni.ForEachUniNode;
@@ -35,6 +37,9 @@ final class BavetConstraintSession<Score_ extends Score<Score_>> {
     private final Map<Class<?>, ForEachUniNode<Object>> declaredClassToNodeMap;
     private final AbstractNode[] nodes; // Indexed by nodeIndex
     private final Map<Class<?>, ForEachUniNode<Object>[]> effectiveClassToNodeArrayMap;
+    // Null unless the node network is propagated in parallel, in which case each partition has its own score inliner.
+    private final AbstractScoreInliner<Score_>[] partitionScoreInliners;
+    private final PartitionPropagationTask[] partitionTasks;
 
     public BavetConstraintSession(AbstractScoreInliner<Score_> scoreInliner,
             Map<Class<?>, ForEachUniNode<Object>> declaredClassToNodeMap,
@@ -43,6 +48,27 @@ final class BavetConstraintSession<Score_ extends Score<Score_>> {
         this.declaredClassToNodeMap = declaredClassToNodeMap;
         this.nodes = nodes;
         this.effectiveClassToNodeArrayMap = new IdentityHashMap<>(declaredClassToNodeMap.size());
+        this.partitionScoreInliners = null;
+        this.partitionTasks = null;
+    }
+
+    /**
+     * @param partitionScoreInliners never null, at least 2, constraint matching disabled
+     * @param declaredClassToNodeMap never null
+     * @param partitionNodes never null, indexed like partitionScoreInliners,
+     *        the nodes of different partitions never send tuples to each other
+     */
+    public BavetConstraintSession(AbstractScoreInliner<Score_>[] partitionScoreInliners,
+            Map<Class<?>, ForEachUniNode<Object>> declaredClassToNodeMap,
+            AbstractNode[][] partitionNodes) {
+        this.scoreInliner = partitionScoreInliners[0];
+        this.declaredClassToNodeMap = declaredClassToNodeMap;
+        this.nodes = Arrays.stream(partitionNodes).flatMap(Arrays::stream).toArray(AbstractNode[]::new);
+        this.effectiveClassToNodeArrayMap = new IdentityHashMap<>(declaredClassToNodeMap.size());
+        this.partitionScoreInliners = partitionScoreInliners;
+        this.partitionTasks = Arrays.stream(partitionNodes)
+                .map(PartitionPropagationTask::new)
+                .toArray(PartitionPropagationTask[]::new);
     }
 
     public void insert(Object fact) {
@@ -81,12 +107,44 @@ final class BavetConstraintSession<Score_ extends Score<Score_>> {
     }
 
     public Score_ calculateScore(int initScore) {
+        if (partitionTasks != null) {
+            return calculateScoreInParallel(initScore);
+        }
         for (AbstractNode node : nodes) {
             node.calculateScore();
         }
         return scoreInliner.extractScore(initScore);
     }
 
+    private Score_ calculateScoreInParallel(int initScore) {
+        for (int i = 1; i < partitionTasks.length; i++) {
+            partitionTasks[i].reinitialize();
+            partitionTasks[i].fork(); // Outside a ForkJoinPool, this forks into the common pool.
+        }
+        // The calling thread propagates the first partition itself instead of idling.
+        partitionTasks[0].reinitialize();
+        partitionTasks[0].quietlyInvoke();
+        for (int i = 1; i < partitionTasks.length; i++) {
+            partitionTasks[i].quietlyJoin();
+        }
+        // Only fail after every partition is done, so no task still touches the nodes.
+        for (PartitionPropagationTask partitionTask : partitionTasks) {
+            Throwable exception = partitionTask.getException();
+            if (exception instanceof RuntimeException) {
+                throw (RuntimeException) exception;
+            } else if (exception instanceof Error) {
+                throw (Error) exception;
+            } else if (exception != null) {
+                throw new IllegalStateException("Propagating a node partition failed.", exception);
+            }
+        }
+        Score_ score = partitionScoreInliners[0].extractScore(initScore);
+        for (int i = 1; i < partitionScoreInliners.length; i++) {
+            score = score.add(partitionScoreInliners[i].extractScore(0));
+        }
+        return score;
+    }
+
     public AbstractScoreInliner<Score_> getScoreInliner() {
         return scoreInliner;
     }
@@ -99,4 +157,21 @@ final class BavetConstraintSession<Score_ extends Score<Score_>> {
         return scoreInliner.getIndictmentMap();
     }
 
+    private static final class PartitionPropagationTask extends RecursiveAction {
+
+        private final AbstractNode[] nodes;
+
+        private PartitionPropagationTask(AbstractNode[] nodes) {
+            this.nodes = nodes;
+        }
+
+        @Override
+        protected void compute() {
+            for (AbstractNode node : nodes) {
+                node.calculateScore();
+            }
+        }
+
+    }
+
 }
@@ -27,6 +27,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 import org.optaplanner.constraint.streams.bavet.common.AbstractNode;
 import org.optaplanner.constraint.streams.bavet.common.BavetAbstractConstraintStream;
@@ -42,25 +43,43 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
 
     private final SolutionDescriptor<Solution_> solutionDescriptor;
     private final List<BavetConstraint<Solution_>> constraintList;
+    private final boolean parallelPropagationEnabled;
 
     public BavetConstraintSessionFactory(SolutionDescriptor<Solution_> solutionDescriptor,
             List<BavetConstraint<Solution_>> constraintList) {
+        this(solutionDescriptor, constraintList, false);
+    }
+
+    public BavetConstraintSessionFactory(SolutionDescriptor<Solution_> solutionDescriptor,
+            List<BavetConstraint<Solution_>> constraintList, boolean parallelPropagationEnabled) {
         this.solutionDescriptor = solutionDescriptor;
         this.constraintList = constraintList;
+        this.parallelPropagationEnabled = parallelPropagationEnabled;
     }
 
     // ************************************************************************
     // Node creation
     // ************************************************************************
 
+    /**
+     * @param workingSolution sometimes null
+     * @return never null, indexed like the constraints, equal if and only if both solutions weigh the constraints alike
+     */
+    public List<Score_> extractConstraintWeightList(Solution_ workingSolution) {
+        List<Score_> constraintWeightList = new ArrayList<>(constraintList.size());
+        for (BavetConstraint<Solution_> constraint : constraintList) {
+            constraintWeightList.add(constraint.extractConstraintWeight(workingSolution));
+        }
+        return constraintWeightList;
+    }
+
     public BavetConstraintSession<Score_> buildSession(boolean constraintMatchEnabled,
             Solution_ workingSolution) {
         ScoreDefinition<Score_> scoreDefinition = solutionDescriptor.getScoreDefinition();
-        AbstractScoreInliner<Score_> scoreInliner = AbstractScoreInliner.buildScoreInliner(scoreDefinition,
-                constraintMatchEnabled);
-
         Score_ zeroScore = scoreDefinition.getZeroScore();
         Set<BavetAbstractConstraintStream<Solution_>> constraintStreamSet = new LinkedHashSet<>();
+        List<Set<BavetAbstractConstraintStream<Solution_>>> activeConstraintStreamSetList =
+                new ArrayList<>(constraintList.size());
         Map<Constraint, Score_> constraintWeightMap = new HashMap<>(constraintList.size());
         for (BavetConstraint<Solution_> constraint : constraintList) {
             Score_ constraintWeight = constraint.extractConstraintWeight(workingSolution);
@@ -69,10 +88,43 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
             if (!constraintWeight.equals(zeroScore)) {
                 // Relies on BavetConstraintFactory#share(Stream_) occurring for all constraint stream instances
                 // to ensure there are no 2 equal ConstraintStream instances (with different child stream lists).
-                constraint.collectActiveConstraintStreams(constraintStreamSet);
+                Set<BavetAbstractConstraintStream<Solution_>> activeConstraintStreamSet = new LinkedHashSet<>();
+                constraint.collectActiveConstraintStreams(activeConstraintStreamSet);
+                activeConstraintStreamSetList.add(activeConstraintStreamSet);
+                constraintStreamSet.addAll(activeConstraintStreamSet);
                 constraintWeightMap.put(constraint, constraintWeight);
             }
         }
+        // Constraint matches and indictments are shared by all constraints, so they can not be collected in parallel.
+        if (parallelPropagationEnabled && !constraintMatchEnabled) {
+            List<Set<BavetAbstractConstraintStream<Solution_>>> partitionList =
+                    partitionConstraintStreams(constraintStreamSet, activeConstraintStreamSetList,
+                            ForkJoinPool.getCommonPoolParallelism() + 1);
+            if (partitionList.size() > 1) {
+                AbstractScoreInliner<Score_>[] partitionScoreInliners = new AbstractScoreInliner[partitionList.size()];
+                AbstractNode[][] partitionNodes = new AbstractNode[partitionList.size()][];
+                long nextNodeId = 0;
+                Map<Class<?>, ForEachUniNode<Object>> declaredClassToNodeMap = new LinkedHashMap<>();
+                for (int i = 0; i < partitionNodes.length; i++) {
+                    partitionScoreInliners[i] = AbstractScoreInliner.buildScoreInliner(scoreDefinition, false);
+                    List<AbstractNode> nodeList =
+                            buildNodeList(partitionList.get(i), constraintWeightMap, partitionScoreInliners[i]);
+                    nextNodeId = registerNodes(nodeList, nextNodeId, declaredClassToNodeMap);
+                    partitionNodes[i] = nodeList.toArray(new AbstractNode[0]);
+                }
+                return new BavetConstraintSession<>(partitionScoreInliners, declaredClassToNodeMap, partitionNodes);
+            }
+        }
+        AbstractScoreInliner<Score_> scoreInliner = AbstractScoreInliner.buildScoreInliner(scoreDefinition,
+                constraintMatchEnabled);
+        List<AbstractNode> nodeList = buildNodeList(constraintStreamSet, constraintWeightMap, scoreInliner);
+        Map<Class<?>, ForEachUniNode<Object>> declaredClassToNodeMap = new LinkedHashMap<>();
+        registerNodes(nodeList, 0L, declaredClassToNodeMap);
+        return new BavetConstraintSession<>(scoreInliner, declaredClassToNodeMap, nodeList.toArray(new AbstractNode[0]));
+    }
+
+    private List<AbstractNode> buildNodeList(Set<BavetAbstractConstraintStream<Solution_>> constraintStreamSet,
+            Map<Constraint, Score_> constraintWeightMap, AbstractScoreInliner<Score_> scoreInliner) {
         NodeBuildHelper<Score_> buildHelper = new NodeBuildHelper<>(constraintStreamSet, constraintWeightMap, scoreInliner);
         // Build constraintStreamSet in reverse order to create downstream nodes first
         // so every node only has final variables (some of which have downstream node method references).
@@ -81,9 +133,11 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
         for (BavetAbstractConstraintStream<Solution_> constraintStream : reversedConstraintStreamList) {
             constraintStream.buildNode(buildHelper);
         }
-        List<AbstractNode> nodeList = buildHelper.destroyAndGetNodeList();
-        Map<Class<?>, ForEachUniNode<Object>> declaredClassToNodeMap = new LinkedHashMap<>();
-        long nextNodeId = 0;
+        return buildHelper.destroyAndGetNodeList();
+    }
+
+    private static long registerNodes(List<AbstractNode> nodeList, long nextNodeId,
+            Map<Class<?>, ForEachUniNode<Object>> declaredClassToNodeMap) {
         for (AbstractNode node : nodeList) {
             node.setId(nextNodeId++);
             if (node instanceof ForEachUniNode) {
@@ -95,7 +149,71 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
                 }
             }
         }
-        return new BavetConstraintSession<>(scoreInliner, declaredClassToNodeMap, nodeList.toArray(new AbstractNode[0]));
+        return nextNodeId;
+    }
+
+    /**
+     * Splits the node network into partitions which share no nodes, so they can be propagated independently.
+     * Constraints which share a stream (for example the same forEach()) always end up in the same partition.
+     * Then the connected components are balanced over at most maximumPartitionCount partitions,
+     * largest first, each going to the partition with the fewest streams so far.
+     *
+     * @param constraintStreamSet never null, all active streams in build order
+     * @param activeConstraintStreamSetList never null, the active streams of each constraint
+     * @param maximumPartitionCount at least 1
+     * @return never null, each set in build order
+     */
+    static <Stream_> List<Set<Stream_>> partitionConstraintStreams(Set<Stream_> constraintStreamSet,
+            List<Set<Stream_>> activeConstraintStreamSetList, int maximumPartitionCount) {
+        // Union-find over the constraints, joining every constraint with the first earlier one that shares a stream.
+        int constraintCount = activeConstraintStreamSetList.size();
+        int[] parents = new int[constraintCount];
+        Map<Stream_, Integer> streamToConstraintIndexMap = new HashMap<>(constraintStreamSet.size());
+        for (int i = 0; i < constraintCount; i++) {
+            parents[i] = i;
+            for (Stream_ stream : activeConstraintStreamSetList.get(i)) {
+                Integer otherIndex = streamToConstraintIndexMap.putIfAbsent(stream, i);
+                if (otherIndex != null) {
+                    parents[findRoot(parents, i)] = findRoot(parents, otherIndex);
+                }
+            }
+        }
+        Map<Integer, Integer> rootToComponentSizeMap = new LinkedHashMap<>();
+        for (Map.Entry<Stream_, Integer> entry : streamToConstraintIndexMap.entrySet()) {
+            rootToComponentSizeMap.merge(findRoot(parents, entry.getValue()), 1, Integer::sum);
+        }
+        int partitionCount = Math.min(rootToComponentSizeMap.size(), maximumPartitionCount);
+        int[] partitionSizes = new int[partitionCount];
+        Map<Integer, Integer> rootToPartitionIndexMap = new HashMap<>(rootToComponentSizeMap.size());
+        rootToComponentSizeMap.entrySet().stream()
+                .sorted(Map.Entry.<Integer, Integer> comparingByValue().reversed())
+                .forEachOrdered(entry -> {
+                    int smallestPartitionIndex = 0;
+                    for (int i = 1; i < partitionCount; i++) {
+                        if (partitionSizes[i] < partitionSizes[smallestPartitionIndex]) {
+                            smallestPartitionIndex = i;
+                        }
+                    }
+                    partitionSizes[smallestPartitionIndex] += entry.getValue();
+                    rootToPartitionIndexMap.put(entry.getKey(), smallestPartitionIndex);
+                });
+        List<Set<Stream_>> partitionList = new ArrayList<>(partitionCount);
+        for (int i = 0; i < partitionCount; i++) {
+            partitionList.add(new LinkedHashSet<>());
+        }
+        for (Stream_ stream : constraintStreamSet) {
+            int root = findRoot(parents, streamToConstraintIndexMap.get(stream));
+            partitionList.get(rootToPartitionIndexMap.get(root)).add(stream);
+        }
+        return partitionList;
+    }
+
+    private static int findRoot(int[] parents, int index) {
+        while (parents[index] != index) {
+            parents[index] = parents[parents[index]]; // Path halving
+            index = parents[index];
+        }
+        return index;
     }
 
 }
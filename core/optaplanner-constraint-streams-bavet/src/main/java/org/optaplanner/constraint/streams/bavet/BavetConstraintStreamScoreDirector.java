@@ -19,7 +19,11 @@
 
 package org.optaplanner.constraint.streams.bavet;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.optaplanner.core.api.domain.entity.PlanningEntity;
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
@@ -28,6 +32,7 @@ import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
 import org.optaplanner.core.api.score.constraint.Indictment;
 import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
 import org.optaplanner.core.impl.score.director.AbstractScoreDirector;
@@ -44,6 +49,11 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
         extends AbstractScoreDirector<Solution_, Score_, BavetConstraintStreamScoreDirectorFactory<Solution_, Score_>> {
 
     protected BavetConstraintSession<Score_> session;
+    // Only used if warm start is enabled
+    private boolean sessionConstraintMatchEnabled;
+    private List<Score_> sessionConstraintWeightList;
+    // Not null if the session outlived the previous working solution, which were its facts and entities
+    private Set<Object> retainedSessionObjectSet = null;
 
     public BavetConstraintStreamScoreDirector(
             BavetConstraintStreamScoreDirectorFactory<Solution_, Score_> scoreDirectorFactory,
@@ -58,14 +68,49 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
     @Override
     public void setWorkingSolution(Solution_ workingSolution) {
         super.setWorkingSolution(workingSolution);
-        resetConstraintStreamingSession();
+        Set<Object> previousObjectSet = retainedSessionObjectSet;
+        retainedSessionObjectSet = null;
+        if (previousObjectSet != null && isRetainedSessionReusable()) {
+            warmStartConstraintStreamingSession(previousObjectSet);
+        } else {
+            resetConstraintStreamingSession();
+        }
     }
 
     private void resetConstraintStreamingSession() {
         session = scoreDirectorFactory.newSession(constraintMatchEnabledPreference, workingSolution);
+        if (warmStartEnabled) {
+            sessionConstraintMatchEnabled = constraintMatchEnabledPreference;
+            sessionConstraintWeightList = scoreDirectorFactory.extractConstraintWeightList(workingSolution);
+        }
         getSolutionDescriptor().visitAll(workingSolution, session::insert);
     }
 
+    private boolean isRetainedSessionReusable() {
+        // The node network depends on the constraint weights, so a reweighted solution needs a new session.
+        return sessionConstraintMatchEnabled == constraintMatchEnabledPreference
+                && sessionConstraintWeightList.equals(scoreDirectorFactory.extractConstraintWeightList(workingSolution));
+    }
+
+    /**
+     * Avoids rebuilding the node network and reinserting every problem fact,
+     * by only propagating the difference with the previous working solution.
+     *
+     * @param previousObjectSet never null, the facts and entities of the previous working solution, emptied
+     */
+    private void warmStartConstraintStreamingSession(Set<Object> previousObjectSet) {
+        SolutionDescriptor<Solution_> solutionDescriptor = getSolutionDescriptor();
+        solutionDescriptor.visitAll(workingSolution, object -> {
+            if (!previousObjectSet.remove(object)) {
+                session.insert(object);
+            } else if (solutionDescriptor.hasEntityDescriptor(object.getClass())) {
+                // Shared problem facts are presumed unchanged, but a shared entity might have been moved.
+                session.update(object);
+            }
+        });
+        previousObjectSet.forEach(session::retract);
+    }
+
     @Override
     public Score_ calculateScore() {
         variableListenerSupport.assertNotificationQueuesAreEmpty();
@@ -104,8 +149,14 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
 
     @Override
     public void close() {
+        if (warmStartEnabled && session != null && workingSolution != null) {
+            retainedSessionObjectSet = Collections.newSetFromMap(new IdentityHashMap<>());
+            getSolutionDescriptor().visitAll(workingSolution, retainedSessionObjectSet::add);
+        } else {
+            session = null;
+            retainedSessionObjectSet = null;
+        }
         super.close();
-        session = null;
     }
 
     // ************************************************************************
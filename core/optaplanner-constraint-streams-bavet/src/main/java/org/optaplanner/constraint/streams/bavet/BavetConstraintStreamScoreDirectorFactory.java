@@ -38,10 +38,16 @@ public final class BavetConstraintStreamScoreDirectorFactory<Solution_, Score_ e
 
     public BavetConstraintStreamScoreDirectorFactory(SolutionDescriptor<Solution_> solutionDescriptor,
             ConstraintProvider constraintProvider, EnvironmentMode environmentMode) {
+        this(solutionDescriptor, constraintProvider, environmentMode, false);
+    }
+
+    public BavetConstraintStreamScoreDirectorFactory(SolutionDescriptor<Solution_> solutionDescriptor,
+            ConstraintProvider constraintProvider, EnvironmentMode environmentMode, boolean parallelPropagationEnabled) {
         super(solutionDescriptor);
         BavetConstraintFactory<Solution_> constraintFactory = new BavetConstraintFactory<>(solutionDescriptor, environmentMode);
         constraintList = constraintFactory.buildConstraints(constraintProvider);
-        constraintSessionFactory = new BavetConstraintSessionFactory<>(solutionDescriptor, constraintList);
+        constraintSessionFactory =
+                new BavetConstraintSessionFactory<>(solutionDescriptor, constraintList, parallelPropagationEnabled);
     }
 
     @Override
@@ -54,6 +60,10 @@ public final class BavetConstraintStreamScoreDirectorFactory<Solution_, Score_ e
         return constraintSessionFactory.buildSession(constraintMatchEnabled, workingSolution);
     }
 
+    public List<Score_> extractConstraintWeightList(Solution_ workingSolution) {
+        return constraintSessionFactory.extractConstraintWeightList(workingSolution);
+    }
+
     @Override
     public AbstractScoreInliner<Score_> fireAndForget(Object... facts) {
         BavetConstraintSession<Score_> session = newSession(true, null);
@@ -21,6 +21,7 @@ package org.optaplanner.constraint.streams.bavet;
 
 import static org.optaplanner.core.api.score.stream.ConstraintStreamImplType.DROOLS;
 
+import java.util.Objects;
 import java.util.function.Supplier;
 
 import org.optaplanner.constraint.streams.common.AbstractConstraintStreamScoreDirectorFactory;
@@ -68,7 +69,10 @@ public final class BavetConstraintStreamScoreDirectorFactoryService<Solution_, S
                         "constraintProviderClass", config.getConstraintProviderClass());
                 ConfigUtils.applyCustomProperties(constraintProvider, "constraintProviderClass",
                         config.getConstraintProviderCustomProperties(), "constraintProviderCustomProperties");
-                return buildScoreDirectorFactory(solutionDescriptor, constraintProvider, environmentMode, false);
+                boolean parallelPropagationEnabled =
+                        Objects.requireNonNullElse(config.getConstraintStreamParallelPropagationEnabled(), false);
+                return new BavetConstraintStreamScoreDirectorFactory<>(solutionDescriptor, constraintProvider,
+                        environmentMode, parallelPropagationEnabled);
             };
         } else {
             if (config.getConstraintProviderCustomProperties() != null) {
@@ -35,6 +35,7 @@ import org.optaplanner.constraint.streams.bavet.common.NodeBuildHelper;
 import org.optaplanner.constraint.streams.common.inliner.JustificationsSupplier;
 import org.optaplanner.constraint.streams.common.inliner.UndoScoreImpacter;
 import org.optaplanner.constraint.streams.common.inliner.WeightedScoreImpacter;
+import org.optaplanner.core.api.function.TriFunction;
 import org.optaplanner.core.api.score.Score;
 
 public final class BavetScoringBiConstraintStream<Solution_, A, B>
@@ -123,64 +124,64 @@ public final class BavetScoringBiConstraintStream<Solution_, A, B>
         WeightedScoreImpacter<Score_, ?> weightedScoreImpacter =
                 buildHelper.getScoreInliner().buildWeightedScoreImpacter(constraint, constraintWeight);
         boolean constraintMatchEnabled = buildHelper.getScoreInliner().isConstraintMatchEnabled();
-        BiFunction<A, B, UndoScoreImpacter> scoreImpacter;
+        TriFunction<A, B, UndoScoreImpacter, UndoScoreImpacter> scoreImpacter;
         if (intMatchWeigher != null) {
             if (constraintMatchEnabled) {
-                scoreImpacter = (a, b) -> {
+                scoreImpacter = (a, b, undoScoreImpacter) -> {
                     int matchWeight = intMatchWeigher.applyAsInt(a, b);
                     constraint.assertCorrectImpact(matchWeight);
                     JustificationsSupplier justificationsSupplier =
                             of(constraint, constraint.getJustificationMapping(), constraint.getIndictedObjectsMapping(), a, b);
-                    return weightedScoreImpacter.impactScore(matchWeight, justificationsSupplier);
+                    return weightedScoreImpacter.impactScore(matchWeight, justificationsSupplier, undoScoreImpacter);
                 };
             } else {
-                scoreImpacter = (a, b) -> {
+                scoreImpacter = (a, b, undoScoreImpacter) -> {
                     int matchWeight = intMatchWeigher.applyAsInt(a, b);
                     constraint.assertCorrectImpact(matchWeight);
-                    return weightedScoreImpacter.impactScore(matchWeight, null);
+                    return weightedScoreImpacter.impactScore(matchWeight, null, undoScoreImpacter);
                 };
             }
         } else if (longMatchWeigher != null) {
             if (constraintMatchEnabled) {
-                scoreImpacter = (a, b) -> {
+                scoreImpacter = (a, b, undoScoreImpacter) -> {
                     long matchWeight = longMatchWeigher.applyAsLong(a, b);
                     constraint.assertCorrectImpact(matchWeight);
                     JustificationsSupplier justificationsSupplier =
                             of(constraint, constraint.getJustificationMapping(), constraint.getIndictedObjectsMapping(), a, b);
-                    return weightedScoreImpacter.impactScore(matchWeight, justificationsSupplier);
+                    return weightedScoreImpacter.impactScore(matchWeight, justificationsSupplier, undoScoreImpacter);
                 };
             } else {
-                scoreImpacter = (a, b) -> {
+                scoreImpacter = (a, b, undoScoreImpacter) -> {
                     long matchWeight = longMatchWeigher.applyAsLong(a, b);
                     constraint.assertCorrectImpact(matchWeight);
-                    return weightedScoreImpacter.impactScore(matchWeight, null);
+                    return weightedScoreImpacter.impactScore(matchWeight, null, undoScoreImpacter);
                 };
             }
         } else if (bigDecimalMatchWeigher != null) {
             if (constraintMatchEnabled) {
-                scoreImpacter = (a, b) -> {
+                scoreImpacter = (a, b, undoScoreImpacter) -> {
                     BigDecimal matchWeight = bigDecimalMatchWeigher.apply(a, b);
                     constraint.assertCorrectImpact(matchWeight);
                     JustificationsSupplier justificationsSupplier =
                             of(constraint, constraint.getJustificationMapping(), constraint.getIndictedObjectsMapping(), a, b);
-                    return weightedScoreImpacter.impactScore(matchWeight, justificationsSupplier);
+                    return weightedScoreImpacter.impactScore(matchWeight, justificationsSupplier, undoScoreImpacter);
                 };
             } else {
-                scoreImpacter = (a, b) -> {
+                scoreImpacter = (a, b, undoScoreImpacter) -> {
                     BigDecimal matchWeight = bigDecimalMatchWeigher.apply(a, b);
                     constraint.assertCorrectImpact(matchWeight);
-                    return weightedScoreImpacter.impactScore(matchWeight, null);
+                    return weightedScoreImpacter.impactScore(matchWeight, null, undoScoreImpacter);
                 };
             }
         } else if (noMatchWeigher) {
             if (constraintMatchEnabled) {
-                scoreImpacter = (a, b) -> {
+                scoreImpacter = (a, b, undoScoreImpacter) -> {
                     JustificationsSupplier justificationsSupplier =
                             of(constraint, constraint.getJustificationMapping(), constraint.getIndictedObjectsMapping(), a, b);
-                    return weightedScoreImpacter.impactScore(1, justificationsSupplier);
+                    return weightedScoreImpacter.impactScore(1, justificationsSupplier, undoScoreImpacter);
                 };
             } else {
-                scoreImpacter = (a, b) -> weightedScoreImpacter.impactScore(1, null);
+                scoreImpacter = (a, b, undoScoreImpacter) -> weightedScoreImpacter.impactScore(1, null, undoScoreImpacter);
             }
         } else {
             throw new IllegalStateException("Impossible state: neither of the supported match weighers provided.");
@@ -43,6 +43,12 @@ public final class BiTupleImpl<A, B> extends AbstractTuple implements BiTuple<A,
         return factB;
     }
 
+    @Override
+    protected void clearFacts() {
+        factA = null;
+        factB = null;
+    }
+
     @Override
     public String toString() {
         return "{" + factA + ", " + factB + "}";
@@ -20,7 +20,9 @@
 package org.optaplanner.constraint.streams.bavet.common;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.function.Consumer;
@@ -51,7 +53,19 @@ public abstract class AbstractJoinNode<LeftTuple_ extends Tuple, Right_, OutTupl
     private final boolean isFiltering;
     private final int outputStoreIndexLeftOutEntry;
     private final int outputStoreIndexRightOutEntry;
-    protected final Queue<OutTuple_> dirtyTupleQueue;
+    protected final Queue<MutableOutTuple_> dirtyTupleQueue;
+    /**
+     * Out tuples which died during the last {@link #calculateScore()}.
+     * The next nodes (such as an ifExists node, which passes the same tuple on) may still hold on to them
+     * until they have done their own {@link AbstractNode#calculateScore()},
+     * so they are only recycled once this node receives its next insert.
+     */
+    private final List<MutableOutTuple_> deadOutTupleList;
+    /**
+     * Recycled out tuples, reused by {@link #insertOutTuple(Tuple, UniTuple)} before any new out tuple is created.
+     * Joins can create and kill millions of out tuples, so this keeps the garbage collector out of the way.
+     */
+    private final ArrayDeque<MutableOutTuple_> recycledOutTupleStack;
 
     protected AbstractJoinNode(int inputStoreIndexLeftOutTupleList, int inputStoreIndexRightOutTupleList,
             TupleLifecycle<OutTuple_> nextNodesTupleLifecycle, boolean isFiltering,
@@ -63,6 +77,8 @@ public abstract class AbstractJoinNode<LeftTuple_ extends Tuple, Right_, OutTupl
         this.outputStoreIndexLeftOutEntry = outputStoreIndexLeftOutEntry;
         this.outputStoreIndexRightOutEntry = outputStoreIndexRightOutEntry;
         dirtyTupleQueue = new ArrayDeque<>(1000);
+        deadOutTupleList = new ArrayList<>();
+        recycledOutTupleStack = new ArrayDeque<>();
     }
 
     protected abstract MutableOutTuple_ createOutTuple(LeftTuple_ leftTuple, UniTuple<Right_> rightTuple);
@@ -74,7 +90,16 @@ public abstract class AbstractJoinNode<LeftTuple_ extends Tuple, Right_, OutTupl
     protected abstract boolean testFiltering(LeftTuple_ leftTuple, UniTuple<Right_> rightTuple);
 
     protected final void insertOutTuple(LeftTuple_ leftTuple, UniTuple<Right_> rightTuple) {
-        MutableOutTuple_ outTuple = createOutTuple(leftTuple, rightTuple);
+        if (!deadOutTupleList.isEmpty()) {
+            recycleDeadOutTuples();
+        }
+        MutableOutTuple_ outTuple = recycledOutTupleStack.pollLast();
+        if (outTuple == null) {
+            outTuple = createOutTuple(leftTuple, rightTuple);
+        } else {
+            setOutTupleLeftFacts(outTuple, leftTuple);
+            setOutTupleRightFact(outTuple, rightTuple);
+        }
         TupleList<MutableOutTuple_> outTupleListLeft = leftTuple.getStore(inputStoreIndexLeftOutTupleList);
         TupleListEntry<MutableOutTuple_> outEntryLeft = outTupleListLeft.add(outTuple);
         outTuple.setStore(outputStoreIndexLeftOutEntry, outEntryLeft);
@@ -116,7 +141,7 @@ public abstract class AbstractJoinNode<LeftTuple_ extends Tuple, Right_, OutTupl
         doUpdateOutTuple(outTuple);
     }
 
-    private void doUpdateOutTuple(OutTuple_ outTuple) {
+    private void doUpdateOutTuple(MutableOutTuple_ outTuple) {
         switch (outTuple.getState()) {
             case CREATING:
             case UPDATING:
@@ -207,7 +232,7 @@ public abstract class AbstractJoinNode<LeftTuple_ extends Tuple, Right_, OutTupl
 
     @Override
     public final void calculateScore() {
-        for (OutTuple_ tuple : dirtyTupleQueue) {
+        for (MutableOutTuple_ tuple : dirtyTupleQueue) {
             switch (tuple.getState()) {
                 case CREATING:
                     nextNodesTupleLifecycle.insert(tuple);
@@ -220,9 +245,11 @@ public abstract class AbstractJoinNode<LeftTuple_ extends Tuple, Right_, OutTupl
                 case DYING:
                     nextNodesTupleLifecycle.retract(tuple);
                     tuple.setState(BavetTupleState.DEAD);
+                    deadOutTupleList.add(tuple);
                     break;
                 case ABORTING:
                     tuple.setState(BavetTupleState.DEAD);
+                    deadOutTupleList.add(tuple);
                     break;
                 case OK:
                 case DEAD:
@@ -234,4 +261,13 @@ public abstract class AbstractJoinNode<LeftTuple_ extends Tuple, Right_, OutTupl
         dirtyTupleQueue.clear();
     }
 
+    private void recycleDeadOutTuples() {
+        for (MutableOutTuple_ outTuple : deadOutTupleList) {
+            // Every out tuple is created by a subclass, which always creates an AbstractTuple.
+            ((AbstractTuple) outTuple).recycle();
+            recycledOutTupleStack.add(outTuple);
+        }
+        deadOutTupleList.clear();
+    }
+
 }
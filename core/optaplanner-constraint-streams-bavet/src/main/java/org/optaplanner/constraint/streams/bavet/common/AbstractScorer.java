@@ -42,7 +42,7 @@ public abstract class AbstractScorer<Tuple_ extends Tuple> implements TupleLifec
             throw new IllegalStateException("Impossible state: the input for the tuple (" + tuple
                     + ") was already added in the tupleStore.");
         }
-        tuple.setStore(inputStoreIndex, impact(tuple));
+        tuple.setStore(inputStoreIndex, impact(tuple, null));
     }
 
     @Override
@@ -52,10 +52,17 @@ public abstract class AbstractScorer<Tuple_ extends Tuple> implements TupleLifec
         if (undoScoreImpacter != null) {
             undoScoreImpacter.run();
         }
-        tuple.setStore(inputStoreIndex, impact(tuple));
+        // The undo of the previous impact is spent, so the score impacter may recycle it for the new impact.
+        tuple.setStore(inputStoreIndex, impact(tuple, undoScoreImpacter));
     }
 
-    protected abstract UndoScoreImpacter impact(Tuple_ tuple);
+    /**
+     * @param tuple never null
+     * @param reusableUndoScoreImpacter sometimes null, an already run undo of a previous impact of the same tuple,
+     *        which the {@link org.optaplanner.constraint.streams.common.inliner.WeightedScoreImpacter} may reuse
+     * @return never null
+     */
+    protected abstract UndoScoreImpacter impact(Tuple_ tuple, UndoScoreImpacter reusableUndoScoreImpacter);
 
     /**
      * Helps with debugging exceptions thrown by user code during impact calls.
@@ -19,6 +19,8 @@
 
 package org.optaplanner.constraint.streams.bavet.common;
 
+import java.util.Arrays;
+
 public abstract class AbstractTuple implements Tuple {
 
     /*
@@ -77,4 +79,25 @@ public abstract class AbstractTuple implements Tuple {
         return value;
     }
 
+    /**
+     * Turns a {@link BavetTupleState#DEAD} tuple into a blank {@link BavetTupleState#CREATING} tuple,
+     * so its origin node can reuse it (and its store array) instead of allocating a new tuple.
+     * Releases the facts and store values, so a recycled tuple doesn't keep them from being garbage collected.
+     */
+    public final void recycle() {
+        if (state != BavetTupleState.DEAD) {
+            throw new IllegalStateException("Impossible state: The tuple (" + this + ") is in state (" + state
+                    + ") so it cannot be recycled.");
+        }
+        if (storeIsArray) {
+            Arrays.fill((Object[]) store, null);
+        } else {
+            store = null;
+        }
+        clearFacts();
+        state = BavetTupleState.CREATING;
+    }
+
+    protected abstract void clearFacts();
+
 }
@@ -61,6 +61,9 @@ public class IndexerFactory {
          * Parent indexers delegate to their children, until they reach the ultimate NoneIndexer.
          * Example 1: EQUAL+LESS_THAN joiner will become EqualsIndexer -> ComparisonIndexer -> NoneIndexer.
          *
+         * An EqualsIndexer over a single index property is a PrimitiveEqualsIndexer,
+         * so that int and long keys (such as ids) are indexed without HashMap entries.
+         *
          * Note that if creating indexer for a right bridge node, the joiner type has to be flipped.
          * (<A, B> becomes <B, A>.)
          */
@@ -69,7 +72,7 @@ public class IndexerFactory {
         } else if (joinerTypes.length == 1) { // Single joiner maps directly to EqualsIndexer or ComparisonIndexer.
             JoinerType joinerType = joinerTypes[0];
             if (joinerType == JoinerType.EQUAL) {
-                return new EqualsIndexer<>(NoneIndexer::new);
+                return new PrimitiveEqualsIndexer<>(NoneIndexer::new);
             } else {
                 return new ComparisonIndexer<>(isLeftBridge ? joinerType : joinerType.flip(), NoneIndexer::new);
             }
@@ -84,6 +87,11 @@ public class IndexerFactory {
          * the joiner on the right results in an indexer that is a child to the indexer of the joiner on the left.
          * Example: EQUAL+LESS_THAN+EQUAL results in EqualsIndexer -> ComparisonIndexer -> EqualsIndexer.
          *
+         * Rule 3: A LESS_THAN(_OR_EQUAL) joiner immediately followed by a GREATER_THAN(_OR_EQUAL) joiner, or vice versa,
+         * becomes a single IntervalIndexer, instead of two ComparisonIndexers.
+         * Example: EQUAL+LESS_THAN+GREATER_THAN (such as equal() and overlapping()) results in
+         * EqualsIndexer -> IntervalIndexer.
+         *
          * The following code builds the children first, so it needs to iterate over the joiners in reverse order.
          */
         NavigableMap<Integer, JoinerType> joinerTypeMap = new TreeMap<>();
@@ -94,10 +102,22 @@ public class IndexerFactory {
                 joinerTypeMap.put(i, previousJoinerType);
             }
         }
+        // Pairs are formed from left to right, so LESS_THAN+GREATER_THAN+LESS_THAN pairs up the first two joiners.
+        boolean[] intervalStarts = new boolean[joinerTypes.length];
+        for (int i = 0; i < joinerTypes.length - 1; i++) {
+            if (isInterval(joinerTypes[i], joinerTypes[i + 1])) {
+                intervalStarts[i] = true;
+                i++;
+            }
+        }
         NavigableMap<Integer, JoinerType> descendingJoinerTypeMap = joinerTypeMap.descendingMap();
         Supplier<Indexer<T>> downstreamIndexerSupplier = NoneIndexer::new;
+        int skippedPropertyEndingExclusive = -1;
         for (Map.Entry<Integer, JoinerType> entry : descendingJoinerTypeMap.entrySet()) {
             Integer endingPropertyExclusive = entry.getKey();
+            if (endingPropertyExclusive == skippedPropertyEndingExclusive) { // Already part of an IntervalIndexer.
+                continue;
+            }
             Integer previousEndingPropertyExclusiveOrNull = descendingJoinerTypeMap.higherKey(endingPropertyExclusive);
             int previousEndingPropertyExclusive =
                     previousEndingPropertyExclusiveOrNull == null ? 0 : previousEndingPropertyExclusiveOrNull;
@@ -114,8 +134,32 @@ public class IndexerFactory {
                     throw new IllegalStateException("Impossible state: index key ending position <= starting position ("
                             + endingPropertyExclusive + " <= " + previousEndingPropertyExclusive + ")");
                 }
-                downstreamIndexerSupplier = () -> new EqualsIndexer<>(previousEndingPropertyExclusive, endingPropertyExclusive,
-                        actualDownstreamIndexerSupplier);
+                if (endingPropertyExclusive - previousEndingPropertyExclusive == 1) {
+                    downstreamIndexerSupplier = () -> new PrimitiveEqualsIndexer<>(previousEndingPropertyExclusive,
+                            actualDownstreamIndexerSupplier);
+                } else {
+                    downstreamIndexerSupplier = () -> new EqualsIndexer<>(previousEndingPropertyExclusive,
+                            endingPropertyExclusive, actualDownstreamIndexerSupplier);
+                }
+            } else if (previousEndingPropertyExclusive > 0 && intervalStarts[previousEndingPropertyExclusive - 1]) {
+                /*
+                 * Interval indexers have two comparison keys, on this position and the one immediately before it.
+                 *
+                 * Example: For an EQUAL+LESS_THAN+GREATER_THAN joiner, the keys are on position 1 and 2.
+                 */
+                int firstKeyPosition = previousEndingPropertyExclusive - 1;
+                int secondKeyPosition = previousEndingPropertyExclusive;
+                JoinerType firstJoinerType = isLeftBridge ? joinerTypes[firstKeyPosition]
+                        : joinerTypes[firstKeyPosition].flip();
+                JoinerType secondJoinerType = isLeftBridge ? joinerType : joinerType.flip();
+                if (IntervalIndexer.isLowJoinerType(firstJoinerType)) {
+                    downstreamIndexerSupplier = () -> new IntervalIndexer<>(firstJoinerType, firstKeyPosition,
+                            secondJoinerType, secondKeyPosition, actualDownstreamIndexerSupplier);
+                } else {
+                    downstreamIndexerSupplier = () -> new IntervalIndexer<>(secondJoinerType, secondKeyPosition,
+                            firstJoinerType, firstKeyPosition, actualDownstreamIndexerSupplier);
+                }
+                skippedPropertyEndingExclusive = previousEndingPropertyExclusive;
             } else {
                 JoinerType actualJoinerType = isLeftBridge ? joinerType : joinerType.flip();
                 /*
@@ -133,4 +177,9 @@ public class IndexerFactory {
         return downstreamIndexerSupplier.get();
     }
 
+    private static boolean isInterval(JoinerType joinerType, JoinerType otherJoinerType) {
+        return (IntervalIndexer.isLowJoinerType(joinerType) && IntervalIndexer.isHighJoinerType(otherJoinerType))
+                || (IntervalIndexer.isHighJoinerType(joinerType) && IntervalIndexer.isLowJoinerType(otherJoinerType));
+    }
+
 }
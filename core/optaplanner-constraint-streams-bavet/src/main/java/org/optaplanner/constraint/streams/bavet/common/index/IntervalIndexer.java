@@ -0,0 +1,359 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.optaplanner.constraint.streams.bavet.common.index;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.optaplanner.constraint.streams.bavet.common.collection.TupleListEntry;
+import org.optaplanner.core.impl.score.stream.JoinerType;
+
+/**
+ * Indexes a pair of comparison joiners of opposite direction,
+ * such as the {@link JoinerType#LESS_THAN} and {@link JoinerType#GREATER_THAN} pair
+ * that {@link org.optaplanner.core.api.score.stream.Joiners#overlapping} is made of.
+ * A stored element has a low key (compared by the LESS_THAN joiner) and a high key (compared by the GREATER_THAN joiner).
+ * It matches if its low key is below the query's low limit and its high key is above the query's high limit.
+ * For overlapping joiners, that means the stored interval overlaps with the query interval.
+ * <p>
+ * The low keys are kept in an AVL tree, where each node knows the maximum high key in its subtree.
+ * A lookup skips every subtree that has no high key above the high limit,
+ * so it only visits the elements that actually overlap, instead of every element with a low key below the low limit,
+ * as two nested {@link ComparisonIndexer}s would.
+ *
+ * @param <T> the element type
+ * @param <Key_> the type of both the low and the high key
+ */
+final class IntervalIndexer<T, Key_ extends Comparable<Key_>> implements Indexer<T> {
+
+    private final int lowKeyPosition;
+    private final int highKeyPosition;
+    private final boolean lowHasOrEquals;
+    private final boolean highHasOrEquals;
+    private final Supplier<Indexer<T>> downstreamIndexerSupplier;
+    private Node<T, Key_> root = null;
+    private int nodeCount = 0;
+
+    /**
+     * @param lowJoinerType {@link JoinerType#LESS_THAN} or {@link JoinerType#LESS_THAN_OR_EQUAL}
+     * @param lowKeyPosition the position of the index property compared by the lowJoinerType
+     * @param highJoinerType {@link JoinerType#GREATER_THAN} or {@link JoinerType#GREATER_THAN_OR_EQUAL}
+     * @param highKeyPosition the position of the index property compared by the highJoinerType
+     * @param downstreamIndexerSupplier never null
+     */
+    public IntervalIndexer(JoinerType lowJoinerType, int lowKeyPosition, JoinerType highJoinerType, int highKeyPosition,
+            Supplier<Indexer<T>> downstreamIndexerSupplier) {
+        if (!isLowJoinerType(lowJoinerType) || !isHighJoinerType(highJoinerType)) {
+            throw new IllegalArgumentException("Impossible state: the lowJoinerType (" + lowJoinerType
+                    + ") and highJoinerType (" + highJoinerType + ") do not form an interval.");
+        }
+        this.lowKeyPosition = lowKeyPosition;
+        this.highKeyPosition = highKeyPosition;
+        this.lowHasOrEquals = lowJoinerType == JoinerType.LESS_THAN_OR_EQUAL;
+        this.highHasOrEquals = highJoinerType == JoinerType.GREATER_THAN_OR_EQUAL;
+        this.downstreamIndexerSupplier = Objects.requireNonNull(downstreamIndexerSupplier);
+    }
+
+    static boolean isLowJoinerType(JoinerType joinerType) {
+        return joinerType == JoinerType.LESS_THAN || joinerType == JoinerType.LESS_THAN_OR_EQUAL;
+    }
+
+    static boolean isHighJoinerType(JoinerType joinerType) {
+        return joinerType == JoinerType.GREATER_THAN || joinerType == JoinerType.GREATER_THAN_OR_EQUAL;
+    }
+
+    @Override
+    public TupleListEntry<T> put(IndexProperties indexProperties, T tuple) {
+        Key_ lowKey = indexProperties.toKey(lowKeyPosition);
+        Key_ highKey = indexProperties.toKey(highKeyPosition);
+        Node<T, Key_> node = root;
+        while (node != null) {
+            int comparison = lowKey.compareTo(node.lowKey);
+            if (comparison == 0) {
+                break;
+            }
+            node = comparison < 0 ? node.left : node.right;
+        }
+        Indexer<T> downstreamIndexer;
+        if (node == null) {
+            downstreamIndexer = downstreamIndexerSupplier.get();
+            root = insert(root, lowKey, highKey, downstreamIndexer);
+            nodeCount++;
+        } else {
+            // Avoids computeIfAbsent in order to not create lambdas on the hot path.
+            downstreamIndexer = node.highMap.get(highKey);
+            if (downstreamIndexer == null) {
+                downstreamIndexer = downstreamIndexerSupplier.get();
+                node.highMap.put(highKey, downstreamIndexer);
+                if (highKey.compareTo(node.maxHighKey) > 0) {
+                    updateMaxHighKeyOnPath(lowKey);
+                }
+            }
+        }
+        return downstreamIndexer.put(indexProperties, tuple);
+    }
+
+    private Node<T, Key_> insert(Node<T, Key_> node, Key_ lowKey, Key_ highKey, Indexer<T> downstreamIndexer) {
+        if (node == null) {
+            Node<T, Key_> newNode = new Node<>(lowKey);
+            newNode.highMap.put(highKey, downstreamIndexer);
+            newNode.update();
+            return newNode;
+        }
+        if (lowKey.compareTo(node.lowKey) < 0) {
+            node.left = insert(node.left, lowKey, highKey, downstreamIndexer);
+        } else {
+            node.right = insert(node.right, lowKey, highKey, downstreamIndexer);
+        }
+        return rebalance(node);
+    }
+
+    private void updateMaxHighKeyOnPath(Key_ lowKey) {
+        root = updatePath(root, lowKey);
+    }
+
+    private Node<T, Key_> updatePath(Node<T, Key_> node, Key_ lowKey) {
+        int comparison = lowKey.compareTo(node.lowKey);
+        if (comparison < 0) {
+            node.left = updatePath(node.left, lowKey);
+        } else if (comparison > 0) {
+            node.right = updatePath(node.right, lowKey);
+        }
+        node.update();
+        return node;
+    }
+
+    @Override
+    public void remove(IndexProperties indexProperties, TupleListEntry<T> entry) {
+        Key_ lowKey = indexProperties.toKey(lowKeyPosition);
+        Key_ highKey = indexProperties.toKey(highKeyPosition);
+        Node<T, Key_> node = findNode(lowKey);
+        Indexer<T> downstreamIndexer = node == null ? null : node.highMap.get(highKey);
+        if (downstreamIndexer == null) {
+            throw new IllegalStateException("Impossible state: the tuple (" + entry.getElement()
+                    + ") with indexProperties (" + indexProperties
+                    + ") doesn't exist in the indexer " + this + ".");
+        }
+        downstreamIndexer.remove(indexProperties, entry);
+        if (downstreamIndexer.isEmpty()) {
+            node.highMap.remove(highKey);
+            if (node.highMap.isEmpty()) {
+                root = delete(root, lowKey);
+                nodeCount--;
+            } else if (highKey.compareTo(node.maxHighKey) >= 0) {
+                updateMaxHighKeyOnPath(lowKey);
+            }
+        }
+    }
+
+    private Node<T, Key_> findNode(Key_ lowKey) {
+        Node<T, Key_> node = root;
+        while (node != null) {
+            int comparison = lowKey.compareTo(node.lowKey);
+            if (comparison == 0) {
+                return node;
+            }
+            node = comparison < 0 ? node.left : node.right;
+        }
+        return null;
+    }
+
+    private Node<T, Key_> delete(Node<T, Key_> node, Key_ lowKey) {
+        int comparison = lowKey.compareTo(node.lowKey);
+        if (comparison < 0) {
+            node.left = delete(node.left, lowKey);
+        } else if (comparison > 0) {
+            node.right = delete(node.right, lowKey);
+        } else {
+            if (node.left == null) {
+                return node.right;
+            } else if (node.right == null) {
+                return node.left;
+            }
+            // Replace the node by its in-order successor.
+            Node<T, Key_> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = deleteMin(node.right);
+            successor.left = node.left;
+            node = successor;
+        }
+        return rebalance(node);
+    }
+
+    private Node<T, Key_> deleteMin(Node<T, Key_> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = deleteMin(node.left);
+        return rebalance(node);
+    }
+
+    private Node<T, Key_> rebalance(Node<T, Key_> node) {
+        node.update();
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        } else if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private Node<T, Key_> rotateRight(Node<T, Key_> node) {
+        Node<T, Key_> newParent = node.left;
+        node.left = newParent.right;
+        newParent.right = node;
+        node.update();
+        newParent.update();
+        return newParent;
+    }
+
+    private Node<T, Key_> rotateLeft(Node<T, Key_> node) {
+        Node<T, Key_> newParent = node.right;
+        node.right = newParent.left;
+        newParent.left = node;
+        node.update();
+        newParent.update();
+        return newParent;
+    }
+
+    private static int height(Node<?, ?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    @Override
+    public int size(IndexProperties indexProperties) {
+        if (root == null) {
+            return 0;
+        }
+        Key_ lowLimit = indexProperties.toKey(lowKeyPosition);
+        Key_ highLimit = indexProperties.toKey(highKeyPosition);
+        return size(root, indexProperties, lowLimit, highLimit);
+    }
+
+    private int size(Node<T, Key_> node, IndexProperties indexProperties, Key_ lowLimit, Key_ highLimit) {
+        if (node == null || !matchesHigh(node.maxHighKey, highLimit)) {
+            return 0;
+        }
+        int size = size(node.left, indexProperties, lowLimit, highLimit);
+        if (matchesLow(node.lowKey, lowLimit)) {
+            for (Map.Entry<Key_, Indexer<T>> entry : node.highMap.entrySet()) {
+                if (!matchesHigh(entry.getKey(), highLimit)) {
+                    break;
+                }
+                size += entry.getValue().size(indexProperties);
+            }
+            size += size(node.right, indexProperties, lowLimit, highLimit);
+        }
+        return size;
+    }
+
+    @Override
+    public void forEach(IndexProperties indexProperties, Consumer<T> tupleConsumer) {
+        if (root == null) {
+            return;
+        }
+        Key_ lowLimit = indexProperties.toKey(lowKeyPosition);
+        Key_ highLimit = indexProperties.toKey(highKeyPosition);
+        forEach(root, indexProperties, tupleConsumer, lowLimit, highLimit);
+    }
+
+    private void forEach(Node<T, Key_> node, IndexProperties indexProperties, Consumer<T> tupleConsumer,
+            Key_ lowLimit, Key_ highLimit) {
+        // Prune the subtree if none of its high keys reach over the high limit.
+        if (node == null || !matchesHigh(node.maxHighKey, highLimit)) {
+            return;
+        }
+        forEach(node.left, indexProperties, tupleConsumer, lowLimit, highLimit);
+        // The right subtree only has higher low keys, so it can only match if this node matches.
+        if (matchesLow(node.lowKey, lowLimit)) {
+            // The high map iterates from the highest key down, so the boundary is found from the top down.
+            for (Map.Entry<Key_, Indexer<T>> entry : node.highMap.entrySet()) {
+                if (!matchesHigh(entry.getKey(), highLimit)) {
+                    break;
+                }
+                entry.getValue().forEach(indexProperties, tupleConsumer);
+            }
+            forEach(node.right, indexProperties, tupleConsumer, lowLimit, highLimit);
+        }
+    }
+
+    private boolean matchesLow(Key_ lowKey, Key_ lowLimit) {
+        int comparison = lowKey.compareTo(lowLimit);
+        return comparison < 0 || (lowHasOrEquals && comparison == 0);
+    }
+
+    private boolean matchesHigh(Key_ highKey, Key_ highLimit) {
+        int comparison = highKey.compareTo(highLimit);
+        return comparison > 0 || (highHasOrEquals && comparison == 0);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    @Override
+    public String toString() {
+        return "size = " + nodeCount;
+    }
+
+    private static final class Node<T, Key_ extends Comparable<Key_>> {
+
+        private final Key_ lowKey;
+        // Reversed, so that the highest key comes first.
+        private final NavigableMap<Key_, Indexer<T>> highMap = new TreeMap<>(Comparator.reverseOrder());
+        private Key_ maxHighKey;
+        private int height;
+        private Node<T, Key_> left = null;
+        private Node<T, Key_> right = null;
+
+        private Node(Key_ lowKey) {
+            this.lowKey = lowKey;
+        }
+
+        private void update() {
+            height = Math.max(IntervalIndexer.height(left), IntervalIndexer.height(right)) + 1;
+            Key_ max = highMap.firstKey();
+            if (left != null && left.maxHighKey.compareTo(max) > 0) {
+                max = left.maxHighKey;
+            }
+            if (right != null && right.maxHighKey.compareTo(max) > 0) {
+                max = right.maxHighKey;
+            }
+            maxHighKey = max;
+        }
+
+    }
+
+}
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.optaplanner.constraint.streams.bavet.common.index;
+
+/**
+ * An open-addressing hash map with primitive {@code long} keys.
+ * Unlike {@link java.util.HashMap}, it does not box its keys and does not create an entry object per mapping,
+ * which makes it suitable for the hot path of {@link PrimitiveEqualsIndexer}.
+ * <p>
+ * Uses linear probing and backward shift deletion, so that no tombstones are left behind.
+ * Does not support null values; a null value denotes an empty slot.
+ *
+ * @param <Value_>
+ */
+final class LongKeyMap<Value_> {
+
+    private static final int INITIAL_CAPACITY = 16; // Must be a power of 2.
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int size = 0;
+    private int resizeThreshold;
+
+    LongKeyMap() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int hash(long key) {
+        // Mixes the high bits into the low bits, as sequential ids would otherwise cluster.
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    public Value_ get(long key) {
+        int index = hash(key) & mask;
+        while (true) {
+            Object value = values[index];
+            if (value == null) {
+                return null;
+            } else if (keys[index] == key) {
+                return (Value_) value;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    public void put(long key, Value_ value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Impossible state: the value for key (" + key + ") is null.");
+        }
+        int index = hash(key) & mask;
+        while (true) {
+            if (values[index] == null) {
+                keys[index] = key;
+                values[index] = value;
+                size++;
+                if (size > resizeThreshold) {
+                    resize();
+                }
+                return;
+            } else if (keys[index] == key) {
+                values[index] = value;
+                return;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    public void remove(long key) {
+        int index = hash(key) & mask;
+        while (true) {
+            if (values[index] == null) {
+                return;
+            } else if (keys[index] == key) {
+                break;
+            }
+            index = (index + 1) & mask;
+        }
+        size--;
+        // Backward shift deletion: move subsequent entries of the same probe chain into the gap.
+        int gap = index;
+        index = (index + 1) & mask;
+        while (values[index] != null) {
+            int home = hash(keys[index]) & mask;
+            // The entry can fill the gap only if its home slot is not cyclically between the gap and itself.
+            if (((index - home) & mask) >= ((index - gap) & mask)) {
+                keys[gap] = keys[index];
+                values[gap] = values[index];
+                gap = index;
+            }
+            index = (index + 1) & mask;
+        }
+        values[gap] = null;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(oldKeys.length * 2);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            Object value = oldValues[i];
+            if (value != null) {
+                put(oldKeys[i], (Value_) value);
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public String toString() {
+        return "size = " + size;
+    }
+
+}
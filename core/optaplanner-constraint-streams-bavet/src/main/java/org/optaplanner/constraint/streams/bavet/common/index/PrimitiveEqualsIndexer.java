@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.optaplanner.constraint.streams.bavet.common.index;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.optaplanner.constraint.streams.bavet.common.collection.TupleListEntry;
+
+/**
+ * A variant of {@link EqualsIndexer} for a single index property,
+ * which keeps {@link Integer} and {@link Long} keys in primitive {@link LongKeyMap}s.
+ * The joiner mappings are lambdas, so their return type is not known until the first key arrives;
+ * therefore the key type is checked on every access and any other key type falls back to a {@link HashMap}.
+ * <p>
+ * {@link Integer} and {@link Long} keys are kept in separate maps,
+ * so that {@code 1} and {@code 1L} do not match, exactly as with {@link Object#equals(Object)}.
+ *
+ * @param <T> the element type
+ */
+final class PrimitiveEqualsIndexer<T> implements Indexer<T> {
+
+    private final int indexKeyPosition;
+    private final Supplier<Indexer<T>> downstreamIndexerSupplier;
+    // Each map is only created when the first key of that type arrives.
+    private LongKeyMap<Indexer<T>> intDownstreamIndexerMap = null;
+    private LongKeyMap<Indexer<T>> longDownstreamIndexerMap = null;
+    private Map<Object, Indexer<T>> objectDownstreamIndexerMap = null;
+
+    public PrimitiveEqualsIndexer(Supplier<Indexer<T>> downstreamIndexerSupplier) {
+        this(0, downstreamIndexerSupplier);
+    }
+
+    public PrimitiveEqualsIndexer(int indexKeyPosition, Supplier<Indexer<T>> downstreamIndexerSupplier) {
+        this.indexKeyPosition = indexKeyPosition;
+        this.downstreamIndexerSupplier = Objects.requireNonNull(downstreamIndexerSupplier);
+    }
+
+    @Override
+    public TupleListEntry<T> put(IndexProperties indexProperties, T tuple) {
+        Object indexKey = indexProperties.toKey(indexKeyPosition);
+        Indexer<T> downstreamIndexer;
+        if (indexKey instanceof Integer) {
+            if (intDownstreamIndexerMap == null) {
+                intDownstreamIndexerMap = new LongKeyMap<>();
+            }
+            int key = (Integer) indexKey;
+            downstreamIndexer = intDownstreamIndexerMap.get(key);
+            if (downstreamIndexer == null) {
+                downstreamIndexer = downstreamIndexerSupplier.get();
+                intDownstreamIndexerMap.put(key, downstreamIndexer);
+            }
+        } else if (indexKey instanceof Long) {
+            if (longDownstreamIndexerMap == null) {
+                longDownstreamIndexerMap = new LongKeyMap<>();
+            }
+            long key = (Long) indexKey;
+            downstreamIndexer = longDownstreamIndexerMap.get(key);
+            if (downstreamIndexer == null) {
+                downstreamIndexer = downstreamIndexerSupplier.get();
+                longDownstreamIndexerMap.put(key, downstreamIndexer);
+            }
+        } else {
+            if (objectDownstreamIndexerMap == null) {
+                objectDownstreamIndexerMap = new HashMap<>();
+            }
+            // Avoids computeIfAbsent in order to not create lambdas on the hot path.
+            downstreamIndexer = objectDownstreamIndexerMap.get(indexKey);
+            if (downstreamIndexer == null) {
+                downstreamIndexer = downstreamIndexerSupplier.get();
+                objectDownstreamIndexerMap.put(indexKey, downstreamIndexer);
+            }
+        }
+        return downstreamIndexer.put(indexProperties, tuple);
+    }
+
+    @Override
+    public void remove(IndexProperties indexProperties, TupleListEntry<T> entry) {
+        Object indexKey = indexProperties.toKey(indexKeyPosition);
+        Indexer<T> downstreamIndexer = getDownstreamIndexer(indexKey);
+        if (downstreamIndexer == null) {
+            throw new IllegalStateException("Impossible state: the tuple (" + entry.getElement()
+                    + ") with indexProperties (" + indexProperties
+                    + ") doesn't exist in the indexer " + this + ".");
+        }
+        downstreamIndexer.remove(indexProperties, entry);
+        if (downstreamIndexer.isEmpty()) {
+            if (indexKey instanceof Integer) {
+                intDownstreamIndexerMap.remove((Integer) indexKey);
+            } else if (indexKey instanceof Long) {
+                longDownstreamIndexerMap.remove((Long) indexKey);
+            } else {
+                objectDownstreamIndexerMap.remove(indexKey);
+            }
+        }
+    }
+
+    private Indexer<T> getDownstreamIndexer(Object indexKey) {
+        if (indexKey instanceof Integer) {
+            return intDownstreamIndexerMap == null ? null : intDownstreamIndexerMap.get((Integer) indexKey);
+        } else if (indexKey instanceof Long) {
+            return longDownstreamIndexerMap == null ? null : longDownstreamIndexerMap.get((Long) indexKey);
+        } else {
+            return objectDownstreamIndexerMap == null ? null : objectDownstreamIndexerMap.get(indexKey);
+        }
+    }
+
+    @Override
+    public int size(IndexProperties indexProperties) {
+        Indexer<T> downstreamIndexer = getDownstreamIndexer(indexProperties.toKey(indexKeyPosition));
+        if (downstreamIndexer == null) {
+            return 0;
+        }
+        return downstreamIndexer.size(indexProperties);
+    }
+
+    @Override
+    public void forEach(IndexProperties indexProperties, Consumer<T> tupleConsumer) {
+        Indexer<T> downstreamIndexer = getDownstreamIndexer(indexProperties.toKey(indexKeyPosition));
+        if (downstreamIndexer == null || downstreamIndexer.isEmpty()) {
+            return;
+        }
+        downstreamIndexer.forEach(indexProperties, tupleConsumer);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return (intDownstreamIndexerMap == null || intDownstreamIndexerMap.isEmpty())
+                && (longDownstreamIndexerMap == null || longDownstreamIndexerMap.isEmpty())
+                && (objectDownstreamIndexerMap == null || objectDownstreamIndexerMap.isEmpty());
+    }
+
+    @Override
+    public String toString() {
+        int size = (intDownstreamIndexerMap == null ? 0 : intDownstreamIndexerMap.size())
+                + (longDownstreamIndexerMap == null ? 0 : longDownstreamIndexerMap.size())
+                + (objectDownstreamIndexerMap == null ? 0 : objectDownstreamIndexerMap.size());
+        return "size = " + size;
+    }
+
+}
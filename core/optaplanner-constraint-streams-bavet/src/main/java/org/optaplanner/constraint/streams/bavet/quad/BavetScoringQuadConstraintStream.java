@@ -32,6 +32,7 @@ import org.optaplanner.constraint.streams.bavet.common.NodeBuildHelper;
 import org.optaplanner.constraint.streams.common.inliner.JustificationsSupplier;
 import org.optaplanner.constraint.streams.common.inliner.UndoScoreImpacter;
 import org.optaplanner.constraint.streams.common.inliner.WeightedScoreImpacter;
+import org.optaplanner.core.api.function.PentaFunction;
 import org.optaplanner.core.api.function.QuadFunction;
 import org.optaplanner.core.api.function.ToIntQuadFunction;
 import org.optaplanner.core.api.function.ToLongQuadFunction;
@@ -123,68 +124,68 @@ public final class BavetScoringQuadConstraintStream<Solution_, A, B, C, D>
         WeightedScoreImpacter<Score_, ?> weightedScoreImpacter =
                 buildHelper.getScoreInliner().buildWeightedScoreImpacter(constraint, constraintWeight);
         boolean constraintMatchEnabled = buildHelper.getScoreInliner().isConstraintMatchEnabled();
-        QuadFunction<A, B, C, D, UndoScoreImpacter> scoreImpacter;
+        PentaFunction<A, B, C, D, UndoScoreImpacter, UndoScoreImpacter> scoreImpacter;
         if (intMatchWeigher != null) {
             if (constraintMatchEnabled) {
-                scoreImpacter = (a, b, c, d) -> {
+                scoreImpacter = (a, b, c, d, undoScoreImpacter) -> {
                     int matchWeight = intMatchWeigher.applyAsInt(a, b, c, d);
                     constraint.assertCorrectImpact(matchWeight);
                     JustificationsSupplier justificationsSupplier =
                             of(constraint, constraint.getJustificationMapping(), constraint.getIndictedObjectsMapping(), a, b,
                                     c, d);
-                    return weightedScoreImpacter.impactScore(matchWeight, justificationsSupplier);
+                    return weightedScoreImpacter.impactScore(matchWeight, justificationsSupplier, undoScoreImpacter);
                 };
             } else {
-                scoreImpacter = (a, b, c, d) -> {
+                scoreImpacter = (a, b, c, d, undoScoreImpacter) -> {
                     int matchWeight = intMatchWeigher.applyAsInt(a, b, c, d);
                     constraint.assertCorrectImpact(matchWeight);
-                    return weightedScoreImpacter.impactScore(matchWeight, null);
+                    return weightedScoreImpacter.impactScore(matchWeight, null, undoScoreImpacter);
                 };
             }
         } else if (longMatchWeigher != null) {
             if (constraintMatchEnabled) {
-                scoreImpacter = (a, b, c, d) -> {
+                scoreImpacter = (a, b, c, d, undoScoreImpacter) -> {
                     long matchWeight = longMatchWeigher.applyAsLong(a, b, c, d);
                     constraint.assertCorrectImpact(matchWeight);
                     JustificationsSupplier justificationsSupplier =
                             of(constraint, constraint.getJustificationMapping(), constraint.getIndictedObjectsMapping(), a, b,
                                     c, d);
-                    return weightedScoreImpacter.impactScore(matchWeight, justificationsSupplier);
+                    return weightedScoreImpacter.impactScore(matchWeight, justificationsSupplier, undoScoreImpacter);
                 };
             } else {
-                scoreImpacter = (a, b, c, d) -> {
+                scoreImpacter = (a, b, c, d, undoScoreImpacter) -> {
                     long matchWeight = longMatchWeigher.applyAsLong(a, b, c, d);
                     constraint.assertCorrectImpact(matchWeight);
-                    return weightedScoreImpacter.impactScore(matchWeight, null);
+                    return weightedScoreImpacter.impactScore(matchWeight, null, undoScoreImpacter);
                 };
             }
         } else if (bigDecimalMatchWeigher != null) {
             if (constraintMatchEnabled) {
-                scoreImpacter = (a, b, c, d) -> {
+                scoreImpacter = (a, b, c, d, undoScoreImpacter) -> {
                     BigDecimal matchWeight = bigDecimalMatchWeigher.apply(a, b, c, d);
                     constraint.assertCorrectImpact(matchWeight);
                     JustificationsSupplier justificationsSupplier =
                             of(constraint, constraint.getJustificationMapping(), constraint.getIndictedObjectsMapping(), a, b,
                                     c, d);
-                    return weightedScoreImpacter.impactScore(matchWeight, justificationsSupplier);
+                    return weightedScoreImpacter.impactScore(matchWeight, justificationsSupplier, undoScoreImpacter);
                 };
             } else {
-                scoreImpacter = (a, b, c, d) -> {
+                scoreImpacter = (a, b, c, d, undoScoreImpacter) -> {
                     BigDecimal matchWeight = bigDecimalMatchWeigher.apply(a, b, c, d);
                     constraint.assertCorrectImpact(matchWeight);
-                    return weightedScoreImpacter.impactScore(matchWeight, null);
+                    return weightedScoreImpacter.impactScore(matchWeight, null, undoScoreImpacter);
                 };
             }
         } else if (noMatchWeigher) {
             if (constraintMatchEnabled) {
-                scoreImpacter = (a, b, c, d) -> {
+                scoreImpacter = (a, b, c, d, undoScoreImpacter) -> {
                     JustificationsSupplier justificationsSupplier =
                             of(constraint, constraint.getJustificationMapping(), constraint.getIndictedObjectsMapping(), a, b,
                                     c, d);
-                    return weightedScoreImpacter.impactScore(1, justificationsSupplier);
+                    return weightedScoreImpacter.impactScore(1, justificationsSupplier, undoScoreImpacter);
                 };
             } else {
-                scoreImpacter = (a, b, c, d) -> weightedScoreImpacter.impactScore(1, null);
+                scoreImpacter = (a, b, c, d, undoScoreImpacter) -> weightedScoreImpacter.impactScore(1, null, undoScoreImpacter);
             }
         } else {
             throw new IllegalStateException("Impossible state: neither of the supported match weighers provided.");
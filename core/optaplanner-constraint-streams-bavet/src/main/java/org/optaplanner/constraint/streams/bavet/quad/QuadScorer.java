@@ -21,23 +21,23 @@ package org.optaplanner.constraint.streams.bavet.quad;
 
 import org.optaplanner.constraint.streams.bavet.common.AbstractScorer;
 import org.optaplanner.constraint.streams.common.inliner.UndoScoreImpacter;
-import org.optaplanner.core.api.function.QuadFunction;
+import org.optaplanner.core.api.function.PentaFunction;
 import org.optaplanner.core.api.score.Score;
 
 final class QuadScorer<A, B, C, D> extends AbstractScorer<QuadTuple<A, B, C, D>> {
 
-    private final QuadFunction<A, B, C, D, UndoScoreImpacter> scoreImpacter;
+    private final PentaFunction<A, B, C, D, UndoScoreImpacter, UndoScoreImpacter> scoreImpacter;
 
     public QuadScorer(String constraintPackage, String constraintName, Score<?> constraintWeight,
-            QuadFunction<A, B, C, D, UndoScoreImpacter> scoreImpacter, int inputStoreIndex) {
+            PentaFunction<A, B, C, D, UndoScoreImpacter, UndoScoreImpacter> scoreImpacter, int inputStoreIndex) {
         super(constraintPackage, constraintName, constraintWeight, inputStoreIndex);
         this.scoreImpacter = scoreImpacter;
     }
 
     @Override
-    protected UndoScoreImpacter impact(QuadTuple<A, B, C, D> tuple) {
+    protected UndoScoreImpacter impact(QuadTuple<A, B, C, D> tuple, UndoScoreImpacter reusableUndoScoreImpacter) {
         try {
-            return scoreImpacter.apply(tuple.getFactA(), tuple.getFactB(), tuple.getFactC(), tuple.getFactD());
+            return scoreImpacter.apply(tuple.getFactA(), tuple.getFactB(), tuple.getFactC(), tuple.getFactD(), reusableUndoScoreImpacter);
         } catch (Exception e) {
             throw createExceptionOnImpact(tuple, e);
         }
@@ -57,6 +57,14 @@ public final class QuadTupleImpl<A, B, C, D> extends AbstractTuple implements Qu
         return factD;
     }
 
+    @Override
+    protected void clearFacts() {
+        factA = null;
+        factB = null;
+        factC = null;
+        factD = null;
+    }
+
     @Override
     public String toString() {
         return "{" + factA + ", " + factB + ", " + factC + ", " + factD + "}";
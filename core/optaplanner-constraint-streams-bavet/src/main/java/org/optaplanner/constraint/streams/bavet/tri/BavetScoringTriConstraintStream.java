@@ -32,6 +32,7 @@ import org.optaplanner.constraint.streams.bavet.common.NodeBuildHelper;
 import org.optaplanner.constraint.streams.common.inliner.JustificationsSupplier;
 import org.optaplanner.constraint.streams.common.inliner.UndoScoreImpacter;
 import org.optaplanner.constraint.streams.common.inliner.WeightedScoreImpacter;
+import org.optaplanner.core.api.function.QuadFunction;
 import org.optaplanner.core.api.function.ToIntTriFunction;
 import org.optaplanner.core.api.function.ToLongTriFunction;
 import org.optaplanner.core.api.function.TriFunction;
@@ -123,68 +124,68 @@ public final class BavetScoringTriConstraintStream<Solution_, A, B, C>
         WeightedScoreImpacter<Score_, ?> weightedScoreImpacter =
                 buildHelper.getScoreInliner().buildWeightedScoreImpacter(constraint, constraintWeight);
         boolean constraintMatchEnabled = buildHelper.getScoreInliner().isConstraintMatchEnabled();
-        TriFunction<A, B, C, UndoScoreImpacter> scoreImpacter;
+        QuadFunction<A, B, C, UndoScoreImpacter, UndoScoreImpacter> scoreImpacter;
         if (intMatchWeigher != null) {
             if (constraintMatchEnabled) {
-                scoreImpacter = (a, b, c) -> {
+                scoreImpacter = (a, b, c, undoScoreImpacter) -> {
                     int matchWeight = intMatchWeigher.applyAsInt(a, b, c);
                     constraint.assertCorrectImpact(matchWeight);
                     JustificationsSupplier justificationsSupplier =
                             of(constraint, constraint.getJustificationMapping(), constraint.getIndictedObjectsMapping(), a, b,
                                     c);
-                    return weightedScoreImpacter.impactScore(matchWeight, justificationsSupplier);
+                    return weightedScoreImpacter.impactScore(matchWeight, justificationsSupplier, undoScoreImpacter);
                 };
             } else {
-                scoreImpacter = (a, b, c) -> {
+                scoreImpacter = (a, b, c, undoScoreImpacter) -> {
                     int matchWeight = intMatchWeigher.applyAsInt(a, b, c);
                     constraint.assertCorrectImpact(matchWeight);
-                    return weightedScoreImpacter.impactScore(matchWeight, null);
+                    return weightedScoreImpacter.impactScore(matchWeight, null, undoScoreImpacter);
                 };
             }
         } else if (longMatchWeigher != null) {
             if (constraintMatchEnabled) {
-                scoreImpacter = (a, b, c) -> {
+                scoreImpacter = (a, b, c, undoScoreImpacter) -> {
                     long matchWeight = longMatchWeigher.applyAsLong(a, b, c);
                     constraint.assertCorrectImpact(matchWeight);
                     JustificationsSupplier justificationsSupplier =
                             of(constraint, constraint.getJustificationMapping(), constraint.getIndictedObjectsMapping(), a, b,
                                     c);
-                    return weightedScoreImpacter.impactScore(matchWeight, justificationsSupplier);
+                    return weightedScoreImpacter.impactScore(matchWeight, justificationsSupplier, undoScoreImpacter);
                 };
             } else {
-                scoreImpacter = (a, b, c) -> {
+                scoreImpacter = (a, b, c, undoScoreImpacter) -> {
                     long matchWeight = longMatchWeigher.applyAsLong(a, b, c);
                     constraint.assertCorrectImpact(matchWeight);
-                    return weightedScoreImpacter.impactScore(matchWeight, null);
+                    return weightedScoreImpacter.impactScore(matchWeight, null, undoScoreImpacter);
                 };
             }
         } else if (bigDecimalMatchWeigher != null) {
             if (constraintMatchEnabled) {
-                scoreImpacter = (a, b, c) -> {
+                scoreImpacter = (a, b, c, undoScoreImpacter) -> {
                     BigDecimal matchWeight = bigDecimalMatchWeigher.apply(a, b, c);
                     constraint.assertCorrectImpact(matchWeight);
                     JustificationsSupplier justificationsSupplier =
                             of(constraint, constraint.getJustificationMapping(), constraint.getIndictedObjectsMapping(), a, b,
                                     c);
-                    return weightedScoreImpacter.impactScore(matchWeight, justificationsSupplier);
+                    return weightedScoreImpacter.impactScore(matchWeight, justificationsSupplier, undoScoreImpacter);
                 };
             } else {
-                scoreImpacter = (a, b, c) -> {
+                scoreImpacter = (a, b, c, undoScoreImpacter) -> {
                     BigDecimal matchWeight = bigDecimalMatchWeigher.apply(a, b, c);
                     constraint.assertCorrectImpact(matchWeight);
-                    return weightedScoreImpacter.impactScore(matchWeight, null);
+                    return weightedScoreImpacter.impactScore(matchWeight, null, undoScoreImpacter);
                 };
             }
         } else if (noMatchWeigher) {
             if (constraintMatchEnabled) {
-                scoreImpacter = (a, b, c) -> {
+                scoreImpacter = (a, b, c, undoScoreImpacter) -> {
                     JustificationsSupplier justificationsSupplier =
                             of(constraint, constraint.getJustificationMapping(), constraint.getIndictedObjectsMapping(), a, b,
                                     c);
-                    return weightedScoreImpacter.impactScore(1, justificationsSupplier);
+                    return weightedScoreImpacter.impactScore(1, justificationsSupplier, undoScoreImpacter);
                 };
             } else {
-                scoreImpacter = (a, b, c) -> weightedScoreImpacter.impactScore(1, null);
+                scoreImpacter = (a, b, c, undoScoreImpacter) -> weightedScoreImpacter.impactScore(1, null, undoScoreImpacter);
             }
         } else {
             throw new IllegalStateException("Impossible state: neither of the supported match weighers provided.");
@@ -21,23 +21,23 @@ package org.optaplanner.constraint.streams.bavet.tri;
 
 import org.optaplanner.constraint.streams.bavet.common.AbstractScorer;
 import org.optaplanner.constraint.streams.common.inliner.UndoScoreImpacter;
-import org.optaplanner.core.api.function.TriFunction;
+import org.optaplanner.core.api.function.QuadFunction;
 import org.optaplanner.core.api.score.Score;
 
 final class TriScorer<A, B, C> extends AbstractScorer<TriTuple<A, B, C>> {
 
-    private final TriFunction<A, B, C, UndoScoreImpacter> scoreImpacter;
+    private final QuadFunction<A, B, C, UndoScoreImpacter, UndoScoreImpacter> scoreImpacter;
 
     public TriScorer(String constraintPackage, String constraintName, Score<?> constraintWeight,
-            TriFunction<A, B, C, UndoScoreImpacter> scoreImpacter, int inputStoreIndex) {
+            QuadFunction<A, B, C, UndoScoreImpacter, UndoScoreImpacter> scoreImpacter, int inputStoreIndex) {
         super(constraintPackage, constraintName, constraintWeight, inputStoreIndex);
         this.scoreImpacter = scoreImpacter;
     }
 
     @Override
-    protected UndoScoreImpacter impact(TriTuple<A, B, C> tuple) {
+    protected UndoScoreImpacter impact(TriTuple<A, B, C> tuple, UndoScoreImpacter reusableUndoScoreImpacter) {
         try {
-            return scoreImpacter.apply(tuple.getFactA(), tuple.getFactB(), tuple.getFactC());
+            return scoreImpacter.apply(tuple.getFactA(), tuple.getFactB(), tuple.getFactC(), reusableUndoScoreImpacter);
         } catch (Exception e) {
             throw createExceptionOnImpact(tuple, e);
         }
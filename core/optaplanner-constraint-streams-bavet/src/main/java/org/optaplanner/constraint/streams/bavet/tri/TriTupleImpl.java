@@ -50,6 +50,13 @@ public final class TriTupleImpl<A, B, C> extends AbstractTuple implements TriTup
         return factC;
     }
 
+    @Override
+    protected void clearFacts() {
+        factA = null;
+        factB = null;
+        factC = null;
+    }
+
     @Override
     public String toString() {
         return "{" + factA + ", " + factB + ", " + factC + "}";
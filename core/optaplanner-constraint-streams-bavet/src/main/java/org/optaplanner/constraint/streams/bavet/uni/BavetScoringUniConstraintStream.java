@@ -23,6 +23,7 @@ import static org.optaplanner.constraint.streams.common.inliner.JustificationsSu
 
 import java.math.BigDecimal;
 import java.util.Set;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.ToIntFunction;
 import java.util.function.ToLongFunction;
@@ -122,64 +123,64 @@ public final class BavetScoringUniConstraintStream<Solution_, A>
         WeightedScoreImpacter<Score_, ?> weightedScoreImpacter =
                 buildHelper.getScoreInliner().buildWeightedScoreImpacter(constraint, constraintWeight);
         boolean constraintMatchEnabled = buildHelper.getScoreInliner().isConstraintMatchEnabled();
-        Function<A, UndoScoreImpacter> scoreImpacter;
+        BiFunction<A, UndoScoreImpacter, UndoScoreImpacter> scoreImpacter;
         if (intMatchWeigher != null) {
             if (constraintMatchEnabled) {
-                scoreImpacter = a -> {
+                scoreImpacter = (a, undoScoreImpacter) -> {
                     int matchWeight = intMatchWeigher.applyAsInt(a);
                     constraint.assertCorrectImpact(matchWeight);
                     JustificationsSupplier justificationsSupplier =
                             of(constraint, constraint.getJustificationMapping(), constraint.getIndictedObjectsMapping(), a);
-                    return weightedScoreImpacter.impactScore(matchWeight, justificationsSupplier);
+                    return weightedScoreImpacter.impactScore(matchWeight, justificationsSupplier, undoScoreImpacter);
                 };
             } else {
-                scoreImpacter = a -> {
+                scoreImpacter = (a, undoScoreImpacter) -> {
                     int matchWeight = intMatchWeigher.applyAsInt(a);
                     constraint.assertCorrectImpact(matchWeight);
-                    return weightedScoreImpacter.impactScore(matchWeight, null);
+                    return weightedScoreImpacter.impactScore(matchWeight, null, undoScoreImpacter);
                 };
             }
         } else if (longMatchWeigher != null) {
             if (constraintMatchEnabled) {
-                scoreImpacter = a -> {
+                scoreImpacter = (a, undoScoreImpacter) -> {
                     long matchWeight = longMatchWeigher.applyAsLong(a);
                     constraint.assertCorrectImpact(matchWeight);
                     JustificationsSupplier justificationsSupplier =
                             of(constraint, constraint.getJustificationMapping(), constraint.getIndictedObjectsMapping(), a);
-                    return weightedScoreImpacter.impactScore(matchWeight, justificationsSupplier);
+                    return weightedScoreImpacter.impactScore(matchWeight, justificationsSupplier, undoScoreImpacter);
                 };
             } else {
-                scoreImpacter = a -> {
+                scoreImpacter = (a, undoScoreImpacter) -> {
                     long matchWeight = longMatchWeigher.applyAsLong(a);
                     constraint.assertCorrectImpact(matchWeight);
-                    return weightedScoreImpacter.impactScore(matchWeight, null);
+                    return weightedScoreImpacter.impactScore(matchWeight, null, undoScoreImpacter);
                 };
             }
         } else if (bigDecimalMatchWeigher != null) {
             if (constraintMatchEnabled) {
-                scoreImpacter = a -> {
+                scoreImpacter = (a, undoScoreImpacter) -> {
                     BigDecimal matchWeight = bigDecimalMatchWeigher.apply(a);
                     constraint.assertCorrectImpact(matchWeight);
                     JustificationsSupplier justificationsSupplier =
                             of(constraint, constraint.getJustificationMapping(), constraint.getIndictedObjectsMapping(), a);
-                    return weightedScoreImpacter.impactScore(matchWeight, justificationsSupplier);
+                    return weightedScoreImpacter.impactScore(matchWeight, justificationsSupplier, undoScoreImpacter);
                 };
             } else {
-                scoreImpacter = a -> {
+                scoreImpacter = (a, undoScoreImpacter) -> {
                     BigDecimal matchWeight = bigDecimalMatchWeigher.apply(a);
                     constraint.assertCorrectImpact(matchWeight);
-                    return weightedScoreImpacter.impactScore(matchWeight, null);
+                    return weightedScoreImpacter.impactScore(matchWeight, null, undoScoreImpacter);
                 };
             }
         } else if (noMatchWeigher) {
             if (constraintMatchEnabled) {
-                scoreImpacter = a -> {
+                scoreImpacter = (a, undoScoreImpacter) -> {
                     JustificationsSupplier justificationsSupplier =
                             of(constraint, constraint.getJustificationMapping(), constraint.getIndictedObjectsMapping(), a);
-                    return weightedScoreImpacter.impactScore(1, justificationsSupplier);
+                    return weightedScoreImpacter.impactScore(1, justificationsSupplier, undoScoreImpacter);
                 };
             } else {
-                scoreImpacter = a -> weightedScoreImpacter.impactScore(1, null);
+                scoreImpacter = (a, undoScoreImpacter) -> weightedScoreImpacter.impactScore(1, null, undoScoreImpacter);
             }
         } else {
             throw new IllegalStateException("Impossible state: neither of the supported match weighers provided.");
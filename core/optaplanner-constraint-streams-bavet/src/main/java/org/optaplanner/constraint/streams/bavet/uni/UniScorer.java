@@ -19,7 +19,7 @@
 
 package org.optaplanner.constraint.streams.bavet.uni;
 
-import java.util.function.Function;
+import java.util.function.BiFunction;
 
 import org.optaplanner.constraint.streams.bavet.common.AbstractScorer;
 import org.optaplanner.constraint.streams.common.inliner.UndoScoreImpacter;
@@ -27,18 +27,18 @@ import org.optaplanner.core.api.score.Score;
 
 final class UniScorer<A> extends AbstractScorer<UniTuple<A>> {
 
-    private final Function<A, UndoScoreImpacter> scoreImpacter;
+    private final BiFunction<A, UndoScoreImpacter, UndoScoreImpacter> scoreImpacter;
 
     public UniScorer(String constraintPackage, String constraintName, Score<?> constraintWeight,
-            Function<A, UndoScoreImpacter> scoreImpacter, int inputStoreIndex) {
+            BiFunction<A, UndoScoreImpacter, UndoScoreImpacter> scoreImpacter, int inputStoreIndex) {
         super(constraintPackage, constraintName, constraintWeight, inputStoreIndex);
         this.scoreImpacter = scoreImpacter;
     }
 
     @Override
-    protected UndoScoreImpacter impact(UniTuple<A> tuple) {
+    protected UndoScoreImpacter impact(UniTuple<A> tuple, UndoScoreImpacter reusableUndoScoreImpacter) {
         try {
-            return scoreImpacter.apply(tuple.getFactA());
+            return scoreImpacter.apply(tuple.getFactA(), reusableUndoScoreImpacter);
         } catch (Exception e) {
             throw createExceptionOnImpact(tuple, e);
         }
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.optaplanner.constraint.streams.bavet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.optaplanner.core.api.score.stream.Joiners.equal;
+import static org.optaplanner.core.api.score.stream.Joiners.lessThan;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.api.score.stream.ConstraintFactory;
+import org.optaplanner.core.api.score.stream.ConstraintProvider;
+import org.optaplanner.core.config.solver.EnvironmentMode;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataObject;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+
+class BavetConstraintSessionFactoryTest {
+
+    @Test
+    void partitionConstraintStreams() {
+        Set<String> constraintStreamSet = new LinkedHashSet<>(List.of("a", "b", "c", "d", "e", "f"));
+        List<Set<String>> activeConstraintStreamSetList = List.of(
+                Set.of("a", "b"),
+                Set.of("b", "c"),
+                Set.of("d"),
+                Set.of("e", "f"));
+        assertThat(BavetConstraintSessionFactory.partitionConstraintStreams(constraintStreamSet,
+                activeConstraintStreamSetList, 8))
+                .containsExactly(Set.of("a", "b", "c"), Set.of("e", "f"), Set.of("d"));
+        assertThat(BavetConstraintSessionFactory.partitionConstraintStreams(constraintStreamSet,
+                activeConstraintStreamSetList, 2))
+                .containsExactly(Set.of("a", "b", "c"), Set.of("d", "e", "f"));
+        assertThat(BavetConstraintSessionFactory.partitionConstraintStreams(constraintStreamSet,
+                activeConstraintStreamSetList, 1))
+                .containsExactly(constraintStreamSet);
+    }
+
+    @Test
+    void partitionConstraintStreamsKeepsBuildOrder() {
+        Set<String> constraintStreamSet = new LinkedHashSet<>(List.of("a", "b", "c", "d"));
+        List<Set<String>> activeConstraintStreamSetList = List.of(
+                Set.of("a", "d"),
+                Set.of("b"),
+                Set.of("c", "d"));
+        List<Set<String>> partitionList = BavetConstraintSessionFactory.partitionConstraintStreams(constraintStreamSet,
+                activeConstraintStreamSetList, 8);
+        assertThat(partitionList).hasSize(2);
+        assertThat(partitionList.get(0)).containsExactly("a", "c", "d");
+        assertThat(partitionList.get(1)).containsExactly("b");
+    }
+
+    @Test
+    void parallelPropagationMatchesSequentialPropagation() {
+        TestdataSolution solution = TestdataSolution.generateSolution(5, 7);
+        InnerScoreDirector<TestdataSolution, SimpleScore> sequentialScoreDirector = buildScoreDirector(false);
+        sequentialScoreDirector.setWorkingSolution(solution);
+        InnerScoreDirector<TestdataSolution, SimpleScore> parallelScoreDirector = buildScoreDirector(true);
+        parallelScoreDirector.setWorkingSolution(solution);
+        assertThat(parallelScoreDirector.calculateScore()).isEqualTo(sequentialScoreDirector.calculateScore());
+
+        List<TestdataValue> valueList = solution.getValueList();
+        for (TestdataEntity entity : solution.getEntityList()) {
+            TestdataValue newValue = valueList.get(0);
+            for (InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector : List.of(sequentialScoreDirector,
+                    parallelScoreDirector)) {
+                scoreDirector.beforeVariableChanged(entity, "value");
+            }
+            entity.setValue(newValue);
+            for (InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector : List.of(sequentialScoreDirector,
+                    parallelScoreDirector)) {
+                scoreDirector.afterVariableChanged(entity, "value");
+            }
+            assertThat(parallelScoreDirector.calculateScore()).isEqualTo(sequentialScoreDirector.calculateScore());
+        }
+        // All 7 entities share the first value and all 10 unique value pairs are rewarded.
+        assertThat(parallelScoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-21 + 10));
+    }
+
+    private static InnerScoreDirector<TestdataSolution, SimpleScore> buildScoreDirector(
+            boolean parallelPropagationEnabled) {
+        return new BavetConstraintStreamScoreDirectorFactory<TestdataSolution, SimpleScore>(
+                TestdataSolution.buildSolutionDescriptor(), new IndependentConstraintProvider(),
+                EnvironmentMode.REPRODUCIBLE, parallelPropagationEnabled)
+                .buildScoreDirector(false, false);
+    }
+
+    public static class IndependentConstraintProvider implements ConstraintProvider {
+
+        @Override
+        public Constraint[] defineConstraints(ConstraintFactory constraintFactory) {
+            return new Constraint[] {
+                    constraintFactory.forEachUniquePair(TestdataEntity.class, equal(TestdataEntity::getValue))
+                            .penalize(SimpleScore.ONE)
+                            .asConstraint("Conflict"),
+                    constraintFactory.forEach(TestdataValue.class)
+                            .join(TestdataValue.class, lessThan(TestdataObject::getCode))
+                            .reward(SimpleScore.ONE)
+                            .asConstraint("Value pair")
+            };
+        }
+
+    }
+
+}
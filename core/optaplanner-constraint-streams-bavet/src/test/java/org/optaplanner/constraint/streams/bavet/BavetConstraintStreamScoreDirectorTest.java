@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.optaplanner.constraint.streams.bavet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.config.solver.EnvironmentMode;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+
+class BavetConstraintStreamScoreDirectorTest {
+
+    @Test
+    void warmStartReusesSessionForChangedProblem() {
+        BavetConstraintStreamScoreDirector<TestdataSolution, SimpleScore> scoreDirector = buildScoreDirector();
+        scoreDirector.setWarmStartEnabled(true);
+        TestdataSolution solution = TestdataSolution.generateSolution(5, 7);
+        scoreDirector.setWorkingSolution(solution);
+        scoreDirector.calculateScore();
+        BavetConstraintSession<SimpleScore> session = scoreDirector.getSession();
+        scoreDirector.close();
+
+        // The next problem shares most values, but its entities are always new instances.
+        List<TestdataValue> valueList = new ArrayList<>(solution.getValueList().subList(1, 5));
+        valueList.add(new TestdataValue("new value"));
+        TestdataSolution nextSolution = new TestdataSolution("next solution");
+        nextSolution.setValueList(valueList);
+        List<TestdataEntity> entityList = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            entityList.add(new TestdataEntity("next entity " + i, valueList.get(i % 2)));
+        }
+        nextSolution.setEntityList(entityList);
+        scoreDirector.setWorkingSolution(nextSolution);
+        assertThat(scoreDirector.getSession()).isSameAs(session);
+
+        BavetConstraintStreamScoreDirector<TestdataSolution, SimpleScore> coldScoreDirector = buildScoreDirector();
+        coldScoreDirector.setWorkingSolution(nextSolution);
+        // 2 groups of 4 and 3 entities conflict, while all 10 unique value pairs are rewarded.
+        assertThat(scoreDirector.calculateScore())
+                .isEqualTo(coldScoreDirector.calculateScore())
+                .isEqualTo(SimpleScore.of(-(6 + 3) + 10));
+    }
+
+    @Test
+    void warmStartDisabledOrChangedConstraintMatchPreferenceBuildsNewSession() {
+        TestdataSolution solution = TestdataSolution.generateSolution(5, 7);
+        BavetConstraintStreamScoreDirector<TestdataSolution, SimpleScore> scoreDirector = buildScoreDirector();
+        scoreDirector.setWorkingSolution(solution);
+        scoreDirector.close();
+        assertThat(scoreDirector.getSession()).isNull();
+
+        scoreDirector.setWarmStartEnabled(true);
+        scoreDirector.setWorkingSolution(solution);
+        BavetConstraintSession<SimpleScore> session = scoreDirector.getSession();
+        scoreDirector.close();
+        scoreDirector.overwriteConstraintMatchEnabledPreference(true);
+        scoreDirector.setWorkingSolution(solution);
+        assertThat(scoreDirector.getSession()).isNotSameAs(session);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-2 + 10));
+        assertThat(scoreDirector.getConstraintMatchTotalMap()).hasSize(2);
+    }
+
+    private static BavetConstraintStreamScoreDirector<TestdataSolution, SimpleScore> buildScoreDirector() {
+        return new BavetConstraintStreamScoreDirectorFactory<TestdataSolution, SimpleScore>(
+                TestdataSolution.buildSolutionDescriptor(),
+                new BavetConstraintSessionFactoryTest.IndependentConstraintProvider(), EnvironmentMode.REPRODUCIBLE)
+                .buildScoreDirector(false, false);
+    }
+
+}
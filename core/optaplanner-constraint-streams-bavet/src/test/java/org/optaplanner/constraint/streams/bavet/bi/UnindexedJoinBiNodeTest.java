@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.optaplanner.constraint.streams.bavet.bi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.constraint.streams.bavet.common.BavetTupleState;
+import org.optaplanner.constraint.streams.bavet.common.TupleLifecycle;
+import org.optaplanner.constraint.streams.bavet.uni.UniTuple;
+import org.optaplanner.constraint.streams.bavet.uni.UniTupleImpl;
+
+class UnindexedJoinBiNodeTest {
+
+    private static final int DOWNSTREAM_STORE_INDEX = 2;
+
+    @Test
+    void deadOutTupleIsRecycled() {
+        RecordingTupleLifecycle downstream = new RecordingTupleLifecycle();
+        UnindexedJoinBiNode<String, String> node = new UnindexedJoinBiNode<>(0, 1, 0, 1, downstream, null, 3, 0, 1);
+
+        UniTuple<String> leftTuple = new UniTupleImpl<>("A", 2);
+        UniTuple<String> rightTupleX = new UniTupleImpl<>("X", 2);
+        node.insertLeft(leftTuple);
+        node.insertRight(rightTupleX);
+        node.calculateScore();
+        assertThat(downstream.insertedList).hasSize(1);
+        BiTuple<String, String> firstOutTuple = downstream.insertedList.get(0);
+        assertThat(firstOutTuple.getFactB()).isEqualTo("X");
+
+        node.retractRight(rightTupleX);
+        node.calculateScore();
+        // The retracted tuple is still intact while the next nodes process it.
+        assertThat(downstream.retractedList).containsExactly(firstOutTuple);
+        assertThat(firstOutTuple.getFactB()).isEqualTo("X");
+        assertThat(firstOutTuple.getState()).isEqualTo(BavetTupleState.DEAD);
+
+        UniTuple<String> rightTupleY = new UniTupleImpl<>("Y", 2);
+        node.insertRight(rightTupleY);
+        node.calculateScore();
+        assertThat(downstream.insertedList).hasSize(2);
+        BiTuple<String, String> secondOutTuple = downstream.insertedList.get(1);
+        assertThat(secondOutTuple).isSameAs(firstOutTuple);
+        assertThat(secondOutTuple.getFactA()).isEqualTo("A");
+        assertThat(secondOutTuple.getFactB()).isEqualTo("Y");
+        assertThat(secondOutTuple.getState()).isEqualTo(BavetTupleState.OK);
+    }
+
+    @Test
+    void abortedOutTupleIsRecycled() {
+        RecordingTupleLifecycle downstream = new RecordingTupleLifecycle();
+        UnindexedJoinBiNode<String, String> node = new UnindexedJoinBiNode<>(0, 1, 0, 1, downstream, null, 3, 0, 1);
+
+        UniTuple<String> leftTuple = new UniTupleImpl<>("A", 2);
+        UniTuple<String> rightTupleX = new UniTupleImpl<>("X", 2);
+        node.insertLeft(leftTuple);
+        node.insertRight(rightTupleX);
+        node.retractRight(rightTupleX);
+        node.calculateScore();
+        assertThat(downstream.insertedList).isEmpty();
+        assertThat(downstream.retractedList).isEmpty();
+
+        node.insertRight(new UniTupleImpl<>("Y", 2));
+        node.calculateScore();
+        assertThat(downstream.insertedList).hasSize(1);
+        BiTuple<String, String> outTuple = downstream.insertedList.get(0);
+        assertThat(outTuple.getFactB()).isEqualTo("Y");
+        assertThat(outTuple.getState()).isEqualTo(BavetTupleState.OK);
+    }
+
+    private static final class RecordingTupleLifecycle implements TupleLifecycle<BiTuple<String, String>> {
+
+        private final List<BiTuple<String, String>> insertedList = new ArrayList<>();
+        private final List<BiTuple<String, String>> retractedList = new ArrayList<>();
+
+        @Override
+        public void insert(BiTuple<String, String> tuple) {
+            // Like a scorer, which fails fast if a recycled tuple still carries a store value.
+            assertThat((Object) tuple.getStore(DOWNSTREAM_STORE_INDEX)).isNull();
+            tuple.setStore(DOWNSTREAM_STORE_INDEX, "undo");
+            insertedList.add(tuple);
+        }
+
+        @Override
+        public void update(BiTuple<String, String> tuple) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void retract(BiTuple<String, String> tuple) {
+            assertThat((Object) tuple.removeStore(DOWNSTREAM_STORE_INDEX)).isEqualTo("undo");
+            retractedList.add(tuple);
+        }
+
+    }
+
+}
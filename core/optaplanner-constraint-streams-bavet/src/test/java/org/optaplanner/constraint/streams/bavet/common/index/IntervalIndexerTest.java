@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.optaplanner.constraint.streams.bavet.common.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.constraint.streams.bavet.common.collection.TupleListEntry;
+import org.optaplanner.constraint.streams.bavet.uni.UniTuple;
+import org.optaplanner.constraint.streams.bavet.uni.UniTupleImpl;
+import org.optaplanner.constraint.streams.common.bi.DefaultBiJoiner;
+import org.optaplanner.core.api.score.stream.Joiners;
+
+class IntervalIndexerTest extends AbstractIndexerTest {
+
+    private final DefaultBiJoiner<Shift, Shift> joiner =
+            (DefaultBiJoiner<Shift, Shift>) Joiners.overlapping((Shift s) -> s.start, (Shift s) -> s.end);
+
+    @Test
+    void buildIndexer() {
+        assertThat(new IndexerFactory(joiner).<UniTuple<String>> buildIndexer(true))
+                .isInstanceOf(IntervalIndexer.class);
+        assertThat(new IndexerFactory(joiner).<UniTuple<String>> buildIndexer(false))
+                .isInstanceOf(IntervalIndexer.class);
+        DefaultBiJoiner<Shift, Shift> equalAndOverlappingJoiner =
+                (DefaultBiJoiner<Shift, Shift>) Joiners.equal((Shift s) -> s.employee)
+                        .and(Joiners.overlapping((Shift s) -> s.start, (Shift s) -> s.end));
+        Indexer<UniTuple<String>> indexer = new IndexerFactory(equalAndOverlappingJoiner).buildIndexer(true);
+        assertThat(indexer).isInstanceOf(PrimitiveEqualsIndexer.class);
+        indexer.put(new ManyIndexProperties("Ann", 1, 3), newTuple("Ann-1-3"));
+        assertThat(getTuples(indexer, "Ann", 2, 0)).hasSize(1);
+        assertThat(getTuples(indexer, "Ann", 5, 3)).isEmpty();
+        assertThat(getTuples(indexer, "Beth", 2, 0)).isEmpty();
+    }
+
+    @Test
+    void isEmpty() {
+        Indexer<UniTuple<String>> indexer = new IndexerFactory(joiner).buildIndexer(true);
+        assertThat(indexer.isEmpty()).isTrue();
+        assertThat(getTuples(indexer, 10, 0)).isEmpty();
+    }
+
+    @Test
+    void removeTwice() {
+        Indexer<UniTuple<String>> indexer = new IndexerFactory(joiner).buildIndexer(true);
+        TupleListEntry<UniTuple<String>> entry = indexer.put(new ManyIndexProperties(1, 3), newTuple("1-3"));
+
+        indexer.remove(new ManyIndexProperties(1, 3), entry);
+        assertThat(indexer.isEmpty()).isTrue();
+        assertThatThrownBy(() -> indexer.remove(new ManyIndexProperties(1, 3), entry))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void visit() {
+        Indexer<UniTuple<String>> indexer = new IndexerFactory(joiner).buildIndexer(true);
+        // The left bridge stores (start, end) and is queried by the right (end, start).
+        UniTuple<String> tuple1To3 = newTuple("1-3");
+        indexer.put(new ManyIndexProperties(1, 3), tuple1To3);
+        UniTuple<String> tuple2To6 = newTuple("2-6");
+        indexer.put(new ManyIndexProperties(2, 6), tuple2To6);
+        UniTuple<String> tuple5To7 = newTuple("5-7");
+        indexer.put(new ManyIndexProperties(5, 7), tuple5To7);
+
+        assertThat(getTuples(indexer, 2, 0)).containsOnly(tuple1To3); // 0-2
+        assertThat(getTuples(indexer, 4, 3)).containsOnly(tuple2To6); // 3-4
+        assertThat(getTuples(indexer, 6, 2)).containsOnly(tuple1To3, tuple2To6, tuple5To7); // 2-6
+        assertThat(getTuples(indexer, 1, 0)).isEmpty(); // 0-1
+        assertThat(getTuples(indexer, 9, 7)).isEmpty(); // 7-9
+        assertThat(indexer.size(new ManyIndexProperties(6, 2))).isEqualTo(3);
+    }
+
+    @Test
+    void matchesBruteForce() {
+        assertMatchesBruteForce(true);
+        assertMatchesBruteForce(false);
+    }
+
+    private void assertMatchesBruteForce(boolean isLeftBridge) {
+        Indexer<UniTuple<Shift>> indexer = new IndexerFactory(joiner).buildIndexer(isLeftBridge);
+        List<Shift> shiftList = new ArrayList<>();
+        List<TupleListEntry<UniTuple<Shift>>> entryList = new ArrayList<>();
+        Random random = new Random(37);
+        for (int i = 0; i < 2000; i++) {
+            if (shiftList.isEmpty() || random.nextInt(3) > 0) {
+                int start = random.nextInt(100);
+                Shift shift = new Shift("Ann", start, start + 1 + random.nextInt(10));
+                shiftList.add(shift);
+                entryList.add(indexer.put(toIndexProperties(shift, isLeftBridge), new UniTupleImpl<>(shift, 0)));
+            } else {
+                int index = random.nextInt(shiftList.size());
+                Shift shift = shiftList.remove(index);
+                indexer.remove(toIndexProperties(shift, isLeftBridge), entryList.remove(index));
+            }
+            int start = random.nextInt(100);
+            Shift query = new Shift("Beth", start, start + 1 + random.nextInt(10));
+            List<Shift> expected = new ArrayList<>();
+            for (Shift shift : shiftList) {
+                if (shift.start < query.end && query.start < shift.end) {
+                    expected.add(shift);
+                }
+            }
+            List<Shift> actual = new ArrayList<>();
+            IndexProperties queryProperties = toIndexProperties(query, !isLeftBridge);
+            indexer.forEach(queryProperties, tuple -> actual.add(tuple.getFactA()));
+            assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
+            assertThat(indexer.size(queryProperties)).isEqualTo(expected.size());
+        }
+    }
+
+    private static IndexProperties toIndexProperties(Shift shift, boolean isLeft) {
+        // Joiners.overlapping() is lessThan(leftStart, rightEnd) and greaterThan(leftEnd, rightStart).
+        return isLeft ? new ManyIndexProperties(shift.start, shift.end) : new ManyIndexProperties(shift.end, shift.start);
+    }
+
+    private static UniTuple<String> newTuple(String factA) {
+        return new UniTupleImpl<>(factA, 0);
+    }
+
+    static final class Shift {
+
+        public final String employee;
+        public final int start;
+        public final int end;
+
+        public Shift(String employee, int start, int end) {
+            this.employee = employee;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public String toString() {
+            return employee + "-" + start + "-" + end;
+        }
+
+    }
+
+}
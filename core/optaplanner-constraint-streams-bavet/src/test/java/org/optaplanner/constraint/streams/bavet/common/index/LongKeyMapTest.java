@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.optaplanner.constraint.streams.bavet.common.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class LongKeyMapTest {
+
+    @Test
+    void putGetRemove() {
+        LongKeyMap<String> map = new LongKeyMap<>();
+        assertThat(map.isEmpty()).isTrue();
+        map.put(1L, "a");
+        map.put(-1L, "b");
+        map.put(Long.MAX_VALUE, "c");
+        assertThat(map.size()).isEqualTo(3);
+        assertThat(map.get(1L)).isEqualTo("a");
+        assertThat(map.get(-1L)).isEqualTo("b");
+        assertThat(map.get(Long.MAX_VALUE)).isEqualTo("c");
+        assertThat(map.get(2L)).isNull();
+
+        map.put(1L, "d");
+        assertThat(map.size()).isEqualTo(3);
+        assertThat(map.get(1L)).isEqualTo("d");
+
+        map.remove(1L);
+        map.remove(2L);
+        assertThat(map.size()).isEqualTo(2);
+        assertThat(map.get(1L)).isNull();
+        assertThat(map.get(-1L)).isEqualTo("b");
+    }
+
+    @Test
+    void matchesHashMap() {
+        LongKeyMap<Long> map = new LongKeyMap<>();
+        Map<Long, Long> expectedMap = new HashMap<>();
+        Random random = new Random(37);
+        for (int i = 0; i < 100_000; i++) {
+            long key = random.nextInt(500);
+            if (random.nextBoolean()) {
+                map.put(key, key);
+                expectedMap.put(key, key);
+            } else {
+                map.remove(key);
+                expectedMap.remove(key);
+            }
+        }
+        assertThat(map.size()).isEqualTo(expectedMap.size());
+        for (long key = 0; key < 500; key++) {
+            assertThat(map.get(key)).isEqualTo(expectedMap.get(key));
+        }
+    }
+
+}
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.optaplanner.constraint.streams.bavet.common.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.constraint.streams.bavet.common.collection.TupleListEntry;
+import org.optaplanner.constraint.streams.bavet.uni.UniTuple;
+import org.optaplanner.constraint.streams.bavet.uni.UniTupleImpl;
+import org.optaplanner.constraint.streams.common.bi.DefaultBiJoiner;
+import org.optaplanner.core.api.score.stream.Joiners;
+
+class PrimitiveEqualsIndexerTest extends AbstractIndexerTest {
+
+    private final DefaultBiJoiner<Person, Person> joiner =
+            (DefaultBiJoiner<Person, Person>) Joiners.equal((Person p) -> p.age);
+
+    @Test
+    void buildIndexer() {
+        assertThat(new IndexerFactory(joiner).<UniTuple<String>> buildIndexer(true))
+                .isInstanceOf(PrimitiveEqualsIndexer.class);
+    }
+
+    @Test
+    void isEmpty() {
+        Indexer<UniTuple<String>> indexer = new IndexerFactory(joiner).buildIndexer(true);
+        assertThat(indexer.isEmpty()).isTrue();
+        assertThat(getTuples(indexer, 40)).isEmpty();
+    }
+
+    @Test
+    void putAndRemove() {
+        Indexer<UniTuple<String>> indexer = new IndexerFactory(joiner).buildIndexer(true);
+        UniTuple<String> annTuple = newTuple("Ann-F-40");
+        assertThat(indexer.size(new SingleIndexProperties(40))).isEqualTo(0);
+        TupleListEntry<UniTuple<String>> annEntry = indexer.put(new SingleIndexProperties(40), annTuple);
+        assertThat(indexer.size(new SingleIndexProperties(40))).isEqualTo(1);
+        assertThat(indexer.isEmpty()).isFalse();
+
+        indexer.remove(new SingleIndexProperties(40), annEntry);
+        assertThat(indexer.size(new SingleIndexProperties(40))).isEqualTo(0);
+        assertThat(indexer.isEmpty()).isTrue();
+    }
+
+    @Test
+    void removeTwice() {
+        Indexer<UniTuple<String>> indexer = new IndexerFactory(joiner).buildIndexer(true);
+        UniTuple<String> annTuple = newTuple("Ann-F-40");
+        TupleListEntry<UniTuple<String>> annEntry = indexer.put(new SingleIndexProperties(40), annTuple);
+
+        indexer.remove(new SingleIndexProperties(40), annEntry);
+        assertThatThrownBy(() -> indexer.remove(new SingleIndexProperties(40), annEntry))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void visit() {
+        Indexer<UniTuple<String>> indexer = new IndexerFactory(joiner).buildIndexer(true);
+
+        UniTuple<String> annTuple = newTuple("Ann-F-40");
+        indexer.put(new SingleIndexProperties(40), annTuple);
+        UniTuple<String> bethTuple = newTuple("Beth-F-30");
+        indexer.put(new SingleIndexProperties(30), bethTuple);
+        UniTuple<String> carlTuple = newTuple("Carl-M-40");
+        indexer.put(new SingleIndexProperties(40), carlTuple);
+
+        assertThat(getTuples(indexer, 40)).containsOnly(annTuple, carlTuple);
+        assertThat(getTuples(indexer, 30)).containsOnly(bethTuple);
+        assertThat(getTuples(indexer, 20)).isEmpty();
+    }
+
+    @Test
+    void visitMixedKeyTypes() {
+        Indexer<UniTuple<String>> indexer = new IndexerFactory(joiner).buildIndexer(true);
+
+        UniTuple<String> intTuple = newTuple("int-1");
+        indexer.put(new SingleIndexProperties(1), intTuple);
+        UniTuple<String> longTuple = newTuple("long-1");
+        indexer.put(new SingleIndexProperties(1L), longTuple);
+        UniTuple<String> stringTuple = newTuple("string-1");
+        indexer.put(new SingleIndexProperties("1"), stringTuple);
+        UniTuple<String> nullTuple = newTuple("null");
+        indexer.put(new SingleIndexProperties(null), nullTuple);
+
+        assertThat(getTuples(indexer, 1)).containsOnly(intTuple);
+        assertThat(getTuples(indexer, 1L)).containsOnly(longTuple);
+        assertThat(getTuples(indexer, "1")).containsOnly(stringTuple);
+        assertThat(getTuples(indexer, (Object) null)).containsOnly(nullTuple);
+    }
+
+    @Test
+    void visitManyKeys() {
+        Indexer<UniTuple<String>> indexer = new IndexerFactory(joiner).buildIndexer(true);
+        int keyCount = 1000;
+        TupleListEntry<UniTuple<String>>[] entries = new TupleListEntry[keyCount];
+        for (int i = 0; i < keyCount; i++) {
+            entries[i] = indexer.put(new SingleIndexProperties(i), newTuple("Tuple-" + i));
+        }
+        for (int i = 0; i < keyCount; i += 2) {
+            indexer.remove(new SingleIndexProperties(i), entries[i]);
+        }
+        for (int i = 0; i < keyCount; i++) {
+            assertThat(indexer.size(new SingleIndexProperties(i))).isEqualTo(i % 2);
+        }
+    }
+
+    private static UniTuple<String> newTuple(String factA) {
+        return new UniTupleImpl<>(factA, 0);
+    }
+
+}
@@ -54,6 +54,11 @@ final class BendableBigDecimalScoreContext extends ScoreContext<BendableBigDecim
                 softScoreLevelUpdater);
     }
 
+    public void impactSoftScore(BigDecimal matchWeight) {
+        BigDecimal softImpact = scoreLevelWeight.multiply(matchWeight);
+        softScoreLevelUpdater.accept(scoreLevel, softImpact);
+    }
+
     public UndoScoreImpacter changeSoftScoreBy(BigDecimal matchWeight, JustificationsSupplier justificationsSupplier) {
         BigDecimal softImpact = scoreLevelWeight.multiply(matchWeight);
         softScoreLevelUpdater.accept(scoreLevel, softImpact);
@@ -66,6 +71,11 @@ final class BendableBigDecimalScoreContext extends ScoreContext<BendableBigDecim
                 justificationsSupplier);
     }
 
+    public void impactHardScore(BigDecimal matchWeight) {
+        BigDecimal hardImpact = scoreLevelWeight.multiply(matchWeight);
+        hardScoreLevelUpdater.accept(scoreLevel, hardImpact);
+    }
+
     public UndoScoreImpacter changeHardScoreBy(BigDecimal matchWeight, JustificationsSupplier justificationsSupplier) {
         BigDecimal hardImpact = scoreLevelWeight.multiply(matchWeight);
         hardScoreLevelUpdater.accept(scoreLevel, hardImpact);
@@ -78,6 +88,17 @@ final class BendableBigDecimalScoreContext extends ScoreContext<BendableBigDecim
                 justificationsSupplier);
     }
 
+    public void impactScore(BigDecimal matchWeight) {
+        for (int hardScoreLevel = 0; hardScoreLevel < hardScoreLevelCount; hardScoreLevel++) {
+            BigDecimal hardImpact = constraintWeight.hardScore(hardScoreLevel).multiply(matchWeight);
+            hardScoreLevelUpdater.accept(hardScoreLevel, hardImpact);
+        }
+        for (int softScoreLevel = 0; softScoreLevel < softScoreLevelCount; softScoreLevel++) {
+            BigDecimal softImpact = constraintWeight.softScore(softScoreLevel).multiply(matchWeight);
+            softScoreLevelUpdater.accept(softScoreLevel, softImpact);
+        }
+    }
+
     public UndoScoreImpacter changeScoreBy(BigDecimal matchWeight, JustificationsSupplier justificationsSupplier) {
         BigDecimal[] hardImpacts = new BigDecimal[hardScoreLevelCount];
         BigDecimal[] softImpacts = new BigDecimal[softScoreLevelCount];
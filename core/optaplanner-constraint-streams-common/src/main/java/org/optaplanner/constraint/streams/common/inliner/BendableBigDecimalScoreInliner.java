@@ -64,14 +64,17 @@ final class BendableBigDecimalScoreInliner extends AbstractScoreInliner<Bendable
                     hardScores.length, softScores.length, level, constraintWeight.hardOrSoftScore(singleLevel),
                     hardScoreUpdater, softScoreUpdater);
             if (isHardScore) {
-                return WeightedScoreImpacter.of(context, BendableBigDecimalScoreContext::changeHardScoreBy);
+                return WeightedScoreImpacter.of(context, BendableBigDecimalScoreContext::changeHardScoreBy,
+                        BendableBigDecimalScoreContext::impactHardScore);
             } else {
-                return WeightedScoreImpacter.of(context, BendableBigDecimalScoreContext::changeSoftScoreBy);
+                return WeightedScoreImpacter.of(context, BendableBigDecimalScoreContext::changeSoftScoreBy,
+                        BendableBigDecimalScoreContext::impactSoftScore);
             }
         } else {
             BendableBigDecimalScoreContext context = new BendableBigDecimalScoreContext(this, constraint, constraintWeight,
                     hardScores.length, softScores.length, hardScoreUpdater, softScoreUpdater);
-            return WeightedScoreImpacter.of(context, BendableBigDecimalScoreContext::changeScoreBy);
+            return WeightedScoreImpacter.of(context, BendableBigDecimalScoreContext::changeScoreBy,
+                    BendableBigDecimalScoreContext::impactScore);
         }
     }
 
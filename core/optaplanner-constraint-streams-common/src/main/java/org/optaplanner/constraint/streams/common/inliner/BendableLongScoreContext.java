@@ -50,6 +50,11 @@ final class BendableLongScoreContext extends ScoreContext<BendableLongScore> {
                 softScoreLevelUpdater);
     }
 
+    public void impactSoftScore(long matchWeight) {
+        long softImpact = scoreLevelWeight * matchWeight;
+        softScoreLevelUpdater.accept(scoreLevel, softImpact);
+    }
+
     public UndoScoreImpacter changeSoftScoreBy(long matchWeight, JustificationsSupplier justificationsSupplier) {
         long softImpact = scoreLevelWeight * matchWeight;
         softScoreLevelUpdater.accept(scoreLevel, softImpact);
@@ -62,6 +67,11 @@ final class BendableLongScoreContext extends ScoreContext<BendableLongScore> {
                 justificationsSupplier);
     }
 
+    public void impactHardScore(long matchWeight) {
+        long hardImpact = scoreLevelWeight * matchWeight;
+        hardScoreLevelUpdater.accept(scoreLevel, hardImpact);
+    }
+
     public UndoScoreImpacter changeHardScoreBy(long matchWeight, JustificationsSupplier justificationsSupplier) {
         long hardImpact = scoreLevelWeight * matchWeight;
         hardScoreLevelUpdater.accept(scoreLevel, hardImpact);
@@ -74,6 +84,17 @@ final class BendableLongScoreContext extends ScoreContext<BendableLongScore> {
                 justificationsSupplier);
     }
 
+    public void impactScore(long matchWeight) {
+        for (int hardScoreLevel = 0; hardScoreLevel < hardScoreLevelCount; hardScoreLevel++) {
+            long hardImpact = constraintWeight.hardScore(hardScoreLevel) * matchWeight;
+            hardScoreLevelUpdater.accept(hardScoreLevel, hardImpact);
+        }
+        for (int softScoreLevel = 0; softScoreLevel < softScoreLevelCount; softScoreLevel++) {
+            long softImpact = constraintWeight.softScore(softScoreLevel) * matchWeight;
+            softScoreLevelUpdater.accept(softScoreLevel, softImpact);
+        }
+    }
+
     public UndoScoreImpacter changeScoreBy(long matchWeight, JustificationsSupplier justificationsSupplier) {
         long[] hardImpacts = new long[hardScoreLevelCount];
         long[] softImpacts = new long[softScoreLevelCount];
@@ -60,16 +60,19 @@ public final class BendableLongScoreInliner extends AbstractScoreInliner<Bendabl
                     hardScoreUpdater, softScoreUpdater);
             if (isHardScore) {
                 return WeightedScoreImpacter.of(context, (BendableLongScoreContext ctx, long impact,
-                        JustificationsSupplier justificationSupplier) -> ctx.changeHardScoreBy(impact, justificationSupplier));
+                        JustificationsSupplier justificationSupplier) -> ctx.changeHardScoreBy(impact, justificationSupplier),
+                        (BendableLongScoreContext ctx, long matchWeight) -> ctx.impactHardScore(matchWeight));
             } else {
                 return WeightedScoreImpacter.of(context, (BendableLongScoreContext ctx, long impact,
-                        JustificationsSupplier justificationSupplier) -> ctx.changeSoftScoreBy(impact, justificationSupplier));
+                        JustificationsSupplier justificationSupplier) -> ctx.changeSoftScoreBy(impact, justificationSupplier),
+                        (BendableLongScoreContext ctx, long matchWeight) -> ctx.impactSoftScore(matchWeight));
             }
         } else {
             BendableLongScoreContext context = new BendableLongScoreContext(this, constraint, constraintWeight,
                     hardScores.length, softScores.length, hardScoreUpdater, softScoreUpdater);
             return WeightedScoreImpacter.of(context, (BendableLongScoreContext ctx, long impact,
-                    JustificationsSupplier justificationSupplier) -> ctx.changeScoreBy(impact, justificationSupplier));
+                    JustificationsSupplier justificationSupplier) -> ctx.changeScoreBy(impact, justificationSupplier),
+                    (BendableLongScoreContext ctx, long matchWeight) -> ctx.impactScore(matchWeight));
         }
     }
 
@@ -50,6 +50,11 @@ final class BendableScoreContext extends ScoreContext<BendableScore> {
                 softScoreLevelUpdater);
     }
 
+    public void impactSoftScore(int matchWeight) {
+        int softImpact = scoreLevelWeight * matchWeight;
+        softScoreLevelUpdater.accept(scoreLevel, softImpact);
+    }
+
     public UndoScoreImpacter changeSoftScoreBy(int matchWeight, JustificationsSupplier justificationsSupplier) {
         int softImpact = scoreLevelWeight * matchWeight;
         softScoreLevelUpdater.accept(scoreLevel, softImpact);
@@ -61,6 +66,11 @@ final class BendableScoreContext extends ScoreContext<BendableScore> {
                 BendableScore.ofSoft(hardScoreLevelCount, softScoreLevelCount, scoreLevel, softImpact), justificationsSupplier);
     }
 
+    public void impactHardScore(int matchWeight) {
+        int hardImpact = scoreLevelWeight * matchWeight;
+        hardScoreLevelUpdater.accept(scoreLevel, hardImpact);
+    }
+
     public UndoScoreImpacter changeHardScoreBy(int matchWeight, JustificationsSupplier justificationsSupplier) {
         int hardImpact = scoreLevelWeight * matchWeight;
         hardScoreLevelUpdater.accept(scoreLevel, hardImpact);
@@ -72,6 +82,17 @@ final class BendableScoreContext extends ScoreContext<BendableScore> {
                 BendableScore.ofHard(hardScoreLevelCount, softScoreLevelCount, scoreLevel, hardImpact), justificationsSupplier);
     }
 
+    public void impactScore(int matchWeight) {
+        for (int hardScoreLevel = 0; hardScoreLevel < hardScoreLevelCount; hardScoreLevel++) {
+            int hardImpact = constraintWeight.hardScore(hardScoreLevel) * matchWeight;
+            hardScoreLevelUpdater.accept(hardScoreLevel, hardImpact);
+        }
+        for (int softScoreLevel = 0; softScoreLevel < softScoreLevelCount; softScoreLevel++) {
+            int softImpact = constraintWeight.softScore(softScoreLevel) * matchWeight;
+            softScoreLevelUpdater.accept(softScoreLevel, softImpact);
+        }
+    }
+
     public UndoScoreImpacter changeScoreBy(int matchWeight, JustificationsSupplier justificationsSupplier) {
         int[] hardImpacts = new int[hardScoreLevelCount];
         int[] softImpacts = new int[softScoreLevelCount];
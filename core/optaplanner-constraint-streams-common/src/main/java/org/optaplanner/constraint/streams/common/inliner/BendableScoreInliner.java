@@ -59,14 +59,17 @@ final class BendableScoreInliner extends AbstractScoreInliner<BendableScore> {
                     hardScores.length, softScores.length, level, constraintWeight.hardOrSoftScore(singleLevel),
                     hardScoreUpdater, softScoreUpdater);
             if (isHardScore) {
-                return WeightedScoreImpacter.of(context, BendableScoreContext::changeHardScoreBy);
+                return WeightedScoreImpacter.of(context, BendableScoreContext::changeHardScoreBy,
+                        BendableScoreContext::impactHardScore);
             } else {
-                return WeightedScoreImpacter.of(context, BendableScoreContext::changeSoftScoreBy);
+                return WeightedScoreImpacter.of(context, BendableScoreContext::changeSoftScoreBy,
+                        BendableScoreContext::impactSoftScore);
             }
         } else {
             BendableScoreContext context = new BendableScoreContext(this, constraint, constraintWeight,
                     hardScores.length, softScores.length, hardScoreUpdater, softScoreUpdater);
-            return WeightedScoreImpacter.of(context, BendableScoreContext::changeScoreBy);
+            return WeightedScoreImpacter.of(context, BendableScoreContext::changeScoreBy,
+                    BendableScoreContext::impactScore);
         }
     }
 
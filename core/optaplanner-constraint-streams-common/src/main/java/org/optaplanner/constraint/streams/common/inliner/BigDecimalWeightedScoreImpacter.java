@@ -28,11 +28,13 @@ final class BigDecimalWeightedScoreImpacter<Score_ extends Score<Score_>, Contex
         implements WeightedScoreImpacter<Score_, Context_> {
 
     private final BigDecimalImpactFunction<Score_, Context_> impactFunction;
+    private final BigDecimalUndoableImpactFunction<Score_, Context_> undoableImpactFunction;
     private final Context_ context;
 
     public BigDecimalWeightedScoreImpacter(BigDecimalImpactFunction<Score_, Context_> impactFunction,
-            Context_ context) {
+            BigDecimalUndoableImpactFunction<Score_, Context_> undoableImpactFunction, Context_ context) {
         this.impactFunction = Objects.requireNonNull(impactFunction);
+        this.undoableImpactFunction = Objects.requireNonNull(undoableImpactFunction);
         this.context = context;
     }
 
@@ -51,9 +53,64 @@ final class BigDecimalWeightedScoreImpacter<Score_ extends Score<Score_>, Contex
         return impactFunction.impact(context, matchWeight, justificationsSupplier);
     }
 
+    @Override
+    public UndoScoreImpacter impactScore(int matchWeight, JustificationsSupplier justificationsSupplier,
+            UndoScoreImpacter reusableUndoScoreImpacter) {
+        return impactScore(BigDecimal.valueOf(matchWeight), justificationsSupplier, reusableUndoScoreImpacter);
+    }
+
+    @Override
+    public UndoScoreImpacter impactScore(long matchWeight, JustificationsSupplier justificationsSupplier,
+            UndoScoreImpacter reusableUndoScoreImpacter) {
+        return impactScore(BigDecimal.valueOf(matchWeight), justificationsSupplier, reusableUndoScoreImpacter);
+    }
+
+    @Override
+    public UndoScoreImpacter impactScore(BigDecimal matchWeight, JustificationsSupplier justificationsSupplier,
+            UndoScoreImpacter reusableUndoScoreImpacter) {
+        if (context.isConstraintMatchEnabled()) {
+            return impactFunction.impact(context, matchWeight, justificationsSupplier);
+        }
+        undoableImpactFunction.impact(context, matchWeight);
+        BigDecimalUndoScoreImpacter undoScoreImpacter;
+        if (reusableUndoScoreImpacter instanceof BigDecimalUndoScoreImpacter
+                && ((BigDecimalUndoScoreImpacter) reusableUndoScoreImpacter).parent == this) {
+            undoScoreImpacter = (BigDecimalUndoScoreImpacter) reusableUndoScoreImpacter;
+        } else {
+            undoScoreImpacter = new BigDecimalUndoScoreImpacter(this);
+        }
+        undoScoreImpacter.matchWeight = matchWeight;
+        return undoScoreImpacter;
+    }
+
     @Override
     public Context_ getContext() {
         return context;
     }
 
+    /**
+     * Undoes an impact by impacting again with the negated match weight,
+     * as {@code weight.multiply(matchWeight.negate())} equals {@code weight.multiply(matchWeight).negate()},
+     * including its scale.
+     */
+    private static final class BigDecimalUndoScoreImpacter implements UndoScoreImpacter {
+
+        private final BigDecimalWeightedScoreImpacter<?, ?> parent;
+        private BigDecimal matchWeight;
+
+        private BigDecimalUndoScoreImpacter(BigDecimalWeightedScoreImpacter<?, ?> parent) {
+            this.parent = parent;
+        }
+
+        @Override
+        public void run() {
+            parent.undo(matchWeight);
+        }
+
+    }
+
+    private void undo(BigDecimal matchWeight) {
+        undoableImpactFunction.impact(context, matchWeight.negate());
+    }
+
 }
@@ -40,6 +40,11 @@ final class HardMediumSoftBigDecimalScoreContext extends ScoreContext<HardMedium
         this.hardScoreUpdater = hardScoreUpdater;
     }
 
+    public void impactSoftScore(BigDecimal matchWeight) {
+        BigDecimal softImpact = constraintWeight.softScore().multiply(matchWeight);
+        softScoreUpdater.accept(softImpact);
+    }
+
     public UndoScoreImpacter changeSoftScoreBy(BigDecimal matchWeight, JustificationsSupplier justificationsSupplier) {
         BigDecimal softImpact = constraintWeight.softScore().multiply(matchWeight);
         softScoreUpdater.accept(softImpact);
@@ -51,6 +56,11 @@ final class HardMediumSoftBigDecimalScoreContext extends ScoreContext<HardMedium
                 justificationsSupplier);
     }
 
+    public void impactMediumScore(BigDecimal matchWeight) {
+        BigDecimal mediumImpact = constraintWeight.mediumScore().multiply(matchWeight);
+        mediumScoreUpdater.accept(mediumImpact);
+    }
+
     public UndoScoreImpacter changeMediumScoreBy(BigDecimal matchWeight, JustificationsSupplier justificationsSupplier) {
         BigDecimal mediumImpact = constraintWeight.mediumScore().multiply(matchWeight);
         mediumScoreUpdater.accept(mediumImpact);
@@ -62,6 +72,11 @@ final class HardMediumSoftBigDecimalScoreContext extends ScoreContext<HardMedium
                 justificationsSupplier);
     }
 
+    public void impactHardScore(BigDecimal matchWeight) {
+        BigDecimal hardImpact = constraintWeight.hardScore().multiply(matchWeight);
+        hardScoreUpdater.accept(hardImpact);
+    }
+
     public UndoScoreImpacter changeHardScoreBy(BigDecimal matchWeight, JustificationsSupplier justificationsSupplier) {
         BigDecimal hardImpact = constraintWeight.hardScore().multiply(matchWeight);
         hardScoreUpdater.accept(hardImpact);
@@ -73,6 +88,15 @@ final class HardMediumSoftBigDecimalScoreContext extends ScoreContext<HardMedium
                 justificationsSupplier);
     }
 
+    public void impactScore(BigDecimal matchWeight) {
+        BigDecimal hardImpact = constraintWeight.hardScore().multiply(matchWeight);
+        BigDecimal mediumImpact = constraintWeight.mediumScore().multiply(matchWeight);
+        BigDecimal softImpact = constraintWeight.softScore().multiply(matchWeight);
+        hardScoreUpdater.accept(hardImpact);
+        mediumScoreUpdater.accept(mediumImpact);
+        softScoreUpdater.accept(softImpact);
+    }
+
     public UndoScoreImpacter changeScoreBy(BigDecimal matchWeight, JustificationsSupplier justificationsSupplier) {
         BigDecimal hardImpact = constraintWeight.hardScore().multiply(matchWeight);
         BigDecimal mediumImpact = constraintWeight.mediumScore().multiply(matchWeight);
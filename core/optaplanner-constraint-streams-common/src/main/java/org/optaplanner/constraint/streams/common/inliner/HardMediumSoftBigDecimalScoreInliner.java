@@ -48,13 +48,17 @@ final class HardMediumSoftBigDecimalScoreInliner extends AbstractScoreInliner<Ha
                         impact -> this.mediumScore = this.mediumScore.add(impact),
                         impact -> this.softScore = this.softScore.add(impact));
         if (mediumConstraintWeight.equals(BigDecimal.ZERO) && softConstraintWeight.equals(BigDecimal.ZERO)) {
-            return WeightedScoreImpacter.of(context, HardMediumSoftBigDecimalScoreContext::changeHardScoreBy);
+            return WeightedScoreImpacter.of(context, HardMediumSoftBigDecimalScoreContext::changeHardScoreBy,
+                    HardMediumSoftBigDecimalScoreContext::impactHardScore);
         } else if (hardConstraintWeight.equals(BigDecimal.ZERO) && softConstraintWeight.equals(BigDecimal.ZERO)) {
-            return WeightedScoreImpacter.of(context, HardMediumSoftBigDecimalScoreContext::changeMediumScoreBy);
+            return WeightedScoreImpacter.of(context, HardMediumSoftBigDecimalScoreContext::changeMediumScoreBy,
+                    HardMediumSoftBigDecimalScoreContext::impactMediumScore);
         } else if (hardConstraintWeight.equals(BigDecimal.ZERO) && mediumConstraintWeight.equals(BigDecimal.ZERO)) {
-            return WeightedScoreImpacter.of(context, HardMediumSoftBigDecimalScoreContext::changeSoftScoreBy);
+            return WeightedScoreImpacter.of(context, HardMediumSoftBigDecimalScoreContext::changeSoftScoreBy,
+                    HardMediumSoftBigDecimalScoreContext::impactSoftScore);
         } else {
-            return WeightedScoreImpacter.of(context, HardMediumSoftBigDecimalScoreContext::changeScoreBy);
+            return WeightedScoreImpacter.of(context, HardMediumSoftBigDecimalScoreContext::changeScoreBy,
+                    HardMediumSoftBigDecimalScoreContext::impactScore);
         }
     }
 
@@ -39,6 +39,11 @@ final class HardMediumSoftLongScoreContext extends ScoreContext<HardMediumSoftLo
         this.hardScoreUpdater = hardScoreUpdater;
     }
 
+    public void impactSoftScore(long matchWeight) {
+        long softImpact = constraintWeight.softScore() * matchWeight;
+        softScoreUpdater.accept(softImpact);
+    }
+
     public UndoScoreImpacter changeSoftScoreBy(long matchWeight, JustificationsSupplier justificationsSupplier) {
         long softImpact = constraintWeight.softScore() * matchWeight;
         softScoreUpdater.accept(softImpact);
@@ -49,6 +54,11 @@ final class HardMediumSoftLongScoreContext extends ScoreContext<HardMediumSoftLo
         return impactWithConstraintMatch(undoScoreImpact, HardMediumSoftLongScore.ofSoft(softImpact), justificationsSupplier);
     }
 
+    public void impactMediumScore(long matchWeight) {
+        long mediumImpact = constraintWeight.mediumScore() * matchWeight;
+        mediumScoreUpdater.accept(mediumImpact);
+    }
+
     public UndoScoreImpacter changeMediumScoreBy(long matchWeight, JustificationsSupplier justificationsSupplier) {
         long mediumImpact = constraintWeight.mediumScore() * matchWeight;
         mediumScoreUpdater.accept(mediumImpact);
@@ -60,6 +70,11 @@ final class HardMediumSoftLongScoreContext extends ScoreContext<HardMediumSoftLo
                 justificationsSupplier);
     }
 
+    public void impactHardScore(long matchWeight) {
+        long hardImpact = constraintWeight.hardScore() * matchWeight;
+        hardScoreUpdater.accept(hardImpact);
+    }
+
     public UndoScoreImpacter changeHardScoreBy(long matchWeight, JustificationsSupplier justificationsSupplier) {
         long hardImpact = constraintWeight.hardScore() * matchWeight;
         hardScoreUpdater.accept(hardImpact);
@@ -70,6 +85,15 @@ final class HardMediumSoftLongScoreContext extends ScoreContext<HardMediumSoftLo
         return impactWithConstraintMatch(undoScoreImpact, HardMediumSoftLongScore.ofHard(hardImpact), justificationsSupplier);
     }
 
+    public void impactScore(long matchWeight) {
+        long hardImpact = constraintWeight.hardScore() * matchWeight;
+        long mediumImpact = constraintWeight.mediumScore() * matchWeight;
+        long softImpact = constraintWeight.softScore() * matchWeight;
+        hardScoreUpdater.accept(hardImpact);
+        mediumScoreUpdater.accept(mediumImpact);
+        softScoreUpdater.accept(softImpact);
+    }
+
     public UndoScoreImpacter changeScoreBy(long matchWeight, JustificationsSupplier justificationsSupplier) {
         long hardImpact = constraintWeight.hardScore() * matchWeight;
         long mediumImpact = constraintWeight.mediumScore() * matchWeight;
@@ -45,19 +45,23 @@ final class HardMediumSoftLongScoreInliner extends AbstractScoreInliner<HardMedi
         if (mediumConstraintWeight == 0L && softConstraintWeight == 0L) {
             return WeightedScoreImpacter.of(context,
                     (HardMediumSoftLongScoreContext ctx, long matchWeight, JustificationsSupplier justificationsSupplier) -> ctx
-                            .changeHardScoreBy(matchWeight, justificationsSupplier));
+                            .changeHardScoreBy(matchWeight, justificationsSupplier),
+                    (HardMediumSoftLongScoreContext ctx, long matchWeight) -> ctx.impactHardScore(matchWeight));
         } else if (hardConstraintWeight == 0L && softConstraintWeight == 0L) {
             return WeightedScoreImpacter.of(context,
                     (HardMediumSoftLongScoreContext ctx, long matchWeight, JustificationsSupplier justificationsSupplier) -> ctx
-                            .changeMediumScoreBy(matchWeight, justificationsSupplier));
+                            .changeMediumScoreBy(matchWeight, justificationsSupplier),
+                    (HardMediumSoftLongScoreContext ctx, long matchWeight) -> ctx.impactMediumScore(matchWeight));
         } else if (hardConstraintWeight == 0L && mediumConstraintWeight == 0L) {
             return WeightedScoreImpacter.of(context,
                     (HardMediumSoftLongScoreContext ctx, long matchWeight, JustificationsSupplier justificationsSupplier) -> ctx
-                            .changeSoftScoreBy(matchWeight, justificationsSupplier));
+                            .changeSoftScoreBy(matchWeight, justificationsSupplier),
+                    (HardMediumSoftLongScoreContext ctx, long matchWeight) -> ctx.impactSoftScore(matchWeight));
         } else {
             return WeightedScoreImpacter.of(context,
                     (HardMediumSoftLongScoreContext ctx, long matchWeight, JustificationsSupplier justificationsSupplier) -> ctx
-                            .changeScoreBy(matchWeight, justificationsSupplier));
+                            .changeScoreBy(matchWeight, justificationsSupplier),
+                    (HardMediumSoftLongScoreContext ctx, long matchWeight) -> ctx.impactScore(matchWeight));
         }
     }
 
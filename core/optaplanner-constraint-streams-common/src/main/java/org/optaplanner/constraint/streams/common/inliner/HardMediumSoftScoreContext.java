@@ -39,6 +39,11 @@ final class HardMediumSoftScoreContext extends ScoreContext<HardMediumSoftScore>
         this.hardScoreUpdater = hardScoreUpdater;
     }
 
+    public void impactSoftScore(int matchWeight) {
+        int softImpact = constraintWeight.softScore() * matchWeight;
+        softScoreUpdater.accept(softImpact);
+    }
+
     public UndoScoreImpacter changeSoftScoreBy(int matchWeight, JustificationsSupplier justificationsSupplier) {
         int softImpact = constraintWeight.softScore() * matchWeight;
         softScoreUpdater.accept(softImpact);
@@ -49,6 +54,11 @@ final class HardMediumSoftScoreContext extends ScoreContext<HardMediumSoftScore>
         return impactWithConstraintMatch(undoScoreImpact, HardMediumSoftScore.ofSoft(softImpact), justificationsSupplier);
     }
 
+    public void impactMediumScore(int matchWeight) {
+        int mediumImpact = constraintWeight.mediumScore() * matchWeight;
+        mediumScoreUpdater.accept(mediumImpact);
+    }
+
     public UndoScoreImpacter changeMediumScoreBy(int matchWeight, JustificationsSupplier justificationsSupplier) {
         int mediumImpact = constraintWeight.mediumScore() * matchWeight;
         mediumScoreUpdater.accept(mediumImpact);
@@ -59,6 +69,11 @@ final class HardMediumSoftScoreContext extends ScoreContext<HardMediumSoftScore>
         return impactWithConstraintMatch(undoScoreImpact, HardMediumSoftScore.ofMedium(mediumImpact), justificationsSupplier);
     }
 
+    public void impactHardScore(int matchWeight) {
+        int hardImpact = constraintWeight.hardScore() * matchWeight;
+        hardScoreUpdater.accept(hardImpact);
+    }
+
     public UndoScoreImpacter changeHardScoreBy(int matchWeight, JustificationsSupplier justificationsSupplier) {
         int hardImpact = constraintWeight.hardScore() * matchWeight;
         hardScoreUpdater.accept(hardImpact);
@@ -69,6 +84,15 @@ final class HardMediumSoftScoreContext extends ScoreContext<HardMediumSoftScore>
         return impactWithConstraintMatch(undoScoreImpact, HardMediumSoftScore.ofHard(hardImpact), justificationsSupplier);
     }
 
+    public void impactScore(int matchWeight) {
+        int hardImpact = constraintWeight.hardScore() * matchWeight;
+        int mediumImpact = constraintWeight.mediumScore() * matchWeight;
+        int softImpact = constraintWeight.softScore() * matchWeight;
+        hardScoreUpdater.accept(hardImpact);
+        mediumScoreUpdater.accept(mediumImpact);
+        softScoreUpdater.accept(softImpact);
+    }
+
     public UndoScoreImpacter changeScoreBy(int matchWeight, JustificationsSupplier justificationsSupplier) {
         int hardImpact = constraintWeight.hardScore() * matchWeight;
         int mediumImpact = constraintWeight.mediumScore() * matchWeight;
@@ -44,13 +44,17 @@ final class HardMediumSoftScoreInliner extends AbstractScoreInliner<HardMediumSo
                         impact -> this.hardScore += impact, impact -> this.mediumScore += impact,
                         impact -> this.softScore += impact);
         if (mediumConstraintWeight == 0 && softConstraintWeight == 0) {
-            return WeightedScoreImpacter.of(context, HardMediumSoftScoreContext::changeHardScoreBy);
+            return WeightedScoreImpacter.of(context, HardMediumSoftScoreContext::changeHardScoreBy,
+                    HardMediumSoftScoreContext::impactHardScore);
         } else if (hardConstraintWeight == 0 && softConstraintWeight == 0) {
-            return WeightedScoreImpacter.of(context, HardMediumSoftScoreContext::changeMediumScoreBy);
+            return WeightedScoreImpacter.of(context, HardMediumSoftScoreContext::changeMediumScoreBy,
+                    HardMediumSoftScoreContext::impactMediumScore);
         } else if (hardConstraintWeight == 0 && mediumConstraintWeight == 0) {
-            return WeightedScoreImpacter.of(context, HardMediumSoftScoreContext::changeSoftScoreBy);
+            return WeightedScoreImpacter.of(context, HardMediumSoftScoreContext::changeSoftScoreBy,
+                    HardMediumSoftScoreContext::impactSoftScore);
         } else {
-            return WeightedScoreImpacter.of(context, HardMediumSoftScoreContext::changeScoreBy);
+            return WeightedScoreImpacter.of(context, HardMediumSoftScoreContext::changeScoreBy,
+                    HardMediumSoftScoreContext::impactScore);
         }
     }
 
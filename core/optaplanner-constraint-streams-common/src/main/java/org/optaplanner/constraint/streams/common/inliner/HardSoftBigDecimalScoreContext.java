@@ -38,6 +38,11 @@ final class HardSoftBigDecimalScoreContext extends ScoreContext<HardSoftBigDecim
         this.hardScoreUpdater = hardScoreUpdater;
     }
 
+    public void impactSoftScore(BigDecimal matchWeight) {
+        BigDecimal softImpact = constraintWeight.softScore().multiply(matchWeight);
+        softScoreUpdater.accept(softImpact);
+    }
+
     public UndoScoreImpacter changeSoftScoreBy(BigDecimal matchWeight, JustificationsSupplier justificationsSupplier) {
         BigDecimal softImpact = constraintWeight.softScore().multiply(matchWeight);
         softScoreUpdater.accept(softImpact);
@@ -48,6 +53,11 @@ final class HardSoftBigDecimalScoreContext extends ScoreContext<HardSoftBigDecim
         return impactWithConstraintMatch(undoScoreImpact, HardSoftBigDecimalScore.ofSoft(softImpact), justificationsSupplier);
     }
 
+    public void impactHardScore(BigDecimal matchWeight) {
+        BigDecimal hardImpact = constraintWeight.hardScore().multiply(matchWeight);
+        hardScoreUpdater.accept(hardImpact);
+    }
+
     public UndoScoreImpacter changeHardScoreBy(BigDecimal matchWeight, JustificationsSupplier justificationsSupplier) {
         BigDecimal hardImpact = constraintWeight.hardScore().multiply(matchWeight);
         hardScoreUpdater.accept(hardImpact);
@@ -58,6 +68,13 @@ final class HardSoftBigDecimalScoreContext extends ScoreContext<HardSoftBigDecim
         return impactWithConstraintMatch(undoScoreImpact, HardSoftBigDecimalScore.ofHard(hardImpact), justificationsSupplier);
     }
 
+    public void impactScore(BigDecimal matchWeight) {
+        BigDecimal hardImpact = constraintWeight.hardScore().multiply(matchWeight);
+        BigDecimal softImpact = constraintWeight.softScore().multiply(matchWeight);
+        hardScoreUpdater.accept(hardImpact);
+        softScoreUpdater.accept(softImpact);
+    }
+
     public UndoScoreImpacter changeScoreBy(BigDecimal matchWeight, JustificationsSupplier justificationsSupplier) {
         BigDecimal hardImpact = constraintWeight.hardScore().multiply(matchWeight);
         BigDecimal softImpact = constraintWeight.softScore().multiply(matchWeight);
@@ -42,11 +42,14 @@ final class HardSoftBigDecimalScoreInliner extends AbstractScoreInliner<HardSoft
                         impact -> this.hardScore = this.hardScore.add(impact),
                         impact -> this.softScore = this.softScore.add(impact));
         if (constraintWeight.softScore().equals(BigDecimal.ZERO)) {
-            return WeightedScoreImpacter.of(context, HardSoftBigDecimalScoreContext::changeHardScoreBy);
+            return WeightedScoreImpacter.of(context, HardSoftBigDecimalScoreContext::changeHardScoreBy,
+                    HardSoftBigDecimalScoreContext::impactHardScore);
         } else if (constraintWeight.hardScore().equals(BigDecimal.ZERO)) {
-            return WeightedScoreImpacter.of(context, HardSoftBigDecimalScoreContext::changeSoftScoreBy);
+            return WeightedScoreImpacter.of(context, HardSoftBigDecimalScoreContext::changeSoftScoreBy,
+                    HardSoftBigDecimalScoreContext::impactSoftScore);
         } else {
-            return WeightedScoreImpacter.of(context, HardSoftBigDecimalScoreContext::changeScoreBy);
+            return WeightedScoreImpacter.of(context, HardSoftBigDecimalScoreContext::changeScoreBy,
+                    HardSoftBigDecimalScoreContext::impactScore);
         }
     }
 
@@ -36,6 +36,11 @@ final class HardSoftLongScoreContext extends ScoreContext<HardSoftLongScore> {
         this.hardScoreUpdater = hardScoreUpdater;
     }
 
+    public void impactSoftScore(long matchWeight) {
+        long softImpact = constraintWeight.softScore() * matchWeight;
+        softScoreUpdater.accept(softImpact);
+    }
+
     public UndoScoreImpacter changeSoftScoreBy(long matchWeight, JustificationsSupplier justificationsSupplier) {
         long softImpact = constraintWeight.softScore() * matchWeight;
         softScoreUpdater.accept(softImpact);
@@ -46,6 +51,11 @@ final class HardSoftLongScoreContext extends ScoreContext<HardSoftLongScore> {
         return impactWithConstraintMatch(undoScoreImpact, HardSoftLongScore.ofSoft(softImpact), justificationsSupplier);
     }
 
+    public void impactHardScore(long matchWeight) {
+        long hardImpact = constraintWeight.hardScore() * matchWeight;
+        hardScoreUpdater.accept(hardImpact);
+    }
+
     public UndoScoreImpacter changeHardScoreBy(long matchWeight, JustificationsSupplier justificationsSupplier) {
         long hardImpact = constraintWeight.hardScore() * matchWeight;
         hardScoreUpdater.accept(hardImpact);
@@ -56,6 +66,13 @@ final class HardSoftLongScoreContext extends ScoreContext<HardSoftLongScore> {
         return impactWithConstraintMatch(undoScoreImpact, HardSoftLongScore.ofHard(hardImpact), justificationsSupplier);
     }
 
+    public void impactScore(long matchWeight) {
+        long hardImpact = constraintWeight.hardScore() * matchWeight;
+        long softImpact = constraintWeight.softScore() * matchWeight;
+        hardScoreUpdater.accept(hardImpact);
+        softScoreUpdater.accept(softImpact);
+    }
+
     public UndoScoreImpacter changeScoreBy(long matchWeight, JustificationsSupplier justificationsSupplier) {
         long hardImpact = constraintWeight.hardScore() * matchWeight;
         long softImpact = constraintWeight.softScore() * matchWeight;
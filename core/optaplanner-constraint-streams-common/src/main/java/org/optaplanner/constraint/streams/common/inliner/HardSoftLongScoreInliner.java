@@ -41,15 +41,18 @@ final class HardSoftLongScoreInliner extends AbstractScoreInliner<HardSoftLongSc
         if (constraintWeight.softScore() == 0L) {
             return WeightedScoreImpacter.of(context,
                     (HardSoftLongScoreContext ctx, long matchWeight, JustificationsSupplier justificationsSupplier) -> ctx
-                            .changeHardScoreBy(matchWeight, justificationsSupplier));
+                            .changeHardScoreBy(matchWeight, justificationsSupplier),
+                    (HardSoftLongScoreContext ctx, long matchWeight) -> ctx.impactHardScore(matchWeight));
         } else if (constraintWeight.hardScore() == 0L) {
             return WeightedScoreImpacter.of(context,
                     (HardSoftLongScoreContext ctx, long matchWeight, JustificationsSupplier justificationsSupplier) -> ctx
-                            .changeSoftScoreBy(matchWeight, justificationsSupplier));
+                            .changeSoftScoreBy(matchWeight, justificationsSupplier),
+                    (HardSoftLongScoreContext ctx, long matchWeight) -> ctx.impactSoftScore(matchWeight));
         } else {
             return WeightedScoreImpacter.of(context,
                     (HardSoftLongScoreContext ctx, long matchWeight, JustificationsSupplier justificationsSupplier) -> ctx
-                            .changeScoreBy(matchWeight, justificationsSupplier));
+                            .changeScoreBy(matchWeight, justificationsSupplier),
+                    (HardSoftLongScoreContext ctx, long matchWeight) -> ctx.impactScore(matchWeight));
         }
     }
 
@@ -36,6 +36,11 @@ final class HardSoftScoreContext extends ScoreContext<HardSoftScore> {
         this.hardScoreUpdater = hardScoreUpdater;
     }
 
+    public void impactSoftScore(int matchWeight) {
+        int softImpact = constraintWeight.softScore() * matchWeight;
+        softScoreUpdater.accept(softImpact);
+    }
+
     public UndoScoreImpacter changeSoftScoreBy(int matchWeight, JustificationsSupplier justificationsSupplier) {
         int softImpact = constraintWeight.softScore() * matchWeight;
         softScoreUpdater.accept(softImpact);
@@ -46,6 +51,11 @@ final class HardSoftScoreContext extends ScoreContext<HardSoftScore> {
         return impactWithConstraintMatch(undoScoreImpact, HardSoftScore.ofSoft(softImpact), justificationsSupplier);
     }
 
+    public void impactHardScore(int matchWeight) {
+        int hardImpact = constraintWeight.hardScore() * matchWeight;
+        hardScoreUpdater.accept(hardImpact);
+    }
+
     public UndoScoreImpacter changeHardScoreBy(int matchWeight, JustificationsSupplier justificationsSupplier) {
         int hardImpact = constraintWeight.hardScore() * matchWeight;
         hardScoreUpdater.accept(hardImpact);
@@ -56,6 +66,13 @@ final class HardSoftScoreContext extends ScoreContext<HardSoftScore> {
         return impactWithConstraintMatch(undoScoreImpact, HardSoftScore.ofHard(hardImpact), justificationsSupplier);
     }
 
+    public void impactScore(int matchWeight) {
+        int hardImpact = constraintWeight.hardScore() * matchWeight;
+        int softImpact = constraintWeight.softScore() * matchWeight;
+        hardScoreUpdater.accept(hardImpact);
+        softScoreUpdater.accept(softImpact);
+    }
+
     public UndoScoreImpacter changeScoreBy(int matchWeight, JustificationsSupplier justificationsSupplier) {
         int hardImpact = constraintWeight.hardScore() * matchWeight;
         int softImpact = constraintWeight.softScore() * matchWeight;
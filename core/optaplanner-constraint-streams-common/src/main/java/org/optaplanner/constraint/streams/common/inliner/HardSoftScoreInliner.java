@@ -38,11 +38,14 @@ final class HardSoftScoreInliner extends AbstractScoreInliner<HardSoftScore> {
         HardSoftScoreContext context = new HardSoftScoreContext(this, constraint, constraintWeight,
                 impact -> this.hardScore += impact, impact -> this.softScore += impact);
         if (constraintWeight.softScore() == 0) {
-            return WeightedScoreImpacter.of(context, HardSoftScoreContext::changeHardScoreBy);
+            return WeightedScoreImpacter.of(context, HardSoftScoreContext::changeHardScoreBy,
+                    HardSoftScoreContext::impactHardScore);
         } else if (constraintWeight.hardScore() == 0) {
-            return WeightedScoreImpacter.of(context, HardSoftScoreContext::changeSoftScoreBy);
+            return WeightedScoreImpacter.of(context, HardSoftScoreContext::changeSoftScoreBy,
+                    HardSoftScoreContext::impactSoftScore);
         } else {
-            return WeightedScoreImpacter.of(context, HardSoftScoreContext::changeScoreBy);
+            return WeightedScoreImpacter.of(context, HardSoftScoreContext::changeScoreBy,
+                    HardSoftScoreContext::impactScore);
         }
     }
 
@@ -28,10 +28,13 @@ final class IntWeightedScoreImpacter<Score_ extends Score<Score_>, Context_ exte
         implements WeightedScoreImpacter<Score_, Context_> {
 
     private final IntImpactFunction<Score_, Context_> impactFunction;
+    private final IntUndoableImpactFunction<Score_, Context_> undoableImpactFunction;
     private final Context_ context;
 
-    public IntWeightedScoreImpacter(IntImpactFunction<Score_, Context_> impactFunction, Context_ context) {
+    public IntWeightedScoreImpacter(IntImpactFunction<Score_, Context_> impactFunction,
+            IntUndoableImpactFunction<Score_, Context_> undoableImpactFunction, Context_ context) {
         this.impactFunction = Objects.requireNonNull(impactFunction);
+        this.undoableImpactFunction = Objects.requireNonNull(undoableImpactFunction);
         this.context = context;
     }
 
@@ -50,9 +53,63 @@ final class IntWeightedScoreImpacter<Score_ extends Score<Score_>, Context_ exte
         throw new UnsupportedOperationException("Impossible state: passing BigDecimal into an int impacter.");
     }
 
+    @Override
+    public UndoScoreImpacter impactScore(int matchWeight, JustificationsSupplier justificationsSupplier,
+            UndoScoreImpacter reusableUndoScoreImpacter) {
+        if (context.isConstraintMatchEnabled()) {
+            return impactFunction.impact(context, matchWeight, justificationsSupplier);
+        }
+        undoableImpactFunction.impact(context, matchWeight);
+        IntUndoScoreImpacter undoScoreImpacter;
+        if (reusableUndoScoreImpacter instanceof IntUndoScoreImpacter
+                && ((IntUndoScoreImpacter) reusableUndoScoreImpacter).parent == this) {
+            undoScoreImpacter = (IntUndoScoreImpacter) reusableUndoScoreImpacter;
+        } else {
+            undoScoreImpacter = new IntUndoScoreImpacter(this);
+        }
+        undoScoreImpacter.matchWeight = matchWeight;
+        return undoScoreImpacter;
+    }
+
+    @Override
+    public UndoScoreImpacter impactScore(long matchWeight, JustificationsSupplier justificationsSupplier,
+            UndoScoreImpacter reusableUndoScoreImpacter) {
+        throw new UnsupportedOperationException("Impossible state: passing long into an int impacter.");
+    }
+
+    @Override
+    public UndoScoreImpacter impactScore(BigDecimal matchWeight, JustificationsSupplier justificationsSupplier,
+            UndoScoreImpacter reusableUndoScoreImpacter) {
+        throw new UnsupportedOperationException("Impossible state: passing BigDecimal into an int impacter.");
+    }
+
     @Override
     public Context_ getContext() {
         return context;
     }
 
+    /**
+     * Undoes an impact by impacting again with the negated match weight.
+     * In two's complement, {@code weight * -matchWeight == -(weight * matchWeight)} holds even on overflow.
+     */
+    private static final class IntUndoScoreImpacter implements UndoScoreImpacter {
+
+        private final IntWeightedScoreImpacter<?, ?> parent;
+        private int matchWeight;
+
+        private IntUndoScoreImpacter(IntWeightedScoreImpacter<?, ?> parent) {
+            this.parent = parent;
+        }
+
+        @Override
+        public void run() {
+            parent.undo(matchWeight);
+        }
+
+    }
+
+    private void undo(int matchWeight) {
+        undoableImpactFunction.impact(context, -matchWeight);
+    }
+
 }
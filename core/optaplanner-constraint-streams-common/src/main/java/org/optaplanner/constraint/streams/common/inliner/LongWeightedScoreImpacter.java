@@ -28,10 +28,13 @@ final class LongWeightedScoreImpacter<Score_ extends Score<Score_>, Context_ ext
         implements WeightedScoreImpacter<Score_, Context_> {
 
     private final LongImpactFunction<Score_, Context_> impactFunction;
+    private final LongUndoableImpactFunction<Score_, Context_> undoableImpactFunction;
     private final Context_ context;
 
-    public LongWeightedScoreImpacter(LongImpactFunction<Score_, Context_> impactFunction, Context_ context) {
+    public LongWeightedScoreImpacter(LongImpactFunction<Score_, Context_> impactFunction,
+            LongUndoableImpactFunction<Score_, Context_> undoableImpactFunction, Context_ context) {
         this.impactFunction = Objects.requireNonNull(impactFunction);
+        this.undoableImpactFunction = Objects.requireNonNull(undoableImpactFunction);
         this.context = context;
     }
 
@@ -50,9 +53,64 @@ final class LongWeightedScoreImpacter<Score_ extends Score<Score_>, Context_ ext
         throw new UnsupportedOperationException("Impossible state: passing BigDecimal into a long impacter.");
     }
 
+    @Override
+    public UndoScoreImpacter impactScore(int matchWeight, JustificationsSupplier justificationsSupplier,
+            UndoScoreImpacter reusableUndoScoreImpacter) {
+        // int can be cast to long
+        return impactScore((long) matchWeight, justificationsSupplier, reusableUndoScoreImpacter);
+    }
+
+    @Override
+    public UndoScoreImpacter impactScore(long matchWeight, JustificationsSupplier justificationsSupplier,
+            UndoScoreImpacter reusableUndoScoreImpacter) {
+        if (context.isConstraintMatchEnabled()) {
+            return impactFunction.impact(context, matchWeight, justificationsSupplier);
+        }
+        undoableImpactFunction.impact(context, matchWeight);
+        LongUndoScoreImpacter undoScoreImpacter;
+        if (reusableUndoScoreImpacter instanceof LongUndoScoreImpacter
+                && ((LongUndoScoreImpacter) reusableUndoScoreImpacter).parent == this) {
+            undoScoreImpacter = (LongUndoScoreImpacter) reusableUndoScoreImpacter;
+        } else {
+            undoScoreImpacter = new LongUndoScoreImpacter(this);
+        }
+        undoScoreImpacter.matchWeight = matchWeight;
+        return undoScoreImpacter;
+    }
+
+    @Override
+    public UndoScoreImpacter impactScore(BigDecimal matchWeight, JustificationsSupplier justificationsSupplier,
+            UndoScoreImpacter reusableUndoScoreImpacter) {
+        throw new UnsupportedOperationException("Impossible state: passing BigDecimal into a long impacter.");
+    }
+
     @Override
     public Context_ getContext() {
         return context;
     }
 
+    /**
+     * Undoes an impact by impacting again with the negated match weight.
+     * In two's complement, {@code weight * -matchWeight == -(weight * matchWeight)} holds even on overflow.
+     */
+    private static final class LongUndoScoreImpacter implements UndoScoreImpacter {
+
+        private final LongWeightedScoreImpacter<?, ?> parent;
+        private long matchWeight;
+
+        private LongUndoScoreImpacter(LongWeightedScoreImpacter<?, ?> parent) {
+            this.parent = parent;
+        }
+
+        @Override
+        public void run() {
+            parent.undo(matchWeight);
+        }
+
+    }
+
+    private void undo(long matchWeight) {
+        undoableImpactFunction.impact(context, -matchWeight);
+    }
+
 }
@@ -35,6 +35,11 @@ final class SimpleBigDecimalScoreContext extends ScoreContext<SimpleBigDecimalSc
         this.scoreUpdater = scoreUpdater;
     }
 
+    public void impactScore(BigDecimal matchWeight) {
+        BigDecimal impact = constraintWeight.score().multiply(matchWeight);
+        scoreUpdater.accept(impact);
+    }
+
     public UndoScoreImpacter changeScoreBy(BigDecimal matchWeight, JustificationsSupplier justificationsSupplier) {
         BigDecimal impact = constraintWeight.score().multiply(matchWeight);
         scoreUpdater.accept(impact);
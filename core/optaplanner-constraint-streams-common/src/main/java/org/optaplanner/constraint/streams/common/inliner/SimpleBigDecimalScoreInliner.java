@@ -38,7 +38,8 @@ final class SimpleBigDecimalScoreInliner extends AbstractScoreInliner<SimpleBigD
         validateConstraintWeight(constraint, constraintWeight);
         SimpleBigDecimalScoreContext context = new SimpleBigDecimalScoreContext(this, constraint, constraintWeight,
                 impact -> this.score = this.score.add(impact));
-        return WeightedScoreImpacter.of(context, SimpleBigDecimalScoreContext::changeScoreBy);
+        return WeightedScoreImpacter.of(context, SimpleBigDecimalScoreContext::changeScoreBy,
+                SimpleBigDecimalScoreContext::impactScore);
     }
 
     @Override
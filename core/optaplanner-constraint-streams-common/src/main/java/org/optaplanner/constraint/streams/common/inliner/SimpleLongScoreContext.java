@@ -34,6 +34,11 @@ final class SimpleLongScoreContext extends ScoreContext<SimpleLongScore> {
         this.scoreUpdater = scoreUpdater;
     }
 
+    public void impactScore(long matchWeight) {
+        long impact = constraintWeight.score() * matchWeight;
+        scoreUpdater.accept(impact);
+    }
+
     public UndoScoreImpacter changeScoreBy(long matchWeight, JustificationsSupplier justificationsSupplier) {
         long impact = constraintWeight.score() * matchWeight;
         scoreUpdater.accept(impact);
@@ -38,7 +38,8 @@ final class SimpleLongScoreInliner extends AbstractScoreInliner<SimpleLongScore>
                 impact -> this.score += impact);
         return WeightedScoreImpacter.of(context,
                 (SimpleLongScoreContext ctx, long matchWeight, JustificationsSupplier justificationsSupplier) -> ctx
-                        .changeScoreBy(matchWeight, justificationsSupplier));
+                        .changeScoreBy(matchWeight, justificationsSupplier),
+                (SimpleLongScoreContext ctx, long matchWeight) -> ctx.impactScore(matchWeight));
     }
 
     @Override
@@ -34,6 +34,11 @@ final class SimpleScoreContext extends ScoreContext<SimpleScore> {
         this.scoreUpdater = scoreUpdater;
     }
 
+    public void impactScore(int matchWeight) {
+        int impact = constraintWeight.score() * matchWeight;
+        scoreUpdater.accept(impact);
+    }
+
     public UndoScoreImpacter changeScoreBy(int matchWeight, JustificationsSupplier justificationsSupplier) {
         int impact = constraintWeight.score() * matchWeight;
         scoreUpdater.accept(impact);
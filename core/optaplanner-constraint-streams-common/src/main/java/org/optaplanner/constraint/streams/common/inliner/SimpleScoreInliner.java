@@ -36,7 +36,8 @@ final class SimpleScoreInliner extends AbstractScoreInliner<SimpleScore> {
         validateConstraintWeight(constraint, constraintWeight);
         SimpleScoreContext context = new SimpleScoreContext(this, constraint, constraintWeight,
                 impact -> this.score += impact);
-        return WeightedScoreImpacter.of(context, SimpleScoreContext::changeScoreBy);
+        return WeightedScoreImpacter.of(context, SimpleScoreContext::changeScoreBy,
+                SimpleScoreContext::impactScore);
     }
 
     @Override
@@ -43,18 +43,21 @@ import org.optaplanner.core.api.score.Score;
 public interface WeightedScoreImpacter<Score_ extends Score<Score_>, Context_ extends ScoreContext<Score_>> {
 
     static <Score_ extends Score<Score_>, Context_ extends ScoreContext<Score_>> WeightedScoreImpacter<Score_, Context_>
-            of(Context_ context, IntImpactFunction<Score_, Context_> impactFunction) {
-        return new IntWeightedScoreImpacter<>(impactFunction, context);
+            of(Context_ context, IntImpactFunction<Score_, Context_> impactFunction,
+                    IntUndoableImpactFunction<Score_, Context_> undoableImpactFunction) {
+        return new IntWeightedScoreImpacter<>(impactFunction, undoableImpactFunction, context);
     }
 
     static <Score_ extends Score<Score_>, Context_ extends ScoreContext<Score_>> WeightedScoreImpacter<Score_, Context_>
-            of(Context_ context, LongImpactFunction<Score_, Context_> impactFunction) {
-        return new LongWeightedScoreImpacter<>(impactFunction, context);
+            of(Context_ context, LongImpactFunction<Score_, Context_> impactFunction,
+                    LongUndoableImpactFunction<Score_, Context_> undoableImpactFunction) {
+        return new LongWeightedScoreImpacter<>(impactFunction, undoableImpactFunction, context);
     }
 
     static <Score_ extends Score<Score_>, Context_ extends ScoreContext<Score_>> WeightedScoreImpacter<Score_, Context_>
-            of(Context_ context, BigDecimalImpactFunction<Score_, Context_> impactFunction) {
-        return new BigDecimalWeightedScoreImpacter<>(impactFunction, context);
+            of(Context_ context, BigDecimalImpactFunction<Score_, Context_> impactFunction,
+                    BigDecimalUndoableImpactFunction<Score_, Context_> undoableImpactFunction) {
+        return new BigDecimalWeightedScoreImpacter<>(impactFunction, undoableImpactFunction, context);
     }
 
     /**
@@ -78,6 +81,46 @@ public interface WeightedScoreImpacter<Score_ extends Score<Score_>, Context_ ex
      */
     UndoScoreImpacter impactScore(BigDecimal matchWeight, JustificationsSupplier justificationsSupplier);
 
+    /**
+     * As {@link #impactScore(int, JustificationsSupplier)},
+     * but instead of creating a new {@link UndoScoreImpacter} for every match,
+     * it reuses the reusableUndoScoreImpacter if constraint matching is disabled.
+     * Callers, such as Bavet's scorers, keep one {@link UndoScoreImpacter} per tuple and pass it back on every update,
+     * so that re-impacting a match does not allocate.
+     *
+     * @param matchWeight never null
+     * @param justificationsSupplier ignored unless constraint match enabled
+     * @param reusableUndoScoreImpacter null or an instance returned by an earlier call of this method on this impacter,
+     *        that has already been run
+     * @return never null, either reusableUndoScoreImpacter or a new instance
+     */
+    UndoScoreImpacter impactScore(int matchWeight, JustificationsSupplier justificationsSupplier,
+            UndoScoreImpacter reusableUndoScoreImpacter);
+
+    /**
+     * As {@link #impactScore(int, JustificationsSupplier, UndoScoreImpacter)}.
+     *
+     * @param matchWeight never null
+     * @param justificationsSupplier ignored unless constraint match enabled
+     * @param reusableUndoScoreImpacter null or an instance returned by an earlier call of this method on this impacter,
+     *        that has already been run
+     * @return never null, either reusableUndoScoreImpacter or a new instance
+     */
+    UndoScoreImpacter impactScore(long matchWeight, JustificationsSupplier justificationsSupplier,
+            UndoScoreImpacter reusableUndoScoreImpacter);
+
+    /**
+     * As {@link #impactScore(int, JustificationsSupplier, UndoScoreImpacter)}.
+     *
+     * @param matchWeight never null
+     * @param justificationsSupplier ignored unless constraint match enabled
+     * @param reusableUndoScoreImpacter null or an instance returned by an earlier call of this method on this impacter,
+     *        that has already been run
+     * @return never null, either reusableUndoScoreImpacter or a new instance
+     */
+    UndoScoreImpacter impactScore(BigDecimal matchWeight, JustificationsSupplier justificationsSupplier,
+            UndoScoreImpacter reusableUndoScoreImpacter);
+
     Context_ getContext();
 
     @FunctionalInterface
@@ -101,4 +144,35 @@ public interface WeightedScoreImpacter<Score_ extends Score<Score_>, Context_ ex
 
     }
 
+    /**
+     * Impacts the score without constraint matching and without creating an {@link UndoScoreImpacter}.
+     * Calling it again with the negated match weight undoes the impact.
+     */
+    @FunctionalInterface
+    interface IntUndoableImpactFunction<Score_ extends Score<Score_>, Context_ extends ScoreContext<Score_>> {
+
+        void impact(Context_ context, int matchWeight);
+
+    }
+
+    /**
+     * As {@link IntUndoableImpactFunction}.
+     */
+    @FunctionalInterface
+    interface LongUndoableImpactFunction<Score_ extends Score<Score_>, Context_ extends ScoreContext<Score_>> {
+
+        void impact(Context_ context, long matchWeight);
+
+    }
+
+    /**
+     * As {@link IntUndoableImpactFunction}.
+     */
+    @FunctionalInterface
+    interface BigDecimalUndoableImpactFunction<Score_ extends Score<Score_>, Context_ extends ScoreContext<Score_>> {
+
+        void impact(Context_ context, BigDecimal matchWeight);
+
+    }
+
 }
@@ -19,6 +19,8 @@
 
 package org.optaplanner.constraint.streams.common.inliner;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import java.util.Objects;
 
 import org.optaplanner.constraint.streams.common.AbstractConstraint;
@@ -40,6 +42,37 @@ public abstract class AbstractScoreInlinerTest<Solution_, Score_ extends Score<S
         return new TestConstraint<>(constraintFactory, "Test Constraint", constraintWeight);
     }
 
+    /**
+     * Impacts, undoes and impacts again with the spent undo, as Bavet does when a tuple is updated.
+     *
+     * @param scoreInliner never null, with constraint matching disabled
+     * @param constraintWeight never null
+     */
+    protected void assertImpactReusesUndo(AbstractScoreInliner<Score_> scoreInliner, Score_ constraintWeight) {
+        WeightedScoreImpacter<Score_, ?> impacter =
+                scoreInliner.buildWeightedScoreImpacter(buildConstraint(constraintWeight), constraintWeight);
+        UndoScoreImpacter undo1 = impacter.impactScore(1, null, null);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualByComparingTo(constraintWeight);
+
+        undo1.run();
+        UndoScoreImpacter undo2 = impacter.impactScore(3, null, undo1);
+        assertThat(undo2).isSameAs(undo1);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualByComparingTo(constraintWeight.multiply(3));
+
+        // An undo of another impacter is never reused.
+        undo2.run();
+        UndoScoreImpacter undo3 = impacter.impactScore(2, null, () -> {
+        });
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualByComparingTo(constraintWeight.multiply(2));
+
+        undo3.run();
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualByComparingTo(constraintWeight.zero());
+    }
+
     public static final class TestConstraintFactory<Solution_, Score_ extends Score<Score_>>
             extends InnerConstraintFactory<Solution_, TestConstraint<Solution_, Score_>> {
 
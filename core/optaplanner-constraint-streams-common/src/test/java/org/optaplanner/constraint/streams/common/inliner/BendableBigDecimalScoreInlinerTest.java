@@ -134,6 +134,13 @@ class BendableBigDecimalScoreInlinerTest
                 .isEqualTo(buildScore(0, 0, 0));
     }
 
+    @Test
+    void impactReusingUndo() {
+        BendableBigDecimalScoreInliner scoreInliner = new BendableBigDecimalScoreInliner(false, 1, 2);
+        BendableBigDecimalScore constraintWeight = buildScore(10, 100, 1_000);
+        assertImpactReusesUndo(scoreInliner, constraintWeight);
+    }
+
     @Override
     protected SolutionDescriptor<TestdataBendableBigDecimalScoreSolution> buildSolutionDescriptor() {
         return TestdataBendableBigDecimalScoreSolution.buildSolutionDescriptor();
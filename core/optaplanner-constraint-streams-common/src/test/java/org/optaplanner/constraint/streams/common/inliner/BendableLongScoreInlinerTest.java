@@ -131,6 +131,13 @@ class BendableLongScoreInlinerTest extends AbstractScoreInlinerTest<TestdataBend
                 .isEqualTo(buildScore(0, 0, 0));
     }
 
+    @Test
+    void impactReusingUndo() {
+        BendableLongScoreInliner scoreInliner = new BendableLongScoreInliner(false, 1, 2);
+        BendableLongScore constraintWeight = buildScore(10, 100, 1_000);
+        assertImpactReusesUndo(scoreInliner, constraintWeight);
+    }
+
     @Override
     protected SolutionDescriptor<TestdataBendableLongScoreSolution> buildSolutionDescriptor() {
         return TestdataBendableLongScoreSolution.buildSolutionDescriptor();
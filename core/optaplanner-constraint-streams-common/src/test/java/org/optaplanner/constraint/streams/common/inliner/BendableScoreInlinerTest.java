@@ -131,6 +131,13 @@ class BendableScoreInlinerTest extends AbstractScoreInlinerTest<TestdataBendable
                 .isEqualTo(buildScore(0, 0, 0));
     }
 
+    @Test
+    void impactReusingUndo() {
+        BendableScoreInliner scoreInliner = new BendableScoreInliner(false, 1, 2);
+        BendableScore constraintWeight = buildScore(10, 100, 1_000);
+        assertImpactReusesUndo(scoreInliner, constraintWeight);
+    }
+
     @Override
     protected SolutionDescriptor<TestdataBendableScoreSolution> buildSolutionDescriptor() {
         return TestdataBendableScoreSolution.buildSolutionDescriptor();
@@ -142,6 +142,14 @@ class HardMediumSoftBigDecimalScoreInlinerTest
                 .isEqualTo(HardMediumSoftBigDecimalScore.of(BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO));
     }
 
+    @Test
+    void impactReusingUndo() {
+        HardMediumSoftBigDecimalScoreInliner scoreInliner = new HardMediumSoftBigDecimalScoreInliner(false);
+        HardMediumSoftBigDecimalScore constraintWeight = HardMediumSoftBigDecimalScore.of(
+                BigDecimal.valueOf(10), BigDecimal.valueOf(100), BigDecimal.valueOf(1_000));
+        assertImpactReusesUndo(scoreInliner, constraintWeight);
+    }
+
     @Override
     protected SolutionDescriptor<TestdataHardMediumSoftBigDecimalScoreSolution> buildSolutionDescriptor() {
         return TestdataHardMediumSoftBigDecimalScoreSolution.buildSolutionDescriptor();
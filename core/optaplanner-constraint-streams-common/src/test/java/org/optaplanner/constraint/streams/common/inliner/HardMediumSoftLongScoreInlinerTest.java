@@ -136,6 +136,13 @@ class HardMediumSoftLongScoreInlinerTest
                 .isEqualTo(HardMediumSoftLongScore.of(0, 0, 0));
     }
 
+    @Test
+    void impactReusingUndo() {
+        HardMediumSoftLongScoreInliner scoreInliner = new HardMediumSoftLongScoreInliner(false);
+        HardMediumSoftLongScore constraintWeight = HardMediumSoftLongScore.of(10, 100, 1_000);
+        assertImpactReusesUndo(scoreInliner, constraintWeight);
+    }
+
     @Override
     protected SolutionDescriptor<TestdataHardMediumSoftLongScoreSolution> buildSolutionDescriptor() {
         return TestdataHardMediumSoftLongScoreSolution.buildSolutionDescriptor();
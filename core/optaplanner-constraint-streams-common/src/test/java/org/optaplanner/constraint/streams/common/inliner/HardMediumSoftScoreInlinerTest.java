@@ -136,6 +136,13 @@ class HardMediumSoftScoreInlinerTest
                 .isEqualTo(HardMediumSoftScore.of(0, 0, 0));
     }
 
+    @Test
+    void impactReusingUndo() {
+        HardMediumSoftScoreInliner scoreInliner = new HardMediumSoftScoreInliner(false);
+        HardMediumSoftScore constraintWeight = HardMediumSoftScore.of(10, 100, 1_000);
+        assertImpactReusesUndo(scoreInliner, constraintWeight);
+    }
+
     @Override
     protected SolutionDescriptor<TestdataHardMediumSoftScoreSolution> buildSolutionDescriptor() {
         return TestdataHardMediumSoftScoreSolution.buildSolutionDescriptor();
@@ -113,6 +113,13 @@ class HardSoftBigDecimalScoreInlinerTest
                 .isEqualTo(HardSoftBigDecimalScore.of(BigDecimal.ZERO, BigDecimal.ZERO));
     }
 
+    @Test
+    void impactReusingUndo() {
+        HardSoftBigDecimalScoreInliner scoreInliner = new HardSoftBigDecimalScoreInliner(false);
+        HardSoftBigDecimalScore constraintWeight = HardSoftBigDecimalScore.of(BigDecimal.valueOf(10), BigDecimal.valueOf(100));
+        assertImpactReusesUndo(scoreInliner, constraintWeight);
+    }
+
     @Override
     protected SolutionDescriptor<TestdataHardSoftBigDecimalScoreSolution> buildSolutionDescriptor() {
         return TestdataHardSoftBigDecimalScoreSolution.buildSolutionDescriptor();
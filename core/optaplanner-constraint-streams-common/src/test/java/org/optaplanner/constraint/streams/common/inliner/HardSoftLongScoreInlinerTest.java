@@ -110,6 +110,13 @@ class HardSoftLongScoreInlinerTest extends AbstractScoreInlinerTest<TestdataHard
                 .isEqualTo(HardSoftLongScore.of(0, 0));
     }
 
+    @Test
+    void impactReusingUndo() {
+        HardSoftLongScoreInliner scoreInliner = new HardSoftLongScoreInliner(false);
+        HardSoftLongScore constraintWeight = HardSoftLongScore.of(10, 100);
+        assertImpactReusesUndo(scoreInliner, constraintWeight);
+    }
+
     @Override
     protected SolutionDescriptor<TestdataHardSoftLongScoreSolution> buildSolutionDescriptor() {
         return TestdataHardSoftLongScoreSolution.buildSolutionDescriptor();
@@ -110,6 +110,13 @@ class HardSoftScoreInlinerTest extends AbstractScoreInlinerTest<TestdataHardSoft
                 .isEqualTo(HardSoftScore.of(0, 0));
     }
 
+    @Test
+    void impactReusingUndo() {
+        HardSoftScoreInliner scoreInliner = new HardSoftScoreInliner(false);
+        HardSoftScore constraintWeight = HardSoftScore.of(10, 100);
+        assertImpactReusesUndo(scoreInliner, constraintWeight);
+    }
+
     @Override
     protected SolutionDescriptor<TestdataHardSoftScoreSolution> buildSolutionDescriptor() {
         return TestdataHardSoftScoreSolution.buildSolutionDescriptor();
@@ -63,6 +63,13 @@ class SimpleBigDecimalScoreInlinerTest
                 .isEqualTo(SimpleBigDecimalScore.of(BigDecimal.ZERO));
     }
 
+    @Test
+    void impactReusingUndo() {
+        SimpleBigDecimalScoreInliner scoreInliner = new SimpleBigDecimalScoreInliner(false);
+        SimpleBigDecimalScore constraintWeight = SimpleBigDecimalScore.of(BigDecimal.valueOf(10));
+        assertImpactReusesUndo(scoreInliner, constraintWeight);
+    }
+
     @Override
     protected SolutionDescriptor<TestdataSimpleBigDecimalScoreSolution> buildSolutionDescriptor() {
         return TestdataSimpleBigDecimalScoreSolution.buildSolutionDescriptor();
@@ -60,6 +60,13 @@ class SimpleLongScoreInlinerTest extends AbstractScoreInlinerTest<TestdataSimple
                 .isEqualTo(SimpleLongScore.of(0));
     }
 
+    @Test
+    void impactReusingUndo() {
+        SimpleLongScoreInliner scoreInliner = new SimpleLongScoreInliner(false);
+        SimpleLongScore constraintWeight = SimpleLongScore.of(10);
+        assertImpactReusesUndo(scoreInliner, constraintWeight);
+    }
+
     @Override
     protected SolutionDescriptor<TestdataSimpleLongScoreSolution> buildSolutionDescriptor() {
         return TestdataSimpleLongScoreSolution.buildSolutionDescriptor();
@@ -60,6 +60,13 @@ class SimpleScoreInlinerTest extends AbstractScoreInlinerTest<TestdataSolution,
                 .isEqualTo(SimpleScore.of(0));
     }
 
+    @Test
+    void impactReusingUndo() {
+        SimpleScoreInliner scoreInliner = new SimpleScoreInliner(false);
+        SimpleScore constraintWeight = SimpleScore.of(10);
+        assertImpactReusesUndo(scoreInliner, constraintWeight);
+    }
+
     @Override
     protected SolutionDescriptor<TestdataSolution> buildSolutionDescriptor() {
         return TestdataSolution.buildSolutionDescriptor();
@@ -28,6 +28,7 @@ import static org.optaplanner.core.api.score.stream.ConstraintCollectors.countDi
 import static org.optaplanner.core.api.score.stream.ConstraintCollectors.max;
 import static org.optaplanner.core.api.score.stream.ConstraintCollectors.min;
 import static org.optaplanner.core.api.score.stream.ConstraintCollectors.toSet;
+import static org.optaplanner.core.api.score.stream.ConstraintCollectors.topK;
 import static org.optaplanner.core.api.score.stream.Joiners.equal;
 import static org.optaplanner.core.api.score.stream.Joiners.filtering;
 
@@ -1224,6 +1225,41 @@ public abstract class AbstractUniConstraintStreamTest
                 assertMatchWithScore(-1, solution.getFirstEntityGroup(), 1));
     }
 
+    @TestTemplate
+    public void groupBy_1Mapping1Collector_topK() {
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 1, 4);
+        List<TestdataLavishEntity> entityList = solution.getEntityList();
+        for (int i = 0; i < entityList.size(); i++) {
+            entityList.get(i).setIntegerProperty(i + 1);
+        }
+        InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector =
+                buildScoreDirector(factory -> factory.forEach(TestdataLavishEntity.class)
+                        .groupBy(TestdataLavishEntity::getEntityGroup, topK(2, TestdataLavishEntity::getIntegerProperty))
+                        .penalize(SimpleScore.ONE, (group, top) -> top.stream().mapToInt(Integer::intValue).sum())
+                        .asConstraint(TEST_CONSTRAINT_NAME));
+
+        // From scratch
+        scoreDirector.setWorkingSolution(solution);
+        assertScore(scoreDirector,
+                assertMatchWithScore(-7, solution.getFirstEntityGroup(), Arrays.asList(4, 3)));
+
+        // Incremental; removing an entity outside of the top does not change the result
+        TestdataLavishEntity entity = entityList.get(0);
+        scoreDirector.beforeEntityRemoved(entity);
+        entityList.remove(entity);
+        scoreDirector.afterEntityRemoved(entity);
+        assertScore(scoreDirector,
+                assertMatchWithScore(-7, solution.getFirstEntityGroup(), Arrays.asList(4, 3)));
+
+        // Incremental; removing the greatest entity lets the next one in
+        entity = entityList.get(2);
+        scoreDirector.beforeEntityRemoved(entity);
+        entityList.remove(entity);
+        scoreDirector.afterEntityRemoved(entity);
+        assertScore(scoreDirector,
+                assertMatchWithScore(-5, solution.getFirstEntityGroup(), Arrays.asList(3, 2)));
+    }
+
     @Override
     @TestTemplate
     public void groupBy_1Mapping2Collector() {
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.optaplanner.constraint.streams.jmh;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.optaplanner.constraint.streams.bavet.BavetConstraintStreamScoreDirectorFactory;
+import org.optaplanner.constraint.streams.drools.DroolsConstraintStreamScoreDirectorFactory;
+import org.optaplanner.constraint.streams.jmh.domain.BenchmarkEntity;
+import org.optaplanner.constraint.streams.jmh.domain.BenchmarkSolution;
+import org.optaplanner.constraint.streams.jmh.domain.BenchmarkValue;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.api.score.stream.ConstraintProvider;
+import org.optaplanner.core.api.score.stream.ConstraintStreamImplType;
+import org.optaplanner.core.config.solver.EnvironmentMode;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.score.director.AbstractScoreDirectorFactory;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * Measures the incremental score calculation throughput of a single kind of constraint stream node.
+ * Every invocation changes the planning variable of one entity and recalculates the score,
+ * which is what a local search step does for every evaluated move.
+ * <p>
+ * Subclasses only provide the {@link ConstraintProvider};
+ * its constraints should be dominated by the node under benchmark.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class AbstractConstraintStreamBenchmark {
+
+    private static final String VALUE_VARIABLE_NAME = "value";
+
+    @Param({ "BAVET", "DROOLS" })
+    public ConstraintStreamImplType constraintStreamImplType;
+
+    @Param({ "1000", "10000" })
+    public int entityCount;
+
+    private InnerScoreDirector<BenchmarkSolution, SimpleScore> scoreDirector;
+    private List<BenchmarkEntity> entityList;
+    private List<BenchmarkValue> valueList;
+    private Random workingRandom;
+
+    protected abstract ConstraintProvider buildConstraintProvider();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SolutionDescriptor<BenchmarkSolution> solutionDescriptor = BenchmarkSolution.buildSolutionDescriptor();
+        AbstractScoreDirectorFactory<BenchmarkSolution, SimpleScore> scoreDirectorFactory;
+        switch (constraintStreamImplType) {
+            case BAVET:
+                scoreDirectorFactory = new BavetConstraintStreamScoreDirectorFactory<>(solutionDescriptor,
+                        buildConstraintProvider(), EnvironmentMode.REPRODUCIBLE);
+                break;
+            case DROOLS:
+                scoreDirectorFactory = new DroolsConstraintStreamScoreDirectorFactory<>(solutionDescriptor,
+                        buildConstraintProvider(), false);
+                break;
+            default:
+                throw new IllegalStateException("Impossible state: the constraintStreamImplType ("
+                        + constraintStreamImplType + ") is not implemented.");
+        }
+        BenchmarkSolution solution = BenchmarkSolution.generateSolution(entityCount, Math.max(10, entityCount / 10),
+                Math.max(10, entityCount / 100));
+        entityList = solution.getEntityList();
+        valueList = solution.getValueList();
+        workingRandom = new Random(37);
+        scoreDirector = scoreDirectorFactory.buildScoreDirector(false, false);
+        scoreDirector.setWorkingSolution(solution);
+        scoreDirector.calculateScore();
+    }
+
+    @Benchmark
+    public SimpleScore changeVariableAndCalculateScore() {
+        BenchmarkEntity entity = entityList.get(workingRandom.nextInt(entityList.size()));
+        BenchmarkValue value = valueList.get(workingRandom.nextInt(valueList.size()));
+        scoreDirector.beforeVariableChanged(entity, VALUE_VARIABLE_NAME);
+        entity.setValue(value);
+        scoreDirector.afterVariableChanged(entity, VALUE_VARIABLE_NAME);
+        scoreDirector.triggerVariableListeners();
+        return scoreDirector.calculateScore();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        scoreDirector.close();
+    }
+
+}
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.optaplanner.constraint.streams.jmh;
+
+import static org.optaplanner.core.api.score.stream.Joiners.equal;
+
+import org.optaplanner.constraint.streams.jmh.domain.BenchmarkEntity;
+import org.optaplanner.constraint.streams.jmh.domain.BenchmarkValue;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.api.score.stream.ConstraintProvider;
+
+/**
+ * Benchmarks flattenLast() over the tags of the value assigned to each entity.
+ * The join in front of it is a cheap one-to-one join, because flattenLast() is not available on uni streams.
+ */
+public class FlattenLastBenchmark extends AbstractConstraintStreamBenchmark {
+
+    @Override
+    protected ConstraintProvider buildConstraintProvider() {
+        return constraintFactory -> new Constraint[] {
+                constraintFactory.forEach(BenchmarkEntity.class)
+                        .join(BenchmarkValue.class,
+                                equal(BenchmarkEntity::getValue, value -> value))
+                        .flattenLast(BenchmarkValue::getTagList)
+                        .filter((entity, tag) -> tag == entity.getGroup())
+                        .penalize(SimpleScore.ONE)
+                        .asConstraint("Flatten last")
+        };
+    }
+
+}
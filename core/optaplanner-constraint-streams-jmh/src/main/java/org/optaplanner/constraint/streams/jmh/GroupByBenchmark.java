@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.optaplanner.constraint.streams.jmh;
+
+import static org.optaplanner.core.api.score.stream.ConstraintCollectors.average;
+import static org.optaplanner.core.api.score.stream.ConstraintCollectors.count;
+import static org.optaplanner.core.api.score.stream.ConstraintCollectors.countDistinct;
+import static org.optaplanner.core.api.score.stream.ConstraintCollectors.max;
+import static org.optaplanner.core.api.score.stream.ConstraintCollectors.min;
+import static org.optaplanner.core.api.score.stream.ConstraintCollectors.sum;
+import static org.optaplanner.core.api.score.stream.ConstraintCollectors.toList;
+import static org.optaplanner.core.api.score.stream.ConstraintCollectors.toSet;
+
+import org.openjdk.jmh.annotations.Param;
+import org.optaplanner.constraint.streams.jmh.domain.BenchmarkEntity;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.api.score.stream.ConstraintFactory;
+import org.optaplanner.core.api.score.stream.ConstraintProvider;
+import org.optaplanner.core.api.score.stream.uni.UniConstraintStream;
+
+/**
+ * Benchmarks groupBy() with a single key and each of the commonly used collectors.
+ * Every variable change moves one entity's contribution around inside its group.
+ */
+public class GroupByBenchmark extends AbstractConstraintStreamBenchmark {
+
+    public enum CollectorType {
+        COUNT,
+        COUNT_DISTINCT,
+        SUM,
+        AVERAGE,
+        MIN,
+        MAX,
+        TO_LIST,
+        TO_SET
+    }
+
+    @Param
+    public CollectorType collectorType;
+
+    @Override
+    protected ConstraintProvider buildConstraintProvider() {
+        return constraintFactory -> new Constraint[] { buildConstraint(constraintFactory) };
+    }
+
+    private Constraint buildConstraint(ConstraintFactory constraintFactory) {
+        UniConstraintStream<BenchmarkEntity> stream = constraintFactory.forEach(BenchmarkEntity.class);
+        switch (collectorType) {
+            case COUNT:
+                return stream.groupBy(BenchmarkEntity::getGroup, count())
+                        .penalize(SimpleScore.ONE, (group, count) -> count)
+                        .asConstraint("Count");
+            case COUNT_DISTINCT:
+                return stream.groupBy(BenchmarkEntity::getGroup, countDistinct(BenchmarkEntity::getValue))
+                        .penalize(SimpleScore.ONE, (group, count) -> count)
+                        .asConstraint("Count distinct");
+            case SUM:
+                return stream.groupBy(BenchmarkEntity::getGroup, sum(entity -> entity.getValue().getWeight()))
+                        .penalize(SimpleScore.ONE, (group, sum) -> sum)
+                        .asConstraint("Sum");
+            case AVERAGE:
+                return stream.groupBy(BenchmarkEntity::getGroup, average(entity -> entity.getValue().getWeight()))
+                        .penalize(SimpleScore.ONE, (group, average) -> average.intValue())
+                        .asConstraint("Average");
+            case MIN:
+                return stream.groupBy(BenchmarkEntity::getGroup, min((BenchmarkEntity entity) -> entity.getValue().getWeight()))
+                        .penalize(SimpleScore.ONE, (group, min) -> min)
+                        .asConstraint("Min");
+            case MAX:
+                return stream.groupBy(BenchmarkEntity::getGroup, max((BenchmarkEntity entity) -> entity.getValue().getWeight()))
+                        .penalize(SimpleScore.ONE, (group, max) -> max)
+                        .asConstraint("Max");
+            case TO_LIST:
+                return stream.groupBy(BenchmarkEntity::getGroup, toList(BenchmarkEntity::getValue))
+                        .penalize(SimpleScore.ONE, (group, valueList) -> valueList.size())
+                        .asConstraint("To list");
+            case TO_SET:
+                return stream.groupBy(BenchmarkEntity::getGroup, toSet(BenchmarkEntity::getValue))
+                        .penalize(SimpleScore.ONE, (group, valueSet) -> valueSet.size())
+                        .asConstraint("To set");
+            default:
+                throw new IllegalStateException("Impossible state: the collectorType (" + collectorType
+                        + ") is not implemented.");
+        }
+    }
+
+}
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.optaplanner.constraint.streams.jmh;
+
+import static org.optaplanner.core.api.score.stream.Joiners.equal;
+
+import org.optaplanner.constraint.streams.jmh.domain.BenchmarkEntity;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.api.score.stream.ConstraintProvider;
+
+/**
+ * Benchmarks an indexed join of every entity with every other entity that has the same value.
+ */
+public class JoinBenchmark extends AbstractConstraintStreamBenchmark {
+
+    @Override
+    protected ConstraintProvider buildConstraintProvider() {
+        return constraintFactory -> new Constraint[] {
+                constraintFactory.forEachUniquePair(BenchmarkEntity.class,
+                        equal(BenchmarkEntity::getValue))
+                        .penalize(SimpleScore.ONE)
+                        .asConstraint("Join")
+        };
+    }
+
+}
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.optaplanner.constraint.streams.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.optaplanner.constraint.streams.bavet.BavetConstraintFactory;
+import org.optaplanner.constraint.streams.common.inliner.AbstractScoreInliner;
+import org.optaplanner.constraint.streams.common.inliner.UndoScoreImpacter;
+import org.optaplanner.constraint.streams.common.inliner.WeightedScoreImpacter;
+import org.optaplanner.constraint.streams.jmh.domain.BenchmarkEntity;
+import org.optaplanner.constraint.streams.jmh.domain.BenchmarkSolution;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.config.solver.EnvironmentMode;
+import org.optaplanner.core.impl.score.buildin.BendableBigDecimalScoreDefinition;
+import org.optaplanner.core.impl.score.buildin.BendableLongScoreDefinition;
+import org.optaplanner.core.impl.score.buildin.BendableScoreDefinition;
+import org.optaplanner.core.impl.score.buildin.HardMediumSoftBigDecimalScoreDefinition;
+import org.optaplanner.core.impl.score.buildin.HardMediumSoftLongScoreDefinition;
+import org.optaplanner.core.impl.score.buildin.HardMediumSoftScoreDefinition;
+import org.optaplanner.core.impl.score.buildin.HardSoftBigDecimalScoreDefinition;
+import org.optaplanner.core.impl.score.buildin.HardSoftLongScoreDefinition;
+import org.optaplanner.core.impl.score.buildin.HardSoftScoreDefinition;
+import org.optaplanner.core.impl.score.buildin.SimpleBigDecimalScoreDefinition;
+import org.optaplanner.core.impl.score.buildin.SimpleLongScoreDefinition;
+import org.optaplanner.core.impl.score.buildin.SimpleScoreDefinition;
+import org.optaplanner.core.impl.score.definition.ScoreDefinition;
+
+/**
+ * Measures the cost of a single match being updated in the score inliner of every score type,
+ * which is what a scorer node does for every tuple update.
+ * Compares allocating a new {@link UndoScoreImpacter} per impact with reusing the spent one.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoreInlinerBenchmark {
+
+    public enum ScoreType {
+        SIMPLE(new SimpleScoreDefinition()),
+        SIMPLE_LONG(new SimpleLongScoreDefinition()),
+        SIMPLE_BIG_DECIMAL(new SimpleBigDecimalScoreDefinition()),
+        HARD_SOFT(new HardSoftScoreDefinition()),
+        HARD_SOFT_LONG(new HardSoftLongScoreDefinition()),
+        HARD_SOFT_BIG_DECIMAL(new HardSoftBigDecimalScoreDefinition()),
+        HARD_MEDIUM_SOFT(new HardMediumSoftScoreDefinition()),
+        HARD_MEDIUM_SOFT_LONG(new HardMediumSoftLongScoreDefinition()),
+        HARD_MEDIUM_SOFT_BIG_DECIMAL(new HardMediumSoftBigDecimalScoreDefinition()),
+        BENDABLE(new BendableScoreDefinition(1, 2)),
+        BENDABLE_LONG(new BendableLongScoreDefinition(1, 2)),
+        BENDABLE_BIG_DECIMAL(new BendableBigDecimalScoreDefinition(1, 2));
+
+        private final ScoreDefinition<?> scoreDefinition;
+
+        ScoreType(ScoreDefinition<?> scoreDefinition) {
+            this.scoreDefinition = scoreDefinition;
+        }
+
+    }
+
+    @Param
+    public ScoreType scoreType;
+
+    private WeightedScoreImpacter<?, ?> impacter;
+    private UndoScoreImpacter undoScoreImpacter;
+    private int matchWeight;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        setUp(scoreType.scoreDefinition);
+    }
+
+    private <Score_ extends Score<Score_>> void setUp(ScoreDefinition<Score_> scoreDefinition) {
+        AbstractScoreInliner<Score_> scoreInliner = AbstractScoreInliner.buildScoreInliner(scoreDefinition, false);
+        Constraint constraint = new BavetConstraintFactory<>(BenchmarkSolution.buildSolutionDescriptor(),
+                EnvironmentMode.REPRODUCIBLE)
+                .buildConstraints(constraintFactory -> new Constraint[] {
+                        constraintFactory.forEach(BenchmarkEntity.class)
+                                .penalize(SimpleScore.ONE)
+                                .asConstraint("Score inliner")
+                })
+                .get(0);
+        impacter = scoreInliner.buildWeightedScoreImpacter(constraint, scoreDefinition.getOneSoftestScore());
+        matchWeight = 1;
+        undoScoreImpacter = impacter.impactScore(matchWeight, null);
+    }
+
+    private int nextMatchWeight() {
+        matchWeight = (matchWeight % 7) + 1;
+        return matchWeight;
+    }
+
+    @Benchmark
+    public UndoScoreImpacter updateAllocatingUndo() {
+        undoScoreImpacter.run();
+        undoScoreImpacter = impacter.impactScore(nextMatchWeight(), null);
+        return undoScoreImpacter;
+    }
+
+    @Benchmark
+    public UndoScoreImpacter updateReusingUndo() {
+        undoScoreImpacter.run();
+        undoScoreImpacter = impacter.impactScore(nextMatchWeight(), null, undoScoreImpacter);
+        return undoScoreImpacter;
+    }
+
+}
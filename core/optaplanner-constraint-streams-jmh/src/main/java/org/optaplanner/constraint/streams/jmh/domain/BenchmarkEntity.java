@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.optaplanner.constraint.streams.jmh.domain;
+
+import org.optaplanner.core.api.domain.entity.PlanningEntity;
+import org.optaplanner.core.api.domain.lookup.PlanningId;
+import org.optaplanner.core.api.domain.variable.PlanningVariable;
+
+@PlanningEntity
+public class BenchmarkEntity {
+
+    @PlanningId
+    private int id;
+    private int group;
+    @PlanningVariable(valueRangeProviderRefs = "valueRange")
+    private BenchmarkValue value;
+
+    public BenchmarkEntity() {
+    }
+
+    public BenchmarkEntity(int id, int group, BenchmarkValue value) {
+        this.id = id;
+        this.group = group;
+        this.value = value;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public int getGroup() {
+        return group;
+    }
+
+    public BenchmarkValue getValue() {
+        return value;
+    }
+
+    public void setValue(BenchmarkValue value) {
+        this.value = value;
+    }
+
+    @Override
+    public String toString() {
+        return "Entity-" + id;
+    }
+
+}
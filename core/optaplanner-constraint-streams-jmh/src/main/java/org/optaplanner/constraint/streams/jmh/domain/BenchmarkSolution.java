@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.optaplanner.constraint.streams.jmh.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.optaplanner.core.api.domain.solution.PlanningEntityCollectionProperty;
+import org.optaplanner.core.api.domain.solution.PlanningScore;
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.domain.solution.ProblemFactCollectionProperty;
+import org.optaplanner.core.api.domain.valuerange.ValueRangeProvider;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+
+@PlanningSolution
+public class BenchmarkSolution {
+
+    public static SolutionDescriptor<BenchmarkSolution> buildSolutionDescriptor() {
+        return SolutionDescriptor.buildSolutionDescriptor(BenchmarkSolution.class, BenchmarkEntity.class);
+    }
+
+    /**
+     * Generates the same dataset for the same arguments, so Bavet and Drools measure identical work.
+     *
+     * @param entityCount {@code > 0}
+     * @param valueCount {@code > 0}
+     * @param groupCount {@code > 0}, the number of distinct join keys
+     * @return never null
+     */
+    public static BenchmarkSolution generateSolution(int entityCount, int valueCount, int groupCount) {
+        Random random = new Random(37);
+        List<BenchmarkValue> valueList = new ArrayList<>(valueCount);
+        for (int i = 0; i < valueCount; i++) {
+            int tagCount = 1 + random.nextInt(4);
+            List<Integer> tagList = new ArrayList<>(tagCount);
+            for (int j = 0; j < tagCount; j++) {
+                tagList.add(random.nextInt(groupCount));
+            }
+            valueList.add(new BenchmarkValue(i, random.nextInt(groupCount), 1 + random.nextInt(100), tagList));
+        }
+        List<BenchmarkEntity> entityList = new ArrayList<>(entityCount);
+        for (int i = 0; i < entityCount; i++) {
+            entityList.add(new BenchmarkEntity(i, random.nextInt(groupCount), valueList.get(random.nextInt(valueCount))));
+        }
+        BenchmarkSolution solution = new BenchmarkSolution();
+        solution.setValueList(valueList);
+        solution.setEntityList(entityList);
+        return solution;
+    }
+
+    @ValueRangeProvider(id = "valueRange")
+    @ProblemFactCollectionProperty
+    private List<BenchmarkValue> valueList;
+    @PlanningEntityCollectionProperty
+    private List<BenchmarkEntity> entityList;
+
+    @PlanningScore
+    private SimpleScore score;
+
+    public List<BenchmarkValue> getValueList() {
+        return valueList;
+    }
+
+    public void setValueList(List<BenchmarkValue> valueList) {
+        this.valueList = valueList;
+    }
+
+    public List<BenchmarkEntity> getEntityList() {
+        return entityList;
+    }
+
+    public void setEntityList(List<BenchmarkEntity> entityList) {
+        this.entityList = entityList;
+    }
+
+    public SimpleScore getScore() {
+        return score;
+    }
+
+    public void setScore(SimpleScore score) {
+        this.score = score;
+    }
+
+}
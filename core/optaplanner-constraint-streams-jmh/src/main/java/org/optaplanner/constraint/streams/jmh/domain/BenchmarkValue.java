@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.optaplanner.constraint.streams.jmh.domain;
+
+import java.util.List;
+
+public class BenchmarkValue {
+
+    private final int id;
+    private final int group;
+    private final int weight;
+    private final List<Integer> tagList;
+
+    public BenchmarkValue(int id, int group, int weight, List<Integer> tagList) {
+        this.id = id;
+        this.group = group;
+        this.weight = weight;
+        this.tagList = tagList;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public int getGroup() {
+        return group;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    public List<Integer> getTagList() {
+        return tagList;
+    }
+
+    @Override
+    public String toString() {
+        return "Value-" + id;
+    }
+
+}
@@ -26,6 +26,7 @@ import java.time.Duration;
 import java.time.Period;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -65,6 +66,9 @@ import org.optaplanner.core.api.score.stream.quad.QuadConstraintCollector;
 import org.optaplanner.core.api.score.stream.tri.TriConstraintCollector;
 import org.optaplanner.core.api.score.stream.uni.UniConstraintCollector;
 import org.optaplanner.core.api.score.stream.uni.UniConstraintStream;
+import org.optaplanner.core.impl.score.stream.IntSumResultContainer;
+import org.optaplanner.core.impl.score.stream.LongSumResultContainer;
+import org.optaplanner.core.impl.score.stream.TopKResultContainer;
 import org.optaplanner.core.impl.util.MutableInt;
 import org.optaplanner.core.impl.util.MutableLong;
 import org.optaplanner.core.impl.util.MutableReference;
@@ -99,14 +103,9 @@ public final class ConstraintCollectors {
      */
     public static <A> UniConstraintCollector<A, ?, Integer> count() {
         return new DefaultUniConstraintCollector<>(
-                MutableInt::new,
-                (resultContainer, a) -> innerCount(resultContainer),
-                MutableInt::intValue);
-    }
-
-    private static Runnable innerCount(MutableInt resultContainer) {
-        resultContainer.increment();
-        return resultContainer::decrement;
+                IntSumResultContainer::new,
+                (resultContainer, a) -> resultContainer.add(1),
+                IntSumResultContainer::getCount);
     }
 
     /**
@@ -114,14 +113,9 @@ public final class ConstraintCollectors {
      */
     public static <A> UniConstraintCollector<A, ?, Long> countLong() {
         return new DefaultUniConstraintCollector<>(
-                MutableLong::new,
-                (resultContainer, a) -> innerCount(resultContainer),
-                MutableLong::longValue);
-    }
-
-    private static Runnable innerCount(MutableLong resultContainer) {
-        resultContainer.increment();
-        return resultContainer::decrement;
+                LongSumResultContainer::new,
+                (resultContainer, a) -> resultContainer.add(1L),
+                LongSumResultContainer::getCount);
     }
 
     /**
@@ -129,9 +123,9 @@ public final class ConstraintCollectors {
      */
     public static <A, B> BiConstraintCollector<A, B, ?, Integer> countBi() {
         return new DefaultBiConstraintCollector<>(
-                MutableInt::new,
-                (resultContainer, a, b) -> innerCount(resultContainer),
-                MutableInt::intValue);
+                IntSumResultContainer::new,
+                (resultContainer, a, b) -> resultContainer.add(1),
+                IntSumResultContainer::getCount);
     }
 
     /**
@@ -139,9 +133,9 @@ public final class ConstraintCollectors {
      */
     public static <A, B> BiConstraintCollector<A, B, ?, Long> countLongBi() {
         return new DefaultBiConstraintCollector<>(
-                MutableLong::new,
-                (resultContainer, a, b) -> innerCount(resultContainer),
-                MutableLong::longValue);
+                LongSumResultContainer::new,
+                (resultContainer, a, b) -> resultContainer.add(1L),
+                LongSumResultContainer::getCount);
     }
 
     /**
@@ -149,9 +143,9 @@ public final class ConstraintCollectors {
      */
     public static <A, B, C> TriConstraintCollector<A, B, C, ?, Integer> countTri() {
         return new DefaultTriConstraintCollector<>(
-                MutableInt::new,
-                (resultContainer, a, b, c) -> innerCount(resultContainer),
-                MutableInt::intValue);
+                IntSumResultContainer::new,
+                (resultContainer, a, b, c) -> resultContainer.add(1),
+                IntSumResultContainer::getCount);
     }
 
     /**
@@ -159,9 +153,9 @@ public final class ConstraintCollectors {
      */
     public static <A, B, C> TriConstraintCollector<A, B, C, ?, Long> countLongTri() {
         return new DefaultTriConstraintCollector<>(
-                MutableLong::new,
-                (resultContainer, a, b, c) -> innerCount(resultContainer),
-                MutableLong::longValue);
+                LongSumResultContainer::new,
+                (resultContainer, a, b, c) -> resultContainer.add(1L),
+                LongSumResultContainer::getCount);
     }
 
     /**
@@ -169,9 +163,9 @@ public final class ConstraintCollectors {
      */
     public static <A, B, C, D> QuadConstraintCollector<A, B, C, D, ?, Integer> countQuad() {
         return new DefaultQuadConstraintCollector<>(
-                MutableInt::new,
-                (resultContainer, a, b, c, d) -> innerCount(resultContainer),
-                MutableInt::intValue);
+                IntSumResultContainer::new,
+                (resultContainer, a, b, c, d) -> resultContainer.add(1),
+                IntSumResultContainer::getCount);
     }
 
     /**
@@ -179,9 +173,9 @@ public final class ConstraintCollectors {
      */
     public static <A, B, C, D> QuadConstraintCollector<A, B, C, D, ?, Long> countLongQuad() {
         return new DefaultQuadConstraintCollector<>(
-                MutableLong::new,
-                (resultContainer, a, b, c, d) -> innerCount(resultContainer),
-                MutableLong::longValue);
+                LongSumResultContainer::new,
+                (resultContainer, a, b, c, d) -> resultContainer.add(1L),
+                LongSumResultContainer::getCount);
     }
 
     // ************************************************************************
@@ -381,17 +375,12 @@ public final class ConstraintCollectors {
      */
     public static <A> UniConstraintCollector<A, ?, Integer> sum(ToIntFunction<? super A> groupValueMapping) {
         return new DefaultUniConstraintCollector<>(
-                MutableInt::new,
+                IntSumResultContainer::new,
                 (resultContainer, a) -> {
                     int value = groupValueMapping.applyAsInt(a);
-                    return innerSum(resultContainer, value);
+                    return resultContainer.add(value);
                 },
-                MutableInt::intValue);
-    }
-
-    private static Runnable innerSum(MutableInt resultContainer, int value) {
-        resultContainer.add(value);
-        return () -> resultContainer.subtract(value);
+                IntSumResultContainer::getSum);
     }
 
     /**
@@ -399,17 +388,12 @@ public final class ConstraintCollectors {
      */
     public static <A> UniConstraintCollector<A, ?, Long> sumLong(ToLongFunction<? super A> groupValueMapping) {
         return new DefaultUniConstraintCollector<>(
-                MutableLong::new,
+                LongSumResultContainer::new,
                 (resultContainer, a) -> {
                     long value = groupValueMapping.applyAsLong(a);
-                    return innerSum(resultContainer, value);
+                    return resultContainer.add(value);
                 },
-                MutableLong::longValue);
-    }
-
-    private static Runnable innerSum(MutableLong resultContainer, long value) {
-        resultContainer.add(value);
-        return () -> resultContainer.subtract(value);
+                LongSumResultContainer::getSum);
     }
 
     /**
@@ -469,12 +453,12 @@ public final class ConstraintCollectors {
     public static <A, B> BiConstraintCollector<A, B, ?, Integer> sum(
             ToIntBiFunction<? super A, ? super B> groupValueMapping) {
         return new DefaultBiConstraintCollector<>(
-                MutableInt::new,
+                IntSumResultContainer::new,
                 (resultContainer, a, b) -> {
                     int value = groupValueMapping.applyAsInt(a, b);
-                    return innerSum(resultContainer, value);
+                    return resultContainer.add(value);
                 },
-                MutableInt::intValue);
+                IntSumResultContainer::getSum);
     }
 
     /**
@@ -483,12 +467,12 @@ public final class ConstraintCollectors {
     public static <A, B> BiConstraintCollector<A, B, ?, Long> sumLong(
             ToLongBiFunction<? super A, ? super B> groupValueMapping) {
         return new DefaultBiConstraintCollector<>(
-                MutableLong::new,
+                LongSumResultContainer::new,
                 (resultContainer, a, b) -> {
                     long value = groupValueMapping.applyAsLong(a, b);
-                    return innerSum(resultContainer, value);
+                    return resultContainer.add(value);
                 },
-                MutableLong::longValue);
+                LongSumResultContainer::getSum);
     }
 
     /**
@@ -544,12 +528,12 @@ public final class ConstraintCollectors {
     public static <A, B, C> TriConstraintCollector<A, B, C, ?, Integer> sum(
             ToIntTriFunction<? super A, ? super B, ? super C> groupValueMapping) {
         return new DefaultTriConstraintCollector<>(
-                MutableInt::new,
+                IntSumResultContainer::new,
                 (resultContainer, a, b, c) -> {
                     int value = groupValueMapping.applyAsInt(a, b, c);
-                    return innerSum(resultContainer, value);
+                    return resultContainer.add(value);
                 },
-                MutableInt::intValue);
+                IntSumResultContainer::getSum);
     }
 
     /**
@@ -558,12 +542,12 @@ public final class ConstraintCollectors {
     public static <A, B, C> TriConstraintCollector<A, B, C, ?, Long> sumLong(
             ToLongTriFunction<? super A, ? super B, ? super C> groupValueMapping) {
         return new DefaultTriConstraintCollector<>(
-                MutableLong::new,
+                LongSumResultContainer::new,
                 (resultContainer, a, b, c) -> {
                     long value = groupValueMapping.applyAsLong(a, b, c);
-                    return innerSum(resultContainer, value);
+                    return resultContainer.add(value);
                 },
-                MutableLong::longValue);
+                LongSumResultContainer::getSum);
     }
 
     /**
@@ -619,12 +603,12 @@ public final class ConstraintCollectors {
     public static <A, B, C, D> QuadConstraintCollector<A, B, C, D, ?, Integer> sum(
             ToIntQuadFunction<? super A, ? super B, ? super C, ? super D> groupValueMapping) {
         return new DefaultQuadConstraintCollector<>(
-                MutableInt::new,
+                IntSumResultContainer::new,
                 (resultContainer, a, b, c, d) -> {
                     int value = groupValueMapping.applyAsInt(a, b, c, d);
-                    return innerSum(resultContainer, value);
+                    return resultContainer.add(value);
                 },
-                MutableInt::intValue);
+                IntSumResultContainer::getSum);
     }
 
     /**
@@ -633,12 +617,12 @@ public final class ConstraintCollectors {
     public static <A, B, C, D> QuadConstraintCollector<A, B, C, D, ?, Long> sumLong(
             ToLongQuadFunction<? super A, ? super B, ? super C, ? super D> groupValueMapping) {
         return new DefaultQuadConstraintCollector<>(
-                MutableLong::new,
+                LongSumResultContainer::new,
                 (resultContainer, a, b, c, d) -> {
                     long value = groupValueMapping.applyAsLong(a, b, c, d);
-                    return innerSum(resultContainer, value);
+                    return resultContainer.add(value);
                 },
-                MutableLong::longValue);
+                LongSumResultContainer::getSum);
     }
 
     /**
@@ -970,6 +954,238 @@ public final class ConstraintCollectors {
                 getMinOrMaxFinisher(min));
     }
 
+    // ************************************************************************
+    // topK and bottomK
+    // ************************************************************************
+
+    /**
+     * Returns a collector that finds the {@code k} greatest elements in a group of {@link Comparable} elements,
+     * such as the 5 most loaded employees.
+     * <p>
+     * The result is an unmodifiable {@link List} of at most {@code k} elements, greatest first.
+     * Elements which compare to zero are all kept, so the result can contain several of them.
+     * If more elements compare to zero than fit in the result,
+     * which of them make it into the result can differ between 2 score calculations
+     * on the exact same {@link PlanningSolution} state, due to incremental score calculation.
+     * To avoid this, always end your {@link Comparator} by an identity comparison,
+     * as explained in {@link #max()}.
+     * <p>
+     * Unlike {@link #toSortedSet()}, both accumulating and retracting an element take {@code O(log n)} time,
+     * and the result is only rebuilt when the accumulated or retracted element is among the greatest {@code k}.
+     * <p>
+     * For example, {@code [Ann(age = 20), Beth(age = 25), Cathy(age = 30), David(age = 30), Eric(age = 20)]} with
+     * {@code .groupBy(topK(2, Person::getAge))} returns {@code [30, 30]}.
+     * <p>
+     * The default result of the collector (e.g. when never called) is an empty list.
+     *
+     * @param k {@code > 0}, the maximum number of elements in the result
+     * @param <A> type of the matched fact
+     * @return never null
+     */
+    public static <A extends Comparable<A>> UniConstraintCollector<A, ?, List<A>> topK(int k) {
+        return topK(k, Comparator.naturalOrder());
+    }
+
+    /**
+     * As defined by {@link #topK(int)}, only with a custom {@link Comparator}.
+     */
+    public static <A> UniConstraintCollector<A, ?, List<A>> topK(int k, Comparator<? super A> comparator) {
+        return topK(k, Function.identity(), comparator);
+    }
+
+    /**
+     * As defined by {@link #topK(int)}, only collecting the mapped values.
+     */
+    public static <A, Mapped extends Comparable<? super Mapped>> UniConstraintCollector<A, ?, List<Mapped>> topK(int k,
+            Function<A, Mapped> groupValueMapping) {
+        return topK(k, groupValueMapping, Comparator.naturalOrder());
+    }
+
+    /**
+     * As defined by {@link #topK(int, Function)}, only with a custom {@link Comparator}.
+     */
+    public static <A, Mapped> UniConstraintCollector<A, ?, List<Mapped>> topK(int k, Function<A, Mapped> groupValueMapping,
+            Comparator<? super Mapped> comparator) {
+        return topOrBottomK(k, groupValueMapping, Collections.reverseOrder(comparator));
+    }
+
+    /**
+     * Returns a collector that finds the {@code k} smallest elements in a group of {@link Comparable} elements.
+     * The result is an unmodifiable {@link List} of at most {@code k} elements, smallest first.
+     * Otherwise as defined by {@link #topK(int)}.
+     *
+     * @param k {@code > 0}, the maximum number of elements in the result
+     * @param <A> type of the matched fact
+     * @return never null
+     */
+    public static <A extends Comparable<A>> UniConstraintCollector<A, ?, List<A>> bottomK(int k) {
+        return bottomK(k, Comparator.naturalOrder());
+    }
+
+    /**
+     * As defined by {@link #bottomK(int)}, only with a custom {@link Comparator}.
+     */
+    public static <A> UniConstraintCollector<A, ?, List<A>> bottomK(int k, Comparator<? super A> comparator) {
+        return bottomK(k, Function.identity(), comparator);
+    }
+
+    /**
+     * As defined by {@link #bottomK(int)}, only collecting the mapped values.
+     */
+    public static <A, Mapped extends Comparable<? super Mapped>> UniConstraintCollector<A, ?, List<Mapped>> bottomK(int k,
+            Function<A, Mapped> groupValueMapping) {
+        return bottomK(k, groupValueMapping, Comparator.naturalOrder());
+    }
+
+    /**
+     * As defined by {@link #bottomK(int, Function)}, only with a custom {@link Comparator}.
+     */
+    public static <A, Mapped> UniConstraintCollector<A, ?, List<Mapped>> bottomK(int k,
+            Function<A, Mapped> groupValueMapping, Comparator<? super Mapped> comparator) {
+        return topOrBottomK(k, groupValueMapping, comparator);
+    }
+
+    private static <A, Mapped> UniConstraintCollector<A, TopKResultContainer<Mapped>, List<Mapped>> topOrBottomK(int k,
+            Function<A, Mapped> groupValueMapping, Comparator<? super Mapped> comparator) {
+        validateK(k);
+        return new DefaultUniConstraintCollector<>(
+                () -> new TopKResultContainer<>(k, comparator),
+                (resultContainer, a) -> resultContainer.add(groupValueMapping.apply(a)),
+                TopKResultContainer::getResult);
+    }
+
+    private static void validateK(int k) {
+        if (k < 1) {
+            throw new IllegalArgumentException("The k (" + k + ") must be at least 1.");
+        }
+    }
+
+    /**
+     * As defined by {@link #topK(int, Function)}.
+     */
+    public static <A, B, Mapped extends Comparable<? super Mapped>> BiConstraintCollector<A, B, ?, List<Mapped>> topK(
+            int k, BiFunction<A, B, Mapped> groupValueMapping) {
+        return topK(k, groupValueMapping, Comparator.naturalOrder());
+    }
+
+    /**
+     * As defined by {@link #topK(int, Function)}, only with a custom {@link Comparator}.
+     */
+    public static <A, B, Mapped> BiConstraintCollector<A, B, ?, List<Mapped>> topK(int k,
+            BiFunction<A, B, Mapped> groupValueMapping, Comparator<? super Mapped> comparator) {
+        return topOrBottomK(k, groupValueMapping, Collections.reverseOrder(comparator));
+    }
+
+    /**
+     * As defined by {@link #bottomK(int, Function)}.
+     */
+    public static <A, B, Mapped extends Comparable<? super Mapped>> BiConstraintCollector<A, B, ?, List<Mapped>> bottomK(
+            int k, BiFunction<A, B, Mapped> groupValueMapping) {
+        return bottomK(k, groupValueMapping, Comparator.naturalOrder());
+    }
+
+    /**
+     * As defined by {@link #bottomK(int, Function)}, only with a custom {@link Comparator}.
+     */
+    public static <A, B, Mapped> BiConstraintCollector<A, B, ?, List<Mapped>> bottomK(int k,
+            BiFunction<A, B, Mapped> groupValueMapping, Comparator<? super Mapped> comparator) {
+        return topOrBottomK(k, groupValueMapping, comparator);
+    }
+
+    private static <A, B, Mapped> BiConstraintCollector<A, B, TopKResultContainer<Mapped>, List<Mapped>> topOrBottomK(
+            int k, BiFunction<A, B, Mapped> groupValueMapping, Comparator<? super Mapped> comparator) {
+        validateK(k);
+        return new DefaultBiConstraintCollector<>(
+                () -> new TopKResultContainer<>(k, comparator),
+                (resultContainer, a, b) -> resultContainer.add(groupValueMapping.apply(a, b)),
+                TopKResultContainer::getResult);
+    }
+
+    /**
+     * As defined by {@link #topK(int, Function)}.
+     */
+    public static <A, B, C, Mapped extends Comparable<? super Mapped>> TriConstraintCollector<A, B, C, ?, List<Mapped>>
+            topK(int k, TriFunction<A, B, C, Mapped> groupValueMapping) {
+        return topK(k, groupValueMapping, Comparator.naturalOrder());
+    }
+
+    /**
+     * As defined by {@link #topK(int, Function)}, only with a custom {@link Comparator}.
+     */
+    public static <A, B, C, Mapped> TriConstraintCollector<A, B, C, ?, List<Mapped>> topK(int k,
+            TriFunction<A, B, C, Mapped> groupValueMapping, Comparator<? super Mapped> comparator) {
+        return topOrBottomK(k, groupValueMapping, Collections.reverseOrder(comparator));
+    }
+
+    /**
+     * As defined by {@link #bottomK(int, Function)}.
+     */
+    public static <A, B, C, Mapped extends Comparable<? super Mapped>> TriConstraintCollector<A, B, C, ?, List<Mapped>>
+            bottomK(int k, TriFunction<A, B, C, Mapped> groupValueMapping) {
+        return bottomK(k, groupValueMapping, Comparator.naturalOrder());
+    }
+
+    /**
+     * As defined by {@link #bottomK(int, Function)}, only with a custom {@link Comparator}.
+     */
+    public static <A, B, C, Mapped> TriConstraintCollector<A, B, C, ?, List<Mapped>> bottomK(int k,
+            TriFunction<A, B, C, Mapped> groupValueMapping, Comparator<? super Mapped> comparator) {
+        return topOrBottomK(k, groupValueMapping, comparator);
+    }
+
+    private static <A, B, C, Mapped> TriConstraintCollector<A, B, C, TopKResultContainer<Mapped>, List<Mapped>>
+            topOrBottomK(int k, TriFunction<A, B, C, Mapped> groupValueMapping, Comparator<? super Mapped> comparator) {
+        validateK(k);
+        return new DefaultTriConstraintCollector<>(
+                () -> new TopKResultContainer<>(k, comparator),
+                (resultContainer, a, b, c) -> resultContainer.add(groupValueMapping.apply(a, b, c)),
+                TopKResultContainer::getResult);
+    }
+
+    /**
+     * As defined by {@link #topK(int, Function)}.
+     */
+    public static <A, B, C, D, Mapped extends Comparable<? super Mapped>>
+            QuadConstraintCollector<A, B, C, D, ?, List<Mapped>> topK(int k,
+                    QuadFunction<A, B, C, D, Mapped> groupValueMapping) {
+        return topK(k, groupValueMapping, Comparator.naturalOrder());
+    }
+
+    /**
+     * As defined by {@link #topK(int, Function)}, only with a custom {@link Comparator}.
+     */
+    public static <A, B, C, D, Mapped> QuadConstraintCollector<A, B, C, D, ?, List<Mapped>> topK(int k,
+            QuadFunction<A, B, C, D, Mapped> groupValueMapping, Comparator<? super Mapped> comparator) {
+        return topOrBottomK(k, groupValueMapping, Collections.reverseOrder(comparator));
+    }
+
+    /**
+     * As defined by {@link #bottomK(int, Function)}.
+     */
+    public static <A, B, C, D, Mapped extends Comparable<? super Mapped>>
+            QuadConstraintCollector<A, B, C, D, ?, List<Mapped>> bottomK(int k,
+                    QuadFunction<A, B, C, D, Mapped> groupValueMapping) {
+        return bottomK(k, groupValueMapping, Comparator.naturalOrder());
+    }
+
+    /**
+     * As defined by {@link #bottomK(int, Function)}, only with a custom {@link Comparator}.
+     */
+    public static <A, B, C, D, Mapped> QuadConstraintCollector<A, B, C, D, ?, List<Mapped>> bottomK(int k,
+            QuadFunction<A, B, C, D, Mapped> groupValueMapping, Comparator<? super Mapped> comparator) {
+        return topOrBottomK(k, groupValueMapping, comparator);
+    }
+
+    private static <A, B, C, D, Mapped> QuadConstraintCollector<A, B, C, D, TopKResultContainer<Mapped>, List<Mapped>>
+            topOrBottomK(int k, QuadFunction<A, B, C, D, Mapped> groupValueMapping,
+                    Comparator<? super Mapped> comparator) {
+        validateK(k);
+        return new DefaultQuadConstraintCollector<>(
+                () -> new TopKResultContainer<>(k, comparator),
+                (resultContainer, a, b, c, d) -> resultContainer.add(groupValueMapping.apply(a, b, c, d)),
+                TopKResultContainer::getResult);
+    }
+
     /**
      * @deprecated Prefer {@link #toList()}, {@link #toSet()} or {@link #toSortedSet()}
      */
@@ -995,26 +1211,20 @@ public final class ConstraintCollectors {
      * @return never null
      */
     public static <A> UniConstraintCollector<A, ?, Double> average(ToIntFunction<A> groupValueMapping) {
-        return compose(count(), sum(groupValueMapping), (count, sum) -> {
-            if (count == 0) {
-                return null;
-            } else {
-                return sum / (double) count;
-            }
-        });
+        return new DefaultUniConstraintCollector<>(
+                IntSumResultContainer::new,
+                (resultContainer, a) -> resultContainer.add(groupValueMapping.applyAsInt(a)),
+                IntSumResultContainer::getAverage);
     }
 
     /**
      * As defined by {@link #average(ToIntFunction)}.
      */
     public static <A> UniConstraintCollector<A, ?, Double> averageLong(ToLongFunction<A> groupValueMapping) {
-        return compose(count(), sumLong(groupValueMapping), (count, sum) -> {
-            if (count == 0) {
-                return null;
-            } else {
-                return sum / (double) count;
-            }
-        });
+        return new DefaultUniConstraintCollector<>(
+                LongSumResultContainer::new,
+                (resultContainer, a) -> resultContainer.add(groupValueMapping.applyAsLong(a)),
+                LongSumResultContainer::getAverage);
     }
 
     /**
@@ -1067,26 +1277,20 @@ public final class ConstraintCollectors {
      * As defined by {@link #average(ToIntFunction)}.
      */
     public static <A, B> BiConstraintCollector<A, B, ?, Double> average(ToIntBiFunction<A, B> groupValueMapping) {
-        return compose(countBi(), sum(groupValueMapping), (count, sum) -> {
-            if (count == 0) {
-                return null;
-            } else {
-                return sum / (double) count;
-            }
-        });
+        return new DefaultBiConstraintCollector<>(
+                IntSumResultContainer::new,
+                (resultContainer, a, b) -> resultContainer.add(groupValueMapping.applyAsInt(a, b)),
+                IntSumResultContainer::getAverage);
     }
 
     /**
      * As defined by {@link #average(ToIntFunction)}.
      */
     public static <A, B> BiConstraintCollector<A, B, ?, Double> averageLong(ToLongBiFunction<A, B> groupValueMapping) {
-        return compose(countBi(), sumLong(groupValueMapping), (count, sum) -> {
-            if (count == 0) {
-                return null;
-            } else {
-                return sum / (double) count;
-            }
-        });
+        return new DefaultBiConstraintCollector<>(
+                LongSumResultContainer::new,
+                (resultContainer, a, b) -> resultContainer.add(groupValueMapping.applyAsLong(a, b)),
+                LongSumResultContainer::getAverage);
     }
 
     /**
@@ -1137,13 +1341,10 @@ public final class ConstraintCollectors {
      * As defined by {@link #average(ToIntFunction)}.
      */
     public static <A, B, C> TriConstraintCollector<A, B, C, ?, Double> average(ToIntTriFunction<A, B, C> groupValueMapping) {
-        return compose(countTri(), sum(groupValueMapping), (count, sum) -> {
-            if (count == 0) {
-                return null;
-            } else {
-                return sum / (double) count;
-            }
-        });
+        return new DefaultTriConstraintCollector<>(
+                IntSumResultContainer::new,
+                (resultContainer, a, b, c) -> resultContainer.add(groupValueMapping.applyAsInt(a, b, c)),
+                IntSumResultContainer::getAverage);
     }
 
     /**
@@ -1151,13 +1352,10 @@ public final class ConstraintCollectors {
      */
     public static <A, B, C> TriConstraintCollector<A, B, C, ?, Double>
             averageLong(ToLongTriFunction<A, B, C> groupValueMapping) {
-        return compose(countTri(), sumLong(groupValueMapping), (count, sum) -> {
-            if (count == 0) {
-                return null;
-            } else {
-                return sum / (double) count;
-            }
-        });
+        return new DefaultTriConstraintCollector<>(
+                LongSumResultContainer::new,
+                (resultContainer, a, b, c) -> resultContainer.add(groupValueMapping.applyAsLong(a, b, c)),
+                LongSumResultContainer::getAverage);
     }
 
     /**
@@ -1209,13 +1407,10 @@ public final class ConstraintCollectors {
      */
     public static <A, B, C, D> QuadConstraintCollector<A, B, C, D, ?, Double>
             average(ToIntQuadFunction<A, B, C, D> groupValueMapping) {
-        return compose(countQuad(), sum(groupValueMapping), (count, sum) -> {
-            if (count == 0) {
-                return null;
-            } else {
-                return sum / (double) count;
-            }
-        });
+        return new DefaultQuadConstraintCollector<>(
+                IntSumResultContainer::new,
+                (resultContainer, a, b, c, d) -> resultContainer.add(groupValueMapping.applyAsInt(a, b, c, d)),
+                IntSumResultContainer::getAverage);
     }
 
     /**
@@ -1223,13 +1418,10 @@ public final class ConstraintCollectors {
      */
     public static <A, B, C, D> QuadConstraintCollector<A, B, C, D, ?, Double>
             averageLong(ToLongQuadFunction<A, B, C, D> groupValueMapping) {
-        return compose(countQuad(), sumLong(groupValueMapping), (count, sum) -> {
-            if (count == 0) {
-                return null;
-            } else {
-                return sum / (double) count;
-            }
-        });
+        return new DefaultQuadConstraintCollector<>(
+                LongSumResultContainer::new,
+                (resultContainer, a, b, c, d) -> resultContainer.add(groupValueMapping.applyAsLong(a, b, c, d)),
+                LongSumResultContainer::getAverage);
     }
 
     /**
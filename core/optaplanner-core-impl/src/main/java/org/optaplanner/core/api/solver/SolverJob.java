@@ -62,6 +62,7 @@ public interface SolverJob<Solution_, ProblemId_> {
      *
      * @param problemChange never null
      * @return completes after the best solution containing this change has been consumed.
+     *         Canceled if the solver finishes solving before it applies this change.
      * @throws IllegalStateException if the underlying {@link Solver} is not in the {@link SolverStatus#SOLVING_ACTIVE}
      *         state
      */
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.optaplanner.core.api.solver;
+
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+import org.optaplanner.core.config.solver.SolverManagerConfig;
+import org.optaplanner.core.impl.solver.FairSolverJobScheduler;
+import org.optaplanner.core.impl.solver.FifoSolverJobScheduler;
+
+/**
+ * Decides which of the {@link SolverJob}s that wait to solve gets the next solver thread of a {@link SolverManager},
+ * as configured by {@link SolverManagerConfig#getParallelSolverCount()}.
+ * <p>
+ * A solver job waits when it is submitted,
+ * and also (only if the {@link SolverManager} doesn't use a fixed size thread pool)
+ * when a daemon solver restarts after waiting for problem changes
+ * or when it has used up its {@link SolverManagerConfig#getSolvingTimeSlice() solving time slice}.
+ * <p>
+ * The {@link SolverManager} calls these methods under a lock, so an implementation doesn't need to be thread-safe.
+ * It must not be shared between multiple {@link SolverManager}s.
+ *
+ * @param <ProblemId_> the ID type of a submitted problem, such as {@link Long} or {@link UUID}.
+ */
+public interface SolverJobScheduler<ProblemId_> {
+
+    /**
+     * Solver jobs get a solver thread in the order in which they start waiting.
+     * This is the default.
+     *
+     * @return never null
+     * @param <ProblemId_> the ID type of a submitted problem, such as {@link Long} or {@link UUID}.
+     */
+    static <ProblemId_> SolverJobScheduler<ProblemId_> fifo() {
+        return new FifoSolverJobScheduler<>();
+    }
+
+    /**
+     * Solver jobs with a higher priority always go first.
+     * Among the solver jobs with the same priority, the tenants take turns,
+     * so one tenant with many waiting solver jobs doesn't starve the other tenants.
+     * The solver jobs of the same tenant and priority go in the order in which they start waiting.
+     *
+     * @param tenantFunction never null, returns the tenant of a problemId, never null.
+     *        Must return the same (by {@link Object#equals(Object)}) tenant every time for the same problemId.
+     * @param priorityFunction never null, returns the priority of a problemId, higher goes first.
+     *        Must return the same priority every time for the same problemId.
+     * @return never null
+     * @param <ProblemId_> the ID type of a submitted problem, such as {@link Long} or {@link UUID}.
+     */
+    static <ProblemId_> SolverJobScheduler<ProblemId_> fair(Function<? super ProblemId_, ?> tenantFunction,
+            ToIntFunction<? super ProblemId_> priorityFunction) {
+        return new FairSolverJobScheduler<>(tenantFunction, priorityFunction);
+    }
+
+    /**
+     * The solver job starts waiting.
+     * It is never added again before it has been polled or removed.
+     *
+     * @param problemId never null
+     */
+    void add(ProblemId_ problemId);
+
+    /**
+     * Removes the solver job that gets the next solver thread.
+     *
+     * @return null if no solver job is waiting
+     */
+    ProblemId_ poll();
+
+    /**
+     * The solver job no longer waits, for example because it has been terminated early.
+     *
+     * @param problemId never null, a problemId that has been added and not yet polled or removed
+     */
+    void remove(ProblemId_ problemId);
+
+    /**
+     * @return true if no solver job is waiting
+     */
+    boolean isEmpty();
+
+}
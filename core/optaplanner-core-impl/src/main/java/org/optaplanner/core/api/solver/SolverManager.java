@@ -318,6 +318,7 @@ public interface SolverManager<Solution_, ProblemId_> extends AutoCloseable {
      *        or {@link #solveAndListen(Object, Function, Consumer)}
      * @param problemChange never null
      * @return completes after the best solution containing this change has been consumed.
+     *         Canceled if the solver finishes solving before it applies this change.
      * @throws IllegalStateException if there is no solver actively solving the problem associated with the problemId
      */
     CompletableFuture<Void> addProblemChange(ProblemId_ problemId, ProblemChange<Solution_> problemChange);
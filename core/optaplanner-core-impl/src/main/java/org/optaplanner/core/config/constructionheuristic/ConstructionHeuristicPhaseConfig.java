@@ -54,7 +54,8 @@ import org.optaplanner.core.config.util.ConfigUtils;
         "valueSorterManner",
         "entityPlacerConfig",
         "moveSelectorConfigList",
-        "foragerConfig"
+        "foragerConfig",
+        "speculativePlacementCount"
 })
 public class ConstructionHeuristicPhaseConfig extends PhaseConfig<ConstructionHeuristicPhaseConfig> {
 
@@ -98,6 +99,8 @@ public class ConstructionHeuristicPhaseConfig extends PhaseConfig<ConstructionHe
     @XmlElement(name = "forager")
     protected ConstructionHeuristicForagerConfig foragerConfig = null;
 
+    protected Integer speculativePlacementCount = null;
+
     // ************************************************************************
     // Constructors and simple getters/setters
     // ************************************************************************
@@ -150,6 +153,19 @@ public class ConstructionHeuristicPhaseConfig extends PhaseConfig<ConstructionHe
         this.foragerConfig = foragerConfig;
     }
 
+    /**
+     * @return sometimes null, the number of placements evaluated concurrently on the move threads,
+     *         requires a {@link org.optaplanner.core.config.solver.SolverConfig#getMoveThreadCount() moveThreadCount}
+     *         and doesn't support selection filters
+     */
+    public Integer getSpeculativePlacementCount() {
+        return speculativePlacementCount;
+    }
+
+    public void setSpeculativePlacementCount(Integer speculativePlacementCount) {
+        this.speculativePlacementCount = speculativePlacementCount;
+    }
+
     // ************************************************************************
     // With methods
     // ************************************************************************
@@ -185,6 +201,11 @@ public class ConstructionHeuristicPhaseConfig extends PhaseConfig<ConstructionHe
         return this;
     }
 
+    public ConstructionHeuristicPhaseConfig withSpeculativePlacementCount(Integer speculativePlacementCount) {
+        this.speculativePlacementCount = speculativePlacementCount;
+        return this;
+    }
+
     @Override
     public ConstructionHeuristicPhaseConfig inherit(ConstructionHeuristicPhaseConfig inheritedConfig) {
         super.inherit(inheritedConfig);
@@ -199,6 +220,8 @@ public class ConstructionHeuristicPhaseConfig extends PhaseConfig<ConstructionHe
         moveSelectorConfigList = ConfigUtils.inheritMergeableListConfig(
                 moveSelectorConfigList, inheritedConfig.getMoveSelectorConfigList());
         foragerConfig = ConfigUtils.inheritConfig(foragerConfig, inheritedConfig.getForagerConfig());
+        speculativePlacementCount = ConfigUtils.inheritOverwritableProperty(speculativePlacementCount,
+                inheritedConfig.getSpeculativePlacementCount());
         return this;
     }
 
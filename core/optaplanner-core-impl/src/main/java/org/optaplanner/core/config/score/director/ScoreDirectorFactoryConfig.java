@@ -46,6 +46,7 @@ import org.optaplanner.core.impl.io.jaxb.adapter.JaxbCustomPropertiesAdapter;
         "constraintProviderClass",
         "constraintProviderCustomProperties",
         "constraintStreamImplType",
+        "constraintStreamParallelPropagationEnabled",
         "incrementalScoreCalculatorClass",
         "incrementalScoreCalculatorCustomProperties",
         "scoreDrlList",
@@ -67,6 +68,7 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
     @XmlJavaTypeAdapter(JaxbCustomPropertiesAdapter.class)
     protected Map<String, String> constraintProviderCustomProperties = null;
     protected ConstraintStreamImplType constraintStreamImplType;
+    protected Boolean constraintStreamParallelPropagationEnabled = null;
 
     protected Class<? extends IncrementalScoreCalculator> incrementalScoreCalculatorClass = null;
 
@@ -137,6 +139,22 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
         this.constraintStreamImplType = constraintStreamImplType;
     }
 
+    public Boolean getConstraintStreamParallelPropagationEnabled() {
+        return constraintStreamParallelPropagationEnabled;
+    }
+
+    /**
+     * Only supported by {@link ConstraintStreamImplType#BAVET}.
+     * If enabled, constraints which share no nodes are propagated in parallel during score calculation,
+     * unless constraint matching is enabled.
+     * Defaults to false.
+     *
+     * @param constraintStreamParallelPropagationEnabled sometimes null
+     */
+    public void setConstraintStreamParallelPropagationEnabled(Boolean constraintStreamParallelPropagationEnabled) {
+        this.constraintStreamParallelPropagationEnabled = constraintStreamParallelPropagationEnabled;
+    }
+
     public Class<? extends IncrementalScoreCalculator> getIncrementalScoreCalculatorClass() {
         return incrementalScoreCalculatorClass;
     }
@@ -289,6 +307,12 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
         return this;
     }
 
+    public ScoreDirectorFactoryConfig withConstraintStreamParallelPropagationEnabled(
+            boolean constraintStreamParallelPropagationEnabled) {
+        this.constraintStreamParallelPropagationEnabled = constraintStreamParallelPropagationEnabled;
+        return this;
+    }
+
     public ScoreDirectorFactoryConfig
             withIncrementalScoreCalculatorClass(Class<? extends IncrementalScoreCalculator> incrementalScoreCalculatorClass) {
         this.incrementalScoreCalculatorClass = incrementalScoreCalculatorClass;
@@ -386,6 +410,8 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
                 constraintProviderCustomProperties, inheritedConfig.getConstraintProviderCustomProperties());
         constraintStreamImplType = ConfigUtils.inheritOverwritableProperty(
                 constraintStreamImplType, inheritedConfig.getConstraintStreamImplType());
+        constraintStreamParallelPropagationEnabled = ConfigUtils.inheritOverwritableProperty(
+                constraintStreamParallelPropagationEnabled, inheritedConfig.getConstraintStreamParallelPropagationEnabled());
         incrementalScoreCalculatorClass = ConfigUtils.inheritOverwritableProperty(
                 incrementalScoreCalculatorClass, inheritedConfig.getIncrementalScoreCalculatorClass());
         incrementalScoreCalculatorCustomProperties = ConfigUtils.inheritMergeableMapProperty(
@@ -76,16 +76,20 @@ import org.optaplanner.core.impl.solver.random.RandomFactory;
 @XmlType(name = SolverConfig.XML_TYPE_NAME, propOrder = {
         "environmentMode",
         "daemon",
+        "problemChangeBatching",
+        "incrementalRestart",
         "randomType",
         "randomSeed",
         "randomFactoryClass",
         "moveThreadCount",
         "moveThreadBufferSize",
+        "moveThreadBatchSize",
         "threadFactoryClass",
         "monitoringConfig",
         "solutionClass",
         "entityClassList",
         "domainAccessType",
+        "incrementalBestSolutionCloning",
         "scoreDirectorFactoryConfig",
         "terminationConfig",
         "phaseConfigList",
@@ -235,11 +239,14 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
 
     protected EnvironmentMode environmentMode = null;
     protected Boolean daemon = null;
+    protected Boolean problemChangeBatching = null;
+    protected Boolean incrementalRestart = null;
     protected RandomType randomType = null;
     protected Long randomSeed = null;
     protected Class<? extends RandomFactory> randomFactoryClass = null;
     protected String moveThreadCount = null;
     protected Integer moveThreadBufferSize = null;
+    protected Integer moveThreadBatchSize = null;
     protected Class<? extends ThreadFactory> threadFactoryClass = null;
 
     protected Class<?> solutionClass = null;
@@ -247,6 +254,7 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
     @XmlElement(name = "entityClass")
     protected List<Class<?>> entityClassList = null;
     protected DomainAccessType domainAccessType = null;
+    protected Boolean incrementalBestSolutionCloning = null;
     @XmlTransient
     protected Map<String, MemberAccessor> gizmoMemberAccessorMap = null;
     @XmlTransient
@@ -325,6 +333,32 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         this.daemon = daemon;
     }
 
+    /**
+     * @return sometimes null, if true, the variable listeners are triggered once after all waiting
+     *         {@link org.optaplanner.core.api.solver.change.ProblemChange}s are applied,
+     *         instead of after every single one of them
+     */
+    public Boolean getProblemChangeBatching() {
+        return problemChangeBatching;
+    }
+
+    public void setProblemChangeBatching(Boolean problemChangeBatching) {
+        this.problemChangeBatching = problemChangeBatching;
+    }
+
+    /**
+     * @return sometimes null, if true, the {@link org.optaplanner.core.api.solver.change.ProblemChange}s
+     *         that arrive during Local Search are applied to the working solution between 2 steps,
+     *         so the Local Search state (such as the tabu list) survives them
+     */
+    public Boolean getIncrementalRestart() {
+        return incrementalRestart;
+    }
+
+    public void setIncrementalRestart(Boolean incrementalRestart) {
+        this.incrementalRestart = incrementalRestart;
+    }
+
     public RandomType getRandomType() {
         return randomType;
     }
@@ -365,6 +399,14 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         this.moveThreadBufferSize = moveThreadBufferSize;
     }
 
+    public Integer getMoveThreadBatchSize() {
+        return moveThreadBatchSize;
+    }
+
+    public void setMoveThreadBatchSize(Integer moveThreadBatchSize) {
+        this.moveThreadBatchSize = moveThreadBatchSize;
+    }
+
     public Class<? extends ThreadFactory> getThreadFactoryClass() {
         return threadFactoryClass;
     }
@@ -397,6 +439,14 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         this.domainAccessType = domainAccessType;
     }
 
+    public Boolean getIncrementalBestSolutionCloning() {
+        return incrementalBestSolutionCloning;
+    }
+
+    public void setIncrementalBestSolutionCloning(Boolean incrementalBestSolutionCloning) {
+        this.incrementalBestSolutionCloning = incrementalBestSolutionCloning;
+    }
+
     public Map<String, MemberAccessor> getGizmoMemberAccessorMap() {
         return gizmoMemberAccessorMap;
     }
@@ -459,6 +509,16 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         return this;
     }
 
+    public SolverConfig withProblemChangeBatching(Boolean problemChangeBatching) {
+        this.problemChangeBatching = problemChangeBatching;
+        return this;
+    }
+
+    public SolverConfig withIncrementalRestart(Boolean incrementalRestart) {
+        this.incrementalRestart = incrementalRestart;
+        return this;
+    }
+
     public SolverConfig withRandomType(RandomType randomType) {
         this.randomType = randomType;
         return this;
@@ -484,6 +544,11 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         return this;
     }
 
+    public SolverConfig withMoveThreadBatchSize(Integer moveThreadBatchSize) {
+        this.moveThreadBatchSize = moveThreadBatchSize;
+        return this;
+    }
+
     public SolverConfig withThreadFactoryClass(Class<? extends ThreadFactory> threadFactoryClass) {
         this.threadFactoryClass = threadFactoryClass;
         return this;
@@ -509,6 +574,11 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         return this;
     }
 
+    public SolverConfig withIncrementalBestSolutionCloning(Boolean incrementalBestSolutionCloning) {
+        this.incrementalBestSolutionCloning = incrementalBestSolutionCloning;
+        return this;
+    }
+
     public SolverConfig withGizmoMemberAccessorMap(Map<String, MemberAccessor> memberAccessorMap) {
         this.gizmoMemberAccessorMap = memberAccessorMap;
         return this;
@@ -635,6 +705,10 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         classLoader = ConfigUtils.inheritOverwritableProperty(classLoader, inheritedConfig.getClassLoader());
         environmentMode = ConfigUtils.inheritOverwritableProperty(environmentMode, inheritedConfig.getEnvironmentMode());
         daemon = ConfigUtils.inheritOverwritableProperty(daemon, inheritedConfig.getDaemon());
+        problemChangeBatching = ConfigUtils.inheritOverwritableProperty(problemChangeBatching,
+                inheritedConfig.getProblemChangeBatching());
+        incrementalRestart = ConfigUtils.inheritOverwritableProperty(incrementalRestart,
+                inheritedConfig.getIncrementalRestart());
         randomType = ConfigUtils.inheritOverwritableProperty(randomType, inheritedConfig.getRandomType());
         randomSeed = ConfigUtils.inheritOverwritableProperty(randomSeed, inheritedConfig.getRandomSeed());
         randomFactoryClass = ConfigUtils.inheritOverwritableProperty(randomFactoryClass,
@@ -643,12 +717,16 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
                 inheritedConfig.getMoveThreadCount());
         moveThreadBufferSize = ConfigUtils.inheritOverwritableProperty(moveThreadBufferSize,
                 inheritedConfig.getMoveThreadBufferSize());
+        moveThreadBatchSize = ConfigUtils.inheritOverwritableProperty(moveThreadBatchSize,
+                inheritedConfig.getMoveThreadBatchSize());
         threadFactoryClass = ConfigUtils.inheritOverwritableProperty(threadFactoryClass,
                 inheritedConfig.getThreadFactoryClass());
         solutionClass = ConfigUtils.inheritOverwritableProperty(solutionClass, inheritedConfig.getSolutionClass());
         entityClassList = ConfigUtils.inheritMergeableListProperty(entityClassList,
                 inheritedConfig.getEntityClassList());
         domainAccessType = ConfigUtils.inheritOverwritableProperty(domainAccessType, inheritedConfig.getDomainAccessType());
+        incrementalBestSolutionCloning = ConfigUtils.inheritOverwritableProperty(incrementalBestSolutionCloning,
+                inheritedConfig.getIncrementalBestSolutionCloning());
         gizmoMemberAccessorMap = ConfigUtils.inheritMergeableMapProperty(
                 gizmoMemberAccessorMap, inheritedConfig.getGizmoMemberAccessorMap());
         gizmoSolutionClonerMap = ConfigUtils.inheritMergeableMapProperty(
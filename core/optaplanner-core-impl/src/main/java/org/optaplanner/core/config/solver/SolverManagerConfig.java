@@ -19,19 +19,29 @@
 
 package org.optaplanner.core.config.solver;
 
+import java.time.Duration;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadFactory;
 import java.util.function.Consumer;
 
+import jakarta.xml.bind.annotation.XmlTransient;
 import jakarta.xml.bind.annotation.XmlType;
+import jakarta.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 
+import org.optaplanner.core.api.solver.SolverJobScheduler;
 import org.optaplanner.core.config.AbstractConfig;
 import org.optaplanner.core.config.util.ConfigUtils;
+import org.optaplanner.core.impl.io.jaxb.adapter.JaxbDurationAdapter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 @XmlType(propOrder = {
         "parallelSolverCount",
-        "threadFactoryClass"
+        "threadFactoryClass",
+        "bestSolutionThrottlingDelay",
+        "virtualThreads",
+        "solvingTimeSlice",
+        "solverPoolSize"
 })
 public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
 
@@ -41,9 +51,18 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
 
     protected String parallelSolverCount = null;
     protected Class<? extends ThreadFactory> threadFactoryClass = null;
+    @XmlJavaTypeAdapter(JaxbDurationAdapter.class)
+    protected Duration bestSolutionThrottlingDelay = null;
+    protected Boolean virtualThreads = null;
+    @XmlTransient
+    protected Executor solverExecutor = null;
+    @XmlTransient
+    protected SolverJobScheduler<?> solverJobScheduler = null;
+    @XmlJavaTypeAdapter(JaxbDurationAdapter.class)
+    protected Duration solvingTimeSlice = null;
+    protected Integer solverPoolSize = null;
 
     // Future features:
-    // throttlingDelay
     // congestionStrategy
 
     // ************************************************************************
@@ -69,6 +88,95 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
         this.threadFactoryClass = threadFactoryClass;
     }
 
+    /**
+     * @return sometimes null, the minimum time between 2 intermediate best solutions passed to the
+     *         bestSolutionConsumer of {@link org.optaplanner.core.api.solver.SolverManager#solveAndListen}.
+     *         Best solutions found within that time only replace the best solution that waits to be consumed.
+     *         The final best solution is always consumed.
+     */
+    public Duration getBestSolutionThrottlingDelay() {
+        return bestSolutionThrottlingDelay;
+    }
+
+    public void setBestSolutionThrottlingDelay(Duration bestSolutionThrottlingDelay) {
+        this.bestSolutionThrottlingDelay = bestSolutionThrottlingDelay;
+    }
+
+    /**
+     * @return sometimes null, if true, every solver job and its consumers run on their own virtual thread.
+     *         The {@link #getParallelSolverCount() parallelSolverCount} then limits the number of solver jobs
+     *         that solve at the same time, without counting idle daemon solvers that wait for problem changes.
+     *         Requires Java 21 or higher.
+     */
+    public Boolean getVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public void setVirtualThreads(Boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    /**
+     * @return sometimes null, runs the solver jobs and their consumers instead of a fixed size thread pool.
+     *         It is never shut down by the {@link org.optaplanner.core.api.solver.SolverManager}.
+     *         It must not limit its number of threads, because a solver job waits for its consumers.
+     *         The {@link #getParallelSolverCount() parallelSolverCount} then limits the number of solver jobs
+     *         that solve at the same time, without counting idle daemon solvers that wait for problem changes.
+     */
+    public Executor getSolverExecutor() {
+        return solverExecutor;
+    }
+
+    public void setSolverExecutor(Executor solverExecutor) {
+        this.solverExecutor = solverExecutor;
+    }
+
+    /**
+     * @return sometimes null, decides which waiting solver job solves next.
+     *         Defaults to {@link SolverJobScheduler#fifo()}.
+     *         Don't share it between multiple {@link org.optaplanner.core.api.solver.SolverManager}s.
+     */
+    public SolverJobScheduler<?> getSolverJobScheduler() {
+        return solverJobScheduler;
+    }
+
+    public void setSolverJobScheduler(SolverJobScheduler<?> solverJobScheduler) {
+        this.solverJobScheduler = solverJobScheduler;
+    }
+
+    /**
+     * @return sometimes null, if not null, a solver job that has solved for this duration
+     *         lets the other waiting solver jobs solve first, at the end of its current step.
+     *         It then continues where it left off, when the {@link #getSolverJobScheduler() solverJobScheduler}
+     *         gives it its turn again.
+     *         The paused time counts towards the time spent of the solver, for example for its spent limit.
+     *         Requires {@link #getVirtualThreads() virtualThreads} or a {@link #getSolverExecutor() solverExecutor}.
+     */
+    public Duration getSolvingTimeSlice() {
+        return solvingTimeSlice;
+    }
+
+    public void setSolvingTimeSlice(Duration solvingTimeSlice) {
+        this.solvingTimeSlice = solvingTimeSlice;
+    }
+
+    /**
+     * @return sometimes null, the maximum number of idle solvers kept for reuse by later solver jobs.
+     *         A reused solver keeps the incremental score calculation state of its previous problem,
+     *         so it only needs to process the problem facts and planning entities that differ.
+     *         Problem fact instances shared with its previous problem must not have changed,
+     *         otherwise the score is silently wrong: replace a changed problem fact with a new instance instead.
+     *         An idle solver keeps its previous problem in memory until it is reused or the solver manager is closed.
+     *         Defaults to 0, which builds a new solver for every solver job.
+     */
+    public Integer getSolverPoolSize() {
+        return solverPoolSize;
+    }
+
+    public void setSolverPoolSize(Integer solverPoolSize) {
+        this.solverPoolSize = solverPoolSize;
+    }
+
     // ************************************************************************
     // With methods
     // ************************************************************************
@@ -83,6 +191,36 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
         return this;
     }
 
+    public SolverManagerConfig withBestSolutionThrottlingDelay(Duration bestSolutionThrottlingDelay) {
+        this.bestSolutionThrottlingDelay = bestSolutionThrottlingDelay;
+        return this;
+    }
+
+    public SolverManagerConfig withVirtualThreads(Boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+        return this;
+    }
+
+    public SolverManagerConfig withSolverExecutor(Executor solverExecutor) {
+        this.solverExecutor = solverExecutor;
+        return this;
+    }
+
+    public SolverManagerConfig withSolverJobScheduler(SolverJobScheduler<?> solverJobScheduler) {
+        this.solverJobScheduler = solverJobScheduler;
+        return this;
+    }
+
+    public SolverManagerConfig withSolvingTimeSlice(Duration solvingTimeSlice) {
+        this.solvingTimeSlice = solvingTimeSlice;
+        return this;
+    }
+
+    public SolverManagerConfig withSolverPoolSize(Integer solverPoolSize) {
+        this.solverPoolSize = solverPoolSize;
+        return this;
+    }
+
     // ************************************************************************
     // Builder methods
     // ************************************************************************
@@ -129,6 +267,18 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
                 inheritedConfig.getParallelSolverCount());
         threadFactoryClass = ConfigUtils.inheritOverwritableProperty(threadFactoryClass,
                 inheritedConfig.getThreadFactoryClass());
+        bestSolutionThrottlingDelay = ConfigUtils.inheritOverwritableProperty(bestSolutionThrottlingDelay,
+                inheritedConfig.getBestSolutionThrottlingDelay());
+        virtualThreads = ConfigUtils.inheritOverwritableProperty(virtualThreads,
+                inheritedConfig.getVirtualThreads());
+        solverExecutor = ConfigUtils.inheritOverwritableProperty(solverExecutor,
+                inheritedConfig.getSolverExecutor());
+        solverJobScheduler = ConfigUtils.inheritOverwritableProperty(solverJobScheduler,
+                inheritedConfig.getSolverJobScheduler());
+        solvingTimeSlice = ConfigUtils.inheritOverwritableProperty(solvingTimeSlice,
+                inheritedConfig.getSolvingTimeSlice());
+        solverPoolSize = ConfigUtils.inheritOverwritableProperty(solverPoolSize,
+                inheritedConfig.getSolverPoolSize());
         return this;
     }
 
@@ -19,6 +19,8 @@
 
 package org.optaplanner.core.impl.constructionheuristic;
 
+import java.util.Iterator;
+
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.impl.constructionheuristic.decider.ConstructionHeuristicDecider;
 import org.optaplanner.core.impl.constructionheuristic.placer.EntityPlacer;
@@ -61,7 +63,9 @@ public class DefaultConstructionHeuristicPhase<Solution_> extends AbstractPhase<
         ConstructionHeuristicPhaseScope<Solution_> phaseScope = new ConstructionHeuristicPhaseScope<>(solverScope);
         phaseStarted(phaseScope);
 
-        for (Placement<Solution_> placement : entityPlacer) {
+        Iterator<Placement<Solution_>> placementIterator = decider.decoratePlacementIterator(entityPlacer.iterator());
+        while (placementIterator.hasNext()) {
+            Placement<Solution_> placement = placementIterator.next();
             ConstructionHeuristicStepScope<Solution_> stepScope = new ConstructionHeuristicStepScope<>(phaseScope);
             stepStarted(stepScope);
             decider.decideNextStep(stepScope, placement);
@@ -33,10 +33,12 @@ import org.optaplanner.core.config.constructionheuristic.placer.QueuedEntityPlac
 import org.optaplanner.core.config.constructionheuristic.placer.QueuedValuePlacerConfig;
 import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
 import org.optaplanner.core.config.heuristic.selector.common.SelectionOrder;
+import org.optaplanner.core.config.heuristic.selector.entity.EntitySelectorConfig;
 import org.optaplanner.core.config.heuristic.selector.entity.EntitySorterManner;
 import org.optaplanner.core.config.heuristic.selector.move.MoveSelectorConfig;
 import org.optaplanner.core.config.heuristic.selector.move.composite.CartesianProductMoveSelectorConfig;
 import org.optaplanner.core.config.heuristic.selector.move.composite.UnionMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.ChangeMoveSelectorConfig;
 import org.optaplanner.core.config.heuristic.selector.move.generic.list.ListChangeMoveSelectorConfig;
 import org.optaplanner.core.config.heuristic.selector.value.ValueSelectorConfig;
 import org.optaplanner.core.config.heuristic.selector.value.ValueSorterManner;
@@ -44,16 +46,21 @@ import org.optaplanner.core.config.solver.EnvironmentMode;
 import org.optaplanner.core.config.util.ConfigUtils;
 import org.optaplanner.core.impl.constructionheuristic.decider.ConstructionHeuristicDecider;
 import org.optaplanner.core.impl.constructionheuristic.decider.MultiThreadedConstructionHeuristicDecider;
+import org.optaplanner.core.impl.constructionheuristic.decider.SpeculativeConstructionHeuristicDecider;
 import org.optaplanner.core.impl.constructionheuristic.decider.forager.ConstructionHeuristicForager;
 import org.optaplanner.core.impl.constructionheuristic.decider.forager.ConstructionHeuristicForagerFactory;
 import org.optaplanner.core.impl.constructionheuristic.placer.EntityPlacer;
 import org.optaplanner.core.impl.constructionheuristic.placer.EntityPlacerFactory;
 import org.optaplanner.core.impl.constructionheuristic.placer.PooledEntityPlacerFactory;
+import org.optaplanner.core.impl.constructionheuristic.placer.QueuedEntityPlacer;
 import org.optaplanner.core.impl.constructionheuristic.placer.QueuedEntityPlacerFactory;
 import org.optaplanner.core.impl.constructionheuristic.placer.QueuedValuePlacerFactory;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import org.optaplanner.core.impl.heuristic.HeuristicConfigPolicy;
+import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionFilter;
 import org.optaplanner.core.impl.phase.AbstractPhaseFactory;
 import org.optaplanner.core.impl.solver.recaller.BestSolutionRecaller;
 import org.optaplanner.core.impl.solver.termination.Termination;
@@ -96,7 +103,7 @@ public class DefaultConstructionHeuristicPhaseFactory<Solution_>
                 solverConfigPolicy.getLogIndentation(),
                 phaseTermination,
                 entityPlacer,
-                buildDecider(phaseConfigPolicy, phaseTermination));
+                buildDecider(phaseConfigPolicy, phaseTermination, entityPlacerConfig_, entityPlacer));
 
         EnvironmentMode environmentMode = phaseConfigPolicy.getEnvironmentMode();
         if (environmentMode.isNonIntrusiveFullAsserted()) {
@@ -189,7 +196,8 @@ public class DefaultConstructionHeuristicPhaseFactory<Solution_>
     }
 
     private ConstructionHeuristicDecider<Solution_> buildDecider(HeuristicConfigPolicy<Solution_> configPolicy,
-            Termination<Solution_> termination) {
+            Termination<Solution_> termination, EntityPlacerConfig entityPlacerConfig,
+            EntityPlacer<Solution_> entityPlacer) {
         ConstructionHeuristicForagerConfig foragerConfig_ =
                 Objects.requireNonNullElseGet(phaseConfig.getForagerConfig(), ConstructionHeuristicForagerConfig::new);
         ConstructionHeuristicForager<Solution_> forager =
@@ -197,6 +205,10 @@ public class DefaultConstructionHeuristicPhaseFactory<Solution_>
         EnvironmentMode environmentMode = configPolicy.getEnvironmentMode();
         ConstructionHeuristicDecider<Solution_> decider;
         Integer moveThreadCount = configPolicy.getMoveThreadCount();
+        Integer speculativePlacementCount = phaseConfig.getSpeculativePlacementCount();
+        if (speculativePlacementCount != null) {
+            validateSpeculativePlacement(configPolicy, entityPlacerConfig, entityPlacer, speculativePlacementCount);
+        }
         if (moveThreadCount == null) {
             decider = new ConstructionHeuristicDecider<>(configPolicy.getLogIndentation(), termination, forager);
         } else {
@@ -209,9 +221,25 @@ public class DefaultConstructionHeuristicPhaseFactory<Solution_>
             }
             ThreadFactory threadFactory = configPolicy.buildThreadFactory(ChildThreadType.MOVE_THREAD);
             int selectedMoveBufferSize = moveThreadCount * moveThreadBufferSize;
-            MultiThreadedConstructionHeuristicDecider<Solution_> multiThreadedDecider =
-                    new MultiThreadedConstructionHeuristicDecider<>(configPolicy.getLogIndentation(), termination, forager,
-                            threadFactory, moveThreadCount, selectedMoveBufferSize);
+            MultiThreadedConstructionHeuristicDecider<Solution_> multiThreadedDecider;
+            if (speculativePlacementCount != null && speculativePlacementCount > 1) {
+                multiThreadedDecider = new SpeculativeConstructionHeuristicDecider<>(configPolicy.getLogIndentation(),
+                        termination, forager, threadFactory, moveThreadCount, selectedMoveBufferSize,
+                        speculativePlacementCount);
+            } else {
+                multiThreadedDecider = new MultiThreadedConstructionHeuristicDecider<>(configPolicy.getLogIndentation(),
+                        termination, forager, threadFactory, moveThreadCount, selectedMoveBufferSize);
+            }
+            Integer moveThreadBatchSize = configPolicy.getMoveThreadBatchSize();
+            if (moveThreadBatchSize == null) {
+                // The batch size adapts to the move evaluation time up to this maximum,
+                // which leaves room for every move thread to have a batch in progress and another one queued
+                moveThreadBatchSize = Math.max(1, moveThreadBufferSize / 2);
+            } else if (moveThreadBatchSize < 1) {
+                throw new IllegalArgumentException("The moveThreadBatchSize (" + moveThreadBatchSize
+                        + ") must be at least 1.");
+            }
+            multiThreadedDecider.setMoveThreadBatchSize(moveThreadBatchSize);
             if (environmentMode.isNonIntrusiveFullAsserted()) {
                 multiThreadedDecider.setAssertStepScoreFromScratch(true);
             }
@@ -230,6 +258,90 @@ public class DefaultConstructionHeuristicPhaseFactory<Solution_>
         return decider;
     }
 
+    private void validateSpeculativePlacement(HeuristicConfigPolicy<Solution_> configPolicy,
+            EntityPlacerConfig entityPlacerConfig, EntityPlacer<Solution_> entityPlacer, int speculativePlacementCount) {
+        if (speculativePlacementCount < 1) {
+            throw new IllegalArgumentException("The speculativePlacementCount (" + speculativePlacementCount
+                    + ") must be at least 1.");
+        }
+        if (configPolicy.getMoveThreadCount() == null) {
+            throw new IllegalArgumentException("The speculativePlacementCount (" + speculativePlacementCount
+                    + ") requires a moveThreadCount (" + configPolicy.getMoveThreadCount() + ") on the solver.\n"
+                    + "Maybe configure the moveThreadCount or remove the speculativePlacementCount.");
+        }
+        if (!(entityPlacer instanceof QueuedEntityPlacer)) {
+            throw new IllegalArgumentException("The speculativePlacementCount (" + speculativePlacementCount
+                    + ") only supports a " + QueuedEntityPlacer.class.getSimpleName()
+                    + ", not the entityPlacer (" + entityPlacer + ").");
+        }
+        for (EntityDescriptor<Solution_> entityDescriptor : configPolicy.getSolutionDescriptor()
+                .getGenuineEntityDescriptors()) {
+            for (GenuineVariableDescriptor<Solution_> variableDescriptor : entityDescriptor
+                    .getGenuineVariableDescriptorList()) {
+                if (variableDescriptor.isListVariable() || variableDescriptor.isChained()) {
+                    throw new IllegalArgumentException("The speculativePlacementCount (" + speculativePlacementCount
+                            + ") does not support the chained or list variable (" + variableDescriptor
+                            + "), because its steps change the planning values of other moves.");
+                }
+            }
+        }
+        // The placements of a round are selected before its first step,
+        // so a filter would see the working solution of the start of the round instead of the current one.
+        QueuedEntityPlacerConfig queuedEntityPlacerConfig = (QueuedEntityPlacerConfig) entityPlacerConfig;
+        Class<? extends SelectionFilter> filterClass =
+                findSelectionFilterClass(queuedEntityPlacerConfig.getEntitySelectorConfig());
+        if (filterClass == null && queuedEntityPlacerConfig.getMoveSelectorConfigList() != null) {
+            for (MoveSelectorConfig<?> moveSelectorConfig : queuedEntityPlacerConfig.getMoveSelectorConfigList()) {
+                filterClass = findSelectionFilterClass(moveSelectorConfig);
+                if (filterClass != null) {
+                    break;
+                }
+            }
+        }
+        if (filterClass != null) {
+            throw new IllegalArgumentException("The speculativePlacementCount (" + speculativePlacementCount
+                    + ") does not support the filterClass (" + filterClass + ") of the entityPlacer ("
+                    + entityPlacerConfig + "), because it selects the moves of several placements"
+                    + " before it does their steps.\n"
+                    + "Maybe remove the filterClass or the speculativePlacementCount.");
+        }
+    }
+
+    private static Class<? extends SelectionFilter> findSelectionFilterClass(MoveSelectorConfig<?> moveSelectorConfig) {
+        if (moveSelectorConfig.getFilterClass() != null) {
+            return moveSelectorConfig.getFilterClass();
+        }
+        List<MoveSelectorConfig> childMoveSelectorConfigList;
+        if (moveSelectorConfig instanceof UnionMoveSelectorConfig) {
+            childMoveSelectorConfigList = ((UnionMoveSelectorConfig) moveSelectorConfig).getMoveSelectorList();
+        } else if (moveSelectorConfig instanceof CartesianProductMoveSelectorConfig) {
+            childMoveSelectorConfigList = ((CartesianProductMoveSelectorConfig) moveSelectorConfig).getMoveSelectorList();
+        } else if (moveSelectorConfig instanceof ChangeMoveSelectorConfig) {
+            ChangeMoveSelectorConfig changeMoveSelectorConfig = (ChangeMoveSelectorConfig) moveSelectorConfig;
+            Class<? extends SelectionFilter> filterClass =
+                    findSelectionFilterClass(changeMoveSelectorConfig.getEntitySelectorConfig());
+            if (filterClass == null && changeMoveSelectorConfig.getValueSelectorConfig() != null) {
+                filterClass = changeMoveSelectorConfig.getValueSelectorConfig().getFilterClass();
+            }
+            return filterClass;
+        } else {
+            return null;
+        }
+        if (childMoveSelectorConfigList != null) {
+            for (MoveSelectorConfig<?> childMoveSelectorConfig : childMoveSelectorConfigList) {
+                Class<? extends SelectionFilter> filterClass = findSelectionFilterClass(childMoveSelectorConfig);
+                if (filterClass != null) {
+                    return filterClass;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static Class<? extends SelectionFilter> findSelectionFilterClass(EntitySelectorConfig entitySelectorConfig) {
+        return entitySelectorConfig == null ? null : entitySelectorConfig.getFilterClass();
+    }
+
     private EntityPlacerConfig buildUnfoldedEntityPlacerConfig(HeuristicConfigPolicy<Solution_> phaseConfigPolicy,
             ConstructionHeuristicType constructionHeuristicType) {
         switch (constructionHeuristicType) {
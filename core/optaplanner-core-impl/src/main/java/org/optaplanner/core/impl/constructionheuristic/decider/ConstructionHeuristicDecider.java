@@ -19,6 +19,8 @@
 
 package org.optaplanner.core.impl.constructionheuristic.decider;
 
+import java.util.Iterator;
+
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.constructionheuristic.decider.forager.ConstructionHeuristicForager;
@@ -98,6 +100,16 @@ public class ConstructionHeuristicDecider<Solution_> {
         // Overridable by a subclass.
     }
 
+    /**
+     * Overridable by a subclass that needs to see the upcoming placements before their steps.
+     *
+     * @param placementIterator never null
+     * @return never null, the placements to decide a step for, in the same order
+     */
+    public Iterator<Placement<Solution_>> decoratePlacementIterator(Iterator<Placement<Solution_>> placementIterator) {
+        return placementIterator;
+    }
+
     public void decideNextStep(ConstructionHeuristicStepScope<Solution_> stepScope, Placement<Solution_> placement) {
         int moveIndex = 0;
         for (Move<Solution_> move : placement) {
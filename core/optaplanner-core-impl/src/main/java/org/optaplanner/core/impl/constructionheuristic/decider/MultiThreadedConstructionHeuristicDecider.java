@@ -22,11 +22,9 @@ package org.optaplanner.core.impl.constructionheuristic.decider;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Phaser;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 
@@ -40,8 +38,9 @@ import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeurist
 import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.heuristic.thread.ApplyStepOperation;
 import org.optaplanner.core.impl.heuristic.thread.DestroyOperation;
+import org.optaplanner.core.impl.heuristic.thread.MoveEvaluationBatchSizer;
 import org.optaplanner.core.impl.heuristic.thread.MoveEvaluationOperation;
-import org.optaplanner.core.impl.heuristic.thread.MoveThreadOperation;
+import org.optaplanner.core.impl.heuristic.thread.MoveThreadOperationQueue;
 import org.optaplanner.core.impl.heuristic.thread.MoveThreadRunner;
 import org.optaplanner.core.impl.heuristic.thread.OrderByMoveIndexBlockingQueue;
 import org.optaplanner.core.impl.heuristic.thread.SetupOperation;
@@ -59,13 +58,15 @@ public class MultiThreadedConstructionHeuristicDecider<Solution_> extends Constr
     protected final int moveThreadCount;
     protected final int selectedMoveBufferSize;
 
+    protected int moveThreadBatchSize = 1;
     protected boolean assertStepScoreFromScratch = false;
     protected boolean assertExpectedStepScore = false;
     protected boolean assertShadowVariablesAreNotStaleAfterStep = false;
 
-    protected BlockingQueue<MoveThreadOperation<Solution_>> operationQueue;
+    protected MoveThreadOperationQueue<Solution_> operationQueue;
     protected OrderByMoveIndexBlockingQueue<Solution_> resultQueue;
-    protected CyclicBarrier moveThreadBarrier;
+    protected Phaser moveThreadBarrier;
+    protected MoveEvaluationBatchSizer batchSizer;
     protected ExecutorService executor;
     protected List<MoveThreadRunner<Solution_, ?>> moveThreadRunnerList;
 
@@ -78,6 +79,13 @@ public class MultiThreadedConstructionHeuristicDecider<Solution_> extends Constr
         this.selectedMoveBufferSize = selectedMoveBufferSize;
     }
 
+    /**
+     * @param moveThreadBatchSize at least 1, the maximum number of moves per {@link MoveEvaluationOperation}
+     */
+    public void setMoveThreadBatchSize(int moveThreadBatchSize) {
+        this.moveThreadBatchSize = moveThreadBatchSize;
+    }
+
     public void setAssertStepScoreFromScratch(boolean assertStepScoreFromScratch) {
         this.assertStepScoreFromScratch = assertStepScoreFromScratch;
     }
@@ -94,17 +102,18 @@ public class MultiThreadedConstructionHeuristicDecider<Solution_> extends Constr
     public void phaseStarted(ConstructionHeuristicPhaseScope<Solution_> phaseScope) {
         super.phaseStarted(phaseScope);
         // Capacity: number of moves in circulation + number of setup xor step operations + number of destroy operations
-        operationQueue = new ArrayBlockingQueue<>(selectedMoveBufferSize + moveThreadCount + moveThreadCount);
+        operationQueue = new MoveThreadOperationQueue<>(selectedMoveBufferSize + moveThreadCount + moveThreadCount);
         // Capacity: number of moves in circulation + number of exception handling results
         resultQueue = new OrderByMoveIndexBlockingQueue<>(selectedMoveBufferSize + moveThreadCount);
-        moveThreadBarrier = new CyclicBarrier(moveThreadCount);
+        moveThreadBarrier = new Phaser(moveThreadCount);
+        batchSizer = new MoveEvaluationBatchSizer(moveThreadBatchSize);
         InnerScoreDirector<Solution_, ?> scoreDirector = phaseScope.getScoreDirector();
         executor = createThreadPoolExecutor();
         moveThreadRunnerList = new ArrayList<>(moveThreadCount);
         for (int moveThreadIndex = 0; moveThreadIndex < moveThreadCount; moveThreadIndex++) {
             MoveThreadRunner<Solution_, ?> moveThreadRunner = new MoveThreadRunner<>(
                     logIndentation, moveThreadIndex, false,
-                    operationQueue, resultQueue, moveThreadBarrier,
+                    operationQueue, resultQueue, moveThreadBarrier, batchSizer,
                     assertMoveScoreFromScratch, assertExpectedUndoMoveScore,
                     assertStepScoreFromScratch, assertExpectedStepScore, assertShadowVariablesAreNotStaleAfterStep);
             moveThreadRunnerList.add(moveThreadRunner);
@@ -131,6 +140,7 @@ public class MultiThreadedConstructionHeuristicDecider<Solution_> extends Constr
         phaseScope.addChildThreadsScoreCalculationCount(childThreadsScoreCalculationCount);
         operationQueue = null;
         resultQueue = null;
+        batchSizer = null;
         moveThreadRunnerList = null;
     }
 
@@ -158,6 +168,8 @@ public class MultiThreadedConstructionHeuristicDecider<Solution_> extends Constr
 
         int selectMoveIndex = 0;
         int movesInPlay = 0;
+        int batchSize = batchSizer.getBatchSize();
+        List<Move<Solution_>> batchMoveList = new ArrayList<>(batchSize);
         Iterator<Move<Solution_>> moveIterator = placement.iterator();
         do {
             boolean hasNextMove = moveIterator.hasNext();
@@ -165,6 +177,11 @@ public class MultiThreadedConstructionHeuristicDecider<Solution_> extends Constr
             // For reproducibility, the selectedMoveBufferSize always need to be entirely selected,
             // even if some of those moves won't end up being evaluated or foraged
             if (movesInPlay > 0 && (selectMoveIndex >= selectedMoveBufferSize || !hasNextMove)) {
+                int forageMoveIndex = selectMoveIndex - movesInPlay;
+                if (forageMoveIndex >= selectMoveIndex - batchMoveList.size()) {
+                    // The move to forage is still in the batch, so no move thread can be evaluating it yet
+                    batchMoveList = addMoveEvaluationOperation(stepIndex, selectMoveIndex, batchMoveList, batchSize);
+                }
                 if (forageResult(stepScope, stepIndex)) {
                     break;
                 }
@@ -172,9 +189,12 @@ public class MultiThreadedConstructionHeuristicDecider<Solution_> extends Constr
             }
             if (hasNextMove) {
                 Move<Solution_> move = moveIterator.next();
-                operationQueue.add(new MoveEvaluationOperation<>(stepIndex, selectMoveIndex, move));
+                batchMoveList.add(move);
                 selectMoveIndex++;
                 movesInPlay++;
+                if (batchMoveList.size() >= batchSize) {
+                    batchMoveList = addMoveEvaluationOperation(stepIndex, selectMoveIndex, batchMoveList, batchSize);
+                }
             }
         } while (movesInPlay > 0);
 
@@ -183,19 +203,31 @@ public class MultiThreadedConstructionHeuristicDecider<Solution_> extends Constr
         pickMove(stepScope);
         // Start doing the step on every move thread. Don't wait for the stepEnded() event.
         if (stepScope.getStep() != null) {
-            InnerScoreDirector<Solution_, ?> scoreDirector = stepScope.getScoreDirector();
-            if (scoreDirector.requiresFlushing() && stepIndex % 100 == 99) {
-                // Calculate score to process changes; otherwise they become a memory leak.
-                // We only do it occasionally, as score calculation is a performance cost we do not need to incur here.
-                scoreDirector.calculateScore();
-            }
-            // Increase stepIndex by 1, because it's a preliminary action
-            ApplyStepOperation<Solution_, ?> stepOperation = new ApplyStepOperation<>(stepIndex + 1,
-                    stepScope.getStep(), (Score) stepScope.getScore());
-            for (int i = 0; i < moveThreadCount; i++) {
-                operationQueue.add(stepOperation);
-            }
+            applyStepOnMoveThreads(stepScope);
+        }
+    }
+
+    protected void applyStepOnMoveThreads(ConstructionHeuristicStepScope<Solution_> stepScope) {
+        int stepIndex = stepScope.getStepIndex();
+        InnerScoreDirector<Solution_, ?> scoreDirector = stepScope.getScoreDirector();
+        if (scoreDirector.requiresFlushing() && stepIndex % 100 == 99) {
+            // Calculate score to process changes; otherwise they become a memory leak.
+            // We only do it occasionally, as score calculation is a performance cost we do not need to incur here.
+            scoreDirector.calculateScore();
         }
+        // Increase stepIndex by 1, because it's a preliminary action
+        ApplyStepOperation<Solution_, ?> stepOperation = new ApplyStepOperation<>(stepIndex + 1,
+                stepScope.getStep(), (Score) stepScope.getScore());
+        for (int i = 0; i < moveThreadCount; i++) {
+            operationQueue.add(stepOperation);
+        }
+    }
+
+    protected List<Move<Solution_>> addMoveEvaluationOperation(int stepIndex, int selectMoveIndex,
+            List<Move<Solution_>> batchMoveList, int batchSize) {
+        int firstMoveIndex = selectMoveIndex - batchMoveList.size();
+        operationQueue.add(new MoveEvaluationOperation<>(stepIndex, firstMoveIndex, batchMoveList));
+        return new ArrayList<>(batchSize);
     }
 
     private boolean forageResult(ConstructionHeuristicStepScope<Solution_> stepScope, int stepIndex) {
@@ -0,0 +1,379 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.optaplanner.core.impl.constructionheuristic.decider;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ThreadFactory;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.constructionheuristic.decider.forager.ConstructionHeuristicForager;
+import org.optaplanner.core.impl.constructionheuristic.placer.Placement;
+import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicMoveScope;
+import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicPhaseScope;
+import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicStepScope;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.thread.OrderByMoveIndexBlockingQueue;
+import org.optaplanner.core.impl.solver.termination.Termination;
+
+/**
+ * Evaluates the moves of several upcoming {@link Placement}s concurrently on the move threads,
+ * all against the working solution at the start of a round.
+ * The solver thread then decides the steps of those placements one by one.
+ * A move that shares a planning entity or a planning value with a step of the current round is re-evaluated,
+ * the score of any other move is predicted by adding its speculative score difference to the last step score.
+ * <p>
+ * This presumes that a step only affects the score of the moves that share a planning entity or a planning value
+ * with it, which holds for typical assignment and bin packing constraints.
+ * The full assert environment modes fail fast if a predicted score is wrong.
+ * Only supports basic planning variables that aren't chained, and no selection filters,
+ * because a filter would see the working solution at the start of the round.
+ * Every move of the round is evaluated, so a forager that quits early only saves the foraging, not the evaluation.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class SpeculativeConstructionHeuristicDecider<Solution_>
+        extends MultiThreadedConstructionHeuristicDecider<Solution_> {
+
+    protected final int speculativePlacementCount;
+
+    protected SpeculativePlacementIterator speculativePlacementIterator;
+    // Planning entities and planning values of the steps since the start of the current round
+    protected final Set<Object> roundConflictSet = new HashSet<>();
+    // False if a step of the current round doesn't expose its planning entities or planning values
+    protected boolean roundConflictSetComplete = true;
+
+    public SpeculativeConstructionHeuristicDecider(String logIndentation, Termination<Solution_> termination,
+            ConstructionHeuristicForager<Solution_> forager, ThreadFactory threadFactory, int moveThreadCount,
+            int selectedMoveBufferSize, int speculativePlacementCount) {
+        super(logIndentation, termination, forager, threadFactory, moveThreadCount, selectedMoveBufferSize);
+        if (speculativePlacementCount < 2) {
+            throw new IllegalArgumentException("The speculativePlacementCount (" + speculativePlacementCount
+                    + ") must be at least 2.");
+        }
+        this.speculativePlacementCount = speculativePlacementCount;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public Iterator<Placement<Solution_>> decoratePlacementIterator(Iterator<Placement<Solution_>> placementIterator) {
+        speculativePlacementIterator = new SpeculativePlacementIterator(placementIterator);
+        return speculativePlacementIterator;
+    }
+
+    @Override
+    public void phaseEnded(ConstructionHeuristicPhaseScope<Solution_> phaseScope) {
+        super.phaseEnded(phaseScope);
+        speculativePlacementIterator = null;
+        roundConflictSet.clear();
+    }
+
+    @Override
+    public void decideNextStep(ConstructionHeuristicStepScope<Solution_> stepScope, Placement<Solution_> placement) {
+        SpeculativePlacement<Solution_> speculativePlacement = (SpeculativePlacement<Solution_>) placement;
+        if (speculativePlacement.baseStepIndex < 0) {
+            evaluateRound(stepScope, speculativePlacement);
+        }
+        forageSpeculativePlacement(stepScope, speculativePlacement);
+        pickSpeculativeMove(stepScope, speculativePlacement);
+        // Start doing the step on every move thread. Don't wait for the stepEnded() event.
+        if (stepScope.getStep() != null) {
+            addRoundConflicts(stepScope.getStep());
+            applyStepOnMoveThreads(stepScope);
+        }
+    }
+
+    private void evaluateRound(ConstructionHeuristicStepScope<Solution_> stepScope,
+            SpeculativePlacement<Solution_> firstPlacement) {
+        int stepIndex = stepScope.getStepIndex();
+        List<SpeculativePlacement<Solution_>> roundPlacementList =
+                speculativePlacementIterator.peekUpcoming(speculativePlacementCount - 1);
+        roundPlacementList.add(0, firstPlacement);
+        Score<?> baseScore = stepScope.getPhaseScope().getLastCompletedStepScope().getScore();
+        List<Move<Solution_>> roundMoveList = new ArrayList<>();
+        for (SpeculativePlacement<Solution_> roundPlacement : roundPlacementList) {
+            roundPlacement.startRound(stepIndex, baseScore);
+            roundMoveList.addAll(roundPlacement.moveList);
+        }
+        roundConflictSet.clear();
+        roundConflictSetComplete = true;
+        logger.trace("{}        Speculative round: step index ({}), placement count ({}), move count ({}).",
+                logIndentation, stepIndex, roundPlacementList.size(), roundMoveList.size());
+
+        resultQueue.startNextStep(stepIndex);
+        int roundMoveCount = roundMoveList.size();
+        int selectMoveIndex = 0;
+        int movesInPlay = 0;
+        int batchSize = batchSizer.getBatchSize();
+        List<Move<Solution_>> batchMoveList = new ArrayList<>(batchSize);
+        Iterator<SpeculativePlacement<Solution_>> resultPlacementIterator = roundPlacementList.iterator();
+        SpeculativePlacement<Solution_> resultPlacement = resultPlacementIterator.next();
+        int resultPlacementStartMoveIndex = 0;
+        int resultCount = 0;
+        while (resultCount < roundMoveCount) {
+            // Every move of the round is evaluated, so there is no need to select them in advance for reproducibility
+            if (selectMoveIndex < roundMoveCount && movesInPlay < selectedMoveBufferSize) {
+                batchMoveList.add(roundMoveList.get(selectMoveIndex));
+                selectMoveIndex++;
+                movesInPlay++;
+                if (batchMoveList.size() >= batchSize || selectMoveIndex == roundMoveCount) {
+                    batchMoveList = addMoveEvaluationOperation(stepIndex, selectMoveIndex, batchMoveList, batchSize);
+                }
+                continue;
+            }
+            if (!batchMoveList.isEmpty()) {
+                // The move to take the result of might still be in the batch
+                batchMoveList = addMoveEvaluationOperation(stepIndex, selectMoveIndex, batchMoveList, batchSize);
+            }
+            OrderByMoveIndexBlockingQueue.MoveResult<Solution_> result;
+            try {
+                result = resultQueue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (stepIndex != result.getStepIndex()) {
+                throw new IllegalStateException("Impossible situation: the solverThread's stepIndex (" + stepIndex
+                        + ") differs from the result's stepIndex (" + result.getStepIndex() + ").");
+            }
+            if (!result.isMoveDoable()) {
+                throw new IllegalStateException("Impossible situation: Construction Heuristics move is not doable.");
+            }
+            while (result.getMoveIndex() >= resultPlacementStartMoveIndex + resultPlacement.moveList.size()) {
+                resultPlacementStartMoveIndex += resultPlacement.moveList.size();
+                resultPlacement = resultPlacementIterator.next();
+            }
+            resultPlacement.speculativeScores[result.getMoveIndex() - resultPlacementStartMoveIndex] = result.getScore();
+            // Every doable move result represents a single score calculation on a move thread.
+            stepScope.getScoreDirector().incrementCalculationCount();
+            resultCount++;
+            movesInPlay--;
+            stepScope.getPhaseScope().getSolverScope().checkYielding();
+            if (termination.isPhaseTerminated(stepScope.getPhaseScope())) {
+                // The moves without a speculative score are evaluated by the solver thread, if at all
+                break;
+            }
+        }
+        // Do not evaluate the remaining moves of this round that haven't started evaluation yet
+        operationQueue.clear();
+    }
+
+    private void forageSpeculativePlacement(ConstructionHeuristicStepScope<Solution_> stepScope,
+            SpeculativePlacement<Solution_> placement) {
+        // If no step happened since the start of the round, every speculative score is exact
+        boolean predicting = placement.baseStepIndex != stepScope.getStepIndex();
+        Score<?> lastStepScore = stepScope.getPhaseScope().getLastCompletedStepScope().getScore();
+        List<Move<Solution_>> moveList = placement.moveList;
+        for (int moveIndex = 0; moveIndex < moveList.size(); moveIndex++) {
+            Move<Solution_> move = moveList.get(moveIndex);
+            ConstructionHeuristicMoveScope<Solution_> moveScope =
+                    new ConstructionHeuristicMoveScope<>(stepScope, moveIndex, move);
+            Score<?> speculativeScore = placement.speculativeScores[moveIndex];
+            if (speculativeScore == null || (predicting && isRoundConflict(move))) {
+                doMove(moveScope);
+            } else {
+                Score<?> score = speculativeScore;
+                if (predicting) {
+                    score = predictScore((Score) lastStepScore, (Score) placement.baseScore, (Score) speculativeScore);
+                    placement.predicted[moveIndex] = true;
+                    if (assertMoveScoreFromScratch) {
+                        assertPredictedScore(stepScope, move, score);
+                    }
+                }
+                moveScope.setScore(score);
+                logger.trace("{}        Move index ({}), score ({}), move ({}).",
+                        logIndentation, moveIndex, score, move);
+                forager.addMove(moveScope);
+            }
+            if (forager.isQuitEarly()) {
+                break;
+            }
+            stepScope.getPhaseScope().getSolverScope().checkYielding();
+            if (termination.isPhaseTerminated(stepScope.getPhaseScope())) {
+                break;
+            }
+        }
+    }
+
+    private static <Score_ extends Score<Score_>> Score_ predictScore(Score_ lastStepScore, Score_ baseScore,
+            Score_ speculativeScore) {
+        return lastStepScore.add(speculativeScore.subtract(baseScore));
+    }
+
+    private void assertPredictedScore(ConstructionHeuristicStepScope<Solution_> stepScope, Move<Solution_> move,
+            Score<?> predictedScore) {
+        Score<?> score = stepScope.getScoreDirector().doAndProcessMove(move, true);
+        if (!score.equals(predictedScore)) {
+            throw new IllegalStateException("Speculative construction heuristic corruption:"
+                    + " the predicted score (" + predictedScore + ") of the move (" + move
+                    + ") is not the actual score (" + score + ").\n"
+                    + "Maybe a constraint couples planning entities that don't share a planning value,"
+                    + " so a step also affects the score of moves that don't share a planning entity"
+                    + " or a planning value with it.\n"
+                    + "Maybe remove the speculativePlacementCount.");
+        }
+    }
+
+    private void pickSpeculativeMove(ConstructionHeuristicStepScope<Solution_> stepScope,
+            SpeculativePlacement<Solution_> placement) {
+        ConstructionHeuristicMoveScope<Solution_> pickedMoveScope = forager.pickMove(stepScope);
+        if (pickedMoveScope != null) {
+            Move<Solution_> step = pickedMoveScope.getMove();
+            if (placement.predicted[pickedMoveScope.getMoveIndex()]) {
+                // The step score is always exact, so a mispredicted score never spreads to the next steps
+                pickedMoveScope.setScore(
+                        stepScope.getScoreDirector().doAndProcessMove(step, assertMoveScoreFromScratch));
+            }
+            stepScope.setStep(step);
+            if (logger.isDebugEnabled()) {
+                stepScope.setStepString(step.toString());
+            }
+            stepScope.setScore(pickedMoveScope.getScore());
+        }
+    }
+
+    private void addRoundConflicts(Move<Solution_> step) {
+        try {
+            roundConflictSet.addAll(step.getPlanningEntities());
+            for (Object planningValue : step.getPlanningValues()) {
+                if (planningValue != null) {
+                    roundConflictSet.add(planningValue);
+                }
+            }
+        } catch (UnsupportedOperationException e) {
+            // Every move conflicts until the next round
+            roundConflictSetComplete = false;
+        }
+    }
+
+    private boolean isRoundConflict(Move<Solution_> move) {
+        if (!roundConflictSetComplete) {
+            return true;
+        }
+        try {
+            for (Object planningEntity : move.getPlanningEntities()) {
+                if (roundConflictSet.contains(planningEntity)) {
+                    return true;
+                }
+            }
+            for (Object planningValue : move.getPlanningValues()) {
+                if (planningValue != null && roundConflictSet.contains(planningValue)) {
+                    return true;
+                }
+            }
+            return false;
+        } catch (UnsupportedOperationException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Selects every move of a placement as soon as the placement is selected,
+     * before the next placement is selected,
+     * because a mimic replaying move selector only replays the last selected planning entity.
+     */
+    protected class SpeculativePlacementIterator implements Iterator<Placement<Solution_>> {
+
+        private final Iterator<Placement<Solution_>> childPlacementIterator;
+        private final Deque<SpeculativePlacement<Solution_>> upcomingPlacementDeque = new ArrayDeque<>();
+
+        public SpeculativePlacementIterator(Iterator<Placement<Solution_>> childPlacementIterator) {
+            this.childPlacementIterator = childPlacementIterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !upcomingPlacementDeque.isEmpty() || childPlacementIterator.hasNext();
+        }
+
+        @Override
+        public Placement<Solution_> next() {
+            if (!upcomingPlacementDeque.isEmpty()) {
+                return upcomingPlacementDeque.poll();
+            }
+            if (!childPlacementIterator.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return selectPlacement(childPlacementIterator.next());
+        }
+
+        /**
+         * @param count at least 0
+         * @return never null, at most count placements that {@link #next()} returns next, in that order
+         */
+        public List<SpeculativePlacement<Solution_>> peekUpcoming(int count) {
+            while (upcomingPlacementDeque.size() < count && childPlacementIterator.hasNext()) {
+                upcomingPlacementDeque.add(selectPlacement(childPlacementIterator.next()));
+            }
+            List<SpeculativePlacement<Solution_>> upcomingPlacementList = new ArrayList<>(count + 1);
+            Iterator<SpeculativePlacement<Solution_>> upcomingPlacementIterator = upcomingPlacementDeque.iterator();
+            while (upcomingPlacementList.size() < count && upcomingPlacementIterator.hasNext()) {
+                upcomingPlacementList.add(upcomingPlacementIterator.next());
+            }
+            return upcomingPlacementList;
+        }
+
+        private SpeculativePlacement<Solution_> selectPlacement(Placement<Solution_> placement) {
+            List<Move<Solution_>> moveList = new ArrayList<>();
+            for (Move<Solution_> move : placement) {
+                moveList.add(move);
+            }
+            return new SpeculativePlacement<>(moveList);
+        }
+
+    }
+
+    protected static final class SpeculativePlacement<Solution_> extends Placement<Solution_> {
+
+        private final List<Move<Solution_>> moveList;
+        private final Score<?>[] speculativeScores;
+        private final boolean[] predicted;
+        private int baseStepIndex = -1;
+        private Score<?> baseScore = null;
+
+        private SpeculativePlacement(List<Move<Solution_>> moveList) {
+            super(moveList.iterator());
+            this.moveList = moveList;
+            speculativeScores = new Score<?>[moveList.size()];
+            predicted = new boolean[moveList.size()];
+        }
+
+        private void startRound(int baseStepIndex, Score<?> baseScore) {
+            this.baseStepIndex = baseStepIndex;
+            this.baseScore = baseScore;
+            for (int i = 0; i < speculativeScores.length; i++) {
+                speculativeScores[i] = null;
+                predicted[i] = false;
+            }
+        }
+
+    }
+
+}
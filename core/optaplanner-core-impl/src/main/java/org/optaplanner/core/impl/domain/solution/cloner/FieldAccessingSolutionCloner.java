@@ -68,50 +68,83 @@ public final class FieldAccessingSolutionCloner<Solution_> implements SolutionCl
 
     @Override
     public Solution_ cloneSolution(Solution_ originalSolution) {
+        return cloneSolution(originalSolution, null, null, null);
+    }
+
+    /**
+     * Clones like {@link #cloneSolution(Object)},
+     * but reuses the clones of a previous clone for the originals that are unchanged since then.
+     * An original may only be reused if all the deep cloned originals it references are reused too.
+     *
+     * @param originalSolution never null
+     * @param previousCloneGraph null for a full clone
+     * @param unreusableOriginalSet null for a full clone,
+     *        otherwise the originals of the previousCloneGraph that must be cloned again
+     * @param cloneGraph null if it's not needed, otherwise it's filled in for the next incremental clone
+     * @return never null
+     */
+    Solution_ cloneSolution(Solution_ originalSolution, SolutionCloneGraph previousCloneGraph,
+            Set<Object> unreusableOriginalSet, SolutionCloneGraph cloneGraph) {
         int entityCount = solutionDescriptor.getEntityCount(originalSolution);
-        Map<Object, Object> originalToCloneMap = new IdentityHashMap<>(entityCount + 1);
-        Queue<Unprocessed> unprocessedQueue = new ArrayDeque<>(entityCount + 1);
-        Solution_ cloneSolution = clone(originalSolution, originalToCloneMap, unprocessedQueue,
-                retrieveClassMetadata(originalSolution.getClass()));
-        while (!unprocessedQueue.isEmpty()) {
-            Unprocessed unprocessed = unprocessedQueue.remove();
-            Object cloneValue = process(unprocessed, originalToCloneMap, unprocessedQueue);
-            FieldCloningUtils.setObjectFieldValue(unprocessed.bean, unprocessed.field, cloneValue);
+        CloningContext context = new CloningContext(originalSolution, entityCount, previousCloneGraph,
+                unreusableOriginalSet, cloneGraph);
+        Solution_ cloneSolution = clone(originalSolution, context, retrieveClassMetadata(originalSolution.getClass()));
+        Queue<Unprocessed> unprocessedQueue = context.unprocessedQueue;
+        Queue<Object> reusedReferenceQueue = context.reusedReferenceQueue;
+        while (!unprocessedQueue.isEmpty() || !reusedReferenceQueue.isEmpty()) {
+            while (!unprocessedQueue.isEmpty()) {
+                Unprocessed unprocessed = unprocessedQueue.remove();
+                context.setReferrer(unprocessed.originalBean);
+                Object cloneValue = process(unprocessed, context);
+                FieldCloningUtils.setObjectFieldValue(unprocessed.bean, unprocessed.field, cloneValue);
+            }
+            context.setReferrer(null);
+            // The originals referenced by the reused clones must be reused too
+            while (!reusedReferenceQueue.isEmpty()) {
+                Object original = reusedReferenceQueue.remove();
+                Object clone = clone(original, context, retrieveClassMetadata(original.getClass()));
+                if (clone != previousCloneGraph.originalToCloneMap.get(original)) {
+                    throw new IllegalStateException("Impossible state: the reused clone of an original references"
+                            + " an original (" + original + ") that is cloned again.");
+                }
+            }
         }
         validateCloneSolution(originalSolution, cloneSolution);
         return cloneSolution;
     }
 
-    private Object process(Unprocessed unprocessed, Map<Object, Object> originalToCloneMap,
-            Queue<Unprocessed> unprocessedQueue) {
+    private Object process(Unprocessed unprocessed, CloningContext context) {
         Object originalValue = unprocessed.originalValue;
         Field field = unprocessed.field;
         Class<?> fieldType = field.getType();
         if (originalValue instanceof Collection) {
-            return cloneCollection(fieldType, (Collection<?>) originalValue, originalToCloneMap, unprocessedQueue);
+            return cloneCollection(fieldType, (Collection<?>) originalValue, context);
         } else if (originalValue instanceof Map) {
-            return cloneMap(fieldType, (Map<?, ?>) originalValue, originalToCloneMap, unprocessedQueue);
+            return cloneMap(fieldType, (Map<?, ?>) originalValue, context);
         } else if (originalValue.getClass().isArray()) {
-            return cloneArray(fieldType, originalValue, originalToCloneMap, unprocessedQueue);
+            return cloneArray(fieldType, originalValue, context);
         } else {
-            return clone(originalValue, originalToCloneMap, unprocessedQueue,
-                    retrieveClassMetadata(originalValue.getClass()));
+            return clone(originalValue, context, retrieveClassMetadata(originalValue.getClass()));
         }
     }
 
-    private <C> C clone(C original, Map<Object, Object> originalToCloneMap, Queue<Unprocessed> unprocessedQueue,
-            ClassMetadata declaringClassMetadata) {
+    private <C> C clone(C original, CloningContext context, ClassMetadata declaringClassMetadata) {
         if (original == null) {
             return null;
         }
-        C existingClone = (C) originalToCloneMap.get(original);
+        context.addReference(original);
+        C existingClone = (C) context.originalToCloneMap.get(original);
         if (existingClone != null) {
             return existingClone;
         }
+        C reusedClone = (C) context.reuseClone(original);
+        if (reusedClone != null) {
+            return reusedClone;
+        }
         Class<C> declaringClass = (Class<C>) original.getClass();
         C clone = constructClone(declaringClass);
-        originalToCloneMap.put(original, clone);
-        copyFields(declaringClass, original, clone, unprocessedQueue, declaringClassMetadata);
+        context.originalToCloneMap.put(original, clone);
+        copyFields(declaringClass, original, clone, context.unprocessedQueue, declaringClassMetadata);
         return clone;
     }
 
@@ -141,7 +174,7 @@ public final class FieldAccessingSolutionCloner<Solution_> implements SolutionCl
         for (DeepCloningFieldCloner fieldCloner : declaringClassMetadata.getClonedFieldArray()) {
             Object unprocessedValue = fieldCloner.clone(solutionDescriptor, original, clone);
             if (unprocessedValue != null) {
-                unprocessedQueue.add(new Unprocessed(clone, fieldCloner.getField(), unprocessedValue));
+                unprocessedQueue.add(new Unprocessed(original, clone, fieldCloner.getField(), unprocessedValue));
             }
         }
         Class<? super C> superclass = clazz.getSuperclass();
@@ -150,8 +183,7 @@ public final class FieldAccessingSolutionCloner<Solution_> implements SolutionCl
         }
     }
 
-    private Object cloneArray(Class<?> expectedType, Object originalArray, Map<Object, Object> originalToCloneMap,
-            Queue<Unprocessed> unprocessedQueue) {
+    private Object cloneArray(Class<?> expectedType, Object originalArray, CloningContext context) {
         int arrayLength = Array.getLength(originalArray);
         Object cloneArray = Array.newInstance(originalArray.getClass().getComponentType(), arrayLength);
         if (!expectedType.isInstance(cloneArray)) {
@@ -161,15 +193,14 @@ public final class FieldAccessingSolutionCloner<Solution_> implements SolutionCl
                     + "Maybe consider replacing the default " + SolutionCloner.class.getSimpleName() + ".");
         }
         for (int i = 0; i < arrayLength; i++) {
-            Object cloneElement =
-                    cloneCollectionsElementIfNeeded(Array.get(originalArray, i), originalToCloneMap, unprocessedQueue);
+            Object cloneElement = cloneCollectionsElementIfNeeded(Array.get(originalArray, i), context);
             Array.set(cloneArray, i, cloneElement);
         }
         return cloneArray;
     }
 
     private <E> Collection<E> cloneCollection(Class<?> expectedType, Collection<E> originalCollection,
-            Map<Object, Object> originalToCloneMap, Queue<Unprocessed> unprocessedQueue) {
+            CloningContext context) {
         Collection<E> cloneCollection = constructCloneCollection(originalCollection);
         if (!expectedType.isInstance(cloneCollection)) {
             throw new IllegalStateException("The cloneCollectionClass (" + cloneCollection.getClass()
@@ -178,7 +209,7 @@ public final class FieldAccessingSolutionCloner<Solution_> implements SolutionCl
                     + "Maybe consider replacing the default " + SolutionCloner.class.getSimpleName() + ".");
         }
         for (E originalElement : originalCollection) {
-            E cloneElement = cloneCollectionsElementIfNeeded(originalElement, originalToCloneMap, unprocessedQueue);
+            E cloneElement = cloneCollectionsElementIfNeeded(originalElement, context);
             cloneCollection.add(cloneElement);
         }
         return cloneCollection;
@@ -213,8 +244,7 @@ public final class FieldAccessingSolutionCloner<Solution_> implements SolutionCl
         }
     }
 
-    private <K, V> Map<K, V> cloneMap(Class<?> expectedType, Map<K, V> originalMap, Map<Object, Object> originalToCloneMap,
-            Queue<Unprocessed> unprocessedQueue) {
+    private <K, V> Map<K, V> cloneMap(Class<?> expectedType, Map<K, V> originalMap, CloningContext context) {
         Map<K, V> cloneMap = constructCloneMap(originalMap);
         if (!expectedType.isInstance(cloneMap)) {
             throw new IllegalStateException("The cloneMapClass (" + cloneMap.getClass()
@@ -223,8 +253,8 @@ public final class FieldAccessingSolutionCloner<Solution_> implements SolutionCl
                     + "Maybe consider replacing the default " + SolutionCloner.class.getSimpleName() + ".");
         }
         for (Map.Entry<K, V> originalEntry : originalMap.entrySet()) {
-            K cloneKey = cloneCollectionsElementIfNeeded(originalEntry.getKey(), originalToCloneMap, unprocessedQueue);
-            V cloneValue = cloneCollectionsElementIfNeeded(originalEntry.getValue(), originalToCloneMap, unprocessedQueue);
+            K cloneKey = cloneCollectionsElementIfNeeded(originalEntry.getKey(), context);
+            V cloneValue = cloneCollectionsElementIfNeeded(originalEntry.getValue(), context);
             cloneMap.put(cloneKey, cloneValue);
         }
         return cloneMap;
@@ -249,8 +279,7 @@ public final class FieldAccessingSolutionCloner<Solution_> implements SolutionCl
         return classMetadataMemoization.computeIfAbsent(declaringClass, ClassMetadata::new);
     }
 
-    private <C> C cloneCollectionsElementIfNeeded(C original, Map<Object, Object> originalToCloneMap,
-            Queue<Unprocessed> unprocessedQueue) {
+    private <C> C cloneCollectionsElementIfNeeded(C original, CloningContext context) {
         if (original == null) {
             return null;
         }
@@ -258,15 +287,15 @@ public final class FieldAccessingSolutionCloner<Solution_> implements SolutionCl
         // Also, the List<Long> in Map<String, List<Long>> needs to be cloned
         // if the List<Long> is a shadow, despite that Long never needs to be cloned (because it's immutable).
         if (original instanceof Collection) {
-            return (C) cloneCollection(Collection.class, (Collection) original, originalToCloneMap, unprocessedQueue);
+            return (C) cloneCollection(Collection.class, (Collection) original, context);
         } else if (original instanceof Map) {
-            return (C) cloneMap(Map.class, (Map) original, originalToCloneMap, unprocessedQueue);
+            return (C) cloneMap(Map.class, (Map) original, context);
         } else if (original.getClass().isArray()) {
-            return (C) cloneArray(original.getClass(), original, originalToCloneMap, unprocessedQueue);
+            return (C) cloneArray(original.getClass(), original, context);
         }
         ClassMetadata classMetadata = retrieveClassMetadata(original.getClass());
         if (classMetadata.isDeepCloned) {
-            return clone(original, originalToCloneMap, unprocessedQueue, classMetadata);
+            return clone(original, context, classMetadata);
         } else {
             return original;
         }
@@ -348,15 +377,97 @@ public final class FieldAccessingSolutionCloner<Solution_> implements SolutionCl
 
     private static final class Unprocessed {
 
+        final Object originalBean;
         final Object bean;
         final Field field;
         final Object originalValue;
 
-        public Unprocessed(Object bean, Field field, Object originalValue) {
+        public Unprocessed(Object originalBean, Object bean, Field field, Object originalValue) {
+            this.originalBean = originalBean;
             this.bean = bean;
             this.field = field;
             this.originalValue = originalValue;
         }
 
     }
+
+    private static final class CloningContext {
+
+        final Object originalSolution;
+        final Map<Object, Object> originalToCloneMap;
+        final Queue<Unprocessed> unprocessedQueue;
+        final Queue<Object> reusedReferenceQueue = new ArrayDeque<>();
+
+        // Only used by incremental cloning
+        final SolutionCloneGraph previousCloneGraph;
+        final Set<Object> unreusableOriginalSet;
+        final Map<Object, Object[]> referenceMap;
+        Object referrer = null;
+        final List<Object> referenceList;
+
+        CloningContext(Object originalSolution, int entityCount, SolutionCloneGraph previousCloneGraph,
+                Set<Object> unreusableOriginalSet, SolutionCloneGraph cloneGraph) {
+            this.originalSolution = originalSolution;
+            this.originalToCloneMap = cloneGraph == null ? new IdentityHashMap<>(entityCount + 1)
+                    : cloneGraph.originalToCloneMap;
+            this.unprocessedQueue = new ArrayDeque<>(entityCount + 1);
+            this.previousCloneGraph = previousCloneGraph;
+            this.unreusableOriginalSet = unreusableOriginalSet;
+            this.referenceMap = cloneGraph == null ? null : cloneGraph.referenceMap;
+            this.referenceList = cloneGraph == null ? null : new ArrayList<>();
+        }
+
+        /**
+         * The unprocessed fields of the same bean are processed consecutively,
+         * so the references of a bean are complete when the referrer changes.
+         *
+         * @param originalBean null to flush the references of the last referrer
+         */
+        void setReferrer(Object originalBean) {
+            if (referenceMap == null || originalBean == referrer) {
+                return;
+            }
+            if (referrer != null && !referenceList.isEmpty()) {
+                Object[] references = referenceList.toArray();
+                Object[] existingReferences = referenceMap.putIfAbsent(referrer, references);
+                if (existingReferences != null) {
+                    Object[] mergedReferences = Arrays.copyOf(existingReferences,
+                            existingReferences.length + references.length);
+                    System.arraycopy(references, 0, mergedReferences, existingReferences.length, references.length);
+                    referenceMap.put(referrer, mergedReferences);
+                }
+            }
+            referenceList.clear();
+            // The solution is never reused, so its references are irrelevant
+            referrer = originalBean == originalSolution ? null : originalBean;
+        }
+
+        void addReference(Object original) {
+            if (referrer != null) {
+                referenceList.add(original);
+            }
+        }
+
+        Object reuseClone(Object original) {
+            if (previousCloneGraph == null || unreusableOriginalSet.contains(original)) {
+                return null;
+            }
+            Object previousClone = previousCloneGraph.originalToCloneMap.get(original);
+            if (previousClone == null) {
+                return null;
+            }
+            originalToCloneMap.put(original, previousClone);
+            Object[] references = previousCloneGraph.referenceMap.get(original);
+            if (references != null) {
+                referenceMap.put(original, references);
+                for (Object reference : references) {
+                    if (!originalToCloneMap.containsKey(reference)) {
+                        reusedReferenceQueue.add(reference);
+                    }
+                }
+            }
+            return previousClone;
+        }
+
+    }
 }
@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.optaplanner.core.impl.domain.solution.cloner;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+
+/**
+ * Planning clones the same working solution repeatedly,
+ * reusing the clones of the previous clone for the objects that haven't changed since then.
+ * So consecutive clones share their unchanged planning entities (and other deep cloned objects).
+ * <p>
+ * The changes are tracked by the {@link ScoreDirector} notifications.
+ * A changed object is cloned again, and so is every object that references it, transitively,
+ * because a reused clone must only reference clones of the same clone.
+ * The {@link PlanningSolution} itself is always cloned again.
+ * <p>
+ * The changes of a move that is undone before the next clone don't count,
+ * see {@link #createChangeCheckpoint()}.
+ * Any problem change or a new working solution causes the next clone to be a full clone.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @implNote This class is not thread-safe.
+ */
+public final class IncrementalSolutionCloner<Solution_> {
+
+    private static final int MIN_CHANGE_LIMIT = 1024;
+
+    private final FieldAccessingSolutionCloner<Solution_> solutionCloner;
+
+    private SolutionCloneGraph previousCloneGraph = null;
+    private final List<Object> changedOriginalList = new ArrayList<>();
+    private boolean allChanged = true;
+    private int changeLimit = MIN_CHANGE_LIMIT;
+    private long cloneCount = 0L;
+    private long checkpointCloneCount = -1L;
+
+    public IncrementalSolutionCloner(SolutionDescriptor<Solution_> solutionDescriptor) {
+        solutionCloner = new FieldAccessingSolutionCloner<>(solutionDescriptor);
+    }
+
+    // ************************************************************************
+    // Change tracking
+    // ************************************************************************
+
+    /**
+     * @param original never null, an object of the working solution that is about to change
+     */
+    public void markChanged(Object original) {
+        if (allChanged) {
+            return;
+        }
+        changedOriginalList.add(original);
+        if (changedOriginalList.size() > changeLimit) {
+            // Deduplicating would cost more than a full clone
+            markAllChanged();
+        }
+    }
+
+    public void markAllChanged() {
+        allChanged = true;
+        changedOriginalList.clear();
+    }
+
+    /**
+     * Call this before doing a move that will be undone.
+     *
+     * @return the checkpoint to pass to {@link #revertToChangeCheckpoint(int)} after the undo move
+     */
+    public int createChangeCheckpoint() {
+        checkpointCloneCount = cloneCount;
+        return allChanged ? -1 : changedOriginalList.size();
+    }
+
+    /**
+     * Forgets the changes since the checkpoint, because they have been undone.
+     * Unless a clone was made in between: then the undo move itself is a change since that clone.
+     *
+     * @param checkpoint the return value of {@link #createChangeCheckpoint()}
+     */
+    public void revertToChangeCheckpoint(int checkpoint) {
+        if (checkpoint < 0 || allChanged || checkpointCloneCount != cloneCount) {
+            return;
+        }
+        changedOriginalList.subList(checkpoint, changedOriginalList.size()).clear();
+    }
+
+    // ************************************************************************
+    // Cloning
+    // ************************************************************************
+
+    /**
+     * @param originalSolution never null, the working solution
+     * @return never null, shares unchanged planning entities with the previous clone
+     */
+    public Solution_ cloneSolution(Solution_ originalSolution) {
+        Set<Object> unreusableOriginalSet = null;
+        if (!allChanged && previousCloneGraph != null) {
+            unreusableOriginalSet = findUnreusableOriginals(originalSolution);
+        }
+        SolutionCloneGraph cloneGraph = new SolutionCloneGraph(
+                previousCloneGraph == null ? 16 : previousCloneGraph.originalToCloneMap.size());
+        Solution_ cloneSolution = solutionCloner.cloneSolution(originalSolution,
+                unreusableOriginalSet == null ? null : previousCloneGraph, unreusableOriginalSet, cloneGraph);
+        previousCloneGraph = cloneGraph;
+        changedOriginalList.clear();
+        allChanged = false;
+        changeLimit = Math.max(MIN_CHANGE_LIMIT, 2 * cloneGraph.originalToCloneMap.size());
+        cloneCount++;
+        return cloneSolution;
+    }
+
+    private Set<Object> findUnreusableOriginals(Solution_ originalSolution) {
+        Set<Object> unreusableOriginalSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        Queue<Object> queue = new ArrayDeque<>();
+        unreusableOriginalSet.add(originalSolution);
+        queue.add(originalSolution);
+        for (Object changedOriginal : changedOriginalList) {
+            if (unreusableOriginalSet.add(changedOriginal)) {
+                queue.add(changedOriginal);
+            }
+        }
+        Map<Object, Object[]> referenceMap = previousCloneGraph.referenceMap;
+        if (referenceMap.isEmpty()) {
+            return unreusableOriginalSet;
+        }
+        // Every referrer of an unreusable original is unreusable too
+        Map<Object, List<Object>> referrerMap = new IdentityHashMap<>(previousCloneGraph.originalToCloneMap.size());
+        for (Map.Entry<Object, Object[]> entry : referenceMap.entrySet()) {
+            for (Object reference : entry.getValue()) {
+                referrerMap.computeIfAbsent(reference, key -> new ArrayList<>(2)).add(entry.getKey());
+            }
+        }
+        while (!queue.isEmpty()) {
+            List<Object> referrerList = referrerMap.get(queue.remove());
+            if (referrerList != null) {
+                for (Object referrer : referrerList) {
+                    if (unreusableOriginalSet.add(referrer)) {
+                        queue.add(referrer);
+                    }
+                }
+            }
+        }
+        return unreusableOriginalSet;
+    }
+
+    /**
+     * Releases the previous clone, so the next clone is a full clone.
+     */
+    public void reset() {
+        previousCloneGraph = null;
+        markAllChanged();
+    }
+
+}
@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.optaplanner.core.impl.domain.solution.cloner;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * The originals of a planning clone, their clones and the deep cloned originals they reference,
+ * as needed by the next incremental clone.
+ */
+final class SolutionCloneGraph {
+
+    final Map<Object, Object> originalToCloneMap;
+    /**
+     * Only contains the deep cloned originals that reference other deep cloned originals,
+     * excluding the solution itself.
+     */
+    final Map<Object, Object[]> referenceMap;
+
+    SolutionCloneGraph(int expectedSize) {
+        originalToCloneMap = new IdentityHashMap<>(expectedSize);
+        referenceMap = new IdentityHashMap<>();
+    }
+
+}
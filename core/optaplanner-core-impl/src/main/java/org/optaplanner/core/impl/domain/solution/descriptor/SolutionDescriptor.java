@@ -83,6 +83,7 @@ import org.optaplanner.core.impl.domain.variable.descriptor.ShadowVariableDescri
 import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
 import org.optaplanner.core.impl.score.definition.AbstractBendableScoreDefinition;
 import org.optaplanner.core.impl.score.definition.ScoreDefinition;
+import org.optaplanner.core.impl.util.IdentityOrdinalIndex;
 import org.optaplanner.core.impl.util.MutableInt;
 import org.optaplanner.core.impl.util.MutableLong;
 import org.optaplanner.core.impl.util.MutablePair;
@@ -173,6 +174,7 @@ public class SolutionDescriptor<Solution_> {
     private final ConcurrentMap<Class<?>, EntityDescriptor<Solution_>> lowestEntityDescriptorMap = new ConcurrentHashMap<>();
 
     private SolutionCloner<Solution_> solutionCloner;
+    private boolean customSolutionCloner = false;
     private boolean assertModelForCloning = false;
     private Comparator<Object> classAndPlanningIdComparator;
 
@@ -269,6 +271,7 @@ public class SolutionDescriptor<Solution_> {
         Class<? extends SolutionCloner> solutionClonerClass = solutionAnnotation.solutionCloner();
         if (solutionClonerClass != PlanningSolution.NullSolutionCloner.class) {
             solutionCloner = ConfigUtils.newInstance(this::toString, "solutionClonerClass", solutionClonerClass);
+            customSolutionCloner = true;
         }
         lookUpStrategyResolver =
                 new LookUpStrategyResolver(descriptorPolicy, solutionAnnotation.lookUpStrategyType());
@@ -682,6 +685,13 @@ public class SolutionDescriptor<Solution_> {
         return solutionCloner;
     }
 
+    /**
+     * @return true if the {@link SolutionCloner} is specified by {@link PlanningSolution#solutionCloner()}
+     */
+    public boolean isCustomSolutionCloner() {
+        return customSolutionCloner;
+    }
+
     public Comparator<Object> getClassAndPlanningIdComparator() {
         return classAndPlanningIdComparator;
     }
@@ -874,6 +884,20 @@ public class SolutionDescriptor<Solution_> {
         return facts;
     }
 
+    /**
+     * Assigns a dense ordinal to every entity, and then to every problem fact, of the solution.
+     * Because entities come first, their ordinals are lower than {@link #getEntityCount(Object)}.
+     *
+     * @param solution never null
+     * @return never null
+     */
+    public IdentityOrdinalIndex buildOrdinalIndex(Solution_ solution) {
+        IdentityOrdinalIndex ordinalIndex = new IdentityOrdinalIndex();
+        visitAllEntities(solution, ordinalIndex::add);
+        visitAllProblemFacts(solution, ordinalIndex::add);
+        return ordinalIndex;
+    }
+
     /**
      * @param solution never null
      * @return {@code >= 0}
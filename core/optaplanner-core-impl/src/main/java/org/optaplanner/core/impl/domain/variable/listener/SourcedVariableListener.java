@@ -19,6 +19,9 @@
 
 package org.optaplanner.core.impl.domain.variable.listener;
 
+import java.util.Collection;
+import java.util.Collections;
+
 import org.optaplanner.core.api.domain.variable.AbstractVariableListener;
 import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.supply.Supply;
@@ -30,4 +33,11 @@ public interface SourcedVariableListener<Solution_> extends AbstractVariableList
 
     VariableDescriptor<Solution_> getSourceVariableDescriptor();
 
+    /**
+     * @return never null, never empty, by default only {@link #getSourceVariableDescriptor()}
+     */
+    default Collection<VariableDescriptor<Solution_>> getSourceVariableDescriptors() {
+        return Collections.singletonList(getSourceVariableDescriptor());
+    }
+
 }
@@ -72,6 +72,18 @@ final class NotifiableRegistry<Solution_> {
         notifiableList.add(notifiable);
     }
 
+    void unregisterNotifiable(Collection<VariableDescriptor<Solution_>> sources, EntityNotifiable<Solution_> notifiable) {
+        for (VariableDescriptor<?> source : sources) {
+            if (source.isGenuineListVariable()) {
+                sourceListVariableToNotifiableMap.get(source).remove(notifiable);
+            } else {
+                sourceVariableToNotifiableMap.get(source).remove(notifiable);
+            }
+            sourceEntityToNotifiableMap.get(source.getEntityDescriptor()).remove(notifiable);
+        }
+        notifiableList.remove(notifiable);
+    }
+
     Iterable<Notifiable> getAll() {
         return notifiableList;
     }
@@ -57,6 +57,8 @@ public final class VariableListenerSupport<Solution_> implements SupplyManager {
     // If thread-safety is ever required, the two collections before need to be updated together.
     private final Map<Demand<?>, Supply> supplyMap = new LinkedHashMap<>();
     private final Map<Demand<?>, Long> demandCounterMap = new HashMap<>();
+    // The notifiables of the externalized supplies which are variable listeners, to unregister them on cancel
+    private final Map<Demand<?>, EntityNotifiable<Solution_>> supplyNotifiableMap = new HashMap<>();
 
     private boolean notificationQueuesAreEmpty = true;
     private int nextGlobalOrder = 0;
@@ -66,6 +68,10 @@ public final class VariableListenerSupport<Solution_> implements SupplyManager {
         this.notifiableRegistry = notifiableRegistry;
     }
 
+    NotifiableRegistry<Solution_> getNotifiableRegistry() {
+        return notifiableRegistry;
+    }
+
     public void linkVariableListeners() {
         scoreDirector.getSolutionDescriptor().getEntityDescriptors().stream()
                 .map(EntityDescriptor::getDeclaredShadowVariableDescriptors)
@@ -113,9 +119,10 @@ public final class VariableListenerSupport<Solution_> implements SupplyManager {
             if (scoreDirector.getWorkingSolution() != null) {
                 variableListener.resetWorkingSolution(scoreDirector);
             }
-            notifiableRegistry.registerNotifiable(
-                    variableListener.getSourceVariableDescriptor(),
-                    AbstractNotifiable.buildNotifiable(scoreDirector, variableListener, nextGlobalOrder++));
+            EntityNotifiable<Solution_> notifiable =
+                    AbstractNotifiable.buildNotifiable(scoreDirector, variableListener, nextGlobalOrder++);
+            notifiableRegistry.registerNotifiable(variableListener.getSourceVariableDescriptors(), notifiable);
+            supplyNotifiableMap.put(demand, notifiable);
         }
         return supply;
     }
@@ -126,7 +133,18 @@ public final class VariableListenerSupport<Solution_> implements SupplyManager {
         if (result != null) {
             return true;
         }
-        return supplyMap.remove(demand) != null;
+        Supply supply = supplyMap.remove(demand);
+        if (supply == null) {
+            return false;
+        }
+        EntityNotifiable<Solution_> notifiable = supplyNotifiableMap.remove(demand);
+        if (notifiable != null) {
+            // Otherwise the score director, which outlives a solve, keeps notifying the supply forever
+            notifiableRegistry.unregisterNotifiable(
+                    ((SourcedVariableListener<Solution_>) supply).getSourceVariableDescriptors(), notifiable);
+            notifiable.closeVariableListener();
+        }
+        return true;
     }
 
     @Override
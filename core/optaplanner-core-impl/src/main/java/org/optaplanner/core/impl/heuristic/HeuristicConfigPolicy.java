@@ -46,6 +46,7 @@ public class HeuristicConfigPolicy<Solution_> {
     private final String logIndentation;
     private final Integer moveThreadCount;
     private final Integer moveThreadBufferSize;
+    private final Integer moveThreadBatchSize;
     private final Class<? extends ThreadFactory> threadFactoryClass;
     private final InitializingScoreTrend initializingScoreTrend;
     private final SolutionDescriptor<Solution_> solutionDescriptor;
@@ -65,6 +66,7 @@ public class HeuristicConfigPolicy<Solution_> {
         this.logIndentation = builder.logIndentation;
         this.moveThreadCount = builder.moveThreadCount;
         this.moveThreadBufferSize = builder.moveThreadBufferSize;
+        this.moveThreadBatchSize = builder.moveThreadBatchSize;
         this.threadFactoryClass = builder.threadFactoryClass;
         this.initializingScoreTrend = builder.initializingScoreTrend;
         this.solutionDescriptor = builder.solutionDescriptor;
@@ -92,6 +94,10 @@ public class HeuristicConfigPolicy<Solution_> {
         return moveThreadBufferSize;
     }
 
+    public Integer getMoveThreadBatchSize() {
+        return moveThreadBatchSize;
+    }
+
     public InitializingScoreTrend getInitializingScoreTrend() {
         return initializingScoreTrend;
     }
@@ -134,7 +140,9 @@ public class HeuristicConfigPolicy<Solution_> {
 
     public Builder<Solution_> cloneBuilder() {
         return new Builder<>(environmentMode, moveThreadCount, moveThreadBufferSize, threadFactoryClass, initializingScoreTrend,
-                solutionDescriptor, classInstanceCache).withLogIndentation(logIndentation);
+                solutionDescriptor, classInstanceCache)
+                .withMoveThreadBatchSize(moveThreadBatchSize)
+                .withLogIndentation(logIndentation);
     }
 
     public HeuristicConfigPolicy<Solution_> createPhaseConfigPolicy() {
@@ -221,6 +229,7 @@ public class HeuristicConfigPolicy<Solution_> {
         private final SolutionDescriptor<Solution_> solutionDescriptor;
         private final ClassInstanceCache classInstanceCache;
 
+        private Integer moveThreadBatchSize = null;
         private String logIndentation = "";
 
         private EntitySorterManner entitySorterManner = EntitySorterManner.NONE;
@@ -242,6 +251,11 @@ public class HeuristicConfigPolicy<Solution_> {
             this.classInstanceCache = classInstanceCache;
         }
 
+        public Builder<Solution_> withMoveThreadBatchSize(Integer moveThreadBatchSize) {
+            this.moveThreadBatchSize = moveThreadBatchSize;
+            return this;
+        }
+
         public Builder<Solution_> withLogIndentation(String logIndentation) {
             this.logIndentation = logIndentation;
             return this;
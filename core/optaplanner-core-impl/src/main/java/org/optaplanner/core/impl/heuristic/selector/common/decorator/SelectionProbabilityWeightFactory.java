@@ -46,7 +46,8 @@ public interface SelectionProbabilityWeightFactory<Solution_, T> {
      *        which has the {@link ScoreDirector#getWorkingSolution()} to which the selection belongs or applies to
      * @param selection never null, a {@link PlanningEntity}, a planningValue, a {@link Move} or a {@link Selector}
      *        to create the probabilityWeight for
-     * @return {@code 0.0 <= returnValue <} {@link Double#POSITIVE_INFINITY}
+     * @return {@code 0.0 <= returnValue <} {@link Double#POSITIVE_INFINITY},
+     *         and at least 1 selection must have a returnValue higher than {@code 0.0}
      */
     double createProbabilityWeight(ScoreDirector<Solution_> scoreDirector, T selection);
 
@@ -19,7 +19,10 @@
 
 package org.optaplanner.core.impl.heuristic.selector.common.nearby;
 
+import java.util.Iterator;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
 
 import org.optaplanner.core.impl.domain.variable.supply.Demand;
 import org.optaplanner.core.impl.domain.variable.supply.SupplyManager;
@@ -62,6 +65,39 @@ public abstract class AbstractNearbyDistanceMatrixDemand<Origin_, Destination_,
 
     protected abstract NearbyDistanceMatrix<Origin_, Destination_> supplyNearbyDistanceMatrix();
 
+    /**
+     * Attaches a {@link NearbyDistanceMatrixCache} if the meter is a {@link CachedNearbyDistanceMeter}.
+     *
+     * @param originSize at least 0
+     * @param destinationIteratorProvider never null
+     * @param destinationSizeFunction never null
+     * @return never null
+     */
+    protected final NearbyDistanceMatrix<Origin_, Destination_> createNearbyDistanceMatrix(int originSize,
+            Function<Origin_, Iterator<Destination_>> destinationIteratorProvider,
+            ToIntFunction<Origin_> destinationSizeFunction) {
+        NearbyDistanceMatrix<Origin_, Destination_> nearbyDistanceMatrix =
+                new NearbyDistanceMatrix<>(meter, originSize, destinationIteratorProvider, destinationSizeFunction);
+        if (meter instanceof CachedNearbyDistanceMeter) {
+            nearbyDistanceMatrix.setCache(new NearbyDistanceMatrixCache<>(
+                    (CachedNearbyDistanceMeter<Origin_, Destination_>) meter, getCacheMatrixName(),
+                    nearbyDistanceMatrix));
+        }
+        return nearbyDistanceMatrix;
+    }
+
+    /**
+     * Nearby selectors with the same meter class but different origin or destination selectors
+     * must not share a cache file, otherwise they keep overwriting each other's rows.
+     * Selectors don't survive the JVM, so this fingerprints their {@link Object#toString()}, which reflects their tree.
+     *
+     * @return never null
+     */
+    final String getCacheMatrixName() {
+        return getClass().getSimpleName() + "-"
+                + NearbyDistanceMatrixCache.fingerprint("origin " + replayingSelector + ", destination " + childSelector);
+    }
+
     /**
      * Two instances of this class are considered equal if and only if:
      *
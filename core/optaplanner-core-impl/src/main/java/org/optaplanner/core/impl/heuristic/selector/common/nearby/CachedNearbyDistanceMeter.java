@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.optaplanner.core.impl.heuristic.selector.common.nearby;
+
+import java.nio.file.Path;
+
+/**
+ * Opt-in for a {@link NearbyDistanceMeter} to persist the nearby distance matrix in a local file,
+ * so the next solve of a similar problem only recalculates the rows of new or changed origins,
+ * and only measures the distances to new or changed destinations for the other rows.
+ * <p>
+ * A fingerprint must identify the origin or destination across solves
+ * and it must change whenever anything that affects its nearby distances changes.
+ * For example, combine the planning id and the location coordinates: {@code "42@50.8503,4.3517"}.
+ * <p>
+ * Implementations are expected to be stateless, just like any other {@link NearbyDistanceMeter}.
+ *
+ * @param <O>
+ * @param <D>
+ */
+public interface CachedNearbyDistanceMeter<O, D> extends NearbyDistanceMeter<O, D> {
+
+    /**
+     * @return never null, the directory in which the matrix cache files are stored, created if it doesn't exist
+     */
+    Path getCacheDirectory();
+
+    /**
+     * @param origin never null
+     * @return never null
+     */
+    String getOriginFingerprint(O origin);
+
+    /**
+     * @param destination never null
+     * @return never null
+     */
+    String getDestinationFingerprint(D destination);
+
+}
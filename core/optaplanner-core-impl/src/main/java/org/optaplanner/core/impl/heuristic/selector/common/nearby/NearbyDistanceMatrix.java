@@ -19,23 +19,53 @@
 
 package org.optaplanner.core.impl.heuristic.selector.common.nearby;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
 
 import org.optaplanner.core.impl.domain.variable.supply.Supply;
 
+/**
+ * For every origin, holds its destinations ordered by their {@link NearbyDistanceMeter nearby distance}.
+ * <p>
+ * Every distinct destination gets an ordinal and every origin only holds an {@code int[]} row of destination ordinals,
+ * bounded to the destination size that the {@link NearbyRandom} can select,
+ * which is selected with a bounded max-heap instead of a full sort.
+ * The rows of multiple origins are calculated in parallel if there are enough distances to measure,
+ * because the {@link NearbyDistanceMeter} is stateless.
+ * A {@link CachedNearbyDistanceMeter} also reuses the rows of a previous solve.
+ *
+ * @param <Origin> planning entities
+ * @param <Destination> planning entities XOR planning values
+ */
 public final class NearbyDistanceMatrix<Origin, Destination> implements Supply {
 
+    /**
+     * Below this number of distances per batch of origins, the parallelization overhead isn't worth it.
+     */
+    private static final long PARALLEL_DISTANCE_COUNT_THRESHOLD = 100_000L;
+    /**
+     * Limits the RAM memory used by the candidate destinations of origins that don't share them.
+     */
+    private static final int ORIGIN_BATCH_SIZE = 1024;
+
     private final NearbyDistanceMeter<Origin, Destination> nearbyDistanceMeter;
-    private final Map<Origin, Destination[]> originToDestinationsMap;
+    private final Map<Origin, int[]> originToDestinationOrdinalsMap;
+    // Identity based, because the exact destination instances need to be returned
+    private final Map<Destination, Integer> destinationToOrdinalMap = new IdentityHashMap<>();
+    private final List<Destination> destinationList = new ArrayList<>();
     private final Function<Origin, Iterator<Destination>> destinationIteratorProvider;
     private final ToIntFunction<Origin> destinationSizeFunction;
 
+    private NearbyDistanceMatrixCache<Origin, Destination> cache = null;
+
     NearbyDistanceMatrix(NearbyDistanceMeter<Origin, Destination> nearbyDistanceMeter, int originSize,
             List<Destination> destinationSelector, ToIntFunction<Origin> destinationSizeFunction) {
         this(nearbyDistanceMeter, originSize, origin -> destinationSelector.iterator(), destinationSizeFunction);
@@ -45,60 +75,231 @@ public final class NearbyDistanceMatrix<Origin, Destination> implements Supply {
             Function<Origin, Iterator<Destination>> destinationIteratorProvider,
             ToIntFunction<Origin> destinationSizeFunction) {
         this.nearbyDistanceMeter = nearbyDistanceMeter;
-        this.originToDestinationsMap = new HashMap<>(originSize, 1.0f);
+        this.originToDestinationOrdinalsMap = new HashMap<>(originSize, 1.0f);
         this.destinationIteratorProvider = destinationIteratorProvider;
         this.destinationSizeFunction = destinationSizeFunction;
     }
 
+    /**
+     * Opts in to reuse the rows of a previous solve, see {@link CachedNearbyDistanceMeter}.
+     *
+     * @param cache never null
+     */
+    void setCache(NearbyDistanceMatrixCache<Origin, Destination> cache) {
+        this.cache = cache;
+    }
+
+    List<Destination> getDestinationList() {
+        return destinationList;
+    }
+
     public void addAllDestinations(Origin origin) {
+        int[] candidateOrdinals = collectCandidateOrdinals(origin, null);
         int destinationSize = destinationSizeFunction.applyAsInt(origin);
-        Destination[] destinations = (Destination[]) new Object[destinationSize];
-        double[] distances = new double[destinationSize];
+        originToDestinationOrdinalsMap.put(origin,
+                selectNearestDestinationOrdinals(origin, candidateOrdinals, destinationSize, null));
+    }
+
+    /**
+     * Calculates the rows of all origins, in parallel if there are enough distances to measure.
+     * The origins and destinations are iterated on the calling thread,
+     * only the {@link NearbyDistanceMeter} is called from other threads.
+     *
+     * @param originIterator never null
+     */
+    public void addAllDestinations(Iterator<Origin> originIterator) {
+        List<Origin> originBatch = new ArrayList<>(ORIGIN_BATCH_SIZE);
+        while (originIterator.hasNext()) {
+            originBatch.add(originIterator.next());
+            if (originBatch.size() >= ORIGIN_BATCH_SIZE) {
+                addAllDestinations(originBatch);
+                originBatch.clear();
+            }
+        }
+        if (!originBatch.isEmpty()) {
+            addAllDestinations(originBatch);
+        }
+        if (cache != null) {
+            cache.save();
+        }
+    }
+
+    private void addAllDestinations(List<Origin> originBatch) {
+        int originCount = originBatch.size();
+        int[][] candidateOrdinalsArray = new int[originCount][];
+        int[] destinationSizes = new int[originCount];
+        long distanceCount = 0L;
+        int[] previousCandidateOrdinals = null;
+        for (int i = 0; i < originCount; i++) {
+            Origin origin = originBatch.get(i);
+            // Origins usually share the same destinations, so share the same candidate array to spare RAM memory
+            previousCandidateOrdinals = collectCandidateOrdinals(origin, previousCandidateOrdinals);
+            candidateOrdinalsArray[i] = previousCandidateOrdinals;
+            destinationSizes[i] = destinationSizeFunction.applyAsInt(origin);
+            distanceCount += previousCandidateOrdinals.length;
+        }
+        int[][] rows = new int[originCount][];
+        IntStream originIndexStream = IntStream.range(0, originCount);
+        if (distanceCount >= PARALLEL_DISTANCE_COUNT_THRESHOLD) {
+            originIndexStream = originIndexStream.parallel();
+        }
+        if (cache == null) {
+            originIndexStream.forEach(i -> rows[i] = selectNearestDestinationOrdinals(originBatch.get(i),
+                    candidateOrdinalsArray[i], destinationSizes[i], null));
+        } else {
+            originIndexStream.forEach(i -> rows[i] = cache.computeDestinationOrdinals(originBatch.get(i),
+                    candidateOrdinalsArray[i], destinationSizes[i]));
+            cache.endBatch();
+        }
+        for (int i = 0; i < originCount; i++) {
+            originToDestinationOrdinalsMap.put(originBatch.get(i), rows[i]);
+        }
+    }
+
+    private int[] collectCandidateOrdinals(Origin origin, int[] previousCandidateOrdinals) {
         Iterator<Destination> destinationIterator = destinationIteratorProvider.apply(origin);
+        int[] candidateOrdinals = previousCandidateOrdinals == null ? new int[16]
+                : new int[previousCandidateOrdinals.length];
         int size = 0;
-        double highestDistance = Double.MAX_VALUE;
         while (destinationIterator.hasNext()) {
             Destination destination = destinationIterator.next();
-            double distance = nearbyDistanceMeter.getNearbyDistance(origin, destination);
-            if (distance < highestDistance || size < destinationSize) {
-                int insertIndex = Arrays.binarySearch(distances, 0, size, distance);
-                if (insertIndex < 0) {
-                    insertIndex = -insertIndex - 1;
-                } else {
-                    while (insertIndex < size && distances[insertIndex] == distance) {
-                        insertIndex++;
-                    }
-                }
-                if (size < destinationSize) {
-                    size++;
-                }
-                System.arraycopy(destinations, insertIndex, destinations, insertIndex + 1,
-                        size - insertIndex - 1);
-                System.arraycopy(distances, insertIndex, distances, insertIndex + 1,
-                        size - insertIndex - 1);
-                destinations[insertIndex] = destination;
-                distances[insertIndex] = distance;
-                highestDistance = distances[size - 1];
+            Integer ordinal = destinationToOrdinalMap.get(destination);
+            if (ordinal == null) {
+                ordinal = destinationList.size();
+                destinationToOrdinalMap.put(destination, ordinal);
+                destinationList.add(destination);
+            }
+            if (size == candidateOrdinals.length) {
+                candidateOrdinals = Arrays.copyOf(candidateOrdinals, Math.max(16, size * 2));
             }
+            candidateOrdinals[size++] = ordinal;
+        }
+        if (previousCandidateOrdinals != null && size == previousCandidateOrdinals.length
+                && Arrays.equals(previousCandidateOrdinals, 0, size, candidateOrdinals, 0, size)) {
+            return previousCandidateOrdinals;
         }
-        if (size != destinationSize) {
-            throw new IllegalStateException("The destinationIterator's size (" + size
+        return size == candidateOrdinals.length ? candidateOrdinals : Arrays.copyOf(candidateOrdinals, size);
+    }
+
+    /**
+     * This method is thread-safe, as it only reads the destinations.
+     *
+     * @param rowDistances null or an array of at least destinationSize to receive the distances of the returned row
+     */
+    int[] selectNearestDestinationOrdinals(Origin origin, int[] candidateOrdinals, int destinationSize,
+            double[] rowDistances) {
+        int candidateSize = candidateOrdinals.length;
+        if (candidateSize < destinationSize) {
+            throw new IllegalStateException("The destinationIterator's size (" + candidateSize
                     + ") differs from the expected destinationSize (" + destinationSize + ").");
         }
-        originToDestinationsMap.put(origin, destinations);
+        double[] distances = new double[candidateSize];
+        for (int candidateIndex = 0; candidateIndex < candidateSize; candidateIndex++) {
+            distances[candidateIndex] = nearbyDistanceMeter.getNearbyDistance(origin,
+                    destinationList.get(candidateOrdinals[candidateIndex]));
+        }
+        int[] nearestIndexes = selectNearestIndexes(distances, null, candidateSize, destinationSize);
+        int[] destinationOrdinals = new int[destinationSize];
+        for (int i = 0; i < destinationSize; i++) {
+            destinationOrdinals[i] = candidateOrdinals[nearestIndexes[i]];
+            if (rowDistances != null) {
+                rowDistances[i] = distances[nearestIndexes[i]];
+            }
+        }
+        return destinationOrdinals;
+    }
+
+    /**
+     * Selects the nearest items with a bounded max-heap, in {@code O(size log(destinationSize))}.
+     *
+     * @param distances never null, the distance per item
+     * @param tieBreakers null if ties are resolved by the item index,
+     *        otherwise resolves ties between items with the same distance, lowest first
+     * @param size the number of items
+     * @param destinationSize {@code 0 <= destinationSize <= size}
+     * @return never null, the indexes of the destinationSize nearest items, nearest first
+     */
+    static int[] selectNearestIndexes(double[] distances, int[] tieBreakers, int size, int destinationSize) {
+        // Max-heap of item indexes, with the farthest item on top
+        int[] heap = new int[destinationSize];
+        int heapSize = 0;
+        for (int index = 0; index < size; index++) {
+            if (heapSize < destinationSize) {
+                heap[heapSize] = index;
+                siftUp(heap, heapSize, distances, tieBreakers);
+                heapSize++;
+            } else if (destinationSize > 0 && isFarther(distances, tieBreakers, heap[0], index)) {
+                heap[0] = index;
+                siftDown(heap, heapSize, distances, tieBreakers);
+            }
+        }
+        // Heap sort: repeatedly move the farthest item to the end
+        int[] nearestIndexes = new int[heapSize];
+        for (int i = heapSize - 1; i >= 0; i--) {
+            nearestIndexes[i] = heap[0];
+            heap[0] = heap[i];
+            siftDown(heap, i, distances, tieBreakers);
+        }
+        return nearestIndexes;
+    }
+
+    private static boolean isFarther(double[] distances, int[] tieBreakers, int index, int otherIndex) {
+        double distance = distances[index];
+        double otherDistance = distances[otherIndex];
+        if (distance != otherDistance) {
+            return distance > otherDistance;
+        }
+        return tieBreakers == null ? index > otherIndex : tieBreakers[index] > tieBreakers[otherIndex];
+    }
+
+    private static void siftUp(int[] heap, int heapIndex, double[] distances, int[] tieBreakers) {
+        int index = heap[heapIndex];
+        while (heapIndex > 0) {
+            int parentHeapIndex = (heapIndex - 1) >>> 1;
+            if (!isFarther(distances, tieBreakers, index, heap[parentHeapIndex])) {
+                break;
+            }
+            heap[heapIndex] = heap[parentHeapIndex];
+            heapIndex = parentHeapIndex;
+        }
+        heap[heapIndex] = index;
+    }
+
+    private static void siftDown(int[] heap, int heapSize, double[] distances, int[] tieBreakers) {
+        if (heapSize == 0) {
+            return;
+        }
+        int heapIndex = 0;
+        int index = heap[0];
+        while (true) {
+            int childHeapIndex = 2 * heapIndex + 1;
+            if (childHeapIndex >= heapSize) {
+                break;
+            }
+            if (childHeapIndex + 1 < heapSize
+                    && isFarther(distances, tieBreakers, heap[childHeapIndex + 1], heap[childHeapIndex])) {
+                childHeapIndex++;
+            }
+            if (!isFarther(distances, tieBreakers, heap[childHeapIndex], index)) {
+                break;
+            }
+            heap[heapIndex] = heap[childHeapIndex];
+            heapIndex = childHeapIndex;
+        }
+        heap[heapIndex] = index;
     }
 
     public Object getDestination(Origin origin, int nearbyIndex) {
-        Destination[] destinations = originToDestinationsMap.get(origin);
-        if (destinations == null) {
+        int[] destinationOrdinals = originToDestinationOrdinalsMap.get(origin);
+        if (destinationOrdinals == null) {
             /*
              * The item may be missing in the distance matrix due to an underlying filtering selector.
              * In such a case, the distance matrix needs to be updated.
              */
             addAllDestinations(origin);
-            destinations = originToDestinationsMap.get(origin);
+            destinationOrdinals = originToDestinationOrdinalsMap.get(origin);
         }
-        return destinations[nearbyIndex];
+        return destinationList.get(destinationOrdinals[nearbyIndex]);
     }
 
 }
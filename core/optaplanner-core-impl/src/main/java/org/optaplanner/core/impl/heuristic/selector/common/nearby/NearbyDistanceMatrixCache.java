@@ -0,0 +1,383 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.optaplanner.core.impl.heuristic.selector.common.nearby;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persists the rows of a {@link NearbyDistanceMatrix} in a local file, keyed by the fingerprints of a
+ * {@link CachedNearbyDistanceMeter}, and reuses them in the next solve:
+ * <ul>
+ * <li>If the origin and all of its destinations are unchanged, the row is reused as is.</li>
+ * <li>If the origin is unchanged and the row was calculated over all destinations,
+ * only the distances to the new or changed destinations are measured and merged into the row,
+ * unless a destination that wasn't kept in the row could end up in it.</li>
+ * <li>Otherwise the row is recalculated.</li>
+ * </ul>
+ * A missing, stale or corrupt file is ignored.
+ *
+ * @param <Origin> planning entities
+ * @param <Destination> planning entities XOR planning values
+ */
+final class NearbyDistanceMatrixCache<Origin, Destination> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(NearbyDistanceMatrixCache.class);
+
+    private static final int MAGIC_NUMBER = 0x4E424D43;
+    private static final int FORMAT_VERSION = 1;
+    private static final long FNV_OFFSET_BASIS = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+
+    private final CachedNearbyDistanceMeter<Origin, Destination> meter;
+    private final NearbyDistanceMatrix<Origin, Destination> nearbyDistanceMatrix;
+    private final Path cacheFile;
+
+    private String[] loadedDestinationFingerprints = new String[0];
+    private Map<String, Integer> loadedDestinationIndexMap = Collections.emptyMap();
+    private Map<String, CachedRow> loadedRowMap = Collections.emptyMap();
+
+    private final Map<String, CachedRow> rowMap = new ConcurrentHashMap<>();
+    // Identity based keys: origins with the same destinations share the same candidate array
+    private final Map<int[], CandidateInfo> candidateInfoMap = new ConcurrentHashMap<>();
+    private final LongAdder reusedRowCount = new LongAdder();
+    private final LongAdder mergedRowCount = new LongAdder();
+    private final LongAdder recalculatedRowCount = new LongAdder();
+
+    NearbyDistanceMatrixCache(CachedNearbyDistanceMeter<Origin, Destination> meter, String matrixName,
+            NearbyDistanceMatrix<Origin, Destination> nearbyDistanceMatrix) {
+        this.meter = meter;
+        this.nearbyDistanceMatrix = nearbyDistanceMatrix;
+        Path cacheDirectory = meter.getCacheDirectory();
+        if (cacheDirectory == null) {
+            throw new IllegalStateException("The nearbyDistanceMeter (" + meter
+                    + ") returns a null cacheDirectory.");
+        }
+        this.cacheFile = cacheDirectory.resolve(meter.getClass().getName() + "-" + matrixName + ".nearby");
+        load();
+    }
+
+    /**
+     * Stable across JVM runs, unlike {@link Object#hashCode()}.
+     *
+     * @param text never null
+     * @return never null, a 64-bit FNV-1a hash in hexadecimal
+     */
+    static String fingerprint(String text) {
+        return Long.toHexString(hash(FNV_OFFSET_BASIS, text));
+    }
+
+    private static long hash(long hash, String text) {
+        // 64-bit FNV-1a, with a terminator so the concatenation of several texts is unambiguous
+        for (int i = 0; i < text.length(); i++) {
+            hash = (hash ^ text.charAt(i)) * FNV_PRIME;
+        }
+        return (hash ^ 0xFFFFL) * FNV_PRIME;
+    }
+
+    // ************************************************************************
+    // Row calculation
+    // ************************************************************************
+
+    /**
+     * This method is thread-safe.
+     *
+     * @param origin never null
+     * @param candidateOrdinals never null, shared by origins with the same destinations
+     * @param destinationSize at least 0
+     * @return never null
+     */
+    int[] computeDestinationOrdinals(Origin origin, int[] candidateOrdinals, int destinationSize) {
+        String originFingerprint = meter.getOriginFingerprint(origin);
+        CandidateInfo candidateInfo = candidateInfoMap.computeIfAbsent(candidateOrdinals, CandidateInfo::new);
+        CachedRow loadedRow = loadedRowMap.get(originFingerprint);
+        CachedRow row = null;
+        if (loadedRow != null) {
+            if (loadedRow.candidateHash == candidateInfo.hash && loadedRow.candidateCount == candidateOrdinals.length
+                    && loadedRow.destinationIndexes.length >= destinationSize) {
+                row = reuseRow(loadedRow, candidateInfo, destinationSize);
+                if (row != null) {
+                    reusedRowCount.increment();
+                }
+            } else if (loadedRow.allDestinations) {
+                row = mergeRow(origin, loadedRow, candidateInfo, destinationSize);
+                if (row != null) {
+                    mergedRowCount.increment();
+                }
+            }
+        }
+        if (row == null) {
+            double[] distances = new double[destinationSize];
+            int[] destinationOrdinals = nearbyDistanceMatrix.selectNearestDestinationOrdinals(origin, candidateOrdinals,
+                    destinationSize, distances);
+            row = new CachedRow(candidateInfo.hash, candidateOrdinals.length, candidateInfo.inDestinationOrder,
+                    destinationOrdinals, distances);
+            recalculatedRowCount.increment();
+        }
+        rowMap.put(originFingerprint, row);
+        return row.destinationIndexes;
+    }
+
+    private CachedRow reuseRow(CachedRow loadedRow, CandidateInfo candidateInfo, int destinationSize) {
+        int[] destinationOrdinals = new int[destinationSize];
+        double[] distances = new double[destinationSize];
+        for (int i = 0; i < destinationSize; i++) {
+            Integer position = candidateInfo.positionMap.get(
+                    loadedDestinationFingerprints[loadedRow.destinationIndexes[i]]);
+            if (position == null) {
+                // Fingerprint hash collision
+                return null;
+            }
+            destinationOrdinals[i] = candidateInfo.candidateOrdinals[position];
+            distances[i] = loadedRow.distances[i];
+        }
+        return new CachedRow(candidateInfo.hash, candidateInfo.candidateOrdinals.length,
+                candidateInfo.inDestinationOrder, destinationOrdinals, distances);
+    }
+
+    private CachedRow mergeRow(Origin origin, CachedRow loadedRow, CandidateInfo candidateInfo, int destinationSize) {
+        int loadedSize = loadedRow.destinationIndexes.length;
+        int[] newPositions = candidateInfo.newPositions;
+        int[] positions = new int[loadedSize + newPositions.length];
+        double[] distances = new double[loadedSize + newPositions.length];
+        int size = 0;
+        for (int i = 0; i < loadedSize; i++) {
+            Integer position = candidateInfo.positionMap.get(
+                    loadedDestinationFingerprints[loadedRow.destinationIndexes[i]]);
+            if (position != null) { // Otherwise the destination was removed or changed
+                positions[size] = position;
+                distances[size] = loadedRow.distances[i];
+                size++;
+            }
+        }
+        List<Destination> destinationList = nearbyDistanceMatrix.getDestinationList();
+        for (int position : newPositions) {
+            positions[size] = position;
+            distances[size] = meter.getNearbyDistance(origin,
+                    destinationList.get(candidateInfo.candidateOrdinals[position]));
+            size++;
+        }
+        if (size < destinationSize) {
+            return null;
+        }
+        int[] nearestIndexes = NearbyDistanceMatrix.selectNearestIndexes(distances, positions, size, destinationSize);
+        if (destinationSize > 0 && loadedSize < loadedRow.candidateCount
+                && (loadedSize == 0
+                        || distances[nearestIndexes[destinationSize - 1]] >= loadedRow.distances[loadedSize - 1])) {
+            // A destination that wasn't kept in the loaded row could be nearer than the farthest merged one
+            return null;
+        }
+        int[] destinationOrdinals = new int[destinationSize];
+        double[] rowDistances = new double[destinationSize];
+        for (int i = 0; i < destinationSize; i++) {
+            destinationOrdinals[i] = candidateInfo.candidateOrdinals[positions[nearestIndexes[i]]];
+            rowDistances[i] = distances[nearestIndexes[i]];
+        }
+        return new CachedRow(candidateInfo.hash, candidateInfo.candidateOrdinals.length,
+                candidateInfo.inDestinationOrder, destinationOrdinals, rowDistances);
+    }
+
+    /**
+     * Not thread-safe. Releases the candidate information of the last batch of origins.
+     */
+    void endBatch() {
+        candidateInfoMap.clear();
+    }
+
+    // ************************************************************************
+    // Persistence
+    // ************************************************************************
+
+    private void load() {
+        if (!Files.exists(cacheFile)) {
+            LOGGER.debug("Nearby distance matrix cache file ({}) does not exist yet.", cacheFile);
+            return;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(cacheFile)))) {
+            if (in.readInt() != MAGIC_NUMBER || in.readInt() != FORMAT_VERSION) {
+                LOGGER.warn("Ignoring nearby distance matrix cache file ({}) with an unsupported format.", cacheFile);
+                return;
+            }
+            int destinationCount = in.readInt();
+            String[] destinationFingerprints = new String[destinationCount];
+            Map<String, Integer> destinationIndexMap = new HashMap<>(destinationCount);
+            for (int i = 0; i < destinationCount; i++) {
+                destinationFingerprints[i] = in.readUTF();
+                destinationIndexMap.put(destinationFingerprints[i], i);
+            }
+            int rowCount = in.readInt();
+            Map<String, CachedRow> rowMap = new HashMap<>(rowCount);
+            for (int i = 0; i < rowCount; i++) {
+                String originFingerprint = in.readUTF();
+                long candidateHash = in.readLong();
+                int candidateCount = in.readInt();
+                boolean allDestinations = in.readBoolean();
+                int rowSize = in.readInt();
+                int[] destinationIndexes = new int[rowSize];
+                double[] distances = new double[rowSize];
+                for (int j = 0; j < rowSize; j++) {
+                    destinationIndexes[j] = in.readInt();
+                    if (destinationIndexes[j] < 0 || destinationIndexes[j] >= destinationCount) {
+                        throw new IOException("The destinationIndex (" + destinationIndexes[j]
+                                + ") is out of bounds.");
+                    }
+                    distances[j] = in.readDouble();
+                }
+                rowMap.put(originFingerprint,
+                        new CachedRow(candidateHash, candidateCount, allDestinations, destinationIndexes, distances));
+            }
+            loadedDestinationFingerprints = destinationFingerprints;
+            loadedDestinationIndexMap = destinationIndexMap;
+            loadedRowMap = rowMap;
+            LOGGER.debug("Loaded nearby distance matrix cache file ({}) with ({}) rows.", cacheFile, rowCount);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Ignoring corrupt nearby distance matrix cache file ({}).", cacheFile, e);
+        }
+    }
+
+    /**
+     * Not thread-safe. Writes every row calculated or reused since this cache was created.
+     */
+    void save() {
+        LOGGER.debug("Nearby distance matrix cache file ({}): reused ({}), merged ({}) and recalculated ({}) rows.",
+                cacheFile, reusedRowCount.sum(), mergedRowCount.sum(), recalculatedRowCount.sum());
+        List<Destination> destinationList = nearbyDistanceMatrix.getDestinationList();
+        int destinationCount = destinationList.size();
+        Path temporaryFile = null;
+        try {
+            Files.createDirectories(cacheFile.getParent());
+            temporaryFile = Files.createTempFile(cacheFile.getParent(), cacheFile.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+                out.writeInt(MAGIC_NUMBER);
+                out.writeInt(FORMAT_VERSION);
+                out.writeInt(destinationCount);
+                for (Destination destination : destinationList) {
+                    out.writeUTF(meter.getDestinationFingerprint(destination));
+                }
+                out.writeInt(rowMap.size());
+                for (Map.Entry<String, CachedRow> entry : rowMap.entrySet()) {
+                    CachedRow row = entry.getValue();
+                    out.writeUTF(entry.getKey());
+                    out.writeLong(row.candidateHash);
+                    out.writeInt(row.candidateCount);
+                    // The row's destination ordinals are the indexes in the destination list
+                    out.writeBoolean(row.allDestinations && row.candidateCount == destinationCount);
+                    out.writeInt(row.destinationIndexes.length);
+                    for (int i = 0; i < row.destinationIndexes.length; i++) {
+                        out.writeInt(row.destinationIndexes[i]);
+                        out.writeDouble(row.distances[i]);
+                    }
+                }
+            }
+            try {
+                Files.move(temporaryFile, cacheFile, StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaryFile, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Failed writing nearby distance matrix cache file ({}).", cacheFile, e);
+            if (temporaryFile != null) {
+                try {
+                    Files.deleteIfExists(temporaryFile);
+                } catch (IOException deleteException) {
+                    e.addSuppressed(deleteException);
+                }
+            }
+        }
+        // Free the RAM memory, the matrix itself holds the rows from now on
+        rowMap.clear();
+        loadedRowMap = Collections.emptyMap();
+    }
+
+    private final class CandidateInfo {
+
+        private final int[] candidateOrdinals;
+        private final long hash;
+        // True if every candidate's ordinal equals its position
+        private final boolean inDestinationOrder;
+        private final Map<String, Integer> positionMap;
+        // The positions of the candidates that are new or changed since the cache file was written
+        private final int[] newPositions;
+
+        private CandidateInfo(int[] candidateOrdinals) {
+            this.candidateOrdinals = candidateOrdinals;
+            List<Destination> destinationList = nearbyDistanceMatrix.getDestinationList();
+            int candidateCount = candidateOrdinals.length;
+            positionMap = new HashMap<>(candidateCount);
+            int[] newPositions = new int[candidateCount];
+            int newCount = 0;
+            // Over the fingerprints in iteration order, because ties are resolved by that order
+            long hash = FNV_OFFSET_BASIS;
+            boolean inDestinationOrder = true;
+            for (int position = 0; position < candidateCount; position++) {
+                String fingerprint = meter.getDestinationFingerprint(destinationList.get(candidateOrdinals[position]));
+                hash = hash(hash, fingerprint);
+                positionMap.put(fingerprint, position);
+                if (!loadedDestinationIndexMap.containsKey(fingerprint)) {
+                    newPositions[newCount++] = position;
+                }
+                inDestinationOrder &= candidateOrdinals[position] == position;
+            }
+            this.hash = hash;
+            this.inDestinationOrder = inDestinationOrder;
+            this.newPositions = newCount == candidateCount ? newPositions : Arrays.copyOf(newPositions, newCount);
+        }
+
+    }
+
+    private static final class CachedRow {
+
+        private final long candidateHash;
+        private final int candidateCount;
+        // True if the row was calculated over all destinations, in destination order
+        private final boolean allDestinations;
+        private final int[] destinationIndexes;
+        private final double[] distances;
+
+        private CachedRow(long candidateHash, int candidateCount, boolean allDestinations, int[] destinationIndexes,
+                double[] distances) {
+            this.candidateHash = candidateHash;
+            this.candidateCount = candidateCount;
+            this.allDestinations = allDestinations;
+            this.destinationIndexes = destinationIndexes;
+            this.distances = distances;
+        }
+
+    }
+
+}
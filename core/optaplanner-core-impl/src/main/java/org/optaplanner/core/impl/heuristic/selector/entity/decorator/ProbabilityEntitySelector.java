@@ -21,10 +21,7 @@ package org.optaplanner.core.impl.heuristic.selector.entity.decorator;
 
 import java.util.Iterator;
 import java.util.ListIterator;
-import java.util.Map;
-import java.util.NavigableMap;
 import java.util.Objects;
-import java.util.TreeMap;
 
 import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
@@ -34,7 +31,7 @@ import org.optaplanner.core.impl.heuristic.selector.common.SelectionCacheLifecyc
 import org.optaplanner.core.impl.heuristic.selector.common.SelectionCacheLifecycleListener;
 import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionProbabilityWeightFactory;
 import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
-import org.optaplanner.core.impl.solver.random.RandomUtils;
+import org.optaplanner.core.impl.solver.random.AliasTable;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 
 public final class ProbabilityEntitySelector<Solution_>
@@ -45,8 +42,7 @@ public final class ProbabilityEntitySelector<Solution_>
     private final SelectionCacheType cacheType;
     private final SelectionProbabilityWeightFactory<Solution_, Object> probabilityWeightFactory;
 
-    private NavigableMap<Double, Object> cachedEntityMap = null;
-    private double probabilityWeightTotal = -1.0;
+    private final AliasTable<Object> cachedAliasTable = new AliasTable<>();
 
     public ProbabilityEntitySelector(EntitySelector<Solution_> childEntitySelector, SelectionCacheType cacheType,
             SelectionProbabilityWeightFactory<Solution_, Object> probabilityWeightFactory) {
@@ -77,21 +73,15 @@ public final class ProbabilityEntitySelector<Solution_>
 
     @Override
     public void constructCache(SolverScope<Solution_> solverScope) {
-        cachedEntityMap = new TreeMap<>();
         ScoreDirector<Solution_> scoreDirector = solverScope.getScoreDirector();
-        double probabilityWeightOffset = 0L;
-        for (Object entity : childEntitySelector) {
-            double probabilityWeight = probabilityWeightFactory.createProbabilityWeight(
-                    scoreDirector, entity);
-            cachedEntityMap.put(probabilityWeightOffset, entity);
-            probabilityWeightOffset += probabilityWeight;
-        }
-        probabilityWeightTotal = probabilityWeightOffset;
+        // If the probabilityWeights didn't change since the previous cache, the aliasTable is reused as is
+        cachedAliasTable.update(childEntitySelector,
+                entity -> probabilityWeightFactory.createProbabilityWeight(scoreDirector, entity));
     }
 
     @Override
     public void disposeCache(SolverScope<Solution_> solverScope) {
-        probabilityWeightTotal = -1.0;
+        // Keep the cachedAliasTable, to compare it with the next cache
     }
 
     @Override
@@ -111,7 +101,7 @@ public final class ProbabilityEntitySelector<Solution_>
 
     @Override
     public long getSize() {
-        return cachedEntityMap.size();
+        return cachedAliasTable.getSize();
     }
 
     @Override
@@ -124,10 +114,7 @@ public final class ProbabilityEntitySelector<Solution_>
 
             @Override
             public Object next() {
-                double randomOffset = RandomUtils.nextDouble(workingRandom, probabilityWeightTotal);
-                Map.Entry<Double, Object> entry = cachedEntityMap.floorEntry(randomOffset);
-                // entry is never null because randomOffset < probabilityWeightTotal
-                return entry.getValue();
+                return cachedAliasTable.sample(workingRandom);
             }
 
             @Override
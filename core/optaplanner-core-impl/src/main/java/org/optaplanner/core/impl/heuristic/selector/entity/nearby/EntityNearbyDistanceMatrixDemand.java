@@ -76,10 +76,9 @@ final class EntityNearbyDistanceMatrixDemand<Solution_, Origin_, Destination_>
         Function<Origin_, Iterator<Destination_>> destinationIteratorProvider =
                 origin -> (Iterator<Destination_>) childSelector.endingIterator();
         NearbyDistanceMatrix<Origin_, Destination_> nearbyDistanceMatrix =
-                new NearbyDistanceMatrix<>(meter, (int) originSize, destinationIteratorProvider, destinationSizeFunction);
+                createNearbyDistanceMatrix((int) originSize, destinationIteratorProvider, destinationSizeFunction);
         // Origins: entities extracted from an entity selector.
-        replayingSelector.endingIterator()
-                .forEachRemaining(origin -> nearbyDistanceMatrix.addAllDestinations((Origin_) origin));
+        nearbyDistanceMatrix.addAllDestinations((Iterator<Origin_>) replayingSelector.endingIterator());
         return nearbyDistanceMatrix;
     }
 
@@ -38,6 +38,8 @@ import org.optaplanner.core.impl.heuristic.selector.common.iterator.CachedListRa
 import org.optaplanner.core.impl.heuristic.selector.common.iterator.UpcomingSelectionIterator;
 import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
 import org.optaplanner.core.impl.heuristic.selector.move.generic.PillarDemand;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.PillarSupply;
+import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 
 /**
@@ -53,15 +55,31 @@ public final class DefaultPillarSelector<Solution_> extends AbstractSelector<Sol
     private final SubPillarConfigPolicy subpillarConfigPolicy;
     private final PillarDemand<Solution_> pillarDemand;
 
+    private PillarSupply<Solution_> pillarSupply = null;
     private List<List<Object>> cachedBasePillarList = null;
 
     public DefaultPillarSelector(EntitySelector<Solution_> entitySelector,
             List<GenuineVariableDescriptor<Solution_>> variableDescriptors, boolean randomSelection,
             SubPillarConfigPolicy subpillarConfigPolicy) {
+        this(entitySelector, variableDescriptors, randomSelection, subpillarConfigPolicy, true);
+    }
+
+    /**
+     * @param entitySelector never null
+     * @param variableDescriptors never null
+     * @param randomSelection true if the pillars are selected randomly
+     * @param subpillarConfigPolicy never null
+     * @param entitySelectionChangeable false if the entitySelector selects the same entities during the whole phase,
+     *        so the pillars don't need to check every step whether the entity selection changed
+     */
+    public DefaultPillarSelector(EntitySelector<Solution_> entitySelector,
+            List<GenuineVariableDescriptor<Solution_>> variableDescriptors, boolean randomSelection,
+            SubPillarConfigPolicy subpillarConfigPolicy, boolean entitySelectionChangeable) {
         this.entitySelector = entitySelector;
         this.randomSelection = randomSelection;
         this.subpillarConfigPolicy = subpillarConfigPolicy;
-        this.pillarDemand = new PillarDemand<>(entitySelector, variableDescriptors, subpillarConfigPolicy);
+        this.pillarDemand = new PillarDemand<>(entitySelector, variableDescriptors, subpillarConfigPolicy,
+                entitySelectionChangeable);
         Class<?> entityClass = entitySelector.getEntityDescriptor().getEntityClass();
         for (GenuineVariableDescriptor<Solution_> variableDescriptor : variableDescriptors) {
             if (!entityClass.equals(
@@ -112,24 +130,43 @@ public final class DefaultPillarSelector<Solution_> extends AbstractSelector<Sol
     }
 
     @Override
-    public void constructCache(SolverScope<Solution_> solverScope) {
+    public void solvingStarted(SolverScope<Solution_> solverScope) {
+        super.solvingStarted(solverScope);
         /*
          * The first pillar selector creates the supply.
          * Other matching pillar selectors, if there are any, reuse the supply.
+         * The supply keeps the pillars up to date between steps, instead of grouping them again every step.
          */
-        cachedBasePillarList = solverScope.getScoreDirector().getSupplyManager()
-                .demand(pillarDemand)
-                .read();
+        pillarSupply = solverScope.getScoreDirector().getSupplyManager()
+                .demand(pillarDemand);
     }
 
     @Override
-    public void disposeCache(SolverScope<Solution_> solverScope) {
+    public void phaseStarted(AbstractPhaseScope<Solution_> phaseScope) {
+        super.phaseStarted(phaseScope);
+        // The entitySelector might select other entities in this phase
+        pillarSupply.resetPillars();
+    }
+
+    @Override
+    public void solvingEnded(SolverScope<Solution_> solverScope) {
+        super.solvingEnded(solverScope);
         /*
          * Cancel the demand of each pillar selector.
          * The final pillar selector's demand cancellation will cause the supply to be removed entirely.
          */
         solverScope.getScoreDirector().getSupplyManager()
                 .cancel(pillarDemand);
+        pillarSupply = null;
+    }
+
+    @Override
+    public void constructCache(SolverScope<Solution_> solverScope) {
+        cachedBasePillarList = pillarSupply.read();
+    }
+
+    @Override
+    public void disposeCache(SolverScope<Solution_> solverScope) {
         cachedBasePillarList = null;
     }
 
@@ -94,8 +94,14 @@ public class PillarSelectorFactory<Solution_>
                         config.getMinimumSubPillarSize(), config.getMaximumSubPillarSize(),
                         configPolicy.getClassInstanceCache())
                 : SubPillarConfigPolicy.withoutSubpillars();
+        // Only a filter can change the entity selection between steps, unless its result is cached for the phase.
+        // A mimic replaying entitySelector doesn't expose the filters of its recorder, so assume it can change.
+        boolean entitySelectionChangeable = entitySelectorConfig.getMimicSelectorRef() != null
+                || (entitySelector.getCacheType().compareTo(SelectionCacheType.PHASE) < 0
+                        && (entitySelectorConfig.getFilterClass() != null
+                                || entitySelector.getEntityDescriptor().hasEffectiveMovableEntitySelectionFilter()));
         return new DefaultPillarSelector<>(entitySelector, variableDescriptors,
-                inheritedSelectionOrder.toRandomSelectionBoolean(), subPillarPolicy);
+                inheritedSelectionOrder.toRandomSelectionBoolean(), subPillarPolicy, entitySelectionChangeable);
     }
 
     private SubPillarConfigPolicy configureSubPillars(SubPillarType pillarType,
@@ -83,12 +83,11 @@ final class ListNearbyDistanceMatrixDemand<Solution_, Origin_, Destination_>
         Function<Origin_, Iterator<Destination_>> destinationIteratorProvider =
                 origin -> (Iterator<Destination_>) childSelector.endingIterator();
         NearbyDistanceMatrix<Origin_, Destination_> nearbyDistanceMatrix =
-                new NearbyDistanceMatrix<>(meter, (int) originSize, destinationIteratorProvider, destinationSizeFunction);
+                createNearbyDistanceMatrix((int) originSize, destinationIteratorProvider, destinationSizeFunction);
         // Origins: values extracted from a value selector.
         // Replaying selector's ending iterator uses the recording selector's ending iterator. Since list variables
         // use entity independent value selectors, we can pass null here.
-        replayingSelector.endingIterator(null)
-                .forEachRemaining(origin -> nearbyDistanceMatrix.addAllDestinations((Origin_) origin));
+        nearbyDistanceMatrix.addAllDestinations((Iterator<Origin_>) replayingSelector.endingIterator(null));
         return nearbyDistanceMatrix;
     }
 
@@ -84,10 +84,9 @@ final class SubListNearbyDistanceMatrixDemand<Solution_, Origin_, Destination_>
         Function<Origin_, Iterator<Destination_>> destinationIteratorProvider =
                 origin -> (Iterator<Destination_>) childSelector.endingIterator();
         NearbyDistanceMatrix<Origin_, Destination_> nearbyDistanceMatrix =
-                new NearbyDistanceMatrix<>(meter, (int) originSize, destinationIteratorProvider, destinationSizeFunction);
+                createNearbyDistanceMatrix((int) originSize, destinationIteratorProvider, destinationSizeFunction);
         // Origins: values extracted from a subList selector.
-        replayingSelector.endingValueIterator()
-                .forEachRemaining(origin -> nearbyDistanceMatrix.addAllDestinations((Origin_) origin));
+        nearbyDistanceMatrix.addAllDestinations((Iterator<Origin_>) replayingSelector.endingValueIterator());
         return nearbyDistanceMatrix;
     }
 
@@ -19,26 +19,25 @@
 
 package org.optaplanner.core.impl.heuristic.selector.move.composite;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.NavigableMap;
 import java.util.Random;
-import java.util.TreeMap;
 import java.util.function.ToDoubleFunction;
 
 import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.heuristic.selector.common.iterator.SelectionIterator;
 import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
-import org.optaplanner.core.impl.solver.random.RandomUtils;
+import org.optaplanner.core.impl.solver.random.AliasTable;
 
 final class BiasedRandomUnionMoveIterator<Solution_> extends SelectionIterator<Move<Solution_>> {
 
     private final Map<Iterator<Move<Solution_>>, ProbabilityItem<Solution_>> probabilityItemMap;
-    private final NavigableMap<Double, Iterator<Move<Solution_>>> moveIteratorMap;
+    private final List<ProbabilityItem<Solution_>> activeProbabilityItemList;
+    private final AliasTable<ProbabilityItem<Solution_>> probabilityItemTable;
     private final Random workingRandom;
-    private double probabilityWeightTotal;
     private boolean stale;
 
     public BiasedRandomUnionMoveIterator(List<MoveSelector<Solution_>> childMoveSelectorList,
@@ -53,7 +52,8 @@ final class BiasedRandomUnionMoveIterator<Solution_> extends SelectionIterator<M
             probabilityItem.probabilityWeight = probabilityWeightFunction.applyAsDouble(moveSelector);
             probabilityItemMap.put(moveIterator, probabilityItem);
         }
-        this.moveIteratorMap = new TreeMap<>();
+        this.activeProbabilityItemList = new ArrayList<>(childMoveSelectorList.size());
+        this.probabilityItemTable = new AliasTable<>();
         this.stale = true;
         this.workingRandom = workingRandom;
     }
@@ -61,20 +61,17 @@ final class BiasedRandomUnionMoveIterator<Solution_> extends SelectionIterator<M
     @Override
     public boolean hasNext() {
         if (stale) {
-            refreshMoveIteratorMap();
+            refreshProbabilityItemTable();
         }
-        return !moveIteratorMap.isEmpty();
+        return probabilityItemTable.getSize() != 0;
     }
 
     @Override
     public Move<Solution_> next() {
         if (stale) {
-            refreshMoveIteratorMap();
+            refreshProbabilityItemTable();
         }
-        double randomOffset = RandomUtils.nextDouble(workingRandom, probabilityWeightTotal);
-        Map.Entry<Double, Iterator<Move<Solution_>>> entry = moveIteratorMap.floorEntry(randomOffset);
-        // The entry is never null because randomOffset < probabilityWeightTotal
-        Iterator<Move<Solution_>> moveIterator = entry.getValue();
+        Iterator<Move<Solution_>> moveIterator = probabilityItemTable.sample(workingRandom).moveIterator;
         Move<Solution_> next = moveIterator.next();
         if (!moveIterator.hasNext()) {
             stale = true;
@@ -82,17 +79,17 @@ final class BiasedRandomUnionMoveIterator<Solution_> extends SelectionIterator<M
         return next;
     }
 
-    private void refreshMoveIteratorMap() {
-        moveIteratorMap.clear();
-        double probabilityWeightOffset = 0.0;
+    private void refreshProbabilityItemTable() {
+        // Only happens when a child iterator runs out of moves, so rebuilding the table is rare
+        activeProbabilityItemList.clear();
         for (ProbabilityItem<Solution_> probabilityItem : probabilityItemMap.values()) {
             if (probabilityItem.probabilityWeight != 0.0
                     && probabilityItem.moveIterator.hasNext()) {
-                moveIteratorMap.put(probabilityWeightOffset, probabilityItem.moveIterator);
-                probabilityWeightOffset += probabilityItem.probabilityWeight;
+                activeProbabilityItemList.add(probabilityItem);
             }
         }
-        probabilityWeightTotal = probabilityWeightOffset;
+        probabilityItemTable.update(activeProbabilityItemList, probabilityItem -> probabilityItem.probabilityWeight);
+        stale = false;
     }
 
     private static final class ProbabilityItem<Solution_> {
@@ -76,8 +76,13 @@ public abstract class AbstractCachingMoveSelector<Solution_> extends AbstractMov
                     + ") with childSize (" + childSize
                     + ") which is higher than Integer.MAX_VALUE.");
         }
-        cachedMoveList = new ArrayList<>((int) childSize);
-        childMoveSelector.iterator().forEachRemaining(cachedMoveList::add);
+        if (cacheType.compareTo(SelectionCacheType.PHASE) >= 0) {
+            // Long-lived caches of ChangeMoves or SwapMoves would hold a lot of move instances in memory
+            cachedMoveList = CompactMoveList.create(childMoveSelector.iterator(), (int) childSize);
+        } else {
+            cachedMoveList = new ArrayList<>((int) childSize);
+            childMoveSelector.iterator().forEachRemaining(cachedMoveList::add);
+        }
         logger.trace("    Created cachedMoveList: size ({}), moveSelector ({}).",
                 cachedMoveList.size(), this);
     }
@@ -0,0 +1,244 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.optaplanner.core.impl.heuristic.selector.move.decorator;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.RandomAccess;
+
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.ChangeMove;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.SwapMove;
+
+/**
+ * A cached move list which stores each {@link ChangeMove} or {@link SwapMove} as a single long,
+ * the ordinals of its entity and value (or its left and right entity),
+ * instead of as a {@link Move} instance.
+ * A move is only created when it is selected, by {@link #get(int)}.
+ * <p>
+ * All moves must be of exactly the same class and apply to the same variable(s),
+ * otherwise {@link #create(Iterator, int)} falls back to an {@link ArrayList}.
+ * Each {@link #get(int)} returns a new instance, equal to the original move.
+ * The list is modifiable, but only moves of that same class and variable(s) can be set or added.
+ *
+ * @param <Solution_> the solution type, the class with the {@link org.optaplanner.core.api.domain.solution.PlanningSolution}
+ *        annotation
+ */
+final class CompactMoveList<Solution_> extends AbstractList<Move<Solution_>> implements RandomAccess {
+
+    /**
+     * @param moveIterator never null, fully consumed
+     * @param expectedSize {@code >= 0}, the initial capacity
+     * @return never null, a {@link CompactMoveList} if all moves can be stored compactly, otherwise an {@link ArrayList}
+     */
+    static <Solution_> List<Move<Solution_>> create(Iterator<Move<Solution_>> moveIterator, int expectedSize) {
+        if (!moveIterator.hasNext()) {
+            return new ArrayList<>(0);
+        }
+        Move<Solution_> firstMove = moveIterator.next();
+        CompactMoveList<Solution_> compactMoveList;
+        if (firstMove.getClass() == ChangeMove.class) {
+            compactMoveList = new CompactMoveList<>(((ChangeMove<Solution_>) firstMove).getVariableDescriptor(), null,
+                    expectedSize);
+        } else if (firstMove.getClass() == SwapMove.class) {
+            compactMoveList = new CompactMoveList<>(null, ((SwapMove<Solution_>) firstMove).getVariableDescriptorList(),
+                    expectedSize);
+        } else {
+            return toArrayList(Collections.emptyList(), firstMove, moveIterator, expectedSize);
+        }
+        Move<Solution_> move = firstMove;
+        while (true) {
+            if (!compactMoveList.tryAdd(move)) {
+                return toArrayList(compactMoveList, move, moveIterator, expectedSize);
+            }
+            if (!moveIterator.hasNext()) {
+                return compactMoveList;
+            }
+            move = moveIterator.next();
+        }
+    }
+
+    private static <Solution_> List<Move<Solution_>> toArrayList(List<Move<Solution_>> previousMoveList,
+            Move<Solution_> move, Iterator<Move<Solution_>> moveIterator, int expectedSize) {
+        List<Move<Solution_>> moveList = new ArrayList<>(expectedSize);
+        moveList.addAll(previousMoveList);
+        moveList.add(move);
+        moveIterator.forEachRemaining(moveList::add);
+        return moveList;
+    }
+
+    private final GenuineVariableDescriptor<Solution_> changeVariableDescriptor;
+    private final List<GenuineVariableDescriptor<Solution_>> swapVariableDescriptorList;
+
+    private final Map<Object, Integer> entityOrdinalMap = new IdentityHashMap<>();
+    private final List<Object> entityList = new ArrayList<>();
+    private final Map<Object, Integer> valueOrdinalMap = new IdentityHashMap<>();
+    private final List<Object> valueList = new ArrayList<>();
+
+    private long[] encodedMoves;
+    private int size = 0;
+
+    private CompactMoveList(GenuineVariableDescriptor<Solution_> changeVariableDescriptor,
+            List<GenuineVariableDescriptor<Solution_>> swapVariableDescriptorList, int expectedSize) {
+        this.changeVariableDescriptor = changeVariableDescriptor;
+        this.swapVariableDescriptorList = swapVariableDescriptorList;
+        this.encodedMoves = new long[Math.max(expectedSize, 1)];
+    }
+
+    private boolean tryAdd(Move<Solution_> move) {
+        if (!isEncodable(move)) {
+            return false;
+        }
+        if (size == encodedMoves.length) {
+            encodedMoves = Arrays.copyOf(encodedMoves, size * 2);
+        }
+        encodedMoves[size++] = encode(move);
+        return true;
+    }
+
+    private boolean isEncodable(Move<Solution_> move) {
+        if (changeVariableDescriptor != null) {
+            return move.getClass() == ChangeMove.class
+                    && ((ChangeMove<Solution_>) move).getVariableDescriptor() == changeVariableDescriptor;
+        } else {
+            return move.getClass() == SwapMove.class
+                    && Objects.equals(((SwapMove<Solution_>) move).getVariableDescriptorList(), swapVariableDescriptorList);
+        }
+    }
+
+    private long encode(Move<Solution_> move) {
+        int leftOrdinal;
+        int rightOrdinal;
+        if (changeVariableDescriptor != null) {
+            ChangeMove<Solution_> changeMove = (ChangeMove<Solution_>) move;
+            leftOrdinal = findOrdinal(entityOrdinalMap, entityList, changeMove.getEntity());
+            rightOrdinal = findOrdinal(valueOrdinalMap, valueList, changeMove.getToPlanningValue());
+        } else {
+            SwapMove<Solution_> swapMove = (SwapMove<Solution_>) move;
+            leftOrdinal = findOrdinal(entityOrdinalMap, entityList, swapMove.getLeftEntity());
+            rightOrdinal = findOrdinal(entityOrdinalMap, entityList, swapMove.getRightEntity());
+        }
+        return ((long) leftOrdinal << 32) | (rightOrdinal & 0xFFFF_FFFFL);
+    }
+
+    private static int findOrdinal(Map<Object, Integer> ordinalMap, List<Object> list, Object object) {
+        return ordinalMap.computeIfAbsent(object, key -> {
+            list.add(key);
+            return list.size() - 1;
+        });
+    }
+
+    @Override
+    public Move<Solution_> get(int index) {
+        Objects.checkIndex(index, size);
+        long encodedMove = encodedMoves[index];
+        Object leftEntity = entityList.get((int) (encodedMove >>> 32));
+        int rightOrdinal = (int) encodedMove;
+        if (changeVariableDescriptor != null) {
+            return new ChangeMove<>(changeVariableDescriptor, leftEntity, valueList.get(rightOrdinal));
+        } else {
+            return new SwapMove<>(swapVariableDescriptorList, leftEntity, entityList.get(rightOrdinal));
+        }
+    }
+
+    /**
+     * Supports {@link java.util.Collections#shuffle(List)} and {@link List#sort(java.util.Comparator)}.
+     */
+    @Override
+    public Move<Solution_> set(int index, Move<Solution_> move) {
+        Objects.checkIndex(index, size);
+        validateEncodable(move);
+        Move<Solution_> oldMove = get(index);
+        encodedMoves[index] = encode(move);
+        return oldMove;
+    }
+
+    /**
+     * Supports a {@link org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionSorter}
+     * that refills the list, such as
+     * {@link org.optaplanner.core.impl.heuristic.selector.common.decorator.WeightFactorySelectionSorter}.
+     */
+    @Override
+    public void add(int index, Move<Solution_> move) {
+        Objects.checkIndex(index, size + 1);
+        validateEncodable(move);
+        if (size == encodedMoves.length) {
+            encodedMoves = Arrays.copyOf(encodedMoves, size * 2);
+        }
+        System.arraycopy(encodedMoves, index, encodedMoves, index + 1, size - index);
+        encodedMoves[index] = encode(move);
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public Move<Solution_> remove(int index) {
+        Move<Solution_> oldMove = get(index);
+        System.arraycopy(encodedMoves, index + 1, encodedMoves, index, size - index - 1);
+        size--;
+        modCount++;
+        return oldMove;
+    }
+
+    /**
+     * Keeps the entity and value ordinals, because the same moves are usually added again.
+     */
+    @Override
+    public void clear() {
+        size = 0;
+        modCount++;
+    }
+
+    private void validateEncodable(Move<Solution_> move) {
+        if (!isEncodable(move)) {
+            throw new IllegalArgumentException("The move (" + move + ") of class (" + move.getClass()
+                    + ") cannot be stored in this compact move list for variable(s) ("
+                    + (changeVariableDescriptor != null ? changeVariableDescriptor : swapVariableDescriptorList) + ").");
+        }
+    }
+
+    /**
+     * Same as {@link Collections#shuffle(List, Random)}, with the same random draws and the same resulting order,
+     * but it swaps the encoded moves directly, without creating nor encoding any {@link Move}.
+     * @param workingRandom never null
+     */
+    void shuffle(Random workingRandom) {
+        for (int i = size; i > 1; i--) {
+            int j = workingRandom.nextInt(i);
+            long encodedMove = encodedMoves[i - 1];
+            encodedMoves[i - 1] = encodedMoves[j];
+            encodedMoves[j] = encodedMove;
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+}
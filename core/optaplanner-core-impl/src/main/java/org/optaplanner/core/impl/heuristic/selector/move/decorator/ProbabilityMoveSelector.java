@@ -20,9 +20,6 @@
 package org.optaplanner.core.impl.heuristic.selector.move.decorator;
 
 import java.util.Iterator;
-import java.util.Map;
-import java.util.NavigableMap;
-import java.util.TreeMap;
 
 import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
@@ -32,7 +29,7 @@ import org.optaplanner.core.impl.heuristic.selector.common.SelectionCacheLifecyc
 import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionProbabilityWeightFactory;
 import org.optaplanner.core.impl.heuristic.selector.move.AbstractMoveSelector;
 import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
-import org.optaplanner.core.impl.solver.random.RandomUtils;
+import org.optaplanner.core.impl.solver.random.AliasTable;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 
 public class ProbabilityMoveSelector<Solution_> extends AbstractMoveSelector<Solution_>
@@ -42,8 +39,7 @@ public class ProbabilityMoveSelector<Solution_> extends AbstractMoveSelector<Sol
     protected final SelectionCacheType cacheType;
     protected final SelectionProbabilityWeightFactory<Solution_, Move<Solution_>> probabilityWeightFactory;
 
-    protected NavigableMap<Double, Move<Solution_>> cachedMoveMap = null;
-    protected double probabilityWeightTotal = -1.0;
+    protected final AliasTable<Move<Solution_>> cachedAliasTable = new AliasTable<>();
 
     public ProbabilityMoveSelector(MoveSelector<Solution_> childMoveSelector, SelectionCacheType cacheType,
             SelectionProbabilityWeightFactory<Solution_, ? extends Move<Solution_>> probabilityWeightFactory) {
@@ -75,20 +71,15 @@ public class ProbabilityMoveSelector<Solution_> extends AbstractMoveSelector<Sol
 
     @Override
     public void constructCache(SolverScope<Solution_> solverScope) {
-        cachedMoveMap = new TreeMap<>();
         ScoreDirector<Solution_> scoreDirector = solverScope.getScoreDirector();
-        double probabilityWeightOffset = 0L;
-        for (Move<Solution_> entity : childMoveSelector) {
-            double probabilityWeight = probabilityWeightFactory.createProbabilityWeight(scoreDirector, entity);
-            cachedMoveMap.put(probabilityWeightOffset, entity);
-            probabilityWeightOffset += probabilityWeight;
-        }
-        probabilityWeightTotal = probabilityWeightOffset;
+        cachedAliasTable.update(childMoveSelector,
+                move -> probabilityWeightFactory.createProbabilityWeight(scoreDirector, move));
     }
 
     @Override
     public void disposeCache(SolverScope<Solution_> solverScope) {
-        probabilityWeightTotal = -1.0;
+        // Unlike entities and values, moves are new instances for every cache, so the aliasTable can never be reused
+        cachedAliasTable.clear();
     }
 
     @Override
@@ -103,7 +94,7 @@ public class ProbabilityMoveSelector<Solution_> extends AbstractMoveSelector<Sol
 
     @Override
     public long getSize() {
-        return cachedMoveMap.size();
+        return cachedAliasTable.getSize();
     }
 
     @Override
@@ -116,10 +107,7 @@ public class ProbabilityMoveSelector<Solution_> extends AbstractMoveSelector<Sol
 
             @Override
             public Move<Solution_> next() {
-                double randomOffset = RandomUtils.nextDouble(workingRandom, probabilityWeightTotal);
-                Map.Entry<Double, Move<Solution_>> entry = cachedMoveMap.floorEntry(randomOffset);
-                // entry is never null because randomOffset < probabilityWeightTotal
-                return entry.getValue();
+                return cachedAliasTable.sample(workingRandom);
             }
 
             @Override
@@ -43,7 +43,11 @@ public class ShufflingMoveSelector<Solution_> extends AbstractCachingMoveSelecto
 
     @Override
     public Iterator<Move<Solution_>> iterator() {
-        Collections.shuffle(cachedMoveList, workingRandom);
+        if (cachedMoveList instanceof CompactMoveList) {
+            ((CompactMoveList<Solution_>) cachedMoveList).shuffle(workingRandom);
+        } else {
+            Collections.shuffle(cachedMoveList, workingRandom);
+        }
         logger.trace("    Shuffled cachedMoveList with size ({}) in moveSelector({}).",
                 cachedMoveList.size(), this);
         return cachedMoveList.iterator();
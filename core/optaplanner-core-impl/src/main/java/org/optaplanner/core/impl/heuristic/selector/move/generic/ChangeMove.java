@@ -45,6 +45,10 @@ public class ChangeMove<Solution_> extends AbstractMove<Solution_> {
         this.toPlanningValue = toPlanningValue;
     }
 
+    public GenuineVariableDescriptor<Solution_> getVariableDescriptor() {
+        return variableDescriptor;
+    }
+
     public String getVariableName() {
         return variableDescriptor.getVariableName();
     }
@@ -0,0 +1,343 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.optaplanner.core.impl.heuristic.selector.move.generic;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.optaplanner.core.api.domain.variable.VariableListener;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.config.heuristic.selector.entity.pillar.SubPillarConfigPolicy;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.listener.SourcedVariableListener;
+import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
+
+/**
+ * Groups the entities of an {@link EntitySelector} into pillars,
+ * each pillar being the entities which share the same values for all the pillar variables.
+ * <p>
+ * The pillars are built once, from the entities the entitySelector selects,
+ * and are kept up to date incrementally:
+ * every variable change only marks its entity,
+ * and {@link #read()} only moves the marked entities whose value state actually changed (so not after an undo move).
+ * The entity selection is taken again after {@link #resetPillars()} and after an entity is added or removed.
+ * If the entity selection is changeable (it is filtered and not cached for the whole phase),
+ * every {@link #read()} also checks whether the entitySelector still selects the same entities,
+ * because its filter might depend on the working solution (for example a pinning filter),
+ * and groups all pillars from scratch if it doesn't.
+ * That check iterates all selected entities, so it is skipped if the entity selection can't change between steps.
+ * <p>
+ * The pillar lists returned by {@link #read()} are never modified afterwards,
+ * so moves may hold on to them.
+ * Their order is the same as if the pillars were grouped from scratch:
+ * the entities of a pillar are in selection order (or sorted, if there is an entity comparator)
+ * and the pillars are ordered by their first entity.
+ *
+ * @param <Solution_> the solution type, the class with the {@link org.optaplanner.core.api.domain.solution.PlanningSolution}
+ *        annotation
+ */
+public final class PillarSupply<Solution_> implements SourcedVariableListener<Solution_>, VariableListener<Solution_, Object> {
+
+    private final EntitySelector<Solution_> entitySelector;
+    private final List<GenuineVariableDescriptor<Solution_>> variableDescriptors;
+    private final SubPillarConfigPolicy subpillarConfigPolicy;
+    private final boolean entitySelectionChangeable;
+
+    private final Set<Object> changedEntitySet = Collections.newSetFromMap(new IdentityHashMap<>());
+    private boolean stale = true;
+    private Map<Object, Integer> entityOrdinalMap = null;
+    private Map<Object, List<Object>> entityValueStateMap = null;
+    private Map<List<Object>, Pillar> valueStateToPillarMap = null;
+    private TreeMap<Integer, Pillar> firstOrdinalToPillarMap = null;
+    private List<List<Object>> pillarList = null;
+
+    public PillarSupply(EntitySelector<Solution_> entitySelector,
+            List<GenuineVariableDescriptor<Solution_>> variableDescriptors, SubPillarConfigPolicy subpillarConfigPolicy,
+            boolean entitySelectionChangeable) {
+        this.entitySelector = entitySelector;
+        this.variableDescriptors = variableDescriptors;
+        this.subpillarConfigPolicy = subpillarConfigPolicy;
+        this.entitySelectionChangeable = entitySelectionChangeable;
+    }
+
+    @Override
+    public VariableDescriptor<Solution_> getSourceVariableDescriptor() {
+        return variableDescriptors.get(0);
+    }
+
+    @Override
+    public Collection<VariableDescriptor<Solution_>> getSourceVariableDescriptors() {
+        return Collections.unmodifiableList(variableDescriptors);
+    }
+
+    @Override
+    public void resetWorkingSolution(ScoreDirector<Solution_> scoreDirector) {
+        resetPillars();
+    }
+
+    @Override
+    public void close() {
+        resetPillars();
+        entityOrdinalMap = null;
+        entityValueStateMap = null;
+        valueStateToPillarMap = null;
+        firstOrdinalToPillarMap = null;
+    }
+
+    @Override
+    public void beforeEntityAdded(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    @Override
+    public void afterEntityAdded(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        resetPillars();
+    }
+
+    @Override
+    public void beforeVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        if (!stale) {
+            changedEntitySet.add(entity);
+        }
+    }
+
+    @Override
+    public void afterVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    @Override
+    public void beforeEntityRemoved(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        resetPillars();
+    }
+
+    @Override
+    public void afterEntityRemoved(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    /**
+     * Forces the next {@link #read()} to take the entity selection again and to group all pillars from scratch.
+     * Call this when the entities selected by the entitySelector might have changed, for example at phase start.
+     */
+    public void resetPillars() {
+        stale = true;
+        changedEntitySet.clear();
+        pillarList = null;
+    }
+
+    /**
+     * Pillars smaller than the minimumSubPillarSize are excluded, as they shouldn't be selected.
+     *
+     * @return never null, the current pillars
+     */
+    public List<List<Object>> read() {
+        if (stale || (entitySelectionChangeable && !isSameEntitySelection())) {
+            groupPillars();
+        } else if (!changedEntitySet.isEmpty()) {
+            updatePillars();
+        }
+        if (pillarList == null) {
+            int minimumSubPillarSize = subpillarConfigPolicy.getMinimumSubPillarSize();
+            pillarList = new ArrayList<>(firstOrdinalToPillarMap.size());
+            for (Pillar pillar : firstOrdinalToPillarMap.values()) {
+                if (pillar.entityList.size() >= minimumSubPillarSize) {
+                    pillarList.add(pillar.entityList);
+                }
+            }
+        }
+        return pillarList;
+    }
+
+    private boolean isSameEntitySelection() {
+        // Only lookups, so much cheaper than grouping the pillars again
+        int entityCount = 0;
+        for (Object entity : entitySelector) {
+            if (!entityOrdinalMap.containsKey(entity)) {
+                return false;
+            }
+            entityCount++;
+        }
+        return entityCount == entityOrdinalMap.size();
+    }
+
+    private void groupPillars() {
+        long entitySize = entitySelector.getSize();
+        if (entitySize > Integer.MAX_VALUE) {
+            throw new IllegalStateException("The supply (" + this + ") has an entitySelector ("
+                    + entitySelector + ") with entitySize (" + entitySize
+                    + ") which is higher than Integer.MAX_VALUE.");
+        }
+        Stream<Object> entities = StreamSupport.stream(entitySelector.spliterator(), false);
+        Comparator<?> comparator = subpillarConfigPolicy.getEntityComparator();
+        if (comparator != null) {
+            /*
+             * The entity selection will be sorted. This will result in all the pillars being sorted without having to
+             * sort them individually later.
+             */
+            entities = entities.sorted((Comparator<? super Object>) comparator);
+        }
+        // Create all the pillars from a stream of entities; if sorted, the pillars will be sequential.
+        entityOrdinalMap = new IdentityHashMap<>((int) entitySize);
+        entityValueStateMap = new IdentityHashMap<>((int) entitySize);
+        valueStateToPillarMap = new HashMap<>();
+        firstOrdinalToPillarMap = new TreeMap<>();
+        entities.forEach(entity -> {
+            int ordinal = entityOrdinalMap.size();
+            entityOrdinalMap.put(entity, ordinal);
+            List<Object> valueState = getValueState(entity);
+            entityValueStateMap.put(entity, valueState);
+            Pillar pillar = valueStateToPillarMap.get(valueState);
+            if (pillar == null) {
+                pillar = new Pillar(new ArrayList<>());
+                valueStateToPillarMap.put(valueState, pillar);
+                firstOrdinalToPillarMap.put(ordinal, pillar);
+            }
+            pillar.entityList.add(entity);
+        });
+        stale = false;
+        changedEntitySet.clear();
+        pillarList = null;
+    }
+
+    private void updatePillars() {
+        for (Object entity : changedEntitySet) {
+            Integer ordinal = entityOrdinalMap.get(entity);
+            if (ordinal == null) { // Not selected by the entitySelector
+                continue;
+            }
+            List<Object> oldValueState = entityValueStateMap.get(entity);
+            List<Object> newValueState = getValueState(entity);
+            if (oldValueState.equals(newValueState)) {
+                continue;
+            }
+            retract(entity, ordinal, oldValueState);
+            insert(entity, ordinal, newValueState);
+            entityValueStateMap.put(entity, newValueState);
+            pillarList = null;
+        }
+        changedEntitySet.clear();
+    }
+
+    private void retract(Object entity, int ordinal, List<Object> valueState) {
+        Pillar pillar = valueStateToPillarMap.get(valueState);
+        int index = pillar == null ? -1 : indexOf(pillar.entityList, ordinal);
+        if (index < 0) {
+            throw new IllegalStateException("The supply (" + this + ") is corrupted,"
+                    + " because the entity (" + entity
+                    + ") cannot be retracted: the entity was never inserted for that value state (" + valueState + ").");
+        }
+        if (pillar.entityList.size() == 1) {
+            valueStateToPillarMap.remove(valueState);
+            firstOrdinalToPillarMap.remove(ordinal);
+            return;
+        }
+        // Copy on write, because the old entityList might still be in use by a move
+        List<Object> entityList = new ArrayList<>(pillar.entityList);
+        entityList.remove(index);
+        if (index == 0) {
+            firstOrdinalToPillarMap.remove(ordinal);
+            firstOrdinalToPillarMap.put(entityOrdinalMap.get(entityList.get(0)), pillar);
+        }
+        pillar.entityList = entityList;
+    }
+
+    private void insert(Object entity, int ordinal, List<Object> valueState) {
+        Pillar pillar = valueStateToPillarMap.get(valueState);
+        if (pillar == null) {
+            List<Object> entityList = new ArrayList<>();
+            entityList.add(entity);
+            pillar = new Pillar(entityList);
+            valueStateToPillarMap.put(valueState, pillar);
+            firstOrdinalToPillarMap.put(ordinal, pillar);
+            return;
+        }
+        int index = -(indexOf(pillar.entityList, ordinal) + 1);
+        // Copy on write, because the old entityList might still be in use by a move
+        List<Object> entityList = new ArrayList<>(pillar.entityList.size() + 1);
+        entityList.addAll(pillar.entityList);
+        entityList.add(index, entity);
+        if (index == 0) {
+            firstOrdinalToPillarMap.remove(entityOrdinalMap.get(pillar.entityList.get(0)));
+            firstOrdinalToPillarMap.put(ordinal, pillar);
+        }
+        pillar.entityList = entityList;
+    }
+
+    /**
+     * Binary search on the entity ordinals, which are ascending in every pillar.
+     *
+     * @return like {@link Collections#binarySearch(List, Object)}
+     */
+    private int indexOf(List<Object> entityList, int ordinal) {
+        int low = 0;
+        int high = entityList.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int middleOrdinal = entityOrdinalMap.get(entityList.get(middle));
+            if (middleOrdinal < ordinal) {
+                low = middle + 1;
+            } else if (middleOrdinal > ordinal) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private List<Object> getValueState(Object entity) {
+        int variableCount = variableDescriptors.size();
+        if (variableCount == 1) {
+            return Collections.singletonList(variableDescriptors.get(0).getValue(entity));
+        }
+        List<Object> valueState = new ArrayList<>(variableCount);
+        for (GenuineVariableDescriptor<Solution_> variableDescriptor : variableDescriptors) {
+            valueState.add(variableDescriptor.getValue(entity));
+        }
+        return valueState;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + entitySelector + ")";
+    }
+
+    private static final class Pillar {
+
+        private List<Object> entityList;
+
+        private Pillar(List<Object> entityList) {
+            this.entityList = entityList;
+        }
+
+    }
+
+}
@@ -49,6 +49,10 @@ public class SwapMove<Solution_> extends AbstractMove<Solution_> {
         this.rightEntity = rightEntity;
     }
 
+    public List<GenuineVariableDescriptor<Solution_>> getVariableDescriptorList() {
+        return variableDescriptorList;
+    }
+
     public Object getLeftEntity() {
         return leftEntity;
     }
@@ -20,10 +20,7 @@
 package org.optaplanner.core.impl.heuristic.selector.value.decorator;
 
 import java.util.Iterator;
-import java.util.Map;
-import java.util.NavigableMap;
 import java.util.Objects;
-import java.util.TreeMap;
 
 import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
@@ -33,7 +30,7 @@ import org.optaplanner.core.impl.heuristic.selector.common.SelectionCacheLifecyc
 import org.optaplanner.core.impl.heuristic.selector.common.SelectionCacheLifecycleListener;
 import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionProbabilityWeightFactory;
 import org.optaplanner.core.impl.heuristic.selector.value.EntityIndependentValueSelector;
-import org.optaplanner.core.impl.solver.random.RandomUtils;
+import org.optaplanner.core.impl.solver.random.AliasTable;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 
 public final class ProbabilityValueSelector<Solution_>
@@ -44,8 +41,7 @@ public final class ProbabilityValueSelector<Solution_>
     private final SelectionCacheType cacheType;
     private final SelectionProbabilityWeightFactory<Solution_, Object> probabilityWeightFactory;
 
-    protected NavigableMap<Double, Object> cachedEntityMap = null;
-    protected double probabilityWeightTotal = -1.0;
+    protected final AliasTable<Object> cachedAliasTable = new AliasTable<>();
 
     public ProbabilityValueSelector(EntityIndependentValueSelector<Solution_> childValueSelector,
             SelectionCacheType cacheType,
@@ -77,21 +73,15 @@ public final class ProbabilityValueSelector<Solution_>
 
     @Override
     public void constructCache(SolverScope<Solution_> solverScope) {
-        cachedEntityMap = new TreeMap<>();
         ScoreDirector<Solution_> scoreDirector = solverScope.getScoreDirector();
-        double probabilityWeightOffset = 0L;
-        // TODO Fail-faster if a non FromSolutionPropertyValueSelector is used
-        for (Object value : childValueSelector) {
-            double probabilityWeight = probabilityWeightFactory.createProbabilityWeight(scoreDirector, value);
-            cachedEntityMap.put(probabilityWeightOffset, value);
-            probabilityWeightOffset += probabilityWeight;
-        }
-        probabilityWeightTotal = probabilityWeightOffset;
+        // If the probabilityWeights didn't change since the previous cache, the aliasTable is reused as is
+        cachedAliasTable.update(childValueSelector,
+                value -> probabilityWeightFactory.createProbabilityWeight(scoreDirector, value));
     }
 
     @Override
     public void disposeCache(SolverScope<Solution_> solverScope) {
-        probabilityWeightTotal = -1.0;
+        // Keep the cachedAliasTable, to compare it with the next cache
     }
 
     @Override
@@ -116,7 +106,7 @@ public final class ProbabilityValueSelector<Solution_>
 
     @Override
     public long getSize() {
-        return cachedEntityMap.size();
+        return cachedAliasTable.getSize();
     }
 
     @Override
@@ -134,10 +124,7 @@ public final class ProbabilityValueSelector<Solution_>
 
             @Override
             public Object next() {
-                double randomOffset = RandomUtils.nextDouble(workingRandom, probabilityWeightTotal);
-                Map.Entry<Double, Object> entry = cachedEntityMap.floorEntry(randomOffset);
-                // entry is never null because randomOffset < probabilityWeightTotal
-                return entry.getValue();
+                return cachedAliasTable.sample(workingRandom);
             }
 
             @Override
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.optaplanner.core.impl.heuristic.thread;
+
+/**
+ * Adapts the number of moves per {@link MoveEvaluationOperation} to the observed move evaluation time,
+ * so fine-grained moves are batched to amortize the handoff cost between the solver thread and the move threads,
+ * while expensive moves are still spread over all move threads.
+ */
+public class MoveEvaluationBatchSizer {
+
+    /**
+     * Enough work per batch to dwarf the handoff cost, even if a move thread needs to be unparked.
+     */
+    protected static final long TARGET_BATCH_NANOS = 50_000L;
+
+    private final int maximumBatchSize;
+
+    // Racy updates by multiple move threads are acceptable: it's only a moving average.
+    private volatile long averageMoveNanos = -1L;
+
+    /**
+     * @param maximumBatchSize at least 1, 1 disables batching
+     */
+    public MoveEvaluationBatchSizer(int maximumBatchSize) {
+        if (maximumBatchSize < 1) {
+            throw new IllegalArgumentException("The maximumBatchSize (" + maximumBatchSize + ") must be at least 1.");
+        }
+        this.maximumBatchSize = maximumBatchSize;
+    }
+
+    public int getMaximumBatchSize() {
+        return maximumBatchSize;
+    }
+
+    /**
+     * This method is thread-safe. It can be called from any move thread.
+     *
+     * @param moveCount at least 1
+     * @param nanos the time spent evaluating those moves
+     */
+    public void recordBatch(int moveCount, long nanos) {
+        long moveNanos = Math.max(nanos / moveCount, 1L);
+        long oldAverageMoveNanos = averageMoveNanos;
+        averageMoveNanos = oldAverageMoveNanos < 0L ? moveNanos
+                : oldAverageMoveNanos + (moveNanos - oldAverageMoveNanos) / 8L;
+    }
+
+    /**
+     * Can be called from the solver thread.
+     *
+     * @return {@code 1 <= batchSize <= maximumBatchSize}
+     */
+    public int getBatchSize() {
+        long averageMoveNanos = this.averageMoveNanos;
+        if (averageMoveNanos < 0L) {
+            // Nothing measured yet
+            return 1;
+        }
+        long batchSize = TARGET_BATCH_NANOS / Math.max(averageMoveNanos, 1L);
+        return (int) Math.max(1L, Math.min(batchSize, maximumBatchSize));
+    }
+
+}
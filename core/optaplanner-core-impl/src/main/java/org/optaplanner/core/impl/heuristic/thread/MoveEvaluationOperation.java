@@ -19,30 +19,56 @@
 
 package org.optaplanner.core.impl.heuristic.thread;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.optaplanner.core.impl.heuristic.move.Move;
 
+/**
+ * Evaluates a batch of moves with consecutive move indexes,
+ * to amortize the handoff cost between the solver thread and the move threads over multiple fine-grained moves.
+ * Every move still results in its own {@link OrderByMoveIndexBlockingQueue.MoveResult}.
+ *
+ * @param <Solution_> the solution type, the class with the {@link org.optaplanner.core.api.domain.solution.PlanningSolution}
+ *        annotation
+ */
 public class MoveEvaluationOperation<Solution_> extends MoveThreadOperation<Solution_> {
 
     private final int stepIndex;
     private final int moveIndex;
-    private final Move<Solution_> move;
+    private final List<Move<Solution_>> moveList;
 
     public MoveEvaluationOperation(int stepIndex, int moveIndex, Move<Solution_> move) {
+        this(stepIndex, moveIndex, Collections.singletonList(move));
+    }
+
+    /**
+     * @param stepIndex at least 0
+     * @param moveIndex at least 0, the move index of the first move in the moveList
+     * @param moveList never null, never empty
+     */
+    public MoveEvaluationOperation(int stepIndex, int moveIndex, List<Move<Solution_>> moveList) {
         this.stepIndex = stepIndex;
         this.moveIndex = moveIndex;
-        this.move = move;
+        this.moveList = moveList;
     }
 
     public int getStepIndex() {
         return stepIndex;
     }
 
+    /**
+     * @return the move index of the first move in {@link #getMoveList()}
+     */
     public int getMoveIndex() {
         return moveIndex;
     }
 
-    public Move<Solution_> getMove() {
-        return move;
+    /**
+     * @return never null, never empty, in move index order
+     */
+    public List<Move<Solution_>> getMoveList() {
+        return moveList;
     }
 
 }
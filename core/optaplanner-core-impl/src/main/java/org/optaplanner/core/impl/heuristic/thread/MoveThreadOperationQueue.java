@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.optaplanner.core.impl.heuristic.thread;
+
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Lock-free bounded ring buffer that hands {@link MoveThreadOperation}s from the solver thread to the move threads.
+ * <p>
+ * Every slot carries a sequence number that tells whether it is ready to be written by the solver thread
+ * or ready to be read by a move thread, so neither side ever takes a lock.
+ * A move thread that finds the buffer empty spins briefly before it parks.
+ *
+ * @param <Solution_> the solution type, the class with the {@link org.optaplanner.core.api.domain.solution.PlanningSolution}
+ *        annotation
+ */
+public class MoveThreadOperationQueue<Solution_> {
+
+    private static final int SPIN_COUNT = 128;
+
+    private final int mask;
+    private final AtomicReferenceArray<MoveThreadOperation<Solution_>> operations;
+    private final AtomicLongArray sequences;
+    private final AtomicLong takePosition = new AtomicLong(0L);
+    private final Queue<Thread> parkedThreadQueue = new ConcurrentLinkedQueue<>();
+
+    private long addPosition = 0L;
+
+    /**
+     * @param capacity at least 1, rounded up to the next power of 2
+     */
+    public MoveThreadOperationQueue(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The capacity (" + capacity + ") must be at least 1.");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        mask = size - 1;
+        operations = new AtomicReferenceArray<>(size);
+        sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Not thread-safe. Can only be called from the solver thread.
+     *
+     * @param operation never null
+     * @throws IllegalStateException if there is not enough capacity
+     * @see BlockingQueue#add(Object)
+     */
+    public void add(MoveThreadOperation<Solution_> operation) {
+        long position = addPosition;
+        int index = (int) position & mask;
+        if (sequences.get(index) != position) {
+            // Fail fast if there is not enough capacity (which is impossible)
+            throw new IllegalStateException("Queue full");
+        }
+        operations.set(index, operation);
+        // Publishes the operation to the move threads
+        sequences.set(index, position + 1L);
+        addPosition = position + 1L;
+        unparkThread();
+    }
+
+    /**
+     * Not thread-safe. Can only be called from the solver thread.
+     * Removes every operation that hasn't been taken by a move thread yet.
+     *
+     * @see BlockingQueue#clear()
+     */
+    public void clear() {
+        while (poll() != null) {
+            // Drain
+        }
+    }
+
+    /**
+     * This method is thread-safe. It can be called from any move thread.
+     *
+     * @return never null
+     * @throws InterruptedException if interrupted
+     * @see BlockingQueue#take()
+     */
+    public MoveThreadOperation<Solution_> take() throws InterruptedException {
+        int spinCount = 0;
+        while (true) {
+            MoveThreadOperation<Solution_> operation = poll();
+            if (operation != null) {
+                if (!isEmpty()) {
+                    // Another parked move thread might have missed the signal for the remaining operations
+                    unparkThread();
+                }
+                return operation;
+            }
+            if (spinCount < SPIN_COUNT) {
+                spinCount++;
+                Thread.onSpinWait();
+                continue;
+            }
+            Thread currentThread = Thread.currentThread();
+            parkedThreadQueue.add(currentThread);
+            // Check again after registering, so an operation added in the meantime unparks this thread
+            if (isEmpty()) {
+                LockSupport.park(this);
+            }
+            parkedThreadQueue.remove(currentThread);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+
+    private MoveThreadOperation<Solution_> poll() {
+        while (true) {
+            long position = takePosition.get();
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - (position + 1L);
+            if (difference < 0L) {
+                return null;
+            } else if (difference == 0L && takePosition.compareAndSet(position, position + 1L)) {
+                MoveThreadOperation<Solution_> operation = operations.get(index);
+                operations.set(index, null);
+                // Releases the slot to the solver thread
+                sequences.set(index, position + mask + 1L);
+                return operation;
+            }
+            // Another move thread took the operation at that position first
+        }
+    }
+
+    private boolean isEmpty() {
+        while (true) {
+            long position = takePosition.get();
+            long difference = sequences.get((int) position & mask) - (position + 1L);
+            if (difference < 0L) {
+                return true;
+            } else if (difference == 0L) {
+                return false;
+            }
+            // Another move thread took the operation at that position in the meantime
+        }
+    }
+
+    private void unparkThread() {
+        Thread parkedThread = parkedThreadQueue.poll();
+        if (parkedThread != null) {
+            LockSupport.unpark(parkedThread);
+        }
+    }
+
+}
@@ -19,9 +19,8 @@
 
 package org.optaplanner.core.impl.heuristic.thread;
 
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.BrokenBarrierException;
-import java.util.concurrent.CyclicBarrier;
+import java.util.List;
+import java.util.concurrent.Phaser;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.optaplanner.core.api.score.Score;
@@ -39,9 +38,10 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
     private final int moveThreadIndex;
     private final boolean evaluateDoable;
 
-    private final BlockingQueue<MoveThreadOperation<Solution_>> operationQueue;
+    private final MoveThreadOperationQueue<Solution_> operationQueue;
     private final OrderByMoveIndexBlockingQueue<Solution_> resultQueue;
-    private final CyclicBarrier moveThreadBarrier;
+    private final Phaser moveThreadBarrier;
+    private final MoveEvaluationBatchSizer batchSizer;
 
     private final boolean assertMoveScoreFromScratch;
     private final boolean assertExpectedUndoMoveScore;
@@ -53,9 +53,9 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
     private AtomicLong calculationCount = new AtomicLong(-1);
 
     public MoveThreadRunner(String logIndentation, int moveThreadIndex, boolean evaluateDoable,
-            BlockingQueue<MoveThreadOperation<Solution_>> operationQueue,
+            MoveThreadOperationQueue<Solution_> operationQueue,
             OrderByMoveIndexBlockingQueue<Solution_> resultQueue,
-            CyclicBarrier moveThreadBarrier,
+            Phaser moveThreadBarrier, MoveEvaluationBatchSizer batchSizer,
             boolean assertMoveScoreFromScratch, boolean assertExpectedUndoMoveScore,
             boolean assertStepScoreFromScratch, boolean assertExpectedStepScore,
             boolean assertShadowVariablesAreNotStaleAfterStep) {
@@ -65,6 +65,7 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
         this.operationQueue = operationQueue;
         this.resultQueue = resultQueue;
         this.moveThreadBarrier = moveThreadBarrier;
+        this.batchSizer = batchSizer;
         this.assertMoveScoreFromScratch = assertMoveScoreFromScratch;
         this.assertExpectedUndoMoveScore = assertExpectedUndoMoveScore;
         this.assertStepScoreFromScratch = assertStepScoreFromScratch;
@@ -87,6 +88,9 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
                 }
 
                 if (operation instanceof SetupOperation) {
+                    // Two-phase barrier: arrive as soon as this SetupOperation is taken,
+                    // but don't consume another operation until every moveThread took its SetupOperation
+                    int barrierPhase = moveThreadBarrier.arrive();
                     SetupOperation<Solution_, Score_> setupOperation = (SetupOperation<Solution_, Score_>) operation;
                     scoreDirector = setupOperation.getScoreDirector()
                             .createChildThreadScoreDirector(ChildThreadType.MOVE_THREAD);
@@ -95,9 +99,8 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
                     LOGGER.trace("{}            Move thread ({}) setup: step index ({}), score ({}).",
                             logIndentation, moveThreadIndex, stepIndex, lastStepScore);
                     try {
-                        // Don't consume another operation until every moveThread took this SetupOperation
-                        moveThreadBarrier.await();
-                    } catch (InterruptedException | BrokenBarrierException e) {
+                        moveThreadBarrier.awaitAdvanceInterruptibly(barrierPhase);
+                    } catch (InterruptedException e) {
                         Thread.currentThread().interrupt();
                         break;
                     }
@@ -107,9 +110,10 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
                     calculationCount.set(scoreDirector.getCalculationCount());
                     break;
                 } else if (operation instanceof ApplyStepOperation) {
-                    // TODO Performance gain with specialized 2-phase cyclic barrier:
-                    // As soon as the last move thread has taken its ApplyStepOperation,
-                    // other move threads can already depart from the moveThreadStepBarrier: no need to wait until the step is done.
+                    // Two-phase barrier: arrive as soon as this ApplyStepOperation is taken,
+                    // so as soon as the last move thread has taken its ApplyStepOperation,
+                    // the other move threads can already depart: no need to wait until the step is done.
+                    int barrierPhase = moveThreadBarrier.arrive();
                     ApplyStepOperation<Solution_, Score_> applyStepOperation =
                             (ApplyStepOperation<Solution_, Score_>) operation;
                     if (stepIndex + 1 != applyStepOperation.getStepIndex()) {
@@ -126,36 +130,27 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
                     LOGGER.trace("{}            Move thread ({}) step: step index ({}), score ({}).",
                             logIndentation, moveThreadIndex, stepIndex, lastStepScore);
                     try {
-                        // Don't consume an MoveEvaluationOperation until every moveThread took this ApplyStepOperation
-                        moveThreadBarrier.await();
-                    } catch (InterruptedException | BrokenBarrierException e) {
+                        // Don't consume an MoveEvaluationOperation until every moveThread took its ApplyStepOperation
+                        moveThreadBarrier.awaitAdvanceInterruptibly(barrierPhase);
+                    } catch (InterruptedException e) {
                         Thread.currentThread().interrupt();
                         break;
                     }
                 } else if (operation instanceof MoveEvaluationOperation) {
                     MoveEvaluationOperation<Solution_> moveEvaluationOperation = (MoveEvaluationOperation<Solution_>) operation;
-                    int moveIndex = moveEvaluationOperation.getMoveIndex();
+                    int firstMoveIndex = moveEvaluationOperation.getMoveIndex();
                     if (stepIndex != moveEvaluationOperation.getStepIndex()) {
                         throw new IllegalStateException("Impossible situation: the moveThread's stepIndex ("
                                 + stepIndex + ") differs from the operation's stepIndex ("
                                 + moveEvaluationOperation.getStepIndex() + ") with moveIndex ("
-                                + moveIndex + ").");
+                                + firstMoveIndex + ").");
                     }
-                    Move<Solution_> move = moveEvaluationOperation.getMove().rebase(scoreDirector);
-                    if (evaluateDoable && !move.isMoveDoable(scoreDirector)) {
-                        LOGGER.trace("{}            Move thread ({}) evaluation: step index ({}), move index ({}), not doable.",
-                                logIndentation, moveThreadIndex, stepIndex, moveIndex);
-                        resultQueue.addUndoableMove(moveThreadIndex, stepIndex, moveIndex, move);
-                    } else {
-                        Score<?> score = scoreDirector.doAndProcessMove(move, assertMoveScoreFromScratch);
-                        if (assertExpectedUndoMoveScore) {
-                            scoreDirector.assertExpectedUndoMoveScore(move, lastStepScore);
-                        }
-                        LOGGER.trace("{}            Move thread ({}) evaluation: step index ({}), move index ({}), score ({}).",
-                                logIndentation, moveThreadIndex, stepIndex, moveIndex, score);
-                        // Deliberately add to fail fast if there is not enough capacity (which is impossible)
-                        resultQueue.addMove(moveThreadIndex, stepIndex, moveIndex, move, score);
+                    List<Move<Solution_>> moveList = moveEvaluationOperation.getMoveList();
+                    long startNanos = System.nanoTime();
+                    for (int i = 0; i < moveList.size(); i++) {
+                        evaluateMove(stepIndex, firstMoveIndex + i, moveList.get(i), lastStepScore);
                     }
+                    batchSizer.recordBatch(moveList.size(), System.nanoTime() - startNanos);
                 } else {
                     throw new IllegalStateException("Unknown operation (" + operation + ").");
                 }
@@ -175,6 +170,23 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
         }
     }
 
+    private void evaluateMove(int stepIndex, int moveIndex, Move<Solution_> originalMove, Score_ lastStepScore) {
+        Move<Solution_> move = originalMove.rebase(scoreDirector);
+        if (evaluateDoable && !move.isMoveDoable(scoreDirector)) {
+            LOGGER.trace("{}            Move thread ({}) evaluation: step index ({}), move index ({}), not doable.",
+                    logIndentation, moveThreadIndex, stepIndex, moveIndex);
+            resultQueue.addUndoableMove(moveThreadIndex, stepIndex, moveIndex, move);
+        } else {
+            Score<?> score = scoreDirector.doAndProcessMove(move, assertMoveScoreFromScratch);
+            if (assertExpectedUndoMoveScore) {
+                scoreDirector.assertExpectedUndoMoveScore(move, lastStepScore);
+            }
+            LOGGER.trace("{}            Move thread ({}) evaluation: step index ({}), move index ({}), score ({}).",
+                    logIndentation, moveThreadIndex, stepIndex, moveIndex, score);
+            resultQueue.addMove(moveThreadIndex, stepIndex, moveIndex, move, score);
+        }
+    }
+
     protected void predictWorkingStepScore(Move<Solution_> step, Score_ score) {
         // There is no need to recalculate the score, but we still need to set it
         scoreDirector.getSolutionDescriptor().setScore(scoreDirector.getWorkingSolution(), score);
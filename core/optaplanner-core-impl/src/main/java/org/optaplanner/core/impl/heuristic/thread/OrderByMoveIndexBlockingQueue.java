@@ -19,25 +19,42 @@
 
 package org.optaplanner.core.impl.heuristic.thread;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
 
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.heuristic.move.Move;
 
+/**
+ * Lock-free handoff of move evaluation results from the move threads to the solver thread,
+ * which takes them in moveIndex order.
+ * <p>
+ * Every result is written in the slot of its moveIndex (modulo the capacity).
+ * Because the solver thread never has more moves in circulation than the capacity,
+ * a slot is never shared by 2 results of the same step.
+ * Results from a previous step never overwrite a result of a later step
+ * and they are discarded when the solver thread encounters them.
+ *
+ * @param <Solution_> the solution type, the class with the {@link org.optaplanner.core.api.domain.solution.PlanningSolution}
+ *        annotation
+ */
 public class OrderByMoveIndexBlockingQueue<Solution_> {
 
-    private final BlockingQueue<MoveResult<Solution_>> innerQueue;
-    private final Map<Integer, MoveResult<Solution_>> backlog;
+    private static final int SPIN_COUNT = 128;
+
+    private final int capacity;
+    private final AtomicReferenceArray<MoveResult<Solution_>> results;
+    private final AtomicReference<MoveResult<Solution_>> exceptionResult = new AtomicReference<>(null);
 
-    private int filterStepIndex = Integer.MIN_VALUE;
+    private volatile int filterStepIndex = Integer.MIN_VALUE;
+    private volatile Thread parkedSolverThread = null;
     private int nextMoveIndex = Integer.MIN_VALUE;
 
     public OrderByMoveIndexBlockingQueue(int capacity) {
-        innerQueue = new ArrayBlockingQueue<>(capacity);
-        backlog = new HashMap<>(capacity);
+        this.capacity = capacity;
+        results = new AtomicReferenceArray<>(capacity);
     }
 
     /**
@@ -46,24 +63,16 @@ public class OrderByMoveIndexBlockingQueue<Solution_> {
      * @param stepIndex at least 0
      */
     public void startNextStep(int stepIndex) {
-        synchronized (this) {
-            if (filterStepIndex >= stepIndex) {
-                throw new IllegalStateException("The old filterStepIndex (" + filterStepIndex
-                        + ") must be less than the stepIndex (" + stepIndex + ")");
-            }
-            filterStepIndex = stepIndex;
-            MoveResult<Solution_> exceptionResult = innerQueue.stream().filter(MoveResult::hasThrownException)
-                    .findFirst().orElse(null);
-            if (exceptionResult != null) {
-                throw new IllegalStateException("The move thread with moveThreadIndex ("
-                        + exceptionResult.getMoveThreadIndex() + ") has thrown an exception."
-                        + " Relayed here in the parent thread.",
-                        exceptionResult.getThrowable());
-            }
-            innerQueue.clear();
+        if (filterStepIndex >= stepIndex) {
+            throw new IllegalStateException("The old filterStepIndex (" + filterStepIndex
+                    + ") must be less than the stepIndex (" + stepIndex + ")");
+        }
+        filterStepIndex = stepIndex;
+        MoveResult<Solution_> exceptionResult = this.exceptionResult.get();
+        if (exceptionResult != null) {
+            throw createRelayedException(exceptionResult);
         }
         nextMoveIndex = 0;
-        backlog.clear();
     }
 
     /**
@@ -76,14 +85,7 @@ public class OrderByMoveIndexBlockingQueue<Solution_> {
      * @see BlockingQueue#add(Object)
      */
     public void addUndoableMove(int moveThreadIndex, int stepIndex, int moveIndex, Move<Solution_> move) {
-        MoveResult<Solution_> result = new MoveResult<>(moveThreadIndex, stepIndex, moveIndex, move, false, null);
-        synchronized (this) {
-            if (result.getStepIndex() != filterStepIndex) {
-                // Discard element from previous step
-                return;
-            }
-            innerQueue.add(result);
-        }
+        addResult(new MoveResult<>(moveThreadIndex, stepIndex, moveIndex, move, false, null));
     }
 
     /**
@@ -97,14 +99,27 @@ public class OrderByMoveIndexBlockingQueue<Solution_> {
      * @see BlockingQueue#add(Object)
      */
     public void addMove(int moveThreadIndex, int stepIndex, int moveIndex, Move<Solution_> move, Score score) {
-        MoveResult<Solution_> result = new MoveResult<>(moveThreadIndex, stepIndex, moveIndex, move, true, score);
-        synchronized (this) {
-            if (result.getStepIndex() != filterStepIndex) {
-                // Discard element from previous step
+        addResult(new MoveResult<>(moveThreadIndex, stepIndex, moveIndex, move, true, score));
+    }
+
+    private void addResult(MoveResult<Solution_> result) {
+        if (result.getStepIndex() != filterStepIndex || exceptionResult.get() != null) {
+            // Discard element from previous step or after an exception
+            // Any element from a previous step that still slips through is discarded by take()
+            return;
+        }
+        int slotIndex = result.getMoveIndex() % capacity;
+        while (true) {
+            MoveResult<Solution_> oldResult = results.get(slotIndex);
+            if (oldResult != null && oldResult.getStepIndex() > result.getStepIndex()) {
+                // Never overwrite an element of a later step with an element of a previous step
                 return;
             }
-            innerQueue.add(result);
+            if (results.compareAndSet(slotIndex, oldResult, result)) {
+                break;
+            }
         }
+        unparkSolverThread();
     }
 
     /**
@@ -118,9 +133,10 @@ public class OrderByMoveIndexBlockingQueue<Solution_> {
      */
     public void addExceptionThrown(int moveThreadIndex, Throwable throwable) {
         MoveResult<Solution_> result = new MoveResult<>(moveThreadIndex, throwable);
-        synchronized (this) {
-            innerQueue.add(result);
-        }
+        // If 2 exceptions are added from different threads concurrently, either one could end up first.
+        // This is a known deviation from 100% reproducibility, that never occurs in a success scenario.
+        exceptionResult.compareAndSet(null, result);
+        unparkSolverThread();
     }
 
     /**
@@ -133,30 +149,62 @@ public class OrderByMoveIndexBlockingQueue<Solution_> {
     public MoveResult<Solution_> take() throws InterruptedException {
         int moveIndex = nextMoveIndex;
         nextMoveIndex++;
-        if (!backlog.isEmpty()) {
-            MoveResult<Solution_> result = backlog.remove(moveIndex);
+        int slotIndex = moveIndex % capacity;
+        int spinCount = 0;
+        while (true) {
+            MoveResult<Solution_> result = pollResult(slotIndex, moveIndex);
             if (result != null) {
                 return result;
             }
-        }
-        while (true) {
-            MoveResult<Solution_> result = innerQueue.take();
-            // If 2 exceptions are added from different threads concurrently, either one could end up first.
-            // This is a known deviation from 100% reproducibility, that never occurs in a success scenario.
-            if (result.hasThrownException()) {
-                throw new IllegalStateException("The move thread with moveThreadIndex ("
-                        + result.getMoveThreadIndex() + ") has thrown an exception."
-                        + " Relayed here in the parent thread.",
-                        result.getThrowable());
+            MoveResult<Solution_> exceptionResult = this.exceptionResult.get();
+            if (exceptionResult != null) {
+                throw createRelayedException(exceptionResult);
             }
-            if (result.getMoveIndex() == moveIndex) {
-                return result;
-            } else {
-                backlog.put(result.getMoveIndex(), result);
+            if (spinCount < SPIN_COUNT) {
+                spinCount++;
+                Thread.onSpinWait();
+                continue;
+            }
+            parkedSolverThread = Thread.currentThread();
+            // Check again after registering, so a result added in the meantime unparks this thread
+            if (results.get(slotIndex) == null && this.exceptionResult.get() == null) {
+                LockSupport.park(this);
+            }
+            parkedSolverThread = null;
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
             }
         }
     }
 
+    private MoveResult<Solution_> pollResult(int slotIndex, int moveIndex) {
+        MoveResult<Solution_> result = results.get(slotIndex);
+        if (result == null) {
+            return null;
+        }
+        if (result.getStepIndex() == filterStepIndex && result.getMoveIndex() == moveIndex) {
+            results.set(slotIndex, null);
+            return result;
+        }
+        // Discard element from previous step, unless a move thread has replaced it already
+        results.compareAndSet(slotIndex, result, null);
+        return null;
+    }
+
+    private void unparkSolverThread() {
+        Thread solverThread = parkedSolverThread;
+        if (solverThread != null) {
+            LockSupport.unpark(solverThread);
+        }
+    }
+
+    private IllegalStateException createRelayedException(MoveResult<Solution_> exceptionResult) {
+        return new IllegalStateException("The move thread with moveThreadIndex ("
+                + exceptionResult.getMoveThreadIndex() + ") has thrown an exception."
+                + " Relayed here in the parent thread.",
+                exceptionResult.getThrowable());
+    }
+
     public static class MoveResult<Solution_> {
 
         private final int moveThreadIndex;
@@ -188,10 +236,6 @@ public class OrderByMoveIndexBlockingQueue<Solution_> {
             this.throwable = throwable;
         }
 
-        private boolean hasThrownException() {
-            return throwable != null;
-        }
-
         public int getMoveThreadIndex() {
             return moveThreadIndex;
         }
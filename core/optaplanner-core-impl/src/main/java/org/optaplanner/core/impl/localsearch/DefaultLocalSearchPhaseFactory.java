@@ -112,6 +112,16 @@ public class DefaultLocalSearchPhaseFactory<Solution_> extends AbstractPhaseFact
             MultiThreadedLocalSearchDecider<Solution_> multiThreadedDecider = new MultiThreadedLocalSearchDecider<>(
                     configPolicy.getLogIndentation(), termination, moveSelector, acceptor, forager,
                     threadFactory, moveThreadCount, selectedMoveBufferSize);
+            Integer moveThreadBatchSize = configPolicy.getMoveThreadBatchSize();
+            if (moveThreadBatchSize == null) {
+                // The batch size adapts to the move evaluation time up to this maximum,
+                // which leaves room for every move thread to have a batch in progress and another one queued
+                moveThreadBatchSize = Math.max(1, moveThreadBufferSize / 2);
+            } else if (moveThreadBatchSize < 1) {
+                throw new IllegalArgumentException("The moveThreadBatchSize (" + moveThreadBatchSize
+                        + ") must be at least 1.");
+            }
+            multiThreadedDecider.setMoveThreadBatchSize(moveThreadBatchSize);
             if (environmentMode.isNonIntrusiveFullAsserted()) {
                 multiThreadedDecider.setAssertStepScoreFromScratch(true);
             }
@@ -22,11 +22,9 @@ package org.optaplanner.core.impl.localsearch.decider;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Phaser;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 
@@ -36,8 +34,9 @@ import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
 import org.optaplanner.core.impl.heuristic.thread.ApplyStepOperation;
 import org.optaplanner.core.impl.heuristic.thread.DestroyOperation;
+import org.optaplanner.core.impl.heuristic.thread.MoveEvaluationBatchSizer;
 import org.optaplanner.core.impl.heuristic.thread.MoveEvaluationOperation;
-import org.optaplanner.core.impl.heuristic.thread.MoveThreadOperation;
+import org.optaplanner.core.impl.heuristic.thread.MoveThreadOperationQueue;
 import org.optaplanner.core.impl.heuristic.thread.MoveThreadRunner;
 import org.optaplanner.core.impl.heuristic.thread.OrderByMoveIndexBlockingQueue;
 import org.optaplanner.core.impl.heuristic.thread.SetupOperation;
@@ -60,13 +59,15 @@ public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecid
     protected final int moveThreadCount;
     protected final int selectedMoveBufferSize;
 
+    protected int moveThreadBatchSize = 1;
     protected boolean assertStepScoreFromScratch = false;
     protected boolean assertExpectedStepScore = false;
     protected boolean assertShadowVariablesAreNotStaleAfterStep = false;
 
-    protected BlockingQueue<MoveThreadOperation<Solution_>> operationQueue;
+    protected MoveThreadOperationQueue<Solution_> operationQueue;
     protected OrderByMoveIndexBlockingQueue<Solution_> resultQueue;
-    protected CyclicBarrier moveThreadBarrier;
+    protected Phaser moveThreadBarrier;
+    protected MoveEvaluationBatchSizer batchSizer;
     protected ExecutorService executor;
     protected List<MoveThreadRunner<Solution_, ?>> moveThreadRunnerList;
 
@@ -79,6 +80,13 @@ public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecid
         this.selectedMoveBufferSize = selectedMoveBufferSize;
     }
 
+    /**
+     * @param moveThreadBatchSize at least 1, the maximum number of moves per {@link MoveEvaluationOperation}
+     */
+    public void setMoveThreadBatchSize(int moveThreadBatchSize) {
+        this.moveThreadBatchSize = moveThreadBatchSize;
+    }
+
     public void setAssertStepScoreFromScratch(boolean assertStepScoreFromScratch) {
         this.assertStepScoreFromScratch = assertStepScoreFromScratch;
     }
@@ -95,17 +103,18 @@ public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecid
     public void phaseStarted(LocalSearchPhaseScope<Solution_> phaseScope) {
         super.phaseStarted(phaseScope);
         // Capacity: number of moves in circulation + number of setup xor step operations + number of destroy operations
-        operationQueue = new ArrayBlockingQueue<>(selectedMoveBufferSize + moveThreadCount + moveThreadCount);
+        operationQueue = new MoveThreadOperationQueue<>(selectedMoveBufferSize + moveThreadCount + moveThreadCount);
         // Capacity: number of moves in circulation + number of exception handling results
         resultQueue = new OrderByMoveIndexBlockingQueue<>(selectedMoveBufferSize + moveThreadCount);
-        moveThreadBarrier = new CyclicBarrier(moveThreadCount);
+        moveThreadBarrier = new Phaser(moveThreadCount);
+        batchSizer = new MoveEvaluationBatchSizer(moveThreadBatchSize);
         InnerScoreDirector<Solution_, ?> scoreDirector = phaseScope.getScoreDirector();
         executor = createThreadPoolExecutor();
         moveThreadRunnerList = new ArrayList<>(moveThreadCount);
         for (int moveThreadIndex = 0; moveThreadIndex < moveThreadCount; moveThreadIndex++) {
             MoveThreadRunner<Solution_, ?> moveThreadRunner = new MoveThreadRunner<>(
                     logIndentation, moveThreadIndex, true,
-                    operationQueue, resultQueue, moveThreadBarrier,
+                    operationQueue, resultQueue, moveThreadBarrier, batchSizer,
                     assertMoveScoreFromScratch, assertExpectedUndoMoveScore,
                     assertStepScoreFromScratch, assertExpectedStepScore, assertShadowVariablesAreNotStaleAfterStep);
             moveThreadRunnerList.add(moveThreadRunner);
@@ -132,6 +141,7 @@ public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecid
         phaseScope.addChildThreadsScoreCalculationCount(childThreadsScoreCalculationCount);
         operationQueue = null;
         resultQueue = null;
+        batchSizer = null;
         moveThreadRunnerList = null;
     }
 
@@ -159,6 +169,8 @@ public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecid
 
         int selectMoveIndex = 0;
         int movesInPlay = 0;
+        int batchSize = batchSizer.getBatchSize();
+        List<Move<Solution_>> batchMoveList = new ArrayList<>(batchSize);
         Iterator<Move<Solution_>> moveIterator = moveSelector.iterator();
         do {
             boolean hasNextMove = moveIterator.hasNext();
@@ -166,6 +178,11 @@ public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecid
             // For reproducibility, the selectedMoveBufferSize always need to be entirely selected,
             // even if some of those moves won't end up being evaluated or foraged
             if (movesInPlay > 0 && (selectMoveIndex >= selectedMoveBufferSize || !hasNextMove)) {
+                int forageMoveIndex = selectMoveIndex - movesInPlay;
+                if (forageMoveIndex >= selectMoveIndex - batchMoveList.size()) {
+                    // The move to forage is still in the batch, so no move thread can be evaluating it yet
+                    batchMoveList = addMoveEvaluationOperation(stepIndex, selectMoveIndex, batchMoveList, batchSize);
+                }
                 if (forageResult(stepScope, stepIndex)) {
                     break;
                 }
@@ -173,9 +190,12 @@ public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecid
             }
             if (hasNextMove) {
                 Move<Solution_> move = moveIterator.next();
-                operationQueue.add(new MoveEvaluationOperation<>(stepIndex, selectMoveIndex, move));
+                batchMoveList.add(move);
                 selectMoveIndex++;
                 movesInPlay++;
+                if (batchMoveList.size() >= batchSize) {
+                    batchMoveList = addMoveEvaluationOperation(stepIndex, selectMoveIndex, batchMoveList, batchSize);
+                }
             }
         } while (movesInPlay > 0);
 
@@ -199,6 +219,13 @@ public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecid
         }
     }
 
+    private List<Move<Solution_>> addMoveEvaluationOperation(int stepIndex, int selectMoveIndex,
+            List<Move<Solution_>> batchMoveList, int batchSize) {
+        int firstMoveIndex = selectMoveIndex - batchMoveList.size();
+        operationQueue.add(new MoveEvaluationOperation<>(stepIndex, firstMoveIndex, batchMoveList));
+        return new ArrayList<>(batchSize);
+    }
+
     private boolean forageResult(LocalSearchStepScope<Solution_> stepScope, int stepIndex) {
         OrderByMoveIndexBlockingQueue.MoveResult<Solution_> result;
         try {
@@ -19,12 +19,7 @@
 
 package org.optaplanner.core.impl.localsearch.decider.acceptor.tabu;
 
-import java.util.ArrayDeque;
 import java.util.Collection;
-import java.util.Deque;
-import java.util.HashMap;
-import java.util.Iterator;
-import java.util.Map;
 
 import org.optaplanner.core.impl.localsearch.decider.acceptor.AbstractAcceptor;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.Acceptor;
@@ -48,8 +43,7 @@ public abstract class AbstractTabuAcceptor<Solution_> extends AbstractAcceptor<S
 
     protected boolean assertTabuHashCodeCorrectness = false;
 
-    protected Map<Object, Integer> tabuToStepIndexMap;
-    protected Deque<Object> tabuSequenceDeque;
+    private TabuRingBuffer tabuRingBuffer;
 
     protected int workingTabuSize = -1;
     protected int workingFadingTabuSize = -1;
@@ -87,15 +81,13 @@ public abstract class AbstractTabuAcceptor<Solution_> extends AbstractAcceptor<S
         workingFadingTabuSize = fadingTabuSizeStrategy == null ? 0
                 : fadingTabuSizeStrategy.determineTabuSize(lastCompletedStepScope);
         int totalTabuListSize = workingTabuSize + workingFadingTabuSize; // is at least 1
-        tabuToStepIndexMap = new HashMap<>(totalTabuListSize);
-        tabuSequenceDeque = new ArrayDeque<>();
+        tabuRingBuffer = new TabuRingBuffer(totalTabuListSize);
     }
 
     @Override
     public void phaseEnded(LocalSearchPhaseScope<Solution_> phaseScope) {
         super.phaseEnded(phaseScope);
-        tabuToStepIndexMap = null;
-        tabuSequenceDeque = null;
+        tabuRingBuffer = null;
         workingTabuSize = -1;
         workingFadingTabuSize = -1;
     }
@@ -112,30 +104,10 @@ public abstract class AbstractTabuAcceptor<Solution_> extends AbstractAcceptor<S
     protected void adjustTabuList(int tabuStepIndex, Collection<? extends Object> tabus) {
         int totalTabuListSize = workingTabuSize + workingFadingTabuSize; // is at least 1
         // Remove the oldest tabu(s)
-        for (Iterator<Object> it = tabuSequenceDeque.iterator(); it.hasNext();) {
-            Object oldTabu = it.next();
-            Integer oldTabuStepIndexInteger = tabuToStepIndexMap.get(oldTabu);
-            if (oldTabuStepIndexInteger == null) {
-                throw new IllegalStateException("HashCode stability violation: the hashCode() of tabu ("
-                        + oldTabu + ") of class (" + oldTabu.getClass()
-                        + ") changed during planning, since it was inserted in the tabu Map or Set.");
-            }
-            int oldTabuStepCount = tabuStepIndex - oldTabuStepIndexInteger; // at least 1
-            if (oldTabuStepCount < totalTabuListSize) {
-                break;
-            }
-            it.remove();
-            tabuToStepIndexMap.remove(oldTabu);
-        }
-        // Add the new tabu(s)
+        tabuRingBuffer.removeExpired(tabuStepIndex, totalTabuListSize);
+        // Add the new tabu(s), pushing an existing tabu to the end of the line
         for (Object tabu : tabus) {
-            // Push tabu to the end of the line
-            if (tabuToStepIndexMap.containsKey(tabu)) {
-                tabuToStepIndexMap.remove(tabu);
-                tabuSequenceDeque.remove(tabu);
-            }
-            tabuToStepIndexMap.put(tabu, tabuStepIndex);
-            tabuSequenceDeque.add(tabu);
+            tabuRingBuffer.add(tabu, tabuStepIndex);
         }
     }
 
@@ -180,12 +152,10 @@ public abstract class AbstractTabuAcceptor<Solution_> extends AbstractAcceptor<S
         Collection<? extends Object> checkingTabus = findTabu(moveScope);
         int maximumTabuStepIndex = -1;
         for (Object checkingTabu : checkingTabus) {
-            Integer tabuStepIndexInteger = tabuToStepIndexMap.get(checkingTabu);
-            if (tabuStepIndexInteger != null) {
-                maximumTabuStepIndex = Math.max(tabuStepIndexInteger, maximumTabuStepIndex);
-            }
+            int tabuStepIndex = tabuRingBuffer.getStepIndex(checkingTabu);
+            maximumTabuStepIndex = Math.max(tabuStepIndex, maximumTabuStepIndex);
             if (assertTabuHashCodeCorrectness) {
-                for (Object tabu : tabuSequenceDeque) {
+                tabuRingBuffer.forEach(tabu -> {
                     // tabu and checkingTabu can be null with a nullable planning variable
                     if (tabu != null && tabu.equals(checkingTabu)) {
                         if (tabu.hashCode() != checkingTabu.hashCode()) {
@@ -194,13 +164,13 @@ public abstract class AbstractTabuAcceptor<Solution_> extends AbstractAcceptor<S
                                     + ") and checkingTabu (" + checkingTabu
                                     + ") are equals() but have a different hashCode().");
                         }
-                        if (tabuStepIndexInteger == null) {
+                        if (tabuStepIndex < 0) {
                             throw new IllegalStateException("HashCode stability violation: the hashCode() of tabu ("
                                     + tabu + ") of class (" + tabu.getClass()
                                     + ") changed during planning, since it was inserted in the tabu Map or Set.");
                         }
                     }
-                }
+                });
             }
         }
         return maximumTabuStepIndex;
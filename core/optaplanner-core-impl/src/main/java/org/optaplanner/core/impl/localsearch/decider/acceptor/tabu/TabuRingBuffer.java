@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.optaplanner.core.impl.localsearch.decider.acceptor.tabu;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Remembers the step index of each tabu, in the order the tabus were added.
+ * <p>
+ * The tabus live in a ring buffer, so the oldest tabus expire from its head in O(1) each.
+ * An open addressing table (with linear probing and backward shift deletion) indexes the ring slots
+ * by {@link Object#hashCode()} and {@link Object#equals(Object)}, so no step index is boxed.
+ * Re-adding a tabu pushes it to the end of the line by leaving a dead slot behind,
+ * which is dropped when it expires or when the ring buffer grows.
+ * <p>
+ * This class is not thread-safe.
+ */
+final class TabuRingBuffer {
+
+    private static final int FREE = -1;
+    private static final Object DEAD = new Object();
+
+    // Ring buffer, the capacity is a power of 2
+    private Object[] tabus;
+    private int[] stepIndexes;
+    private int[] hashCodes;
+    private int head = 0;
+    private int ringSize = 0; // includes dead slots
+    private int size = 0;
+
+    // Each table slot holds a ring slot, the table is at most half full
+    private int[] table;
+
+    /**
+     * @param expectedSize {@code >= 0}
+     */
+    TabuRingBuffer(int expectedSize) {
+        int capacity = 2;
+        while (capacity < expectedSize) {
+            capacity <<= 1;
+        }
+        allocate(capacity);
+    }
+
+    private void allocate(int capacity) {
+        tabus = new Object[capacity];
+        stepIndexes = new int[capacity];
+        hashCodes = new int[capacity];
+        table = new int[capacity * 2];
+        Arrays.fill(table, FREE);
+    }
+
+    private static int spread(int hashCode) {
+        int hash = hashCode * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * @return {@code >= 0}, the number of tabus
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * @param tabu sometimes null
+     * @return {@code >= 0} if the tabu is present, otherwise {@code -1}
+     */
+    int getStepIndex(Object tabu) {
+        int tableSlot = findTableSlot(tabu, Objects.hashCode(tabu));
+        return tableSlot < 0 ? -1 : stepIndexes[table[tableSlot]];
+    }
+
+    /**
+     * Adds the tabu at the end of the line, even if it was already present.
+     * @param tabu sometimes null
+     * @param stepIndex {@code >= 0}, never lower than a previous stepIndex
+     */
+    void add(Object tabu, int stepIndex) {
+        int hashCode = Objects.hashCode(tabu);
+        int tableSlot = findTableSlot(tabu, hashCode);
+        if (tableSlot >= 0) {
+            int ringSlot = table[tableSlot];
+            removeTableSlot(tableSlot);
+            tabus[ringSlot] = DEAD;
+            size--;
+        }
+        if (ringSize == tabus.length) {
+            // Grow only if compacting away the dead slots doesn't leave enough room
+            rebuild(size * 2 > tabus.length ? tabus.length * 2 : tabus.length);
+        }
+        int ringSlot = (head + ringSize) & (tabus.length - 1);
+        tabus[ringSlot] = tabu;
+        stepIndexes[ringSlot] = stepIndex;
+        hashCodes[ringSlot] = hashCode;
+        ringSize++;
+        size++;
+        insertTableSlot(ringSlot);
+    }
+
+    /**
+     * Removes the oldest tabus, as long as they were added at least totalTabuListSize steps before tabuStepIndex.
+     * @param tabuStepIndex {@code >= 0}
+     * @param totalTabuListSize {@code >= 1}
+     */
+    void removeExpired(int tabuStepIndex, int totalTabuListSize) {
+        int mask = tabus.length - 1;
+        while (ringSize > 0) {
+            Object oldTabu = tabus[head];
+            if (oldTabu != DEAD) {
+                int oldTabuStepCount = tabuStepIndex - stepIndexes[head]; // at least 1
+                if (oldTabuStepCount < totalTabuListSize) {
+                    break;
+                }
+                if (Objects.hashCode(oldTabu) != hashCodes[head]) {
+                    throw new IllegalStateException("HashCode stability violation: the hashCode() of tabu ("
+                            + oldTabu + ") of class (" + oldTabu.getClass()
+                            + ") changed during planning, since it was inserted in the tabu Map or Set.");
+                }
+                removeTableSlot(findTableSlot(head));
+                size--;
+            }
+            tabus[head] = null;
+            head = (head + 1) & mask;
+            ringSize--;
+        }
+    }
+
+    /**
+     * @param consumer never null, receives every tabu from oldest to newest
+     */
+    void forEach(Consumer<Object> consumer) {
+        int mask = tabus.length - 1;
+        for (int i = 0; i < ringSize; i++) {
+            Object tabu = tabus[(head + i) & mask];
+            if (tabu != DEAD) {
+                consumer.accept(tabu);
+            }
+        }
+    }
+
+    private int findTableSlot(Object tabu, int hashCode) {
+        int mask = table.length - 1;
+        for (int tableSlot = spread(hashCode) & mask; table[tableSlot] != FREE; tableSlot = (tableSlot + 1) & mask) {
+            int ringSlot = table[tableSlot];
+            if (hashCodes[ringSlot] == hashCode && Objects.equals(tabus[ringSlot], tabu)) {
+                return tableSlot;
+            }
+        }
+        return -1;
+    }
+
+    private int findTableSlot(int ringSlot) {
+        int mask = table.length - 1;
+        for (int tableSlot = spread(hashCodes[ringSlot]) & mask;; tableSlot = (tableSlot + 1) & mask) {
+            if (table[tableSlot] == ringSlot) {
+                return tableSlot;
+            }
+            if (table[tableSlot] == FREE) {
+                throw new IllegalStateException("Impossible state: the ringSlot (" + ringSlot
+                        + ") is not indexed.");
+            }
+        }
+    }
+
+    private void insertTableSlot(int ringSlot) {
+        int mask = table.length - 1;
+        int tableSlot = spread(hashCodes[ringSlot]) & mask;
+        while (table[tableSlot] != FREE) {
+            tableSlot = (tableSlot + 1) & mask;
+        }
+        table[tableSlot] = ringSlot;
+    }
+
+    private void removeTableSlot(int tableSlot) {
+        int mask = table.length - 1;
+        int gap = tableSlot;
+        for (int i = (gap + 1) & mask; table[i] != FREE; i = (i + 1) & mask) {
+            int home = spread(hashCodes[table[i]]) & mask;
+            // Move the entry into the gap, unless its home slot lies cyclically in (gap, i]
+            if (((i - home) & mask) >= ((i - gap) & mask)) {
+                table[gap] = table[i];
+                gap = i;
+            }
+        }
+        table[gap] = FREE;
+    }
+
+    private void rebuild(int capacity) {
+        Object[] oldTabus = tabus;
+        int[] oldStepIndexes = stepIndexes;
+        int[] oldHashCodes = hashCodes;
+        int oldMask = oldTabus.length - 1;
+        int oldHead = head;
+        int oldRingSize = ringSize;
+        allocate(capacity);
+        head = 0;
+        ringSize = 0;
+        for (int i = 0; i < oldRingSize; i++) {
+            int oldRingSlot = (oldHead + i) & oldMask;
+            if (oldTabus[oldRingSlot] != DEAD) {
+                tabus[ringSize] = oldTabus[oldRingSlot];
+                stepIndexes[ringSize] = oldStepIndexes[oldRingSlot];
+                hashCodes[ringSize] = oldHashCodes[oldRingSlot];
+                insertTableSlot(ringSize);
+                ringSize++;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + size + ")";
+    }
+
+}
@@ -49,6 +49,7 @@ import org.optaplanner.core.impl.domain.common.accessor.MemberAccessor;
 import org.optaplanner.core.impl.domain.constraintweight.descriptor.ConstraintConfigurationDescriptor;
 import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
 import org.optaplanner.core.impl.domain.lookup.LookUpManager;
+import org.optaplanner.core.impl.domain.solution.cloner.IncrementalSolutionCloner;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
@@ -57,6 +58,7 @@ import org.optaplanner.core.impl.domain.variable.supply.SupplyManager;
 import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 import org.optaplanner.core.impl.solver.thread.ChildThreadType;
+import org.optaplanner.core.impl.util.IdentityOrdinalIndex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -88,6 +90,9 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
     protected Integer workingInitScore = null;
 
     protected boolean allChangesWillBeUndoneBeforeStepEnds = false;
+    protected IncrementalSolutionCloner<Solution_> incrementalSolutionCloner = null;
+    protected boolean warmStartEnabled = false;
+    protected IdentityOrdinalIndex ordinalIndex = null;
 
     protected long calculationCount = 0L;
 
@@ -158,6 +163,14 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         return variableListenerSupport;
     }
 
+    @Override
+    public IdentityOrdinalIndex getOrdinalIndex() {
+        if (ordinalIndex == null) {
+            ordinalIndex = getSolutionDescriptor().buildOrdinalIndex(workingSolution);
+        }
+        return ordinalIndex;
+    }
+
     // ************************************************************************
     // Complex methods
     // ************************************************************************
@@ -183,8 +196,13 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         } else {
             solutionDescriptor.visitAll(workingSolution, this::assertNonNullPlanningId);
         }
+        // Before the variable listeners reset, as supplies might index on the new ordinals
+        ordinalIndex = null;
         variableListenerSupport.resetWorkingSolution();
         setWorkingEntityListDirty();
+        if (incrementalSolutionCloner != null) {
+            incrementalSolutionCloner.markAllChanged();
+        }
     }
 
     @Override
@@ -217,17 +235,22 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
 
     @Override
     public Score_ doAndProcessMove(Move<Solution_> move, boolean assertMoveScoreFromScratch) {
+        int changeCheckpoint = incrementalSolutionCloner == null ? -1 : incrementalSolutionCloner.createChangeCheckpoint();
         Move<Solution_> undoMove = move.doMove(this);
         Score_ score = calculateScore();
         if (assertMoveScoreFromScratch) {
             assertWorkingScoreFromScratch(score, move);
         }
         undoMove.doMoveOnly(this);
+        if (incrementalSolutionCloner != null) {
+            incrementalSolutionCloner.revertToChangeCheckpoint(changeCheckpoint);
+        }
         return score;
     }
 
     @Override
     public void doAndProcessMove(Move<Solution_> move, boolean assertMoveScoreFromScratch, Consumer<Score_> moveProcessor) {
+        int changeCheckpoint = incrementalSolutionCloner == null ? -1 : incrementalSolutionCloner.createChangeCheckpoint();
         Move<Solution_> undoMove = move.doMove(this);
         Score_ score = calculateScore();
         if (assertMoveScoreFromScratch) {
@@ -235,6 +258,9 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         }
         moveProcessor.accept(score);
         undoMove.doMoveOnly(this);
+        if (incrementalSolutionCloner != null) {
+            incrementalSolutionCloner.revertToChangeCheckpoint(changeCheckpoint);
+        }
     }
 
     @Override
@@ -281,6 +307,28 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         return cloneSolution;
     }
 
+    @Override
+    public void setIncrementalSolutionCloner(IncrementalSolutionCloner<Solution_> incrementalSolutionCloner) {
+        this.incrementalSolutionCloner = incrementalSolutionCloner;
+    }
+
+    @Override
+    public void setWarmStartEnabled(boolean warmStartEnabled) {
+        this.warmStartEnabled = warmStartEnabled;
+    }
+
+    private void markChanged(Object workingObject) {
+        if (incrementalSolutionCloner != null) {
+            incrementalSolutionCloner.markChanged(workingObject);
+        }
+    }
+
+    private void markAllChanged() {
+        if (incrementalSolutionCloner != null) {
+            incrementalSolutionCloner.markAllChanged();
+        }
+    }
+
     @Override
     public void triggerVariableListeners() {
         variableListenerSupport.triggerVariableListenersInNotificationQueues();
@@ -421,6 +469,10 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
     }
 
     public void beforeEntityAdded(EntityDescriptor<Solution_> entityDescriptor, Object entity) {
+        markChanged(entity);
+        if (ordinalIndex != null) {
+            ordinalIndex.add(entity);
+        }
         variableListenerSupport.beforeEntityAdded(entityDescriptor, entity);
     }
 
@@ -439,6 +491,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         if (variableDescriptor.isGenuineAndUninitialized(entity)) {
             workingInitScore++;
         }
+        markChanged(entity);
         variableListenerSupport.beforeVariableChanged(variableDescriptor, entity);
     }
 
@@ -458,7 +511,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
 
     @Override
     public void beforeListVariableElementAssigned(ListVariableDescriptor<Solution_> variableDescriptor, Object element) {
-        // Do nothing
+        markChanged(element);
     }
 
     @Override
@@ -468,7 +521,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
 
     @Override
     public void beforeListVariableElementUnassigned(ListVariableDescriptor<Solution_> variableDescriptor, Object element) {
-        // Do nothing
+        markChanged(element);
     }
 
     @Override
@@ -480,6 +533,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
     @Override
     public void beforeListVariableChanged(ListVariableDescriptor<Solution_> variableDescriptor,
             Object entity, int fromIndex, int toIndex) {
+        markChanged(entity);
         variableListenerSupport.beforeListVariableChanged(variableDescriptor, entity, fromIndex, toIndex);
     }
 
@@ -491,6 +545,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
 
     public void beforeEntityRemoved(EntityDescriptor<Solution_> entityDescriptor, Object entity) {
         workingInitScore += entityDescriptor.countUninitializedVariables(entity);
+        markChanged(entity);
         variableListenerSupport.beforeEntityRemoved(entityDescriptor, entity);
     }
 
@@ -517,6 +572,12 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         if (lookUpEnabled) {
             lookUpManager.addWorkingObject(problemFact);
         }
+        if (ordinalIndex != null) {
+            ordinalIndex.add(problemFact);
+        }
+        // Caches built from the problem facts, such as value ranges, are also stale
+        setWorkingEntityListDirty();
+        markAllChanged();
         variableListenerSupport.resetWorkingSolution(); // TODO do not nuke the variable listeners
     }
 
@@ -530,6 +591,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         if (isConstraintConfiguration(problemFactOrEntity)) {
             setWorkingSolution(workingSolution); // Nuke everything and recalculate, constraint weights have changed.
         } else {
+            markAllChanged();
             variableListenerSupport.resetWorkingSolution(); // TODO do not nuke the variable listeners
         }
     }
@@ -548,6 +610,9 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         if (lookUpEnabled) {
             lookUpManager.removeWorkingObject(problemFact);
         }
+        // Caches built from the problem facts, such as value ranges, are also stale
+        setWorkingEntityListDirty();
+        markAllChanged();
         variableListenerSupport.resetWorkingSolution(); // TODO do not nuke the variable listeners
     }
 
@@ -35,6 +35,7 @@ import org.optaplanner.core.api.score.constraint.Indictment;
 import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.api.score.stream.Constraint;
 import org.optaplanner.core.api.solver.SolutionManager;
+import org.optaplanner.core.impl.domain.solution.cloner.IncrementalSolutionCloner;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
@@ -42,6 +43,7 @@ import org.optaplanner.core.impl.domain.variable.supply.SupplyManager;
 import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 import org.optaplanner.core.impl.solver.thread.ChildThreadType;
+import org.optaplanner.core.impl.util.IdentityOrdinalIndex;
 
 /**
  * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
@@ -131,7 +133,7 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
 
     /**
      * @param expectedWorkingEntityListRevision an
-     * @return true if the entityList might have a different set of instances now
+     * @return true if the entityList (or the problem facts) might have a different set of instances now
      */
     boolean isWorkingEntityListDirty(long expectedWorkingEntityListRevision);
 
@@ -176,6 +178,24 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
      */
     Solution_ cloneSolution(Solution_ originalSolution);
 
+    /**
+     * Notifies the {@link IncrementalSolutionCloner} of every change to the working solution from now on.
+     *
+     * @param incrementalSolutionCloner null to stop notifying
+     */
+    void setIncrementalSolutionCloner(IncrementalSolutionCloner<Solution_> incrementalSolutionCloner);
+
+    /**
+     * Keeps the incremental score calculation state alive when this score director is {@link #close() closed},
+     * so the next {@link #setWorkingSolution(Object)} only inserts and retracts the facts and entities
+     * that differ (by identity) from the previous working solution.
+     * Problem fact instances shared by both working solutions are presumed unchanged.
+     * Implementations that don't support this, ignore it.
+     *
+     * @param warmStartEnabled true to keep the state after closing
+     */
+    void setWarmStartEnabled(boolean warmStartEnabled);
+
     /**
      * @return at least 0L
      */
@@ -190,6 +210,17 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
      */
     SupplyManager getSupplyManager();
 
+    /**
+     * Built lazily from the working solution, with {@link SolutionDescriptor#buildOrdinalIndex(Object)}.
+     * Entities and problem facts added later through this score director get the next ordinals.
+     * Removed ones keep theirs, until the next {@link #setWorkingSolution(Object)} builds a new index.
+     * Nothing is added to the index until it is first requested,
+     * so a score director whose index is never used doesn't pay for it.
+     *
+     * @return never null, a dense ordinal for every entity and problem fact of the working solution
+     */
+    IdentityOrdinalIndex getOrdinalIndex();
+
     /**
      * Clones this {@link ScoreDirector} and its {@link PlanningSolution working solution}.
      * Use {@link #getWorkingSolution()} to retrieve the {@link PlanningSolution working solution} of that clone.
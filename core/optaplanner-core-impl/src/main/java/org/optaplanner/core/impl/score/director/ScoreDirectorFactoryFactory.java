@@ -151,10 +151,12 @@ public class ScoreDirectorFactoryFactory<Solution_, Score_ extends Score<Score_>
         if (easyScoreDirectorFactorySupplier != null) {
             validateNoDroolsAlphaNetworkCompilation();
             validateNoGizmoKieBaseSupplier();
+            validateNoConstraintStreamParallelPropagation();
             return easyScoreDirectorFactorySupplier.get();
         } else if (incrementalScoreDirectorFactorySupplier != null) {
             validateNoDroolsAlphaNetworkCompilation();
             validateNoGizmoKieBaseSupplier();
+            validateNoConstraintStreamParallelPropagation();
             return incrementalScoreDirectorFactorySupplier.get();
         }
 
@@ -162,6 +164,8 @@ public class ScoreDirectorFactoryFactory<Solution_, Score_ extends Score<Score_>
             if (isBavet) {
                 validateNoDroolsAlphaNetworkCompilation();
                 validateNoGizmoKieBaseSupplier();
+            } else {
+                validateNoConstraintStreamParallelPropagation();
             }
             return constraintStreamScoreDirectorFactorySupplier.get();
         } else if (config.getConstraintProviderClass() != null) {
@@ -175,6 +179,7 @@ public class ScoreDirectorFactoryFactory<Solution_, Score_ extends Score<Score_>
         }
 
         if (drlScoreDirectorFactorySupplier != null) {
+            validateNoConstraintStreamParallelPropagation();
             return drlScoreDirectorFactorySupplier.get();
         } else {
             if (!ConfigUtils.isEmptyCollection(config.getScoreDrlList())
@@ -237,6 +242,15 @@ public class ScoreDirectorFactoryFactory<Solution_, Score_ extends Score<Score_>
         }
     }
 
+    private void validateNoConstraintStreamParallelPropagation() {
+        if (config.getConstraintStreamParallelPropagationEnabled() != null) {
+            throw new IllegalStateException("If there is no constraintProviderClass ("
+                    + config.getConstraintProviderClass() + ") with " + BAVET + " impl type ("
+                    + config.getConstraintStreamImplType() + "), there can be no constraintStreamParallelPropagationEnabled ("
+                    + config.getConstraintStreamParallelPropagationEnabled() + ") either.");
+        }
+    }
+
     private void validateNoGizmoKieBaseSupplier() {
         if (config.getGizmoKieBaseSupplier() != null) {
             throw new IllegalStateException("If there is no constraintProviderClass ("
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream;
+
+import org.optaplanner.core.api.score.stream.ConstraintCollectors;
+
+/**
+ * Result container of the {@code int} count, sum and average collectors in {@link ConstraintCollectors}.
+ * <p>
+ * Keeps the sum and the count as primitives, so accumulating never boxes.
+ * The undo returned by {@link #add(int)} is recycled once it has run,
+ * so a tuple that is retracted and accumulated again (as happens on every update in Bavet's group nodes)
+ * does not allocate either.
+ * <p>
+ * Every undo must run at most once, and must not be used after it has run.
+ */
+public final class IntSumResultContainer {
+
+    private int sum = 0;
+    private int count = 0;
+    /**
+     * Head of a singly linked list of undos that have run and are free to be reused.
+     */
+    private IntUndo recycledUndo = null;
+
+    /**
+     * @param value any
+     * @return never null, subtracts the value again
+     */
+    public Runnable add(int value) {
+        sum += value;
+        count++;
+        IntUndo undo = recycledUndo;
+        if (undo == null) {
+            undo = new IntUndo(this);
+        } else {
+            recycledUndo = undo.nextRecycledUndo;
+            undo.nextRecycledUndo = null;
+        }
+        undo.value = value;
+        undo.active = true;
+        return undo;
+    }
+
+    private void remove(IntUndo undo) {
+        if (!undo.active) {
+            throw new IllegalStateException("Impossible state: the undo of value (" + undo.value
+                    + ") already ran.");
+        }
+        undo.active = false;
+        sum -= undo.value;
+        count--;
+        undo.nextRecycledUndo = recycledUndo;
+        recycledUndo = undo;
+    }
+
+    public int getSum() {
+        return sum;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * @return null if nothing is accumulated
+     */
+    public Double getAverage() {
+        if (count == 0) {
+            return null;
+        }
+        return sum / (double) count;
+    }
+
+    @Override
+    public String toString() {
+        return "Sum " + sum + " of " + count + " values";
+    }
+
+    private static final class IntUndo implements Runnable {
+
+        private final IntSumResultContainer resultContainer;
+        private int value;
+        private boolean active;
+        private IntUndo nextRecycledUndo;
+
+        private IntUndo(IntSumResultContainer resultContainer) {
+            this.resultContainer = resultContainer;
+        }
+
+        @Override
+        public void run() {
+            resultContainer.remove(this);
+        }
+
+    }
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import org.optaplanner.core.api.score.stream.ConstraintCollectors;
+
+/**
+ * Result container of the {@link ConstraintCollectors#topK(int, Comparator)} family of collectors.
+ * <p>
+ * Keeps every value of the group in a sorted multiset, so that both insert and retract are {@code O(log n)}.
+ * The first {@code k} values are materialized lazily into an unmodifiable list,
+ * and only rematerialized ({@code O(k)}) after an insert or retract that could have changed them.
+ * Values outside of the first {@code k} therefore never cause the result to be rebuilt.
+ * <p>
+ * Values which compare to zero but are not equal are all kept, in insertion order;
+ * only values that are {@link Object#equals(Object) equal} are interchangeable on retract.
+ *
+ * @param <Value_> the type of the collected values
+ */
+public final class TopKResultContainer<Value_> {
+
+    private final int k;
+    private final Comparator<? super Value_> comparator;
+    private final NavigableMap<Value_, List<Value_>> valueMap;
+    private int size = 0;
+
+    /**
+     * Null when stale.
+     */
+    private List<Value_> result = Collections.emptyList();
+    /**
+     * The last element of {@link #result}, null if it is empty or stale.
+     */
+    private Value_ boundaryValue = null;
+
+    /**
+     * @param k {@code > 0}, the maximum size of the result
+     * @param comparator never null, the first {@code k} values in this order make up the result
+     */
+    public TopKResultContainer(int k, Comparator<? super Value_> comparator) {
+        if (k < 1) {
+            throw new IllegalArgumentException("The k (" + k + ") must be at least 1.");
+        }
+        this.k = k;
+        this.comparator = Objects.requireNonNull(comparator);
+        this.valueMap = new TreeMap<>(comparator);
+    }
+
+    /**
+     * @param value never null
+     * @return never null, retracts the value
+     */
+    public Runnable add(Value_ value) {
+        valueMap.computeIfAbsent(value, key -> new ArrayList<>(1))
+                .add(value);
+        size++;
+        invalidateResultIfAffected(value);
+        return () -> remove(value);
+    }
+
+    private void remove(Value_ value) {
+        List<Value_> sameValueList = valueMap.get(value);
+        if (sameValueList == null || !sameValueList.remove(value)) {
+            throw new IllegalStateException("Impossible state: the value (" + value
+                    + ") is retracted but it was never added.");
+        }
+        if (sameValueList.isEmpty()) {
+            valueMap.remove(value);
+        }
+        size--;
+        invalidateResultIfAffected(value);
+    }
+
+    private void invalidateResultIfAffected(Value_ value) {
+        if (result == null) {
+            return;
+        }
+        // A result that is not full contains every value, otherwise only values up to the boundary are in it.
+        // Ties with the boundary are treated as affecting the result, because their order among each other matters.
+        if (result.size() < k || comparator.compare(value, boundaryValue) <= 0) {
+            result = null;
+            boundaryValue = null;
+        }
+    }
+
+    /**
+     * @return never null, unmodifiable, at most {@code k} values, in comparator order;
+     *         the same instance as long as the first {@code k} values did not change
+     */
+    public List<Value_> getResult() {
+        if (result == null) {
+            if (size == 0) {
+                result = Collections.emptyList();
+            } else {
+                List<Value_> resultList = new ArrayList<>(Math.min(k, size));
+                Iterator<List<Value_>> sameValueListIterator = valueMap.values().iterator();
+                while (resultList.size() < k && sameValueListIterator.hasNext()) {
+                    for (Value_ value : sameValueListIterator.next()) {
+                        if (resultList.size() == k) {
+                            break;
+                        }
+                        resultList.add(value);
+                    }
+                }
+                result = Collections.unmodifiableList(resultList);
+                boundaryValue = resultList.get(resultList.size() - 1);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "Top " + k + " of " + size + " values";
+    }
+
+}
@@ -42,6 +42,7 @@ final class BestSolutionHolder<Solution_> {
     private final SortedMap<BigInteger, List<CompletableFuture<Void>>> problemChangesPerVersion =
             new TreeMap<>();
     private BigInteger currentVersion = BigInteger.ZERO;
+    private boolean problemChangesRefused = false;
 
     boolean isEmpty() {
         return versionedBestSolutionRef.get() == null;
@@ -100,12 +101,18 @@ final class BestSolutionHolder<Solution_> {
      * a relevant best solution by the {@link #take()} method.
      *
      * @return CompletableFuture that will be completed after the best solution containing this change is passed to
-     *         a user-defined Consumer.
+     *         a user-defined Consumer,
+     *         or that is already canceled if the solver has finished solving, see {@link #refuseProblemChanges()}.
      */
     CompletableFuture<Void> addProblemChange(Solver<Solution_> solver, ProblemChange<Solution_> problemChange) {
         problemChangesLock.lock();
         try {
             CompletableFuture<Void> futureProblemChange = new CompletableFuture<>();
+            if (problemChangesRefused) {
+                // Like a problem change that arrived just before the solver finished.
+                futureProblemChange.cancel(false);
+                return futureProblemChange;
+            }
             problemChangesPerVersion.compute(currentVersion, (version, futureProblemChangeList) -> {
                 if (futureProblemChangeList == null) {
                     futureProblemChangeList = new ArrayList<>();
@@ -120,6 +127,20 @@ final class BestSolutionHolder<Solution_> {
         }
     }
 
+    /**
+     * Makes every later {@link #addProblemChange(Solver, ProblemChange)} return a canceled future,
+     * so no problem change can reach the solver after it finished solving.
+     * Problem changes added before are still pending, so they are completed or canceled as usual.
+     */
+    void refuseProblemChanges() {
+        problemChangesLock.lock();
+        try {
+            problemChangesRefused = true;
+        } finally {
+            problemChangesLock.unlock();
+        }
+    }
+
     void cancelPendingChanges() {
         problemChangesLock.lock();
         try {
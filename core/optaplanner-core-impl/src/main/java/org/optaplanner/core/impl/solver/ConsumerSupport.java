@@ -19,10 +19,14 @@
 
 package org.optaplanner.core.impl.solver;
 
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
@@ -35,18 +39,48 @@ final class ConsumerSupport<Solution_, ProblemId_> implements AutoCloseable {
     private final BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler;
     private final Semaphore activeConsumption = new Semaphore(1);
     private final BestSolutionHolder<Solution_> bestSolutionHolder;
-    private final ExecutorService consumerExecutor = Executors.newSingleThreadExecutor();
+    private final Executor consumerExecutor;
+    // Null if the consumerExecutor is shared with other solver jobs and therefore not ours to shut down.
+    private final ExecutorService ownedConsumerExecutor;
+    private final long throttlingDelayNanos;
+    private final AtomicBoolean delayedConsumptionScheduled = new AtomicBoolean(false);
+    private volatile long nextConsumptionNanos;
 
     public ConsumerSupport(ProblemId_ problemId, Consumer<? super Solution_> bestSolutionConsumer,
             Consumer<? super Solution_> finalBestSolutionConsumer,
             BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler,
             BestSolutionHolder<Solution_> bestSolutionHolder) {
+        this(problemId, bestSolutionConsumer, finalBestSolutionConsumer, exceptionHandler, bestSolutionHolder, null,
+                null);
+    }
+
+    /**
+     * @param throttlingDelay sometimes null, the minimum time between 2 calls of the bestSolutionConsumer.
+     *        Best solutions that improve within that delay replace the waiting best solution instead of being consumed.
+     *        The final best solution is always consumed.
+     * @param sharedConsumerExecutor sometimes null, runs the consumers instead of a dedicated consumer thread.
+     *        It is not shut down by this instance.
+     */
+    public ConsumerSupport(ProblemId_ problemId, Consumer<? super Solution_> bestSolutionConsumer,
+            Consumer<? super Solution_> finalBestSolutionConsumer,
+            BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler,
+            BestSolutionHolder<Solution_> bestSolutionHolder, Duration throttlingDelay,
+            Executor sharedConsumerExecutor) {
         this.problemId = problemId;
         this.bestSolutionConsumer = bestSolutionConsumer;
         this.finalBestSolutionConsumer = finalBestSolutionConsumer == null ? finalBestSolution -> {
         } : finalBestSolutionConsumer;
         this.exceptionHandler = exceptionHandler;
         this.bestSolutionHolder = bestSolutionHolder;
+        this.throttlingDelayNanos = throttlingDelay == null ? 0L : throttlingDelay.toNanos();
+        this.nextConsumptionNanos = System.nanoTime();
+        if (sharedConsumerExecutor == null) {
+            ownedConsumerExecutor = Executors.newSingleThreadExecutor();
+            consumerExecutor = ownedConsumerExecutor;
+        } else {
+            ownedConsumerExecutor = null;
+            consumerExecutor = sharedConsumerExecutor;
+        }
     }
 
     // Called on the Solver thread.
@@ -74,10 +108,11 @@ final class ConsumerSupport<Solution_, ProblemId_> implements AutoCloseable {
         // Make sure the final best solution is consumed by the intermediate best solution consumer first.
         // Situation:
         // The consumer is consuming the last but one best solution. The final best solution is waiting for the consumer.
-        if (bestSolutionConsumer != null) {
-            scheduleIntermediateBestSolutionConsumption();
-        }
-        consumerExecutor.submit(() -> {
+        // A shared consumerExecutor can run tasks concurrently, so chain the final consumption after it.
+        CompletableFuture<Void> intermediateBestSolutionConsumption = bestSolutionConsumer != null
+                ? scheduleIntermediateBestSolutionConsumption()
+                : CompletableFuture.completedFuture(null);
+        intermediateBestSolutionConsumption.thenRunAsync(() -> {
             try {
                 finalBestSolutionConsumer.accept(finalBestSolution);
             } catch (Throwable throwable) {
@@ -92,7 +127,7 @@ final class ConsumerSupport<Solution_, ProblemId_> implements AutoCloseable {
                 activeConsumption.release();
                 disposeConsumerThread();
             }
-        });
+        }, consumerExecutor);
     }
 
     // Called both on the Solver thread and the Consumer thread.
@@ -100,6 +135,20 @@ final class ConsumerSupport<Solution_, ProblemId_> implements AutoCloseable {
         if (bestSolutionHolder.isEmpty()) {
             return; // There is no best solution to consume.
         }
+        if (throttlingDelayNanos > 0L) {
+            long remainingDelayNanos = nextConsumptionNanos - System.nanoTime();
+            if (remainingDelayNanos > 0L) {
+                // The waiting best solution is consumed after the delay, unless a newer one replaces it in the meantime.
+                if (delayedConsumptionScheduled.compareAndSet(false, true)) {
+                    CompletableFuture.delayedExecutor(remainingDelayNanos, TimeUnit.NANOSECONDS, consumerExecutor)
+                            .execute(() -> {
+                                delayedConsumptionScheduled.set(false);
+                                tryConsumeWaitingIntermediateBestSolution();
+                            });
+                }
+                return;
+            }
+        }
         if (activeConsumption.tryAcquire()) {
             scheduleIntermediateBestSolutionConsumption().thenRunAsync(this::tryConsumeWaitingIntermediateBestSolution,
                     consumerExecutor);
@@ -114,6 +163,7 @@ final class ConsumerSupport<Solution_, ProblemId_> implements AutoCloseable {
         return CompletableFuture.runAsync(() -> {
             BestSolutionContainingProblemChanges<Solution_> bestSolutionContainingProblemChanges = bestSolutionHolder.take();
             if (bestSolutionContainingProblemChanges != null) {
+                nextConsumptionNanos = System.nanoTime() + throttlingDelayNanos;
                 try {
                     bestSolutionConsumer.accept(bestSolutionContainingProblemChanges.getBestSolution());
                     bestSolutionContainingProblemChanges.completeProblemChanges();
@@ -136,6 +186,8 @@ final class ConsumerSupport<Solution_, ProblemId_> implements AutoCloseable {
     }
 
     private void disposeConsumerThread() {
-        consumerExecutor.shutdownNow();
+        if (ownedConsumerExecutor != null) {
+            ownedConsumerExecutor.shutdownNow();
+        }
     }
 }
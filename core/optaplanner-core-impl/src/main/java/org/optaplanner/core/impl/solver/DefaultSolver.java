@@ -19,11 +19,13 @@
 
 package org.optaplanner.core.impl.solver;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
@@ -34,7 +36,11 @@ import org.optaplanner.core.api.solver.Solver;
 import org.optaplanner.core.api.solver.change.ProblemChange;
 import org.optaplanner.core.config.solver.EnvironmentMode;
 import org.optaplanner.core.config.solver.monitoring.SolverMetric;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
 import org.optaplanner.core.impl.phase.Phase;
+import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
+import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.score.director.InnerScoreDirectorFactory;
 import org.optaplanner.core.impl.solver.change.ProblemChangeAdapter;
@@ -49,6 +55,7 @@ import io.micrometer.core.instrument.LongTaskTimer;
 import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 
 /**
  * Default implementation for {@link Solver}.
@@ -69,6 +76,8 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
     protected final SolverScope<Solution_> solverScope;
 
     private final String moveThreadCountDescription;
+    private boolean problemChangeBatching = false;
+    private boolean incrementalRestart = false;
 
     // ************************************************************************
     // Constructors and simple getters/setters
@@ -86,6 +95,22 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
         this.moveThreadCountDescription = moveThreadCountDescription;
     }
 
+    /**
+     * @param problemChangeBatching true to trigger the variable listeners once after all waiting problem changes,
+     *        instead of after every problem change
+     */
+    public void setProblemChangeBatching(boolean problemChangeBatching) {
+        this.problemChangeBatching = problemChangeBatching;
+    }
+
+    /**
+     * @param incrementalRestart true to apply the problem changes that arrive during Local Search
+     *        between 2 steps, instead of terminating and restarting the solver
+     */
+    public void setIncrementalRestart(boolean incrementalRestart) {
+        this.incrementalRestart = incrementalRestart;
+    }
+
     public EnvironmentMode getEnvironmentMode() {
         return environmentMode;
     }
@@ -166,6 +191,15 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
         problemChangeList.forEach(this::addProblemChange);
     }
 
+    /**
+     * See {@link BasicPlumbingTermination#discardProblemChanges()}.
+     *
+     * @return at least 0
+     */
+    public int discardProblemChanges() {
+        return basicPlumbingTermination.discardProblemChanges();
+    }
+
     @Override
     public boolean isEveryProblemChangeProcessed() {
         return basicPlumbingTermination.isEveryProblemFactChangeProcessed();
@@ -176,6 +210,13 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
         return basicPlumbingTermination.isEveryProblemFactChangeProcessed();
     }
 
+    /**
+     * @param solvingPermit sometimes null, see {@link BasicPlumbingTermination#setSolvingPermit(SolvingPermit)}
+     */
+    public void setSolvingPermit(SolvingPermit<?> solvingPermit) {
+        basicPlumbingTermination.setSolvingPermit(solvingPermit);
+    }
+
     public void setMonitorTagMap(Map<String, String> monitorTagMap) {
         Tags monitoringTags = Objects.requireNonNullElse(monitorTagMap, Collections.<String, String> emptyMap())
                 .entrySet().stream().map(entry -> Tags.of(entry.getKey(), entry.getValue()))
@@ -274,6 +315,31 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
         solving.set(false);
     }
 
+    @Override
+    public void phaseStarted(AbstractPhaseScope<Solution_> phaseScope) {
+        super.phaseStarted(phaseScope);
+        if (incrementalRestart && phaseScope instanceof LocalSearchPhaseScope) {
+            basicPlumbingTermination.setProblemFactChangesProcessedBySteps(true);
+        }
+    }
+
+    @Override
+    public void phaseEnded(AbstractPhaseScope<Solution_> phaseScope) {
+        if (incrementalRestart) {
+            basicPlumbingTermination.setProblemFactChangesProcessedBySteps(false);
+        }
+        super.phaseEnded(phaseScope);
+    }
+
+    @Override
+    public void stepEnded(AbstractStepScope<Solution_> stepScope) {
+        if (incrementalRestart && stepScope instanceof LocalSearchStepScope
+                && basicPlumbingTermination.isProblemFactChangeWaiting()) {
+            doProblemFactChangesInStep(stepScope);
+        }
+        super.stepEnded(stepScope);
+    }
+
     private boolean checkProblemFactChanges() {
         boolean restartSolver = basicPlumbingTermination.waitForRestartSolverDecision();
         if (!restartSolver) {
@@ -282,25 +348,79 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
             BlockingQueue<ProblemChangeAdapter<Solution_>> problemFactChangeQueue = basicPlumbingTermination
                     .startProblemFactChangesProcessing();
             solverScope.setWorkingSolutionFromBestSolution();
-
-            int stepIndex = 0;
-            ProblemChangeAdapter<Solution_> problemChangeAdapter = problemFactChangeQueue.poll();
-            while (problemChangeAdapter != null) {
-                problemChangeAdapter.doProblemChange(solverScope);
-                logger.debug("    Real-time problem change applied; step index ({}).", stepIndex);
-                stepIndex++;
-                problemChangeAdapter = problemFactChangeQueue.poll();
-            }
-            // All PFCs are processed, fail fast if any of the new facts have null planning IDs.
-            InnerScoreDirector<Solution_, ?> scoreDirector = solverScope.getScoreDirector();
-            scoreDirector.assertNonNullPlanningIds();
-            // Everything is fine, proceed.
-            Score<?> score = scoreDirector.calculateScore();
+            int problemChangeCount = doProblemFactChanges(problemFactChangeQueue);
+            Score<?> score = solverScope.getScoreDirector().calculateScore();
             basicPlumbingTermination.endProblemFactChangesProcessing();
             bestSolutionRecaller.updateBestSolutionAndFireIfInitialized(solverScope);
             logger.info("Real-time problem fact changes done: step total ({}), new best score ({}).",
-                    stepIndex, score);
+                    problemChangeCount, score);
             return true;
         }
     }
+
+    /**
+     * Applies the waiting problem changes to the working solution of a Local Search step,
+     * so the Local Search phase continues from that working solution, keeping its state (such as its tabu list).
+     * Unlike {@link #checkProblemFactChanges()}, it does not start from the best solution.
+     * If the problem changes add or remove planning entities or problem facts,
+     * or leave planning variables uninitialized, the selector caches are stale,
+     * so it falls back to restarting the solver from the new best solution.
+     *
+     * @param stepScope never null
+     */
+    private void doProblemFactChangesInStep(AbstractStepScope<Solution_> stepScope) {
+        InnerScoreDirector<Solution_, ?> scoreDirector = solverScope.getScoreDirector();
+        long workingEntityListRevision = scoreDirector.getWorkingEntityListRevision();
+        BlockingQueue<ProblemChangeAdapter<Solution_>> problemFactChangeQueue = basicPlumbingTermination
+                .startProblemFactChangesProcessing();
+        int problemChangeCount = doProblemFactChanges(problemFactChangeQueue);
+        Score<?> score = scoreDirector.calculateScore();
+        basicPlumbingTermination.endProblemFactChangesProcessing();
+        // The best solution must include the problem changes, even if its score is worse than before.
+        bestSolutionRecaller.updateBestSolutionAndFireIfInitialized(solverScope);
+        if (scoreDirector.isWorkingEntityListDirty(workingEntityListRevision) || !score.isSolutionInitialized()) {
+            basicPlumbingTermination.requestRestart();
+            logger.info("Real-time problem fact changes done in step index ({}): step total ({}),"
+                    + " new best score ({}), restarting because the problem structure changed.",
+                    stepScope.getStepIndex(), problemChangeCount, score);
+        } else {
+            stepScope.setScore(score);
+            logger.info("Real-time problem fact changes done in step index ({}): step total ({}),"
+                    + " new best score ({}).",
+                    stepScope.getStepIndex(), problemChangeCount, score);
+        }
+    }
+
+    private int doProblemFactChanges(BlockingQueue<ProblemChangeAdapter<Solution_>> problemFactChangeQueue) {
+        InnerScoreDirector<Solution_, ?> scoreDirector = solverScope.getScoreDirector();
+        boolean latencyMetricEnabled = solverScope.isMetricEnabled(SolverMetric.PROBLEM_CHANGE_LATENCY);
+        List<ProblemChangeAdapter<Solution_>> appliedProblemChangeList =
+                latencyMetricEnabled ? new ArrayList<>() : null;
+        int stepIndex = 0;
+        ProblemChangeAdapter<Solution_> problemChangeAdapter = problemFactChangeQueue.poll();
+        while (problemChangeAdapter != null) {
+            problemChangeAdapter.doProblemChange(solverScope, !problemChangeBatching);
+            logger.debug("    Real-time problem change applied; step index ({}).", stepIndex);
+            if (latencyMetricEnabled) {
+                appliedProblemChangeList.add(problemChangeAdapter);
+            }
+            stepIndex++;
+            problemChangeAdapter = problemFactChangeQueue.poll();
+        }
+        if (problemChangeBatching) {
+            scoreDirector.triggerVariableListeners();
+        }
+        // All PFCs are processed, fail fast if any of the new facts have null planning IDs.
+        scoreDirector.assertNonNullPlanningIds();
+        if (latencyMetricEnabled) {
+            Timer latencyTimer = Metrics.timer(SolverMetric.PROBLEM_CHANGE_LATENCY.getMeterId(),
+                    solverScope.getMonitoringTags());
+            long incorporationNanoTime = System.nanoTime();
+            for (ProblemChangeAdapter<Solution_> appliedProblemChange : appliedProblemChangeList) {
+                latencyTimer.record(incorporationNanoTime - appliedProblemChange.getSubmissionNanoTime(),
+                        TimeUnit.NANOSECONDS);
+            }
+        }
+        return stepIndex;
+    }
 }
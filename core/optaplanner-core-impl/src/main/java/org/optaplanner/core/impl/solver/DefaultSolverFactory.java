@@ -129,6 +129,16 @@ public final class DefaultSolverFactory<Solution_> implements SolverFactory<Solu
         Integer moveThreadCount_ = new MoveThreadCountResolver().resolveMoveThreadCount(solverConfig.getMoveThreadCount());
         BestSolutionRecaller<Solution_> bestSolutionRecaller =
                 BestSolutionRecallerFactory.create().buildBestSolutionRecaller(environmentMode_);
+        if (Objects.requireNonNullElse(solverConfig.getIncrementalBestSolutionCloning(), false)) {
+            if (solutionDescriptor.isCustomSolutionCloner()) {
+                throw new IllegalArgumentException("The solverConfig with incrementalBestSolutionCloning ("
+                        + solverConfig.getIncrementalBestSolutionCloning()
+                        + ") does not support the custom solutionCloner (" + solutionDescriptor.getSolutionCloner()
+                        + ") of the solutionClass (" + solutionDescriptor.getSolutionClass() + ").\n"
+                        + "Maybe remove the incrementalBestSolutionCloning or the custom solutionCloner.");
+            }
+            bestSolutionRecaller.setIncrementalCloning(true);
+        }
         HeuristicConfigPolicy<Solution_> configPolicy = new HeuristicConfigPolicy.Builder<>(
                 environmentMode_,
                 moveThreadCount_,
@@ -136,7 +146,9 @@ public final class DefaultSolverFactory<Solution_> implements SolverFactory<Solu
                 solverConfig.getThreadFactoryClass(),
                 scoreDirectorFactory.getInitializingScoreTrend(),
                 solutionDescriptor,
-                ClassInstanceCache.create()).build();
+                ClassInstanceCache.create())
+                .withMoveThreadBatchSize(solverConfig.getMoveThreadBatchSize())
+                .build();
         TerminationConfig terminationConfig_ =
                 Objects.requireNonNullElseGet(solverConfig.getTerminationConfig(), TerminationConfig::new);
         BasicPlumbingTermination<Solution_> basicPlumbingTermination = new BasicPlumbingTermination<>(daemon_);
@@ -145,9 +157,20 @@ public final class DefaultSolverFactory<Solution_> implements SolverFactory<Solu
         List<Phase<Solution_>> phaseList = buildPhaseList(configPolicy, bestSolutionRecaller, termination);
 
         RandomFactory randomFactory = buildRandomFactory(environmentMode_);
-        return new DefaultSolver<>(environmentMode_, randomFactory, bestSolutionRecaller, basicPlumbingTermination,
-                termination, phaseList, solverScope,
+        DefaultSolver<Solution_> solver = new DefaultSolver<>(environmentMode_, randomFactory, bestSolutionRecaller,
+                basicPlumbingTermination, termination, phaseList, solverScope,
                 moveThreadCount_ == null ? SolverConfig.MOVE_THREAD_COUNT_NONE : Integer.toString(moveThreadCount_));
+        solver.setProblemChangeBatching(Objects.requireNonNullElse(solverConfig.getProblemChangeBatching(), false));
+        boolean incrementalRestart = Objects.requireNonNullElse(solverConfig.getIncrementalRestart(), false);
+        if (incrementalRestart && moveThreadCount_ != null) {
+            throw new IllegalArgumentException("The solverConfig with incrementalRestart ("
+                    + solverConfig.getIncrementalRestart()
+                    + ") does not support the moveThreadCount (" + solverConfig.getMoveThreadCount() + "),"
+                    + " because the move threads do not see problem changes applied between 2 steps.\n"
+                    + "Maybe remove the incrementalRestart or the moveThreadCount.");
+        }
+        solver.setIncrementalRestart(incrementalRestart);
+        return solver;
     }
 
     private SolutionDescriptor<Solution_> buildSolutionDescriptor() {
@@ -27,6 +27,7 @@ import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.ReentrantLock;
@@ -40,7 +41,9 @@ import org.optaplanner.core.api.solver.SolverJob;
 import org.optaplanner.core.api.solver.SolverStatus;
 import org.optaplanner.core.api.solver.change.ProblemChange;
 import org.optaplanner.core.api.solver.event.BestSolutionChangedEvent;
+import org.optaplanner.core.api.solver.event.SolverEventListener;
 import org.optaplanner.core.impl.phase.event.PhaseLifecycleListenerAdapter;
+import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -60,14 +63,21 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
     private final Consumer<? super Solution_> bestSolutionConsumer;
     private final Consumer<? super Solution_> finalBestSolutionConsumer;
     private final BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler;
+    private final Duration bestSolutionThrottlingDelay;
+    private final Executor consumerExecutor;
 
     private volatile SolverStatus solverStatus;
     private final CountDownLatch terminatedLatch;
     private final ReentrantLock solverStatusModifyingLock;
     private Future<Solution_> finalBestSolutionFuture;
+    private SolvingPermit<ProblemId_> solvingPermit;
     private ConsumerSupport<Solution_, ProblemId_> consumerSupport;
     private final AtomicBoolean terminatedEarly = new AtomicBoolean(false);
     private final BestSolutionHolder<Solution_> bestSolutionHolder = new BestSolutionHolder<>();
+    private final SolverEventListener<Solution_> bestSolutionChangedEventListener = this::onBestSolutionChangedEvent;
+    private final UnlockLockPhaseLifecycleListener unlockLockPhaseLifecycleListener =
+            new UnlockLockPhaseLifecycleListener();
+    private TimeSlicePhaseLifecycleListener timeSlicePhaseLifecycleListener = null;
 
     public DefaultSolverJob(
             DefaultSolverManager<Solution_, ProblemId_> solverManager,
@@ -75,7 +85,8 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
             Function<? super ProblemId_, ? extends Solution_> problemFinder,
             Consumer<? super Solution_> bestSolutionConsumer,
             Consumer<? super Solution_> finalBestSolutionConsumer,
-            BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler) {
+            BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler,
+            Duration bestSolutionThrottlingDelay, Executor consumerExecutor) {
         this.solverManager = solverManager;
         this.problemId = problemId;
         if (!(solver instanceof DefaultSolver)) {
@@ -87,6 +98,8 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
         this.bestSolutionConsumer = bestSolutionConsumer;
         this.finalBestSolutionConsumer = finalBestSolutionConsumer;
         this.exceptionHandler = exceptionHandler;
+        this.bestSolutionThrottlingDelay = bestSolutionThrottlingDelay;
+        this.consumerExecutor = consumerExecutor;
         solverStatus = SolverStatus.SOLVING_SCHEDULED;
         terminatedLatch = new CountDownLatch(1);
         solverStatusModifyingLock = new ReentrantLock();
@@ -96,6 +109,17 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
         this.finalBestSolutionFuture = finalBestSolutionFuture;
     }
 
+    void setSolvingPermit(SolvingPermit<ProblemId_> solvingPermit) {
+        this.solvingPermit = solvingPermit;
+        if (solvingPermit.isReleasable()) {
+            solver.setSolvingPermit(solvingPermit);
+        }
+        if (solvingPermit.isTimeSliced()) {
+            timeSlicePhaseLifecycleListener = new TimeSlicePhaseLifecycleListener();
+            solver.addPhaseLifecycleListener(timeSlicePhaseLifecycleListener);
+        }
+    }
+
     @Override
     public ProblemId_ getProblemId() {
         return problemId;
@@ -115,21 +139,28 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
             solverStatusModifyingLock.unlock();
             return problemFinder.apply(problemId);
         }
+        boolean solverReusable = false;
         try {
             solverStatus = SolverStatus.SOLVING_ACTIVE;
             // Create the consumer thread pool only when this solver job is active.
             consumerSupport = new ConsumerSupport<>(getProblemId(), bestSolutionConsumer, finalBestSolutionConsumer,
-                    exceptionHandler, bestSolutionHolder);
+                    exceptionHandler, bestSolutionHolder, bestSolutionThrottlingDelay, consumerExecutor);
 
             Solution_ problem = problemFinder.apply(problemId);
             // add a phase lifecycle listener that unlock the solver status lock when solving started
-            solver.addPhaseLifecycleListener(new UnlockLockPhaseLifecycleListener());
-            solver.addEventListener(this::onBestSolutionChangedEvent);
+            solver.addPhaseLifecycleListener(unlockLockPhaseLifecycleListener);
+            solver.addEventListener(bestSolutionChangedEventListener);
             final Solution_ finalBestSolution = solver.solve(problem);
+            // A problem change added after solve() returned is never applied: its future is canceled below,
+            // and it must not stay queued in the solver, because a pooled solver would apply it to another problem.
+            bestSolutionHolder.refuseProblemChanges();
+            solver.discardProblemChanges();
             consumerSupport.consumeFinalBestSolution(finalBestSolution);
+            solverReusable = true;
             return finalBestSolution;
         } catch (Exception e) {
             exceptionHandler.accept(problemId, e);
+            bestSolutionHolder.refuseProblemChanges();
             bestSolutionHolder.cancelPendingChanges();
             throw new IllegalStateException("Solving failed for problemId (" + problemId + ").", e);
         } finally {
@@ -143,6 +174,22 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
                 solverStatusModifyingLock.unlock();
             }
             solvingTerminated();
+            if (solverReusable) {
+                // Only a solver that ended normally, because a failed solver might be in an inconsistent state.
+                detachSolver();
+                solverManager.releaseSolver(solver);
+            }
+        }
+    }
+
+    private void detachSolver() {
+        solver.removeEventListener(bestSolutionChangedEventListener);
+        solver.removePhaseLifecycleListener(unlockLockPhaseLifecycleListener);
+        if (timeSlicePhaseLifecycleListener != null) {
+            solver.removePhaseLifecycleListener(timeSlicePhaseLifecycleListener);
+        }
+        if (solvingPermit.isReleasable()) {
+            solver.setSolvingPermit(null);
         }
     }
 
@@ -182,12 +229,15 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
             switch (solverStatus) {
                 case SOLVING_SCHEDULED:
                     finalBestSolutionFuture.cancel(false);
+                    solvingPermit.terminate();
                     solvingTerminated();
                     break;
                 case SOLVING_ACTIVE:
                     // Indirectly triggers solvingTerminated()
                     // No need to cancel the finalBestSolutionFuture as it will finish normally.
                     solver.terminateEarly();
+                    // Wakes up the solver thread if it waits for its turn to continue solving.
+                    solvingPermit.terminate();
                     break;
                 case NOT_SOLVING:
                     // Do nothing, solvingTerminated() already called
@@ -239,6 +289,13 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
         return Duration.ofMillis(endingSystemTimeMillis - startingSystemTimeMillis);
     }
 
+    /**
+     * Interrupts the solver thread, as if the thread pool running this solver job was shut down.
+     */
+    void interruptSolving() {
+        finalBestSolutionFuture.cancel(true);
+    }
+
     void close() {
         if (consumerSupport != null) {
             consumerSupport.close();
@@ -246,6 +303,17 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
         }
     }
 
+    /**
+     * Lets other solver jobs solve at a step boundary, once this solver job has solved for its time slice.
+     * Its working solution and all other solver state remain, so it continues where it left off.
+     */
+    private final class TimeSlicePhaseLifecycleListener extends PhaseLifecycleListenerAdapter<Solution_> {
+        @Override
+        public void stepEnded(AbstractStepScope<Solution_> stepScope) {
+            solvingPermit.yieldIfTimeSliceExpired();
+        }
+    }
+
     /**
      * A listener that unlocks the solverStatusModifyingLock when Solving has started.
      *
@@ -19,22 +19,26 @@
 
 package org.optaplanner.core.impl.solver;
 
+import java.time.Duration;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingDeque;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
-import org.optaplanner.core.api.solver.Solver;
 import org.optaplanner.core.api.solver.SolverFactory;
 import org.optaplanner.core.api.solver.SolverJob;
+import org.optaplanner.core.api.solver.SolverJobScheduler;
 import org.optaplanner.core.api.solver.SolverManager;
 import org.optaplanner.core.api.solver.SolverStatus;
 import org.optaplanner.core.api.solver.change.ProblemChange;
@@ -52,7 +56,14 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
 
     private final BiConsumer<ProblemId_, Throwable> defaultExceptionHandler;
     private final SolverFactory<Solution_> solverFactory;
+    // Null if the solverExecutor is supplied by the caller and therefore not ours to shut down.
     private final ExecutorService solverThreadPool;
+    private final Executor solverExecutor;
+    private final SolverJobDispatcher<ProblemId_> solverJobDispatcher;
+    private final Duration bestSolutionThrottlingDelay;
+    // Null if solvers aren't reused
+    private final LinkedBlockingDeque<DefaultSolver<Solution_>> idleSolverDeque;
+    private volatile boolean closed = false;
     private final ConcurrentMap<Object, DefaultSolverJob<Solution_, ProblemId_>> problemIdToSolverJobMap;
 
     public DefaultSolverManager(SolverFactory<Solution_> solverFactory,
@@ -60,18 +71,102 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
         defaultExceptionHandler = (problemId, throwable) -> LOGGER.error(
                 "Solving failed for problemId ({}).", problemId, throwable);
         this.solverFactory = solverFactory;
+        int solverPoolSize = Objects.requireNonNullElse(solverManagerConfig.getSolverPoolSize(), 0);
+        if (solverPoolSize < 0) {
+            throw new IllegalArgumentException("The solverPoolSize (" + solverPoolSize + ") cannot be negative.");
+        }
+        idleSolverDeque = solverPoolSize == 0 ? null : new LinkedBlockingDeque<>(solverPoolSize);
         validateSolverFactory();
+        bestSolutionThrottlingDelay = solverManagerConfig.getBestSolutionThrottlingDelay();
+        if (bestSolutionThrottlingDelay != null && bestSolutionThrottlingDelay.isNegative()) {
+            throw new IllegalArgumentException("The bestSolutionThrottlingDelay (" + bestSolutionThrottlingDelay
+                    + ") cannot be negative.");
+        }
+        Duration solvingTimeSlice = solverManagerConfig.getSolvingTimeSlice();
+        if (solvingTimeSlice != null && (solvingTimeSlice.isNegative() || solvingTimeSlice.isZero())) {
+            throw new IllegalArgumentException("The solvingTimeSlice (" + solvingTimeSlice + ") must be positive.");
+        }
         int parallelSolverCount = solverManagerConfig.resolveParallelSolverCount();
-        solverThreadPool = Executors.newFixedThreadPool(parallelSolverCount);
+        Executor configuredSolverExecutor = solverManagerConfig.getSolverExecutor();
+        boolean virtualThreads = Boolean.TRUE.equals(solverManagerConfig.getVirtualThreads());
+        if (configuredSolverExecutor != null) {
+            if (virtualThreads) {
+                throw new IllegalArgumentException("The solverExecutor (" + configuredSolverExecutor
+                        + ") and virtualThreads (" + solverManagerConfig.getVirtualThreads()
+                        + ") cannot be combined.");
+            }
+            solverThreadPool = null;
+            solverExecutor = configuredSolverExecutor;
+        } else if (virtualThreads) {
+            solverThreadPool = newVirtualThreadPerTaskExecutor();
+            solverExecutor = solverThreadPool;
+        } else {
+            if (solvingTimeSlice != null) {
+                throw new IllegalArgumentException("The solvingTimeSlice (" + solvingTimeSlice
+                        + ") requires virtualThreads (true) or a solverExecutor,"
+                        + " because a paused solver job would keep its thread of the fixed size thread pool.");
+            }
+            solverThreadPool = Executors.newFixedThreadPool(parallelSolverCount);
+            solverExecutor = solverThreadPool;
+        }
+        SolverJobScheduler<ProblemId_> solverJobScheduler =
+                (SolverJobScheduler<ProblemId_>) solverManagerConfig.getSolverJobScheduler();
+        if (solverJobScheduler == null) {
+            solverJobScheduler = SolverJobScheduler.fifo();
+        }
+        // A fixed size thread pool already limits the number of parallel solvers,
+        // so its solver jobs can't give back their permit while they keep their thread.
+        solverJobDispatcher = new SolverJobDispatcher<>(solverJobScheduler, solverExecutor, parallelSolverCount,
+                solverThreadPool == null || virtualThreads, solvingTimeSlice);
         problemIdToSolverJobMap = new ConcurrentHashMap<>(parallelSolverCount * 10);
     }
 
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        // Virtual threads exist since Java 21, but this code is compiled for an older Java version.
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException("The virtualThreads (true) requires Java 21 or higher,"
+                    + " but the current Java version is (" + Runtime.version() + ").", e);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to create a virtual thread per task executor.", e);
+        }
+    }
+
     public SolverFactory<Solution_> getSolverFactory() {
         return solverFactory;
     }
 
     private void validateSolverFactory() {
-        solverFactory.buildSolver();
+        DefaultSolver<Solution_> solver = buildSolver();
+        // Don't waste the solver that validated the solver factory.
+        releaseSolver(solver);
+    }
+
+    private DefaultSolver<Solution_> buildSolver() {
+        DefaultSolver<Solution_> solver = (DefaultSolver<Solution_>) solverFactory.buildSolver();
+        if (idleSolverDeque != null) {
+            solver.getSolverScope().getScoreDirector().setWarmStartEnabled(true);
+        }
+        return solver;
+    }
+
+    private DefaultSolver<Solution_> acquireSolver() {
+        // The most recently used solver first, because its previous problem is the most likely to resemble this one.
+        DefaultSolver<Solution_> solver = idleSolverDeque == null ? null : idleSolverDeque.pollFirst();
+        return solver != null ? solver : buildSolver();
+    }
+
+    /**
+     * Keeps the solver for reuse by a later solver job, unless the pool is full.
+     * A solver with a waiting problem change is never reused, because that change belongs to another problem.
+     *
+     * @param solver never null, not solving and without any listener of a solver job
+     */
+    void releaseSolver(DefaultSolver<Solution_> solver) {
+        if (idleSolverDeque != null && !closed && solver.isEveryProblemChangeProcessed()) {
+            idleSolverDeque.offerFirst(solver);
+        }
     }
 
     private ProblemId_ getProblemIdOrThrow(ProblemId_ problemId) {
@@ -108,23 +203,36 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
             Consumer<? super Solution_> bestSolutionConsumer,
             Consumer<? super Solution_> finalBestSolutionConsumer,
             BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler) {
-        Solver<Solution_> solver = solverFactory.buildSolver();
-        ((DefaultSolver<Solution_>) solver).setMonitorTagMap(Map.of("problem.id", problemId.toString()));
+        DefaultSolver<Solution_> solver = acquireSolver();
+        solver.setMonitorTagMap(Map.of("problem.id", problemId.toString()));
         BiConsumer<? super ProblemId_, ? super Throwable> finalExceptionHandler = (exceptionHandler != null)
                 ? exceptionHandler
                 : defaultExceptionHandler;
-        DefaultSolverJob<Solution_, ProblemId_> solverJob = problemIdToSolverJobMap
-                .compute(problemId, (key, oldSolverJob) -> {
-                    if (oldSolverJob != null) {
-                        // TODO Future features: automatically restart solving by calling reloadProblem()
-                        throw new IllegalStateException("The problemId (" + problemId + ") is already solving.");
-                    } else {
-                        return new DefaultSolverJob<>(this, solver, problemId, problemFinder,
-                                bestSolutionConsumer, finalBestSolutionConsumer, finalExceptionHandler);
-                    }
-                });
-        Future<Solution_> future = solverThreadPool.submit(solverJob);
+        DefaultSolverJob<Solution_, ProblemId_> solverJob = new DefaultSolverJob<>(this, solver, problemId,
+                problemFinder, bestSolutionConsumer, finalBestSolutionConsumer, finalExceptionHandler,
+                bestSolutionThrottlingDelay,
+                // Consumers of a fixed size thread pool get their own thread, as they always did.
+                solverJobDispatcher.isReleasable() ? solverExecutor : null);
+        FutureTask<Solution_> future = new FutureTask<>(solverJob);
         solverJob.setFinalBestSolutionFuture(future);
+        SolvingPermit<ProblemId_> solvingPermit = solverJobDispatcher.createPermit(problemId);
+        solverJob.setSolvingPermit(solvingPermit);
+        problemIdToSolverJobMap.compute(problemId, (key, oldSolverJob) -> {
+            if (oldSolverJob != null) {
+                // TODO Future features: automatically restart solving by calling reloadProblem()
+                throw new IllegalStateException("The problemId (" + problemId + ") is already solving.");
+            } else {
+                return solverJob;
+            }
+        });
+        solverJobDispatcher.schedule(solvingPermit, () -> {
+            try {
+                future.run();
+            } finally {
+                // A terminated daemon solver may have given its permit back already.
+                solvingPermit.releaseIfHeld();
+            }
+        });
         return solverJob;
     }
 
@@ -174,7 +282,16 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
 
     @Override
     public void close() {
-        solverThreadPool.shutdownNow();
+        closed = true;
+        if (idleSolverDeque != null) {
+            idleSolverDeque.clear();
+        }
+        solverJobDispatcher.close();
+        if (solverThreadPool != null) {
+            solverThreadPool.shutdownNow();
+        } else {
+            problemIdToSolverJobMap.values().forEach(DefaultSolverJob::interruptSolving);
+        }
         problemIdToSolverJobMap.values().forEach(DefaultSolverJob::close);
     }
 
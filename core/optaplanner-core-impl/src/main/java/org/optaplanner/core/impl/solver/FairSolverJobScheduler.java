@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.optaplanner.core.impl.solver;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+import org.optaplanner.core.api.solver.SolverJobScheduler;
+
+/**
+ * Round-robin over the tenants of the highest priority that has waiting solver jobs.
+ *
+ * @see SolverJobScheduler#fair(Function, ToIntFunction)
+ */
+public final class FairSolverJobScheduler<ProblemId_> implements SolverJobScheduler<ProblemId_> {
+
+    private final Function<? super ProblemId_, ?> tenantFunction;
+    private final ToIntFunction<? super ProblemId_> priorityFunction;
+    // Per priority, the tenants in the order of their turn: polling moves a tenant to the back.
+    private final NavigableMap<Integer, Map<Object, Deque<ProblemId_>>> priorityToTenantQueueMap =
+            new TreeMap<>(Comparator.reverseOrder());
+
+    public FairSolverJobScheduler(Function<? super ProblemId_, ?> tenantFunction,
+            ToIntFunction<? super ProblemId_> priorityFunction) {
+        this.tenantFunction = Objects.requireNonNull(tenantFunction);
+        this.priorityFunction = Objects.requireNonNull(priorityFunction);
+    }
+
+    @Override
+    public void add(ProblemId_ problemId) {
+        Object tenant = Objects.requireNonNull(tenantFunction.apply(problemId),
+                () -> "The tenantFunction returned a null tenant for the problemId (" + problemId + ").");
+        priorityToTenantQueueMap.computeIfAbsent(priorityFunction.applyAsInt(problemId), k -> new LinkedHashMap<>())
+                .computeIfAbsent(tenant, k -> new ArrayDeque<>())
+                .addLast(problemId);
+    }
+
+    @Override
+    public ProblemId_ poll() {
+        Map.Entry<Integer, Map<Object, Deque<ProblemId_>>> priorityEntry = priorityToTenantQueueMap.firstEntry();
+        if (priorityEntry == null) {
+            return null;
+        }
+        Map<Object, Deque<ProblemId_>> tenantQueueMap = priorityEntry.getValue();
+        Iterator<Map.Entry<Object, Deque<ProblemId_>>> tenantIterator = tenantQueueMap.entrySet().iterator();
+        Map.Entry<Object, Deque<ProblemId_>> tenantEntry = tenantIterator.next();
+        Deque<ProblemId_> problemIdQueue = tenantEntry.getValue();
+        ProblemId_ problemId = problemIdQueue.pollFirst();
+        tenantIterator.remove();
+        if (!problemIdQueue.isEmpty()) {
+            tenantQueueMap.put(tenantEntry.getKey(), problemIdQueue);
+        } else if (tenantQueueMap.isEmpty()) {
+            priorityToTenantQueueMap.remove(priorityEntry.getKey());
+        }
+        return problemId;
+    }
+
+    @Override
+    public void remove(ProblemId_ problemId) {
+        int priority = priorityFunction.applyAsInt(problemId);
+        Map<Object, Deque<ProblemId_>> tenantQueueMap = priorityToTenantQueueMap.get(priority);
+        if (tenantQueueMap == null) {
+            return;
+        }
+        Object tenant = tenantFunction.apply(problemId);
+        Deque<ProblemId_> problemIdQueue = tenantQueueMap.get(tenant);
+        if (problemIdQueue == null || !problemIdQueue.remove(problemId)) {
+            return;
+        }
+        if (problemIdQueue.isEmpty()) {
+            tenantQueueMap.remove(tenant);
+            if (tenantQueueMap.isEmpty()) {
+                priorityToTenantQueueMap.remove(priority);
+            }
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return priorityToTenantQueueMap.isEmpty();
+    }
+
+}
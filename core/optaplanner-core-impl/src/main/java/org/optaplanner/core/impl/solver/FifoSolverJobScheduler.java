@@ -16,35 +16,38 @@
  * specific language governing permissions and limitations
  * under the License.
  */
+package org.optaplanner.core.impl.solver;
 
-package org.optaplanner.core.impl.util;
+import java.util.ArrayDeque;
+import java.util.Deque;
 
-import java.util.Objects;
-import java.util.function.Supplier;
-
-import org.optaplanner.core.impl.domain.variable.supply.Supply;
+import org.optaplanner.core.api.solver.SolverJobScheduler;
 
 /**
- * Supply whose value is pre-computed and cached the first time {@link #read()} is called.
- *
- * @param <T>
+ * @see SolverJobScheduler#fifo()
  */
-public final class MemoizingSupply<T> implements Supply {
+public final class FifoSolverJobScheduler<ProblemId_> implements SolverJobScheduler<ProblemId_> {
+
+    private final Deque<ProblemId_> problemIdQueue = new ArrayDeque<>();
 
-    private final Supplier<T> valueSupplier;
-    private boolean cached = false;
-    private T memoizedValue;
+    @Override
+    public void add(ProblemId_ problemId) {
+        problemIdQueue.addLast(problemId);
+    }
+
+    @Override
+    public ProblemId_ poll() {
+        return problemIdQueue.pollFirst();
+    }
 
-    public MemoizingSupply(Supplier<T> supplier) {
-        this.valueSupplier = Objects.requireNonNull(supplier);
+    @Override
+    public void remove(ProblemId_ problemId) {
+        problemIdQueue.remove(problemId);
     }
 
-    public T read() {
-        if (!cached) {
-            cached = true; // Don't re-compute the supply even if the value was null.
-            memoizedValue = valueSupplier.get();
-        }
-        return memoizedValue;
+    @Override
+    public boolean isEmpty() {
+        return problemIdQueue.isEmpty();
     }
 
 }
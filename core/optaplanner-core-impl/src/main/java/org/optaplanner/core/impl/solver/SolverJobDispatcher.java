@@ -0,0 +1,265 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.optaplanner.core.impl.solver;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.optaplanner.core.api.solver.SolverJobScheduler;
+
+/**
+ * Hands out the solving permits of a {@link DefaultSolverManager} to the waiting solver jobs,
+ * in the order decided by its {@link SolverJobScheduler}.
+ * A solver job that gets a permit for the first time is started on the solverExecutor.
+ * Thread-safe.
+ *
+ * @param <ProblemId_> the ID type of submitted problem
+ */
+final class SolverJobDispatcher<ProblemId_> {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition grantedCondition = lock.newCondition();
+    private final SolverJobScheduler<ProblemId_> scheduler;
+    private final Executor solverExecutor;
+    private final boolean releasable;
+    private final long timeSliceNanos;
+
+    private final Map<ProblemId_, SolvingPermit<ProblemId_>> waitingPermitMap = new HashMap<>();
+    private volatile int waitingPermitCount = 0;
+    private int availablePermitCount;
+    private boolean closed = false;
+
+    /**
+     * @param scheduler never null
+     * @param solverExecutor never null
+     * @param permitCount at least 1
+     * @param releasable true if a solver job doesn't occupy a thread of a limited thread pool,
+     *        so it can give back its permit while it doesn't use the CPU
+     * @param timeSlice sometimes null, only supported if releasable
+     */
+    SolverJobDispatcher(SolverJobScheduler<ProblemId_> scheduler, Executor solverExecutor, int permitCount,
+            boolean releasable, Duration timeSlice) {
+        this.scheduler = scheduler;
+        this.solverExecutor = solverExecutor;
+        this.availablePermitCount = permitCount;
+        this.releasable = releasable;
+        this.timeSliceNanos = timeSlice == null ? 0L : timeSlice.toNanos();
+    }
+
+    boolean isReleasable() {
+        return releasable;
+    }
+
+    boolean isTimeSliced() {
+        return timeSliceNanos > 0L;
+    }
+
+    SolvingPermit<ProblemId_> createPermit(ProblemId_ problemId) {
+        return new SolvingPermit<>(this, problemId);
+    }
+
+    /**
+     * @param permit never null, not yet scheduled
+     * @param startTask never null, executed on the solverExecutor once the solver job gets its permit
+     */
+    void schedule(SolvingPermit<ProblemId_> permit, Runnable startTask) {
+        lock.lock();
+        try {
+            permit.startTask = startTask;
+            enqueue(permit);
+            dispatch();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void release(SolvingPermit<ProblemId_> permit) {
+        lock.lock();
+        try {
+            releaseLocked(permit);
+            dispatch();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void releaseIfHeld(SolvingPermit<ProblemId_> permit) {
+        lock.lock();
+        try {
+            if (permit.held) {
+                releaseLocked(permit);
+                dispatch();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void reacquire(SolvingPermit<ProblemId_> permit) throws InterruptedException {
+        lock.lock();
+        try {
+            if (permit.terminated) {
+                // Don't let a terminating solver job wait: it gives the permit back soon anyway.
+                grantOutOfTurn(permit);
+                return;
+            }
+            enqueue(permit);
+            dispatch();
+            try {
+                while (!permit.held) {
+                    grantedCondition.await();
+                }
+            } catch (InterruptedException e) {
+                if (permit.held) {
+                    // Granted anyway, so keep it and let the caller notice the interruption later.
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                waitingPermitMap.remove(permit.problemId);
+                scheduler.remove(permit.problemId);
+                waitingPermitCount = waitingPermitMap.size();
+                throw e;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void yieldIfTimeSliceExpired(SolvingPermit<ProblemId_> permit) {
+        if (waitingPermitCount == 0 || System.nanoTime() - permit.grantedNanos < timeSliceNanos) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (scheduler.isEmpty() || permit.terminated) {
+                return;
+            }
+            releaseLocked(permit);
+            // Waits behind the other solver jobs, as far as the scheduler is concerned.
+            enqueue(permit);
+            dispatch();
+            awaitGranted(permit);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Wakes up the solver job if it waits for a permit, or never starts it if it hasn't started yet.
+     */
+    void terminate(SolvingPermit<ProblemId_> permit) {
+        lock.lock();
+        try {
+            terminateLocked(permit);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops starting solver jobs and wakes up all solver jobs that wait for a permit.
+     */
+    void close() {
+        lock.lock();
+        try {
+            closed = true;
+            List<SolvingPermit<ProblemId_>> waitingPermitList = new ArrayList<>(waitingPermitMap.values());
+            waitingPermitList.forEach(this::terminateLocked);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void terminateLocked(SolvingPermit<ProblemId_> permit) {
+        permit.terminated = true;
+        if (waitingPermitMap.remove(permit.problemId) != null) {
+            scheduler.remove(permit.problemId);
+            waitingPermitCount = waitingPermitMap.size();
+            if (permit.startTask != null) {
+                // Never started, so it never gets a permit.
+                permit.startTask = null;
+            } else {
+                grantOutOfTurn(permit);
+            }
+        }
+    }
+
+    private void enqueue(SolvingPermit<ProblemId_> permit) {
+        if (waitingPermitMap.put(permit.problemId, permit) != null) {
+            throw new IllegalStateException("Impossible state: the problemId (" + permit.problemId
+                    + ") is already waiting for a solving permit.");
+        }
+        waitingPermitCount = waitingPermitMap.size();
+        scheduler.add(permit.problemId);
+    }
+
+    private void dispatch() {
+        while (!closed && availablePermitCount > 0 && !scheduler.isEmpty()) {
+            ProblemId_ problemId = scheduler.poll();
+            SolvingPermit<ProblemId_> permit = waitingPermitMap.remove(problemId);
+            if (permit == null) {
+                throw new IllegalStateException("The scheduler (" + scheduler
+                        + ") returned a problemId (" + problemId + ") that isn't waiting for a solving permit.");
+            }
+            waitingPermitCount = waitingPermitMap.size();
+            availablePermitCount--;
+            grant(permit);
+        }
+    }
+
+    private void grantOutOfTurn(SolvingPermit<ProblemId_> permit) {
+        // Temporarily exceeds the permit count.
+        availablePermitCount--;
+        grant(permit);
+    }
+
+    private void grant(SolvingPermit<ProblemId_> permit) {
+        permit.held = true;
+        permit.grantedNanos = System.nanoTime();
+        Runnable startTask = permit.startTask;
+        if (startTask != null) {
+            permit.startTask = null;
+            solverExecutor.execute(startTask);
+        } else {
+            grantedCondition.signalAll();
+        }
+    }
+
+    private void releaseLocked(SolvingPermit<ProblemId_> permit) {
+        if (!permit.held) {
+            throw new IllegalStateException("Impossible state: the solver job (" + permit.problemId
+                    + ") releases a solving permit it doesn't hold.");
+        }
+        permit.held = false;
+        availablePermitCount++;
+    }
+
+    private void awaitGranted(SolvingPermit<ProblemId_> permit) {
+        while (!permit.held) {
+            grantedCondition.awaitUninterruptibly();
+        }
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.optaplanner.core.impl.solver;
+
+/**
+ * The right of a solver job of a {@link DefaultSolverManager} to solve (and use the CPU).
+ * Only the solver thread of that solver job calls {@link #release()} and {@link #reacquire()}.
+ *
+ * @param <ProblemId_> the ID type of submitted problem
+ */
+public final class SolvingPermit<ProblemId_> {
+
+    private final SolverJobDispatcher<ProblemId_> dispatcher;
+    final ProblemId_ problemId;
+
+    // Guarded by the lock of the dispatcher.
+    Runnable startTask = null;
+    boolean held = false;
+    boolean terminated = false;
+    volatile long grantedNanos;
+
+    SolvingPermit(SolverJobDispatcher<ProblemId_> dispatcher, ProblemId_ problemId) {
+        this.dispatcher = dispatcher;
+        this.problemId = problemId;
+    }
+
+    /**
+     * Gives the permit back, so another solver job can solve while this one doesn't use the CPU.
+     */
+    public void release() {
+        dispatcher.release(this);
+    }
+
+    /**
+     * Blocks until this solver job gets its turn again or is terminated.
+     *
+     * @throws InterruptedException if interrupted while waiting, in which case the permit isn't held
+     */
+    public void reacquire() throws InterruptedException {
+        dispatcher.reacquire(this);
+    }
+
+    /**
+     * Gives the permit back when the solver job ends, unless it already gave it back without reacquiring it.
+     */
+    void releaseIfHeld() {
+        dispatcher.releaseIfHeld(this);
+    }
+
+    boolean isReleasable() {
+        return dispatcher.isReleasable();
+    }
+
+    boolean isTimeSliced() {
+        return dispatcher.isTimeSliced();
+    }
+
+    void yieldIfTimeSliceExpired() {
+        dispatcher.yieldIfTimeSliceExpired(this);
+    }
+
+    void terminate() {
+        dispatcher.terminate(this);
+    }
+
+    @Override
+    public String toString() {
+        return "SolvingPermit(" + problemId + ")";
+    }
+
+}
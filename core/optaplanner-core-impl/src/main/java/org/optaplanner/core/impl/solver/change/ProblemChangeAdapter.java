@@ -29,16 +29,52 @@ import org.optaplanner.core.impl.solver.scope.SolverScope;
  */
 public interface ProblemChangeAdapter<Solution_> {
 
-    void doProblemChange(SolverScope<Solution_> solverScope);
+    default void doProblemChange(SolverScope<Solution_> solverScope) {
+        doProblemChange(solverScope, true);
+    }
+
+    /**
+     * @param solverScope never null
+     * @param triggerVariableListeners false if the caller triggers them once after a batch of problem changes
+     */
+    void doProblemChange(SolverScope<Solution_> solverScope, boolean triggerVariableListeners);
+
+    /**
+     * @return the {@link System#nanoTime()} when this problem change was submitted to the solver
+     */
+    long getSubmissionNanoTime();
 
     static <Solution_> ProblemChangeAdapter<Solution_> create(ProblemFactChange<Solution_> problemFactChange) {
-        return (solverScope) -> problemFactChange.doChange(solverScope.getScoreDirector());
+        long submissionNanoTime = System.nanoTime();
+        return new ProblemChangeAdapter<>() {
+            @Override
+            public void doProblemChange(SolverScope<Solution_> solverScope, boolean triggerVariableListeners) {
+                // A ProblemFactChange triggers the variable listeners itself.
+                problemFactChange.doChange(solverScope.getScoreDirector());
+            }
+
+            @Override
+            public long getSubmissionNanoTime() {
+                return submissionNanoTime;
+            }
+        };
     }
 
     static <Solution_> ProblemChangeAdapter<Solution_> create(ProblemChange<Solution_> problemChange) {
-        return (solverScope) -> {
-            problemChange.doChange(solverScope.getWorkingSolution(), solverScope.getProblemChangeDirector());
-            solverScope.getScoreDirector().triggerVariableListeners();
+        long submissionNanoTime = System.nanoTime();
+        return new ProblemChangeAdapter<>() {
+            @Override
+            public void doProblemChange(SolverScope<Solution_> solverScope, boolean triggerVariableListeners) {
+                problemChange.doChange(solverScope.getWorkingSolution(), solverScope.getProblemChangeDirector());
+                if (triggerVariableListeners) {
+                    solverScope.getScoreDirector().triggerVariableListeners();
+                }
+            }
+
+            @Override
+            public long getSubmissionNanoTime() {
+                return submissionNanoTime;
+            }
         };
     }
 }
@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.optaplanner.core.impl.solver.random;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Samples weighted selections in constant time, with Vose's alias method.
+ * <p>
+ * Every index gets one column of the same width:
+ * a random offset picks a column, and the fraction within that column picks either its own selection
+ * or its alias.
+ * Building the table is linear in the number of selections and reuses the arrays of the previous table.
+ * {@link #update(Iterable, ToDoubleFunction)} is not incremental:
+ * it always iterates all selections and calls the weight function for each of them,
+ * and only skips building the table again if all the selections and their weights are identical to the previous update.
+ * If any selection or weight changed, the whole table is built again.
+ * <p>
+ * A sample uses exactly one {@link Random#nextDouble()}.
+ * This class is not thread-safe.
+ *
+ * @param <T> the selection type
+ */
+public final class AliasTable<T> {
+
+    private static final int MINIMUM_CAPACITY = 16;
+
+    private int size = 0;
+    private Object[] selections = new Object[0];
+    private double[] weights = new double[0];
+    private double weightTotal = 0.0;
+    private double[] probabilities = new double[0];
+    private int[] aliases = new int[0];
+    // Small columns are stacked from the start, large columns from the end of the same work array
+    private int[] work = new int[0];
+
+    // Double buffer, to detect an unchanged update without building a new table
+    private Object[] nextSelections = new Object[0];
+    private double[] nextWeights = new double[0];
+
+    /**
+     * @param selections never null, iterated once
+     * @param weightFunction never null, {@code 0.0 <= weight <} {@link Double#POSITIVE_INFINITY}
+     * @return true if the table was built again,
+     *         false if the selections and their weights are identical to the previous update
+     */
+    public boolean update(Iterable<? extends T> selections, ToDoubleFunction<? super T> weightFunction) {
+        int nextSize = 0;
+        boolean changed = false;
+        for (T selection : selections) {
+            double weight = weightFunction.applyAsDouble(selection);
+            if (!(weight >= 0.0) || weight == Double.POSITIVE_INFINITY) {
+                throw new IllegalArgumentException("The probabilityWeight (" + weight + ") of the selection ("
+                        + selection + ") must be positive or 0.0, and finite.");
+            }
+            if (nextSize == nextSelections.length) {
+                int capacity = Math.max(MINIMUM_CAPACITY, nextSize * 2);
+                nextSelections = Arrays.copyOf(nextSelections, capacity);
+                nextWeights = Arrays.copyOf(nextWeights, capacity);
+            }
+            nextSelections[nextSize] = selection;
+            nextWeights[nextSize] = weight;
+            if (!changed && (nextSize >= size || this.selections[nextSize] != selection || weights[nextSize] != weight)) {
+                changed = true;
+            }
+            nextSize++;
+        }
+        if (!changed && nextSize == size) {
+            Arrays.fill(nextSelections, 0, nextSize, null);
+            return false;
+        }
+        Object[] swapSelections = this.selections;
+        double[] swapWeights = weights;
+        this.selections = nextSelections;
+        weights = nextWeights;
+        // Don't keep the old selections (such as moves) reachable
+        Arrays.fill(swapSelections, 0, size, null);
+        nextSelections = swapSelections;
+        nextWeights = swapWeights;
+        size = nextSize;
+        build();
+        return true;
+    }
+
+    private void build() {
+        if (probabilities.length < size) {
+            int capacity = weights.length;
+            probabilities = new double[capacity];
+            aliases = new int[capacity];
+            work = new int[capacity];
+        }
+        weightTotal = 0.0;
+        for (int i = 0; i < size; i++) {
+            weightTotal += weights[i];
+        }
+        if (weightTotal == 0.0) {
+            return;
+        }
+        int smallCount = 0;
+        int largeStart = size;
+        for (int i = 0; i < size; i++) {
+            // The probabilities array holds the scaled weights until a column is finished.
+            probabilities[i] = weights[i] * size / weightTotal;
+            aliases[i] = i;
+            if (probabilities[i] < 1.0) {
+                work[smallCount++] = i;
+            } else {
+                work[--largeStart] = i;
+            }
+        }
+        while (smallCount > 0 && largeStart < size) {
+            int small = work[--smallCount];
+            int large = work[largeStart++];
+            aliases[small] = large;
+            probabilities[large] = (probabilities[large] + probabilities[small]) - 1.0;
+            if (probabilities[large] < 1.0) {
+                work[smallCount++] = large;
+            } else {
+                work[--largeStart] = large;
+            }
+        }
+        // Whatever remains is a full column, give or take a rounding error.
+        for (int i = largeStart; i < size; i++) {
+            probabilities[work[i]] = 1.0;
+        }
+        for (int i = 0; i < smallCount; i++) {
+            probabilities[work[i]] = 1.0;
+        }
+    }
+
+    /**
+     * @param workingRandom never null
+     * @return never null, each selection is returned with a chance proportional to its weight
+     * @throws IllegalStateException if the weights do not add up to more than 0.0
+     */
+    public T sample(Random workingRandom) {
+        if (weightTotal == 0.0) {
+            throw new IllegalStateException("The aliasTable with size (" + size
+                    + ") has no selection with a probabilityWeight higher than 0.0.");
+        }
+        double randomOffset = RandomUtils.nextDouble(workingRandom, size);
+        int index = Math.min((int) randomOffset, size - 1);
+        if (randomOffset - index >= probabilities[index]) {
+            index = aliases[index];
+        }
+        return (T) selections[index];
+    }
+
+    /**
+     * @return {@code >= 0}
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return {@code >= 0.0}
+     */
+    public double getWeightTotal() {
+        return weightTotal;
+    }
+
+    /**
+     * Forgets all selections, so they can be garbage collected.
+     */
+    public void clear() {
+        Arrays.fill(selections, 0, size, null);
+        size = 0;
+        weightTotal = 0.0;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + size + ")";
+    }
+
+}
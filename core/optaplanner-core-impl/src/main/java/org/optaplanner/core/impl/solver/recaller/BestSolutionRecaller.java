@@ -22,6 +22,7 @@ package org.optaplanner.core.impl.solver.recaller;
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.impl.domain.solution.cloner.IncrementalSolutionCloner;
 import org.optaplanner.core.impl.phase.event.PhaseLifecycleListenerAdapter;
 import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
 import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
@@ -39,6 +40,9 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
     protected boolean assertInitialScoreFromScratch = false;
     protected boolean assertShadowVariablesAreNotStale = false;
     protected boolean assertBestScoreIsUnmodified = false;
+    protected boolean incrementalCloning = false;
+
+    protected IncrementalSolutionCloner<Solution_> incrementalSolutionCloner = null;
 
     protected SolverEventSupport<Solution_> solverEventSupport;
 
@@ -54,6 +58,14 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
         this.assertBestScoreIsUnmodified = assertBestScoreIsUnmodified;
     }
 
+    /**
+     * @param incrementalCloning true if consecutive best solutions share their unchanged planning entities,
+     *        see {@link IncrementalSolutionCloner}
+     */
+    public void setIncrementalCloning(boolean incrementalCloning) {
+        this.incrementalCloning = incrementalCloning;
+    }
+
     public void setSolverEventSupport(SolverEventSupport<Solution_> solverEventSupport) {
         this.solverEventSupport = solverEventSupport;
     }
@@ -66,6 +78,14 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
     public void solvingStarted(SolverScope<Solution_> solverScope) {
         // Starting bestSolution is already set by Solver.solve(Solution)
         InnerScoreDirector scoreDirector = solverScope.getScoreDirector();
+        if (incrementalCloning) {
+            if (incrementalSolutionCloner == null) {
+                incrementalSolutionCloner = new IncrementalSolutionCloner<>(solverScope.getSolutionDescriptor());
+            } else {
+                incrementalSolutionCloner.reset();
+            }
+            scoreDirector.setIncrementalSolutionCloner(incrementalSolutionCloner);
+        }
         Score score = scoreDirector.calculateScore();
         solverScope.setBestScore(score);
         solverScope.setBestSolutionTimeMillis(System.currentTimeMillis());
@@ -103,7 +123,8 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
         stepScope.setBestScoreImproved(bestScoreImproved);
         if (bestScoreImproved) {
             phaseScope.setBestSolutionStepIndex(stepScope.getStepIndex());
-            Solution_ newBestSolution = stepScope.createOrGetClonedSolution();
+            Solution_ newBestSolution = incrementalSolutionCloner == null ? stepScope.createOrGetClonedSolution()
+                    : cloneWorkingSolution(solverScope);
             updateBestSolutionAndFire(solverScope, score, newBestSolution);
         } else if (assertBestScoreIsUnmodified) {
             solverScope.assertScoreFromScratch(solverScope.getBestSolution());
@@ -121,7 +142,7 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
         }
         if (bestScoreImproved) {
             phaseScope.setBestSolutionStepIndex(stepScope.getStepIndex());
-            Solution_ newBestSolution = solverScope.getScoreDirector().cloneWorkingSolution();
+            Solution_ newBestSolution = cloneWorkingSolution(solverScope);
             updateBestSolutionAndFire(solverScope, score, newBestSolution);
         } else if (assertBestScoreIsUnmodified) {
             solverScope.assertScoreFromScratch(solverScope.getBestSolution());
@@ -146,11 +167,18 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
     }
 
     private void updateBestSolutionWithoutFiring(SolverScope<Solution_> solverScope) {
-        Solution_ newBestSolution = solverScope.getScoreDirector().cloneWorkingSolution();
+        Solution_ newBestSolution = cloneWorkingSolution(solverScope);
         Score newBestScore = solverScope.getSolutionDescriptor().getScore(newBestSolution);
         updateBestSolutionWithoutFiring(solverScope, newBestScore, newBestSolution);
     }
 
+    private Solution_ cloneWorkingSolution(SolverScope<Solution_> solverScope) {
+        if (incrementalSolutionCloner == null) {
+            return solverScope.getScoreDirector().cloneWorkingSolution();
+        }
+        return incrementalSolutionCloner.cloneSolution(solverScope.getWorkingSolution());
+    }
+
     private void updateBestSolutionWithoutFiring(SolverScope<Solution_> solverScope, Score bestScore, Solution_ bestSolution) {
         if (bestScore.isSolutionInitialized()) {
             if (!solverScope.isBestSolutionInitialized()) {
@@ -162,4 +190,13 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
         solverScope.setBestSolutionTimeMillis(System.currentTimeMillis());
     }
 
+    @Override
+    public void solvingEnded(SolverScope<Solution_> solverScope) {
+        if (incrementalSolutionCloner != null) {
+            solverScope.getScoreDirector().setIncrementalSolutionCloner(null);
+            // Release the working solution
+            incrementalSolutionCloner.reset();
+        }
+    }
+
 }
\ No newline at end of file
@@ -23,8 +23,11 @@ import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
+import org.optaplanner.core.impl.solver.SolvingPermit;
 import org.optaplanner.core.impl.solver.change.ProblemChangeAdapter;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 import org.optaplanner.core.impl.solver.thread.ChildThreadType;
@@ -32,6 +35,10 @@ import org.optaplanner.core.impl.solver.thread.ChildThreadType;
 /**
  * Concurrency notes:
  * Condition predicate on ({@link #problemFactChangeQueue} is not empty or {@link #terminatedEarly} is true).
+ * While {@link #problemFactChangesProcessedBySteps} is true,
+ * a waiting problem change does not terminate the solver, because the solver applies it at the end of a step.
+ * It uses a {@link ReentrantLock} instead of synchronized methods,
+ * so a solver running on a virtual thread doesn't pin its carrier thread while it waits for problem changes.
  */
 public class BasicPlumbingTermination<Solution_> extends AbstractTermination<Solution_> {
 
@@ -42,20 +49,45 @@ public class BasicPlumbingTermination<Solution_> extends AbstractTermination<Sol
     protected BlockingQueue<ProblemChangeAdapter<Solution_>> problemFactChangeQueue = new LinkedBlockingQueue<>();
 
     protected boolean problemFactChangesBeingProcessed = false;
+    protected boolean problemFactChangesProcessedBySteps = false;
+    protected boolean restartRequested = false;
+
+    protected final ReentrantLock lock = new ReentrantLock();
+    protected final Condition problemFactChangeOrTerminationCondition = lock.newCondition();
+
+    protected volatile SolvingPermit<?> solvingPermit = null;
 
     public BasicPlumbingTermination(boolean daemon) {
         this.daemon = daemon;
     }
 
+    /**
+     * @param solvingPermit sometimes null, held by the solver thread.
+     *        A daemon solver releases it while it waits for problem changes
+     *        and reacquires it before it restarts solving, but not if it terminates instead.
+     */
+    public void setSolvingPermit(SolvingPermit<?> solvingPermit) {
+        this.solvingPermit = solvingPermit;
+    }
+
     // ************************************************************************
     // Plumbing worker methods
     // ************************************************************************
 
     /**
+     * Also forgets a {@link #requestRestart() requested restart} that was never carried out,
+     * so it doesn't restart the next solve.
+     * <p>
      * This method is thread-safe.
      */
-    public synchronized void resetTerminateEarly() {
-        terminatedEarly = false;
+    public void resetTerminateEarly() {
+        lock.lock();
+        try {
+            terminatedEarly = false;
+            restartRequested = false;
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
@@ -65,40 +97,75 @@ public class BasicPlumbingTermination<Solution_> extends AbstractTermination<Sol
      *
      * @return true if successful
      */
-    public synchronized boolean terminateEarly() {
-        boolean terminationEarlySuccessful = !terminatedEarly;
-        terminatedEarly = true;
-        notifyAll();
-        return terminationEarlySuccessful;
+    public boolean terminateEarly() {
+        lock.lock();
+        try {
+            boolean terminationEarlySuccessful = !terminatedEarly;
+            terminatedEarly = true;
+            problemFactChangeOrTerminationCondition.signalAll();
+            return terminationEarlySuccessful;
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
      * This method is thread-safe.
      */
-    public synchronized boolean isTerminateEarly() {
-        return terminatedEarly;
+    public boolean isTerminateEarly() {
+        lock.lock();
+        try {
+            return terminatedEarly;
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
-     * If this returns true, then the problemFactChangeQueue is definitely not empty.
+     * If this returns true, then the problemFactChangeQueue is definitely not empty
+     * or a restart has been {@link #requestRestart() requested}.
      * <p>
      * Concurrency note: Blocks until {@link #problemFactChangeQueue} is not empty or {@link #terminatedEarly} is true.
      *
      * @return true if the solver needs to be restarted
      */
-    public synchronized boolean waitForRestartSolverDecision() {
-        if (!daemon) {
-            return !problemFactChangeQueue.isEmpty() && !terminatedEarly;
-        } else {
-            while (problemFactChangeQueue.isEmpty() && !terminatedEarly) {
+    public boolean waitForRestartSolverDecision() {
+        SolvingPermit<?> idleSolvingPermit = null;
+        boolean restart = false;
+        lock.lock();
+        try {
+            if (!daemon) {
+                return (restartRequested || !problemFactChangeQueue.isEmpty()) && !terminatedEarly;
+            } else {
+                while (problemFactChangeQueue.isEmpty() && !restartRequested && !terminatedEarly) {
+                    if (idleSolvingPermit == null && solvingPermit != null) {
+                        // Let another solver job use the CPU while this one is idle.
+                        idleSolvingPermit = solvingPermit;
+                        idleSolvingPermit.release();
+                    }
+                    try {
+                        problemFactChangeOrTerminationCondition.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException("Solver thread was interrupted during Condition.await().", e);
+                    }
+                }
+                restart = !terminatedEarly;
+                return restart;
+            }
+        } finally {
+            lock.unlock();
+            // A terminated solver doesn't need the CPU anymore, so it doesn't wait for a permit it would give back.
+            if (idleSolvingPermit != null && restart) {
+                // Outside the lock, so problem changes can still be added while waiting for a permit.
                 try {
-                    wait();
+                    idleSolvingPermit.reacquire();
                 } catch (InterruptedException e) {
                     Thread.currentThread().interrupt();
-                    throw new IllegalStateException("Solver thread was interrupted during Object.wait().", e);
+                    throw new IllegalStateException("Solver thread was interrupted while waiting for a solving permit.",
+                            e);
                 }
             }
-            return !terminatedEarly;
         }
     }
 
@@ -108,10 +175,15 @@ public class BasicPlumbingTermination<Solution_> extends AbstractTermination<Sol
      * @param problemChange never null
      * @return as specified by {@link Collection#add}
      */
-    public synchronized boolean addProblemChange(ProblemChangeAdapter<Solution_> problemChange) {
-        boolean added = problemFactChangeQueue.add(problemChange);
-        notifyAll();
-        return added;
+    public boolean addProblemChange(ProblemChangeAdapter<Solution_> problemChange) {
+        lock.lock();
+        try {
+            boolean added = problemFactChangeQueue.add(problemChange);
+            problemFactChangeOrTerminationCondition.signalAll();
+            return added;
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
@@ -120,23 +192,102 @@ public class BasicPlumbingTermination<Solution_> extends AbstractTermination<Sol
      * @param problemChangeList never null
      * @return as specified by {@link Collection#add}
      */
-    public synchronized boolean addProblemChanges(List<ProblemChangeAdapter<Solution_>> problemChangeList) {
-        boolean added = problemFactChangeQueue.addAll(problemChangeList);
-        notifyAll();
-        return added;
+    public boolean addProblemChanges(List<ProblemChangeAdapter<Solution_>> problemChangeList) {
+        lock.lock();
+        try {
+            boolean added = problemFactChangeQueue.addAll(problemChangeList);
+            problemFactChangeOrTerminationCondition.signalAll();
+            return added;
+        } finally {
+            lock.unlock();
+        }
     }
 
-    public synchronized BlockingQueue<ProblemChangeAdapter<Solution_>> startProblemFactChangesProcessing() {
-        problemFactChangesBeingProcessed = true;
-        return problemFactChangeQueue;
+    /**
+     * @param problemFactChangesProcessedBySteps true if the solver applies the waiting problem changes
+     *        at the end of every step, so they must not terminate the solver
+     */
+    public void setProblemFactChangesProcessedBySteps(boolean problemFactChangesProcessedBySteps) {
+        lock.lock();
+        try {
+            this.problemFactChangesProcessedBySteps = problemFactChangesProcessedBySteps;
+        } finally {
+            lock.unlock();
+        }
     }
 
-    public synchronized void endProblemFactChangesProcessing() {
-        problemFactChangesBeingProcessed = false;
+    /**
+     * Terminates the solver and restarts it from the best solution,
+     * even if no problem change is waiting.
+     * Used when problem changes applied by a step leave the working solution in a state
+     * that the current phase cannot continue from.
+     */
+    public void requestRestart() {
+        lock.lock();
+        try {
+            restartRequested = true;
+        } finally {
+            lock.unlock();
+        }
     }
 
-    public synchronized boolean isEveryProblemFactChangeProcessed() {
-        return problemFactChangeQueue.isEmpty() && !problemFactChangesBeingProcessed;
+    /**
+     * @return true if at least one problem change is waiting to be applied
+     */
+    public boolean isProblemFactChangeWaiting() {
+        lock.lock();
+        try {
+            return !problemFactChangeQueue.isEmpty();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the problem changes that were added but haven't been applied, for example because solving already ended.
+     * <p>
+     * This method is thread-safe.
+     *
+     * @return at least 0, the number of removed problem changes
+     */
+    public int discardProblemChanges() {
+        lock.lock();
+        try {
+            int discardedCount = problemFactChangeQueue.size();
+            problemFactChangeQueue.clear();
+            return discardedCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public BlockingQueue<ProblemChangeAdapter<Solution_>> startProblemFactChangesProcessing() {
+        lock.lock();
+        try {
+            restartRequested = false;
+            problemFactChangesBeingProcessed = true;
+            return problemFactChangeQueue;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void endProblemFactChangesProcessing() {
+        lock.lock();
+        try {
+            problemFactChangesBeingProcessed = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isEveryProblemFactChangeProcessed() {
+        lock.lock();
+        try {
+            return problemFactChangeQueue.isEmpty() && !problemFactChangesBeingProcessed;
+        } finally {
+            lock.unlock();
+        }
     }
 
     // ************************************************************************
@@ -144,18 +295,24 @@ public class BasicPlumbingTermination<Solution_> extends AbstractTermination<Sol
     // ************************************************************************
 
     @Override
-    public synchronized boolean isSolverTerminated(SolverScope<Solution_> solverScope) {
-        // Destroying a thread pool with solver threads will only cause it to interrupt those solver threads,
-        // it won't call Solver.terminateEarly()
-        if (Thread.currentThread().isInterrupted() // Does not clear the interrupted flag
-                // Avoid duplicate log message because this method is called twice:
-                // - in the phase step loop (every phase termination bridges to the solver termination)
-                // - in the solver's phase loop
-                && !terminatedEarly) {
-            logger.info("The solver thread got interrupted, so this solver is terminating early.");
-            terminatedEarly = true;
+    public boolean isSolverTerminated(SolverScope<Solution_> solverScope) {
+        lock.lock();
+        try {
+            // Destroying a thread pool with solver threads will only cause it to interrupt those solver threads,
+            // it won't call Solver.terminateEarly()
+            if (Thread.currentThread().isInterrupted() // Does not clear the interrupted flag
+                    // Avoid duplicate log message because this method is called twice:
+                    // - in the phase step loop (every phase termination bridges to the solver termination)
+                    // - in the solver's phase loop
+                    && !terminatedEarly) {
+                logger.info("The solver thread got interrupted, so this solver is terminating early.");
+                terminatedEarly = true;
+            }
+            return terminatedEarly || restartRequested
+                    || (!problemFactChangesProcessedBySteps && !problemFactChangeQueue.isEmpty());
+        } finally {
+            lock.unlock();
         }
-        return terminatedEarly || !problemFactChangeQueue.isEmpty();
     }
 
     @Override
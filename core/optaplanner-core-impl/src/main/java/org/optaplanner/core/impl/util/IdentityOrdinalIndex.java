@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.optaplanner.core.impl.util;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Assigns a dense ordinal ({@code 0, 1, 2, ...}) to each object, by identity.
+ * <p>
+ * Ordinals are stable: they are never reassigned nor reused,
+ * so an array indexed by ordinal stays valid when more objects are added (it just needs to grow).
+ * Unlike an {@link java.util.IdentityHashMap} with {@link Integer} values, it does not box
+ * and it can look up the object of an ordinal.
+ * <p>
+ * A lookup by object is still a hash probe, so this only pays off for code that looks up the ordinal once
+ * and then keeps using it (for example to index several arrays), not as a drop-in replacement for a map lookup.
+ * Nothing uses it that way yet: it is an enabler for such callers.
+ * <p>
+ * This class is not thread-safe.
+ */
+public final class IdentityOrdinalIndex {
+
+    private static final int FREE = -1;
+
+    private Object[] objects;
+    private int size = 0;
+    // Open addressing with linear probing, each slot holds an ordinal, the table is at most half full
+    private int[] table;
+
+    public IdentityOrdinalIndex() {
+        this(16);
+    }
+
+    /**
+     * @param expectedSize {@code >= 0}
+     */
+    public IdentityOrdinalIndex(int expectedSize) {
+        objects = new Object[Math.max(expectedSize, 1)];
+        table = new int[tableCapacity(expectedSize)];
+        Arrays.fill(table, FREE);
+    }
+
+    private static int tableCapacity(int size) {
+        int capacity = 2;
+        while (capacity < size * 2) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static int hash(Object object) {
+        int hash = System.identityHashCode(object) * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * @param object never null
+     * @return {@code >= 0}, the existing ordinal of the object, or a new one if it wasn't indexed yet
+     */
+    public int add(Object object) {
+        Objects.requireNonNull(object);
+        int mask = table.length - 1;
+        int slot = hash(object) & mask;
+        while (table[slot] != FREE) {
+            int ordinal = table[slot];
+            if (objects[ordinal] == object) {
+                return ordinal;
+            }
+            slot = (slot + 1) & mask;
+        }
+        int ordinal = size++;
+        if (ordinal == objects.length) {
+            objects = Arrays.copyOf(objects, ordinal * 2);
+        }
+        objects[ordinal] = object;
+        table[slot] = ordinal;
+        if (size * 2 > table.length) {
+            rehash();
+        }
+        return ordinal;
+    }
+
+    private void rehash() {
+        table = new int[table.length * 2];
+        Arrays.fill(table, FREE);
+        int mask = table.length - 1;
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            int slot = hash(objects[ordinal]) & mask;
+            while (table[slot] != FREE) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = ordinal;
+        }
+    }
+
+    /**
+     * @param object sometimes null
+     * @return {@code >= 0} if the object is indexed, otherwise {@code -1}
+     */
+    public int getOrdinal(Object object) {
+        if (object == null) {
+            return -1;
+        }
+        int mask = table.length - 1;
+        int slot = hash(object) & mask;
+        while (table[slot] != FREE) {
+            int ordinal = table[slot];
+            if (objects[ordinal] == object) {
+                return ordinal;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * @param ordinal {@code 0 <= ordinal < }{@link #size()}
+     * @return never null
+     */
+    public Object getObject(int ordinal) {
+        Objects.checkIndex(ordinal, size);
+        return objects[ordinal];
+    }
+
+    /**
+     * @return {@code >= 0}, the number of indexed objects, so every ordinal is lower
+     */
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + size + ")";
+    }
+
+}
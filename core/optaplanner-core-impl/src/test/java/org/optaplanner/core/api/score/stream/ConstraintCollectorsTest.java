@@ -28,6 +28,7 @@ import static java.util.Collections.emptySortedSet;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.optaplanner.core.api.score.stream.ConstraintCollectors.compose;
 import static org.optaplanner.core.api.score.stream.ConstraintCollectors.countLongBi;
 import static org.optaplanner.core.api.score.stream.ConstraintCollectors.countLongQuad;
@@ -1919,6 +1920,186 @@ class ConstraintCollectorsTest {
         assertResult(collector, container, null);
     }
 
+    // ************************************************************************
+    // topK and bottomK
+    // ************************************************************************
+
+    @Test
+    void topKComparable() {
+        UniConstraintCollector<Integer, ?, List<Integer>> collector = ConstraintCollectors.topK(2);
+        Object container = collector.supplier().get();
+
+        // Default state.
+        assertResult(collector, container, emptyList());
+        // add first value, the result is not full yet
+        Runnable firstRetractor = accumulate(collector, container, 2);
+        assertResult(collector, container, singletonList(2));
+        // add second value, lesser than the first, the result is now full
+        Runnable secondRetractor = accumulate(collector, container, 1);
+        assertResult(collector, container, asList(2, 1));
+        // add third value, lesser than both, result does not change
+        Runnable thirdRetractor = accumulate(collector, container, 0);
+        assertResult(collector, container, asList(2, 1));
+        // add fourth value, same as the first, it pushes out the second
+        Runnable fourthRetractor = accumulate(collector, container, 2);
+        assertResult(collector, container, asList(2, 2));
+        // retract one instance of the first value; the second value comes back
+        firstRetractor.run();
+        assertResult(collector, container, asList(2, 1));
+        // retract the value outside of the result, result does not change
+        thirdRetractor.run();
+        assertResult(collector, container, asList(2, 1));
+        // retract the rest; there are no values now
+        fourthRetractor.run();
+        assertResult(collector, container, singletonList(1));
+        secondRetractor.run();
+        assertResult(collector, container, emptyList());
+    }
+
+    @Test
+    void topKNotComparable() {
+        // Compares by length only, so values of the same length tie yet are not equal.
+        UniConstraintCollector<String, ?, List<String>> collector =
+                ConstraintCollectors.topK(2, Comparator.comparingInt(String::length));
+        Object container = collector.supplier().get();
+
+        Runnable firstRetractor = accumulate(collector, container, "aa");
+        Runnable secondRetractor = accumulate(collector, container, "bb");
+        accumulate(collector, container, "c");
+        assertResult(collector, container, asList("aa", "bb"));
+        // Ties are all kept, so retracting one does not retract the other.
+        firstRetractor.run();
+        assertResult(collector, container, asList("bb", "c"));
+        secondRetractor.run();
+        assertResult(collector, container, singletonList("c"));
+    }
+
+    @Test
+    void topKResultIsReusedWhenUnaffected() {
+        UniConstraintCollector<Integer, ?, List<Integer>> collector = ConstraintCollectors.topK(2);
+        Object container = collector.supplier().get();
+
+        accumulate(collector, container, 5);
+        accumulate(collector, container, 4);
+        List<Integer> result = finish(collector, container);
+        Runnable retractor = accumulate(collector, container, 1);
+        assertThat(finish(collector, container)).isSameAs(result);
+        retractor.run();
+        assertThat(finish(collector, container)).isSameAs(result);
+        accumulate(collector, container, 4);
+        assertThat(finish(collector, container))
+                .isNotSameAs(result)
+                .containsExactly(5, 4);
+    }
+
+    @Test
+    void topKRejectsNonPositiveK() {
+        assertThatIllegalArgumentException().isThrownBy(() -> ConstraintCollectors.topK(0));
+        assertThatIllegalArgumentException().isThrownBy(() -> ConstraintCollectors.bottomK(-1));
+    }
+
+    @Test
+    void bottomK() {
+        UniConstraintCollector<Integer, ?, List<Integer>> collector = ConstraintCollectors.bottomK(2, a -> a * 10);
+        Object container = collector.supplier().get();
+
+        Runnable firstRetractor = accumulate(collector, container, 3);
+        accumulate(collector, container, 1);
+        accumulate(collector, container, 2);
+        assertResult(collector, container, asList(10, 20));
+        // retract a value outside of the result, result does not change
+        firstRetractor.run();
+        assertResult(collector, container, asList(10, 20));
+        accumulate(collector, container, 0);
+        assertResult(collector, container, asList(0, 10));
+    }
+
+    @Test
+    void topKBi() {
+        // Maps to long, because an int mapping would be ambiguous with a Comparator.
+        BiConstraintCollector<Integer, Integer, ?, List<Long>> collector =
+                ConstraintCollectors.topK(2, (Integer a, Integer b) -> (long) a + b);
+        Object container = collector.supplier().get();
+
+        Runnable firstRetractor = accumulate(collector, container, 2, 1);
+        accumulate(collector, container, 1, 1);
+        accumulate(collector, container, 0, 1);
+        assertResult(collector, container, asList(3L, 2L));
+        firstRetractor.run();
+        assertResult(collector, container, asList(2L, 1L));
+    }
+
+    @Test
+    void bottomKBi() {
+        // Maps to long, because an int mapping would be ambiguous with a Comparator.
+        BiConstraintCollector<Integer, Integer, ?, List<Long>> collector =
+                ConstraintCollectors.bottomK(2, (Integer a, Integer b) -> (long) a + b);
+        Object container = collector.supplier().get();
+
+        Runnable firstRetractor = accumulate(collector, container, 0, 1);
+        accumulate(collector, container, 1, 1);
+        accumulate(collector, container, 2, 1);
+        assertResult(collector, container, asList(1L, 2L));
+        firstRetractor.run();
+        assertResult(collector, container, asList(2L, 3L));
+    }
+
+    @Test
+    void topKTri() {
+        TriConstraintCollector<Integer, Integer, Integer, ?, List<Integer>> collector =
+                ConstraintCollectors.topK(2, (Integer a, Integer b, Integer c) -> a + b + c);
+        Object container = collector.supplier().get();
+
+        Runnable firstRetractor = accumulate(collector, container, 2, 1, 0);
+        accumulate(collector, container, 1, 1, 0);
+        accumulate(collector, container, 0, 1, 0);
+        assertResult(collector, container, asList(3, 2));
+        firstRetractor.run();
+        assertResult(collector, container, asList(2, 1));
+    }
+
+    @Test
+    void bottomKTri() {
+        TriConstraintCollector<Integer, Integer, Integer, ?, List<Integer>> collector =
+                ConstraintCollectors.bottomK(2, (Integer a, Integer b, Integer c) -> a + b + c);
+        Object container = collector.supplier().get();
+
+        Runnable firstRetractor = accumulate(collector, container, 0, 1, 0);
+        accumulate(collector, container, 1, 1, 0);
+        accumulate(collector, container, 2, 1, 0);
+        assertResult(collector, container, asList(1, 2));
+        firstRetractor.run();
+        assertResult(collector, container, asList(2, 3));
+    }
+
+    @Test
+    void topKQuad() {
+        QuadConstraintCollector<Integer, Integer, Integer, Integer, ?, List<Integer>> collector =
+                ConstraintCollectors.topK(2, (Integer a, Integer b, Integer c, Integer d) -> a + b + c + d);
+        Object container = collector.supplier().get();
+
+        Runnable firstRetractor = accumulate(collector, container, 2, 1, 0, 0);
+        accumulate(collector, container, 1, 1, 0, 0);
+        accumulate(collector, container, 0, 1, 0, 0);
+        assertResult(collector, container, asList(3, 2));
+        firstRetractor.run();
+        assertResult(collector, container, asList(2, 1));
+    }
+
+    @Test
+    void bottomKQuad() {
+        QuadConstraintCollector<Integer, Integer, Integer, Integer, ?, List<Integer>> collector =
+                ConstraintCollectors.bottomK(2, (Integer a, Integer b, Integer c, Integer d) -> a + b + c + d);
+        Object container = collector.supplier().get();
+
+        Runnable firstRetractor = accumulate(collector, container, 0, 1, 0, 0);
+        accumulate(collector, container, 1, 1, 0, 0);
+        accumulate(collector, container, 2, 1, 0, 0);
+        assertResult(collector, container, asList(1, 2));
+        firstRetractor.run();
+        assertResult(collector, container, asList(2, 3));
+    }
+
     // ************************************************************************
     // average
     // ************************************************************************
@@ -3989,6 +4170,11 @@ class ConstraintCollectorsTest {
                 .isEqualTo(expectedResult);
     }
 
+    private static <A, Container_, Result_> Result_ finish(UniConstraintCollector<A, Container_, Result_> collector,
+            Object container) {
+        return collector.finisher().apply((Container_) container);
+    }
+
     private static <A, Container_, Result_> void assertResult(
             UniConstraintCollector<A, Container_, Result_> collector, Object container, Result_ expectedResult) {
         Result_ actualResult = collector.finisher().apply((Container_) container);
@@ -29,16 +29,21 @@ import static org.optaplanner.core.api.solver.SolverStatus.SOLVING_ACTIVE;
 import static org.optaplanner.core.api.solver.SolverStatus.SOLVING_SCHEDULED;
 import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertSolutionInitialized;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.BrokenBarrierException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
@@ -568,6 +573,194 @@ class SolverManagerTest {
         assertThat(bestSolution.get().getValueList()).hasSize(entityAndValueCount + 1);
     }
 
+    @Test
+    @Timeout(60)
+    void solverExecutor_idleDaemonSolverReleasesItsPermit() throws InterruptedException, ExecutionException {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        solverConfig.setDaemon(true);
+        ExecutorService solverExecutor = Executors.newCachedThreadPool();
+        try {
+            // Allow only a single active solver.
+            solverManager = SolverManager.create(solverConfig, new SolverManagerConfig()
+                    .withParallelSolverCount("1")
+                    .withSolverExecutor(solverExecutor));
+
+            AtomicReference<TestdataSolution> bestSolution = new AtomicReference<>();
+            solverManager.solveAndListen(1L, id -> PlannerTestUtils.generateTestdataSolution("s1", 4),
+                    bestSolution::set);
+            // The second daemon solver only starts when the first one waits for problem changes.
+            CountDownLatch secondSolverStarted = new CountDownLatch(1);
+            solverManager.solveAndListen(2L, id -> PlannerTestUtils.generateTestdataSolution("s2", 4),
+                    testdataSolution -> secondSolverStarted.countDown());
+            secondSolverStarted.await();
+
+            CompletableFuture<Void> futureChange = solverManager
+                    .addProblemChange(1L, (workingSolution, problemChangeDirector) -> {
+                        problemChangeDirector.addProblemFact(new TestdataValue("addedValue"),
+                                workingSolution.getValueList()::add);
+                    });
+            futureChange.get();
+            assertThat(bestSolution.get().getValueList()).hasSize(5);
+        } finally {
+            solverManager.close();
+            solverExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    @Timeout(60)
+    void solverExecutor_terminateIdleDaemonSolverWhileAnotherHoldsThePermit()
+            throws InterruptedException, ExecutionException {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        solverConfig.setDaemon(true);
+        ExecutorService solverExecutor = Executors.newCachedThreadPool();
+        try {
+            // Allow only a single active solver.
+            solverManager = SolverManager.create(solverConfig, new SolverManagerConfig()
+                    .withParallelSolverCount("1")
+                    .withSolverExecutor(solverExecutor));
+
+            SolverJob<TestdataSolution, Long> solverJob1 = solverManager.solveAndListen(1L,
+                    id -> PlannerTestUtils.generateTestdataSolution("s1", 4), testdataSolution -> {
+                    });
+            CountDownLatch secondSolverStarted = new CountDownLatch(1);
+            solverManager.solveAndListen(2L, id -> PlannerTestUtils.generateTestdataSolution("s2", 4),
+                    testdataSolution -> secondSolverStarted.countDown());
+            secondSolverStarted.await();
+
+            // The second solver holds the only permit while it applies this problem change.
+            CountDownLatch problemChangeStarted = new CountDownLatch(1);
+            CountDownLatch problemChangeAllowed = new CountDownLatch(1);
+            CompletableFuture<Void> futureChange = solverManager
+                    .addProblemChange(2L, (workingSolution, problemChangeDirector) -> {
+                        problemChangeStarted.countDown();
+                        try {
+                            problemChangeAllowed.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            throw new IllegalStateException(e);
+                        }
+                    });
+            problemChangeStarted.await();
+
+            // The idle first solver terminates without waiting for the permit.
+            solverJob1.terminateEarly();
+            assertThat(solverJob1.isTerminatedEarly()).isTrue();
+            assertThat(solverManager.getSolverStatus(1L)).isEqualTo(NOT_SOLVING);
+
+            problemChangeAllowed.countDown();
+            futureChange.get();
+            // The permit count is intact, so a later solver job still gets the permit.
+            CountDownLatch thirdSolverStarted = new CountDownLatch(1);
+            solverManager.solveAndListen(3L, id -> PlannerTestUtils.generateTestdataSolution("s3", 4),
+                    testdataSolution -> thirdSolverStarted.countDown());
+            thirdSolverStarted.await();
+        } finally {
+            solverManager.close();
+            solverExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    @Timeout(60)
+    void fairSolverJobScheduler() throws InterruptedException, ExecutionException {
+        CountDownLatch solvingPausedLatch = new CountDownLatch(1);
+        List<String> startedCodeList = Collections.synchronizedList(new ArrayList<>());
+        PhaseConfig<?> pausedPhaseConfig = new CustomPhaseConfig().withCustomPhaseCommands(
+                scoreDirector -> {
+                    String code = ((TestdataSolution) scoreDirector.getWorkingSolution()).getCode();
+                    startedCodeList.add(code);
+                    if (code.equals("blocker")) {
+                        try {
+                            solvingPausedLatch.await();
+                        } catch (InterruptedException e) {
+                            fail("CountDownLatch failed.");
+                        }
+                    }
+                });
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withPhases(pausedPhaseConfig, new ConstructionHeuristicPhaseConfig());
+        // Allow only a single active solver. The tens of a problemId are its tenant.
+        solverManager = SolverManager.create(solverConfig, new SolverManagerConfig()
+                .withParallelSolverCount("1")
+                .withSolverJobScheduler(SolverJobScheduler.<Long> fair(problemId -> problemId / 10, problemId -> 0)));
+
+        solverManager.solve(1L, PlannerTestUtils.generateTestdataSolution("blocker"));
+        List<SolverJob<TestdataSolution, Long>> solverJobList = new ArrayList<>();
+        for (long problemId : new long[] { 11L, 12L, 13L, 21L }) {
+            solverJobList.add(solverManager.solve(problemId,
+                    PlannerTestUtils.generateTestdataSolution("s" + problemId)));
+        }
+        solvingPausedLatch.countDown();
+        for (SolverJob<TestdataSolution, Long> solverJob : solverJobList) {
+            assertSolutionInitialized(solverJob.getFinalBestSolution());
+        }
+        // The second tenant doesn't wait for all solver jobs of the first tenant.
+        assertThat(startedCodeList).containsExactly("blocker", "s11", "s21", "s12", "s13");
+    }
+
+    @Test
+    @Timeout(60)
+    void solvingTimeSlice() throws InterruptedException, ExecutionException {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withPhases(new ConstructionHeuristicPhaseConfig(), new LocalSearchPhaseConfig())
+                .withTerminationConfig(new TerminationConfig().withSecondsSpentLimit(2L));
+        ExecutorService solverExecutor = Executors.newCachedThreadPool();
+        try {
+            // Allow only a single active solver.
+            solverManager = SolverManager.create(solverConfig, new SolverManagerConfig()
+                    .withParallelSolverCount("1")
+                    .withSolverExecutor(solverExecutor)
+                    .withSolvingTimeSlice(Duration.ofMillis(10)));
+
+            CountDownLatch firstSolverStarted = new CountDownLatch(1);
+            SolverJob<TestdataSolution, Long> solverJob1 = solverManager.solveAndListen(1L,
+                    id -> PlannerTestUtils.generateTestdataSolution("s1", 4),
+                    testdataSolution -> firstSolverStarted.countDown());
+            firstSolverStarted.await();
+            CountDownLatch secondSolverStarted = new CountDownLatch(1);
+            SolverJob<TestdataSolution, Long> solverJob2 = solverManager.solveAndListen(2L,
+                    id -> PlannerTestUtils.generateTestdataSolution("s2", 4),
+                    testdataSolution -> secondSolverStarted.countDown());
+            secondSolverStarted.await();
+            // The second solver job got a turn before the first one finished solving.
+            assertThat(solverJob1.getSolverStatus()).isEqualTo(SOLVING_ACTIVE);
+
+            assertSolutionInitialized(solverJob1.getFinalBestSolution());
+            assertSolutionInitialized(solverJob2.getFinalBestSolution());
+        } finally {
+            solverManager.close();
+            solverExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    @Timeout(60)
+    void solverPool_reusedSolverDropsListenersOfPreviousSolverJob() throws InterruptedException, ExecutionException {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        solverManager = SolverManager.create(solverConfig, new SolverManagerConfig()
+                .withParallelSolverCount("1")
+                .withSolverPoolSize(1));
+
+        Queue<Integer> firstEntityCountQueue = new ConcurrentLinkedQueue<>();
+        SolverJob<TestdataSolution, Long> solverJob1 = solverManager.solveAndListen(1L,
+                id -> PlannerTestUtils.generateTestdataSolution("s1", 4),
+                testdataSolution -> firstEntityCountQueue.add(testdataSolution.getEntityList().size()));
+        assertSolutionInitialized(solverJob1.getFinalBestSolution());
+
+        // The second solver job reuses the solver of the first one.
+        Queue<Integer> secondEntityCountQueue = new ConcurrentLinkedQueue<>();
+        SolverJob<TestdataSolution, Long> solverJob2 = solverManager.solveAndListen(2L,
+                id -> PlannerTestUtils.generateTestdataSolution("s2", 6),
+                testdataSolution -> secondEntityCountQueue.add(testdataSolution.getEntityList().size()));
+        TestdataSolution solution2 = solverJob2.getFinalBestSolution();
+        assertSolutionInitialized(solution2);
+        assertThat(solution2.getEntityList()).hasSize(6);
+        // Best solutions are consumed asynchronously, so don't presume any have been consumed yet.
+        assertThat(secondEntityCountQueue).allMatch(entityCount -> entityCount == 6);
+        assertThat(firstEntityCountQueue).allMatch(entityCount -> entityCount == 4);
+    }
+
     @Test
     @Timeout(60)
     void addProblemChangeToNonExistingProblem_failsFast() {
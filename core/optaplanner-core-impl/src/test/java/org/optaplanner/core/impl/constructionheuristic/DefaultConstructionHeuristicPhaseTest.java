@@ -20,14 +20,22 @@
 package org.optaplanner.core.impl.constructionheuristic;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertCode;
 
 import java.util.Arrays;
 import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
+import org.optaplanner.core.config.constructionheuristic.placer.QueuedEntityPlacerConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.ChangeMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.value.ValueSelectorConfig;
+import org.optaplanner.core.config.solver.EnvironmentMode;
 import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionFilter;
+import org.optaplanner.core.impl.testdata.domain.TestdataEasyScoreCalculator;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 import org.optaplanner.core.impl.testdata.domain.TestdataValue;
@@ -132,4 +140,69 @@ class DefaultConstructionHeuristicPhaseTest {
         assertThat(solution.getEntityList()).isEmpty();
     }
 
+    @Test
+    void solveWithSpeculativePlacement() {
+        TestdataSolution sequentialSolution = PlannerTestUtils.solve(buildSpeculativePlacementSolverConfig(null, null),
+                buildUninitializedSolution());
+        // The full assert mode also verifies every predicted score.
+        TestdataSolution speculativeSolution = PlannerTestUtils.solve(buildSpeculativePlacementSolverConfig("2", 4),
+                buildUninitializedSolution());
+        assertThat(speculativeSolution.getScore()).isEqualTo(sequentialSolution.getScore());
+        for (int i = 0; i < sequentialSolution.getEntityList().size(); i++) {
+            TestdataEntity sequentialEntity = sequentialSolution.getEntityList().get(i);
+            TestdataEntity speculativeEntity = speculativeSolution.getEntityList().get(i);
+            assertCode(sequentialEntity.getCode(), speculativeEntity);
+            assertCode(sequentialEntity.getValue().getCode(), speculativeEntity.getValue());
+        }
+    }
+
+    @Test
+    void speculativePlacementRequiresMoveThreadCount() {
+        SolverConfig solverConfig = buildSpeculativePlacementSolverConfig(null, 4);
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> PlannerTestUtils.solve(solverConfig, buildUninitializedSolution()))
+                .withMessageContaining("moveThreadCount");
+    }
+
+    @Test
+    void speculativePlacementRejectsSelectionFilter() {
+        SolverConfig solverConfig = buildSpeculativePlacementSolverConfig("2", 4);
+        solverConfig.setPhaseConfigList(Collections.singletonList(new ConstructionHeuristicPhaseConfig()
+                .withEntityPlacerConfig(new QueuedEntityPlacerConfig()
+                        .withMoveSelectorConfigList(Collections.singletonList(new ChangeMoveSelectorConfig()
+                                .withValueSelectorConfig(new ValueSelectorConfig()
+                                        .withFilterClass(AnyValueFilter.class)))))
+                .withSpeculativePlacementCount(4)));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> PlannerTestUtils.solve(solverConfig, buildUninitializedSolution()))
+                .withMessageContaining("filterClass")
+                .withMessageContaining(AnyValueFilter.class.getSimpleName());
+    }
+
+    public static class AnyValueFilter implements SelectionFilter<TestdataSolution, TestdataValue> {
+
+        @Override
+        public boolean accept(ScoreDirector<TestdataSolution> scoreDirector, TestdataValue value) {
+            return true;
+        }
+
+    }
+
+    private static SolverConfig buildSpeculativePlacementSolverConfig(String moveThreadCount,
+            Integer speculativePlacementCount) {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withEnvironmentMode(EnvironmentMode.FULL_ASSERT)
+                .withMoveThreadCount(moveThreadCount)
+                .withEasyScoreCalculatorClass(TestdataEasyScoreCalculator.class);
+        solverConfig.setPhaseConfigList(Collections.singletonList(new ConstructionHeuristicPhaseConfig()
+                .withSpeculativePlacementCount(speculativePlacementCount)));
+        return solverConfig;
+    }
+
+    private static TestdataSolution buildUninitializedSolution() {
+        TestdataSolution solution = TestdataSolution.generateSolution(5, 23);
+        solution.getEntityList().forEach(entity -> entity.setValue(null));
+        return solution;
+    }
+
 }
@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.optaplanner.core.impl.domain.solution.cloner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedAnchor;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedEntity;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedSolution;
+
+class IncrementalSolutionClonerTest {
+
+    @Test
+    void reuseUnchangedEntities() {
+        IncrementalSolutionCloner<TestdataSolution> cloner =
+                new IncrementalSolutionCloner<>(TestdataSolution.buildSolutionDescriptor());
+        TestdataValue val1 = new TestdataValue("1");
+        TestdataValue val2 = new TestdataValue("2");
+        TestdataEntity a = new TestdataEntity("a", val1);
+        TestdataEntity b = new TestdataEntity("b", val1);
+        TestdataSolution original = new TestdataSolution("solution");
+        original.setValueList(Arrays.asList(val1, val2));
+        original.setEntityList(Arrays.asList(a, b));
+
+        TestdataSolution firstClone = cloner.cloneSolution(original);
+        cloner.markChanged(b);
+        b.setValue(val2);
+        TestdataSolution secondClone = cloner.cloneSolution(original);
+
+        assertThat(secondClone).isNotSameAs(firstClone);
+        assertThat(secondClone.getEntityList()).isNotSameAs(firstClone.getEntityList());
+        assertThat(secondClone.getEntityList().get(0)).isSameAs(firstClone.getEntityList().get(0));
+        assertThat(secondClone.getEntityList().get(1)).isNotSameAs(firstClone.getEntityList().get(1));
+        assertThat(firstClone.getEntityList().get(1).getValue()).isSameAs(val1);
+        assertThat(secondClone.getEntityList().get(1).getValue()).isSameAs(val2);
+
+        // Nothing changed since the last clone
+        TestdataSolution thirdClone = cloner.cloneSolution(original);
+        assertThat(thirdClone.getEntityList().get(0)).isSameAs(secondClone.getEntityList().get(0));
+        assertThat(thirdClone.getEntityList().get(1)).isSameAs(secondClone.getEntityList().get(1));
+    }
+
+    @Test
+    void undoneChangesAreReverted() {
+        IncrementalSolutionCloner<TestdataSolution> cloner =
+                new IncrementalSolutionCloner<>(TestdataSolution.buildSolutionDescriptor());
+        TestdataValue val1 = new TestdataValue("1");
+        TestdataValue val2 = new TestdataValue("2");
+        TestdataEntity a = new TestdataEntity("a", val1);
+        TestdataSolution original = new TestdataSolution("solution");
+        original.setValueList(Arrays.asList(val1, val2));
+        original.setEntityList(Collections.singletonList(a));
+        TestdataSolution firstClone = cloner.cloneSolution(original);
+
+        int checkpoint = cloner.createChangeCheckpoint();
+        cloner.markChanged(a);
+        a.setValue(val2);
+        cloner.markChanged(a);
+        a.setValue(val1);
+        cloner.revertToChangeCheckpoint(checkpoint);
+        TestdataSolution secondClone = cloner.cloneSolution(original);
+        assertThat(secondClone.getEntityList().get(0)).isSameAs(firstClone.getEntityList().get(0));
+
+        // A clone in between the move and its undo move
+        checkpoint = cloner.createChangeCheckpoint();
+        cloner.markChanged(a);
+        a.setValue(val2);
+        TestdataSolution thirdClone = cloner.cloneSolution(original);
+        cloner.markChanged(a);
+        a.setValue(val1);
+        cloner.revertToChangeCheckpoint(checkpoint);
+        TestdataSolution fourthClone = cloner.cloneSolution(original);
+        assertThat(thirdClone.getEntityList().get(0).getValue()).isSameAs(val2);
+        assertThat(fourthClone.getEntityList().get(0)).isNotSameAs(thirdClone.getEntityList().get(0));
+        assertThat(fourthClone.getEntityList().get(0).getValue()).isSameAs(val1);
+    }
+
+    @Test
+    void markAllChanged() {
+        IncrementalSolutionCloner<TestdataSolution> cloner =
+                new IncrementalSolutionCloner<>(TestdataSolution.buildSolutionDescriptor());
+        TestdataValue val1 = new TestdataValue("1");
+        TestdataEntity a = new TestdataEntity("a", val1);
+        TestdataSolution original = new TestdataSolution("solution");
+        original.setValueList(Collections.singletonList(val1));
+        original.setEntityList(Collections.singletonList(a));
+
+        TestdataSolution firstClone = cloner.cloneSolution(original);
+        cloner.markAllChanged();
+        TestdataSolution secondClone = cloner.cloneSolution(original);
+        assertThat(secondClone.getEntityList().get(0)).isNotSameAs(firstClone.getEntityList().get(0));
+        cloner.reset();
+        TestdataSolution thirdClone = cloner.cloneSolution(original);
+        assertThat(thirdClone.getEntityList().get(0)).isNotSameAs(secondClone.getEntityList().get(0));
+    }
+
+    @Test
+    void referrersOfChangedEntitiesAreClonedAgain() {
+        IncrementalSolutionCloner<TestdataChainedSolution> cloner =
+                new IncrementalSolutionCloner<>(TestdataChainedSolution.buildSolutionDescriptor());
+        TestdataChainedAnchor a0 = new TestdataChainedAnchor("a0");
+        TestdataChainedEntity a1 = new TestdataChainedEntity("a1", a0);
+        TestdataChainedEntity a2 = new TestdataChainedEntity("a2", a1);
+        TestdataChainedEntity a3 = new TestdataChainedEntity("a3", a2);
+        TestdataChainedAnchor b0 = new TestdataChainedAnchor("b0");
+        TestdataChainedEntity b1 = new TestdataChainedEntity("b1", b0);
+        TestdataChainedSolution original = new TestdataChainedSolution("solution");
+        original.setChainedAnchorList(Arrays.asList(a0, b0));
+        original.setChainedEntityList(Arrays.asList(a1, a2, a3, b1));
+        original.setUnchainedValueList(Collections.emptyList());
+
+        TestdataChainedSolution firstClone = cloner.cloneSolution(original);
+        // Move a1 to the end of chain b
+        cloner.markChanged(a2);
+        a2.setChainedObject(a0);
+        cloner.markChanged(a1);
+        a1.setChainedObject(b1);
+        TestdataChainedSolution secondClone = cloner.cloneSolution(original);
+
+        TestdataChainedEntity cloneA1 = secondClone.getChainedEntityList().get(0);
+        TestdataChainedEntity cloneA2 = secondClone.getChainedEntityList().get(1);
+        TestdataChainedEntity cloneA3 = secondClone.getChainedEntityList().get(2);
+        TestdataChainedEntity cloneB1 = secondClone.getChainedEntityList().get(3);
+        assertThat(cloneA1).isNotSameAs(firstClone.getChainedEntityList().get(0));
+        assertThat(cloneA2).isNotSameAs(firstClone.getChainedEntityList().get(1));
+        // Unchanged, but references a changed entity
+        assertThat(cloneA3).isNotSameAs(firstClone.getChainedEntityList().get(2));
+        assertThat(cloneB1).isSameAs(firstClone.getChainedEntityList().get(3));
+        assertThat(cloneA1.getChainedObject()).isSameAs(cloneB1);
+        assertThat(cloneA2.getChainedObject()).isSameAs(a0);
+        assertThat(cloneA3.getChainedObject()).isSameAs(cloneA2);
+
+        // The references of reused entities are tracked too
+        cloner.markChanged(b1);
+        TestdataChainedSolution thirdClone = cloner.cloneSolution(original);
+        assertThat(thirdClone.getChainedEntityList().get(3)).isNotSameAs(cloneB1);
+        assertThat(thirdClone.getChainedEntityList().get(0)).isNotSameAs(cloneA1);
+        assertThat(thirdClone.getChainedEntityList().get(0).getChainedObject())
+                .isSameAs(thirdClone.getChainedEntityList().get(3));
+        assertThat(thirdClone.getChainedEntityList().get(1)).isSameAs(cloneA2);
+        assertThat(thirdClone.getChainedEntityList().get(2)).isSameAs(cloneA3);
+    }
+
+}
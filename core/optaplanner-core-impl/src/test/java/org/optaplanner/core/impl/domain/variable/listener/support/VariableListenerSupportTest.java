@@ -27,6 +27,10 @@ import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.api.solver.SolverFactory;
+import org.optaplanner.core.config.heuristic.selector.move.generic.PillarChangeMoveSelectorConfig;
+import org.optaplanner.core.config.localsearch.LocalSearchPhaseConfig;
+import org.optaplanner.core.config.solver.SolverConfig;
 import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
@@ -36,6 +40,7 @@ import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInvers
 import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInverseVariableSupply;
 import org.optaplanner.core.impl.domain.variable.supply.SupplyManager;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.solver.DefaultSolver;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedEntity;
@@ -44,6 +49,7 @@ import org.optaplanner.core.impl.testdata.domain.chained.shadow.TestdataShadowin
 import org.optaplanner.core.impl.testdata.domain.chained.shadow.TestdataShadowingChainedSolution;
 import org.optaplanner.core.impl.testdata.domain.shadow.order.TestdataShadowVariableOrderEntity;
 import org.optaplanner.core.impl.testdata.domain.shadow.order.TestdataShadowVariableOrderSolution;
+import org.optaplanner.core.impl.testdata.util.PlannerTestUtils;
 
 class VariableListenerSupportTest {
 
@@ -96,6 +102,60 @@ class VariableListenerSupportTest {
         assertThat(supply2).isSameAs(supply1);
     }
 
+    @Test
+    void cancelUnregistersExternalizedSupply() {
+        SolutionDescriptor<TestdataChainedSolution> solutionDescriptor = TestdataChainedSolution.buildSolutionDescriptor();
+        InnerScoreDirector<TestdataChainedSolution, SimpleScore> scoreDirector = mock(InnerScoreDirector.class);
+        when(scoreDirector.getSolutionDescriptor()).thenReturn(solutionDescriptor);
+        TestdataChainedSolution solution = new TestdataChainedSolution();
+        solution.setChainedEntityList(Collections.emptyList());
+        when(scoreDirector.getWorkingSolution()).thenReturn(solution);
+        NotifiableRegistry<TestdataChainedSolution> registry = new NotifiableRegistry<>(solutionDescriptor);
+        VariableListenerSupport<TestdataChainedSolution> variableListenerSupport =
+                new VariableListenerSupport<>(scoreDirector, registry);
+        variableListenerSupport.linkVariableListeners();
+        int linkedNotifiableCount = countNotifiables(variableListenerSupport);
+
+        VariableDescriptor<TestdataChainedSolution> variableDescriptor =
+                solutionDescriptor.getEntityDescriptorStrict(TestdataChainedEntity.class)
+                        .getVariableDescriptor("chainedObject");
+        SingletonInverseVariableDemand<TestdataChainedSolution> demand =
+                new SingletonInverseVariableDemand<>(variableDescriptor);
+        variableListenerSupport.demand(demand);
+        variableListenerSupport.demand(demand);
+        assertThat(countNotifiables(variableListenerSupport)).isEqualTo(linkedNotifiableCount + 1);
+        variableListenerSupport.cancel(demand);
+        assertThat(countNotifiables(variableListenerSupport)).isEqualTo(linkedNotifiableCount + 1);
+        variableListenerSupport.cancel(demand);
+        assertThat(countNotifiables(variableListenerSupport)).isEqualTo(linkedNotifiableCount);
+        assertThat(registry.get(variableDescriptor)).isEmpty();
+    }
+
+    @Test
+    void solvingTwiceDoesNotKeepCanceledSupplies() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        ((LocalSearchPhaseConfig) solverConfig.getPhaseConfigList().get(1))
+                .setMoveSelectorConfig(new PillarChangeMoveSelectorConfig());
+        DefaultSolver<TestdataSolution> solver =
+                (DefaultSolver<TestdataSolution>) SolverFactory.<TestdataSolution> create(solverConfig).buildSolver();
+
+        solver.solve(PlannerTestUtils.generateTestdataSolution("s1", 4));
+        VariableListenerSupport<TestdataSolution> variableListenerSupport =
+                (VariableListenerSupport<TestdataSolution>) solver.getSolverScope().getScoreDirector().getSupplyManager();
+        int notifiableCount = countNotifiables(variableListenerSupport);
+        solver.solve(PlannerTestUtils.generateTestdataSolution("s2", 4));
+        assertThat(solver.getSolverScope().getScoreDirector().getSupplyManager()).isSameAs(variableListenerSupport);
+        assertThat(countNotifiables(variableListenerSupport)).isEqualTo(notifiableCount);
+    }
+
+    private static int countNotifiables(VariableListenerSupport<?> variableListenerSupport) {
+        int count = 0;
+        for (Notifiable notifiable : variableListenerSupport.getNotifiableRegistry().getAll()) {
+            count++;
+        }
+        return count;
+    }
+
     @Test
     void demandRichChained() {
         SolutionDescriptor<TestdataShadowingChainedSolution> solutionDescriptor =
@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.common.nearby;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class NearbyDistanceMatrixCacheTest {
+
+    @TempDir
+    Path cacheDirectory;
+
+    @Test
+    void unchangedRowsAreReused() {
+        List<Point> pointList = createPointList(20);
+        CountingMeter meter = new CountingMeter(cacheDirectory);
+        NearbyDistanceMatrix<Point, Point> firstMatrix = buildMatrix(meter, pointList, 5);
+        assertThat(meter.count.get()).isEqualTo(20 * 20);
+        assertThat(Files.exists(cacheDirectory.resolve(CountingMeter.class.getName() + "-test.nearby"))).isTrue();
+
+        meter.count.set(0);
+        NearbyDistanceMatrix<Point, Point> secondMatrix = buildMatrix(meter, pointList, 5);
+        assertThat(meter.count.get()).isZero();
+        assertSameRows(pointList, 5, firstMatrix, secondMatrix);
+    }
+
+    @Test
+    void newDestinationIsMerged() {
+        List<Point> pointList = createPointList(20);
+        CountingMeter meter = new CountingMeter(cacheDirectory);
+        buildMatrix(meter, pointList, 20);
+
+        pointList.add(new Point(20, 3.5));
+        meter.count.set(0);
+        NearbyDistanceMatrix<Point, Point> cachedMatrix = buildMatrix(meter, pointList, 21);
+        // Only the distances from the old origins to the new point and those of the new origin
+        assertThat(meter.count.get()).isEqualTo(20 + 21);
+        assertSameRows(pointList, 21, buildUncachedMatrix(pointList, 21), cachedMatrix);
+
+        // The merged rows are written too
+        meter.count.set(0);
+        buildMatrix(meter, pointList, 21);
+        assertThat(meter.count.get()).isZero();
+    }
+
+    @Test
+    void changedPointIsRecalculated() {
+        List<Point> pointList = createPointList(20);
+        CountingMeter meter = new CountingMeter(cacheDirectory);
+        buildMatrix(meter, pointList, 20);
+
+        pointList.set(7, new Point(7, 15.25));
+        meter.count.set(0);
+        NearbyDistanceMatrix<Point, Point> cachedMatrix = buildMatrix(meter, pointList, 20);
+        assertThat(meter.count.get()).isEqualTo(20 + 19);
+        assertSameRows(pointList, 20, buildUncachedMatrix(pointList, 20), cachedMatrix);
+    }
+
+    @Test
+    void truncatedRowsAreRecalculatedOrMergedCorrectly() {
+        List<Point> pointList = createPointList(30);
+        CountingMeter meter = new CountingMeter(cacheDirectory);
+        buildMatrix(meter, pointList, 30);
+        pointList.add(new Point(30, 0.5));
+        pointList.set(12, new Point(12, 2.75));
+        NearbyDistanceMatrix<Point, Point> cachedMatrix = buildMatrix(meter, pointList, 4);
+        assertSameRows(pointList, 4, buildUncachedMatrix(pointList, 4), cachedMatrix);
+
+        // The truncated rows can't be merged, but must still be correct
+        pointList.add(new Point(31, 1.5));
+        cachedMatrix = buildMatrix(meter, pointList, 4);
+        assertSameRows(pointList, 4, buildUncachedMatrix(pointList, 4), cachedMatrix);
+    }
+
+    @Test
+    void corruptCacheFileIsIgnored() throws Exception {
+        Files.write(cacheDirectory.resolve(CountingMeter.class.getName() + "-test.nearby"), new byte[] { 1, 2, 3 });
+        List<Point> pointList = createPointList(10);
+        CountingMeter meter = new CountingMeter(cacheDirectory);
+        NearbyDistanceMatrix<Point, Point> cachedMatrix = buildMatrix(meter, pointList, 3);
+        assertThat(meter.count.get()).isEqualTo(10 * 10);
+        assertSameRows(pointList, 3, buildUncachedMatrix(pointList, 3), cachedMatrix);
+    }
+
+    @Test
+    void cacheMatrixNameDependsOnSelection() {
+        CountingMeter meter = new CountingMeter(cacheDirectory);
+        String name = new TestDemand(meter, "Destinations(a)", "Origins(b)").getCacheMatrixName();
+        assertThat(name).startsWith(TestDemand.class.getSimpleName() + "-")
+                .isEqualTo(new TestDemand(meter, "Destinations(a)", "Origins(b)").getCacheMatrixName())
+                .isNotEqualTo(new TestDemand(meter, "Destinations(c)", "Origins(b)").getCacheMatrixName())
+                .isNotEqualTo(new TestDemand(meter, "Destinations(a)", "Origins(c)").getCacheMatrixName());
+    }
+
+    private static List<Point> createPointList(int size) {
+        List<Point> pointList = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            // Duplicate locations to cover ties
+            pointList.add(new Point(i, (i * 7) % 11));
+        }
+        return pointList;
+    }
+
+    private static NearbyDistanceMatrix<Point, Point> buildMatrix(CountingMeter meter, List<Point> pointList,
+            int destinationSize) {
+        NearbyDistanceMatrix<Point, Point> matrix =
+                new NearbyDistanceMatrix<>(meter, pointList.size(), pointList, origin -> destinationSize);
+        matrix.setCache(new NearbyDistanceMatrixCache<>(meter, "test", matrix));
+        matrix.addAllDestinations(pointList.iterator());
+        return matrix;
+    }
+
+    private static NearbyDistanceMatrix<Point, Point> buildUncachedMatrix(List<Point> pointList, int destinationSize) {
+        NearbyDistanceMeter<Point, Point> meter = (origin, destination) -> Math.abs(origin.x - destination.x);
+        NearbyDistanceMatrix<Point, Point> matrix =
+                new NearbyDistanceMatrix<>(meter, pointList.size(), pointList, origin -> destinationSize);
+        matrix.addAllDestinations(pointList.iterator());
+        return matrix;
+    }
+
+    private static void assertSameRows(List<Point> pointList, int destinationSize,
+            NearbyDistanceMatrix<Point, Point> expectedMatrix, NearbyDistanceMatrix<Point, Point> actualMatrix) {
+        for (Point origin : pointList) {
+            for (int i = 0; i < destinationSize; i++) {
+                assertThat(actualMatrix.getDestination(origin, i))
+                        .as("Destination (%d) of origin (%s)", i, origin)
+                        .isSameAs(expectedMatrix.getDestination(origin, i));
+            }
+        }
+    }
+
+    private static final class Point {
+
+        private final int id;
+        private final double x;
+
+        private Point(int id, double x) {
+            this.id = id;
+            this.x = x;
+        }
+
+        @Override
+        public String toString() {
+            return id + "@" + x;
+        }
+
+    }
+
+    private static final class TestDemand extends AbstractNearbyDistanceMatrixDemand<Point, Point, String, String> {
+
+        private TestDemand(NearbyDistanceMeter<Point, Point> meter, String childSelector, String replayingSelector) {
+            super(meter, null, childSelector, replayingSelector);
+        }
+
+        @Override
+        protected NearbyDistanceMatrix<Point, Point> supplyNearbyDistanceMatrix() {
+            throw new UnsupportedOperationException();
+        }
+
+    }
+
+    private static final class CountingMeter implements CachedNearbyDistanceMeter<Point, Point> {
+
+        private final Path cacheDirectory;
+        private final AtomicInteger count = new AtomicInteger();
+
+        private CountingMeter(Path cacheDirectory) {
+            this.cacheDirectory = cacheDirectory;
+        }
+
+        @Override
+        public double getNearbyDistance(Point origin, Point destination) {
+            count.incrementAndGet();
+            return Math.abs(origin.x - destination.x);
+        }
+
+        @Override
+        public Path getCacheDirectory() {
+            return cacheDirectory;
+        }
+
+        @Override
+        public String getOriginFingerprint(Point origin) {
+            return origin.toString();
+        }
+
+        @Override
+        public String getDestinationFingerprint(Point destination) {
+            return destination.toString();
+        }
+
+    }
+
+}
@@ -21,8 +21,10 @@ package org.optaplanner.core.impl.heuristic.selector.common.nearby;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 import org.optaplanner.core.impl.testdata.domain.TestdataObject;
@@ -122,6 +124,73 @@ class NearbyDistanceMatrixTest {
         assertThat(nearbyDistanceMatrix.getDestination(b, 1)).isSameAs(destination2);
     }
 
+    @Test
+    void addAllDestinationsWithLimitedDestinationSize() {
+        final MatrixTestdataObject a = new MatrixTestdataObject("a", 0, new double[] { 0.0, 4.0, 2.0, 2.0 });
+        final MatrixTestdataObject b = new MatrixTestdataObject("b", 1, new double[] { 4.0, 0.0, 5.0, 1.0 });
+        final MatrixTestdataObject c = new MatrixTestdataObject("c", 2, new double[] { 2.0, 5.0, 0.0, 7.0 });
+        final MatrixTestdataObject d = new MatrixTestdataObject("d", 3, new double[] { 6.0, 10.0, 7.0, 0.0 });
+        List<MatrixTestdataObject> entityList = Arrays.asList(a, b, c, d);
+        NearbyDistanceMeter<MatrixTestdataObject, MatrixTestdataObject> meter =
+                (origin, destination) -> origin.distances[destination.index];
+
+        NearbyDistanceMatrix<MatrixTestdataObject, MatrixTestdataObject> nearbyDistanceMatrix =
+                new NearbyDistanceMatrix<>(meter, 4, entityList, origin -> 2);
+        nearbyDistanceMatrix.addAllDestinations(entityList.iterator());
+
+        assertThat(nearbyDistanceMatrix.getDestination(a, 0)).isSameAs(a);
+        // Ties are resolved by the destination iteration order
+        assertThat(nearbyDistanceMatrix.getDestination(a, 1)).isSameAs(c);
+        assertThat(nearbyDistanceMatrix.getDestination(b, 0)).isSameAs(b);
+        assertThat(nearbyDistanceMatrix.getDestination(b, 1)).isSameAs(d);
+        assertThat(nearbyDistanceMatrix.getDestination(c, 0)).isSameAs(c);
+        assertThat(nearbyDistanceMatrix.getDestination(c, 1)).isSameAs(a);
+        assertThat(nearbyDistanceMatrix.getDestination(d, 0)).isSameAs(d);
+        assertThat(nearbyDistanceMatrix.getDestination(d, 1)).isSameAs(a);
+    }
+
+    @Test
+    void addAllDestinationsInParallel() {
+        int size = 600;
+        List<MatrixTestdataObject> entityList = new ArrayList<>(size);
+        Random random = new Random(37);
+        for (int i = 0; i < size; i++) {
+            double[] distances = new double[size];
+            for (int j = 0; j < size; j++) {
+                // Plenty of ties
+                distances[j] = random.nextInt(100);
+            }
+            entityList.add(new MatrixTestdataObject(String.valueOf(i), i, distances));
+        }
+        NearbyDistanceMeter<MatrixTestdataObject, MatrixTestdataObject> meter =
+                (origin, destination) -> origin.distances[destination.index];
+
+        NearbyDistanceMatrix<MatrixTestdataObject, MatrixTestdataObject> parallelMatrix =
+                new NearbyDistanceMatrix<>(meter, size, entityList, origin -> size);
+        parallelMatrix.addAllDestinations(entityList.iterator());
+        NearbyDistanceMatrix<MatrixTestdataObject, MatrixTestdataObject> sequentialMatrix =
+                new NearbyDistanceMatrix<>(meter, size, entityList, origin -> size);
+        for (MatrixTestdataObject origin : entityList) {
+            sequentialMatrix.addAllDestinations(origin);
+        }
+
+        for (MatrixTestdataObject origin : entityList) {
+            double previousDistance = Double.NEGATIVE_INFINITY;
+            int previousIndex = -1;
+            for (int nearbyIndex = 0; nearbyIndex < size; nearbyIndex++) {
+                MatrixTestdataObject destination = (MatrixTestdataObject) parallelMatrix.getDestination(origin, nearbyIndex);
+                assertThat(sequentialMatrix.getDestination(origin, nearbyIndex)).isSameAs(destination);
+                double distance = origin.distances[destination.index];
+                assertThat(distance).isGreaterThanOrEqualTo(previousDistance);
+                if (distance == previousDistance) {
+                    assertThat(destination.index).isGreaterThan(previousIndex);
+                }
+                previousDistance = distance;
+                previousIndex = destination.index;
+            }
+        }
+    }
+
     private static class MatrixTestdataObject extends TestdataObject {
         private final int index;
         private final double[] distances;
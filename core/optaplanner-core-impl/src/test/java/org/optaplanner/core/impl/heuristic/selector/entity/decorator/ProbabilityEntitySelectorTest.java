@@ -71,11 +71,12 @@ class ProbabilityEntitySelectorTest {
                 probabilityWeightFactory);
 
         Random workingRandom = new TestRandom(
-                1222.0 / 1234.0,
-                111.0 / 1234.0,
-                0.0,
-                1230.0 / 1234.0,
-                1199.0 / 1234.0);
+                // Alias table columns: e1 (100%), e2 (65%, else e1), e3 (10%, else e1), e4 (1%, else e1)
+                (2.0 + 0.05) / 4.0,
+                (0.0 + 0.4) / 4.0,
+                (2.0 + 0.5) / 4.0,
+                (3.0 + 0.01) / 4.0,
+                (1.0 + 0.5) / 4.0);
 
         SolverScope solverScope = mock(SolverScope.class);
         when(solverScope.getWorkingRandom()).thenReturn(workingRandom);
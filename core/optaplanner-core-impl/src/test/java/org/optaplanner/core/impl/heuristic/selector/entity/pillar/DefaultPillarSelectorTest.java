@@ -21,6 +21,9 @@ package org.optaplanner.core.impl.heuristic.selector.entity.pillar;
 
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertAllCodesOfPillarSelector;
 import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertCodesOfNeverEndingPillarSelector;
@@ -76,7 +79,7 @@ class DefaultPillarSelectorTest {
         DefaultPillarSelector pillarSelector = new DefaultPillarSelector(entitySelector, List.of(variableDescriptor), false,
                 SubPillarConfigPolicy.withoutSubpillars());
 
-        SolverScope<TestdataSolution> solverScope = mockSolverScope();
+        SolverScope<TestdataSolution> solverScope = mockSolverScope(variableDescriptor);
         pillarSelector.solvingStarted(solverScope);
 
         AbstractPhaseScope phaseScopeA = mock(AbstractPhaseScope.class);
@@ -89,8 +92,8 @@ class DefaultPillarSelectorTest {
         assertAllCodesOfPillarSelector(pillarSelector, "[a]", "[b, d]", "[c, e, f]");
         pillarSelector.stepEnded(stepScopeA1);
 
-        b.setValue(val3);
-        f.setValue(val4);
+        changeValue(solverScope, variableDescriptor, b, val3);
+        changeValue(solverScope, variableDescriptor, f, val4);
 
         AbstractStepScope stepScopeA2 = mock(AbstractStepScope.class);
         when(stepScopeA2.getPhaseScope()).thenReturn(phaseScopeA);
@@ -117,8 +120,18 @@ class DefaultPillarSelectorTest {
         verifyPhaseLifecycle(entitySelector, 1, 2, 3);
     }
 
-    private SolverScope<TestdataSolution> mockSolverScope() {
-        SolutionDescriptor<TestdataSolution> solutionDescriptor = TestdataSolution.buildSolutionDescriptor();
+    private static void changeValue(SolverScope<TestdataSolution> solverScope,
+            GenuineVariableDescriptor<TestdataSolution> variableDescriptor, TestdataEntity entity, TestdataValue value) {
+        // Notify the pillar supply, like the score director does when a move changes the entity
+        VariableListenerSupport<TestdataSolution> variableListenerSupport =
+                (VariableListenerSupport<TestdataSolution>) solverScope.getScoreDirector().getSupplyManager();
+        variableListenerSupport.beforeVariableChanged(variableDescriptor, entity);
+        entity.setValue(value);
+    }
+
+    private SolverScope<TestdataSolution> mockSolverScope(GenuineVariableDescriptor<TestdataSolution> variableDescriptor) {
+        SolutionDescriptor<TestdataSolution> solutionDescriptor =
+                variableDescriptor.getEntityDescriptor().getSolutionDescriptor();
         InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector = mock(InnerScoreDirector.class);
         doReturn(solutionDescriptor).when(scoreDirector).getSolutionDescriptor();
         doReturn(VariableListenerSupport.create(scoreDirector)).when(scoreDirector).getSupplyManager();
@@ -136,7 +149,7 @@ class DefaultPillarSelectorTest {
         DefaultPillarSelector pillarSelector = new DefaultPillarSelector(entitySelector, List.of(variableDescriptor), false,
                 SubPillarConfigPolicy.withoutSubpillars());
 
-        SolverScope<TestdataSolution> solverScope = mockSolverScope();
+        SolverScope<TestdataSolution> solverScope = mockSolverScope(variableDescriptor);
         pillarSelector.solvingStarted(solverScope);
 
         AbstractPhaseScope phaseScopeA = mock(AbstractPhaseScope.class);
@@ -198,7 +211,7 @@ class DefaultPillarSelectorTest {
 
         TestRandom workingRandom = new TestRandom(0);
 
-        SolverScope<TestdataSolution> solverScope = mockSolverScope();
+        SolverScope<TestdataSolution> solverScope = mockSolverScope(variableDescriptor);
         when(solverScope.getWorkingRandom()).thenReturn(workingRandom);
         pillarSelector.solvingStarted(solverScope);
 
@@ -217,8 +230,8 @@ class DefaultPillarSelectorTest {
         assertCodesOfNeverEndingPillarSelector(pillarSelector, "[a]", "[c, e]", "[b]", "[d]");
         pillarSelector.stepEnded(stepScopeA1);
 
-        b.setValue(val3);
-        f.setValue(val4);
+        changeValue(solverScope, variableDescriptor, b, val3);
+        changeValue(solverScope, variableDescriptor, f, val4);
 
         AbstractStepScope stepScopeA2 = PlannerTestUtils.delegatingStepScope(phaseScopeA);
         pillarSelector.stepStarted(stepScopeA2);
@@ -282,7 +295,7 @@ class DefaultPillarSelectorTest {
                 1, 0, 0, 0, // [c, e]
                 0, 0, 0, 0); // [b, d]
 
-        SolverScope<TestdataSolution> solverScope = mockSolverScope();
+        SolverScope<TestdataSolution> solverScope = mockSolverScope(variableDescriptor);
         when(solverScope.getWorkingRandom()).thenReturn(workingRandom);
         pillarSelector.solvingStarted(solverScope);
 
@@ -332,7 +345,7 @@ class DefaultPillarSelectorTest {
                 0, 0 // [a]
         );
 
-        SolverScope<TestdataSolution> solverScope = mockSolverScope();
+        SolverScope<TestdataSolution> solverScope = mockSolverScope(variableDescriptor);
         when(solverScope.getWorkingRandom()).thenReturn(workingRandom);
         pillarSelector.solvingStarted(solverScope);
 
@@ -360,7 +373,7 @@ class DefaultPillarSelectorTest {
                 entitySelector, Arrays.asList(variableDescriptor), true,
                 SubPillarConfigPolicy.withSubpillarsUnlimited());
 
-        SolverScope<TestdataSolution> solverScope = mockSolverScope();
+        SolverScope<TestdataSolution> solverScope = mockSolverScope(variableDescriptor);
         pillarSelector.solvingStarted(solverScope);
 
         AbstractPhaseScope phaseScopeA = mock(AbstractPhaseScope.class);
@@ -420,48 +433,186 @@ class DefaultPillarSelectorTest {
         DefaultPillarSelector pillarSelector2 = new DefaultPillarSelector(entitySelector, List.of(variableDescriptor), false,
                 SubPillarConfigPolicy.withoutSubpillars());
 
-        SolverScope<TestdataSolution> solverScope = mockSolverScope();
-        pillarSelector1.solvingStarted(solverScope);
-        pillarSelector2.solvingStarted(solverScope);
-
-        AbstractPhaseScope phaseScopeA = mock(AbstractPhaseScope.class);
-        when(phaseScopeA.getSolverScope()).thenReturn(solverScope);
-        pillarSelector1.phaseStarted(phaseScopeA);
-        pillarSelector2.phaseStarted(phaseScopeA);
-
-        AbstractStepScope stepScopeA1 = mock(AbstractStepScope.class);
-        when(stepScopeA1.getPhaseScope()).thenReturn(phaseScopeA);
-
+        SolverScope<TestdataSolution> solverScope = mockSolverScope(variableDescriptor);
         /*
          * We do not have a direct way of testing that the pillar cache is reused.
          * But we can check that the pillar supply is properly updated.
          *
          * It starts with active count 0, then first selector creates the supply and active count goes to 1.
          * Second selector increases the count to 2, but the supply stays the same.
-         * Then after step end, the same process repeats in reverse, eventually reaching zero active count.
+         * Then after solving end, the same process repeats in reverse, eventually reaching zero active count.
          */
         SupplyManager pillarSupplyManager = solverScope.getScoreDirector().getSupplyManager();
         Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector1.getPillarDemand())).isEqualTo(0);
-        pillarSelector1.stepStarted(stepScopeA1);
+        pillarSelector1.solvingStarted(solverScope);
         Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector1.getPillarDemand())).isEqualTo(1);
-
-        Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector2.getPillarDemand())).isEqualTo(1);
-        pillarSelector2.stepStarted(stepScopeA1);
+        pillarSelector2.solvingStarted(solverScope);
         Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector2.getPillarDemand())).isEqualTo(2);
 
-        Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector1.getPillarDemand())).isEqualTo(2);
+        AbstractPhaseScope phaseScopeA = mock(AbstractPhaseScope.class);
+        when(phaseScopeA.getSolverScope()).thenReturn(solverScope);
+        pillarSelector1.phaseStarted(phaseScopeA);
+        pillarSelector2.phaseStarted(phaseScopeA);
+
+        AbstractStepScope stepScopeA1 = mock(AbstractStepScope.class);
+        when(stepScopeA1.getPhaseScope()).thenReturn(phaseScopeA);
+        pillarSelector1.stepStarted(stepScopeA1);
+        pillarSelector2.stepStarted(stepScopeA1);
+        assertAllCodesOfPillarSelector(pillarSelector1, "[a]", "[b, d]", "[c, e, f]");
+        assertAllCodesOfPillarSelector(pillarSelector2, "[a]", "[b, d]", "[c, e, f]");
         pillarSelector1.stepEnded(stepScopeA1);
-        Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector1.getPillarDemand())).isEqualTo(1);
+        pillarSelector2.stepEnded(stepScopeA1);
+        Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector1.getPillarDemand())).isEqualTo(2);
 
+        pillarSelector1.solvingEnded(solverScope);
         Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector1.getPillarDemand())).isEqualTo(1);
-        pillarSelector2.stepEnded(stepScopeA1);
+        pillarSelector2.solvingEnded(solverScope);
         Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector1.getPillarDemand())).isEqualTo(0);
+    }
 
-        pillarSelector1.phaseEnded(phaseScopeA);
-        pillarSelector2.phaseEnded(phaseScopeA);
+    @Test
+    void incrementalPillarsAfterUndoneAndDoneChanges() {
+        TestdataValue val1 = new TestdataValue("1");
+        TestdataValue val2 = new TestdataValue("2");
+        TestdataValue val3 = new TestdataValue("3");
 
-        pillarSelector1.solvingEnded(solverScope);
-        pillarSelector2.solvingEnded(solverScope);
+        final TestdataEntity a = new TestdataEntity("a", val1);
+        final TestdataEntity b = new TestdataEntity("b", val2);
+        final TestdataEntity c = new TestdataEntity("c", val3);
+        final TestdataEntity d = new TestdataEntity("d", val2);
+
+        GenuineVariableDescriptor variableDescriptor = TestdataEntity.buildVariableDescriptorForValue();
+        EntitySelector entitySelector = SelectorTestUtils.mockEntitySelector(variableDescriptor.getEntityDescriptor(),
+                a, b, c, d);
+
+        DefaultPillarSelector pillarSelector = new DefaultPillarSelector(entitySelector, List.of(variableDescriptor), false,
+                SubPillarConfigPolicy.withoutSubpillars());
+
+        SolverScope<TestdataSolution> solverScope = mockSolverScope(variableDescriptor);
+        pillarSelector.solvingStarted(solverScope);
+
+        AbstractPhaseScope phaseScopeA = mock(AbstractPhaseScope.class);
+        when(phaseScopeA.getSolverScope()).thenReturn(solverScope);
+        pillarSelector.phaseStarted(phaseScopeA);
+
+        AbstractStepScope stepScopeA1 = mock(AbstractStepScope.class);
+        when(stepScopeA1.getPhaseScope()).thenReturn(phaseScopeA);
+        pillarSelector.stepStarted(stepScopeA1);
+        assertAllCodesOfPillarSelector(pillarSelector, "[a]", "[b, d]", "[c]");
+        List<Object> pillarBD = (List<Object>) pillarSelector.listIterator(1).next();
+        // Evaluating a move and undoing it does not change the pillars.
+        changeValue(solverScope, variableDescriptor, d, val1);
+        changeValue(solverScope, variableDescriptor, d, val2);
+        // The step's move.
+        changeValue(solverScope, variableDescriptor, a, val2);
+        pillarSelector.stepEnded(stepScopeA1);
+
+        AbstractStepScope stepScopeA2 = mock(AbstractStepScope.class);
+        when(stepScopeA2.getPhaseScope()).thenReturn(phaseScopeA);
+        pillarSelector.stepStarted(stepScopeA2);
+        assertAllCodesOfPillarSelector(pillarSelector, "[a, b, d]", "[c]");
+        // A pillar which was already selected is never changed, as a move might still use it.
+        Assertions.assertThat(pillarBD).containsExactly(b, d);
+        changeValue(solverScope, variableDescriptor, b, val3);
+        pillarSelector.stepEnded(stepScopeA2);
+
+        AbstractStepScope stepScopeA3 = mock(AbstractStepScope.class);
+        when(stepScopeA3.getPhaseScope()).thenReturn(phaseScopeA);
+        pillarSelector.stepStarted(stepScopeA3);
+        assertAllCodesOfPillarSelector(pillarSelector, "[a, d]", "[b, c]");
+        pillarSelector.stepEnded(stepScopeA3);
+
+        pillarSelector.phaseEnded(phaseScopeA);
+        pillarSelector.solvingEnded(solverScope);
+    }
+
+    @Test
+    void entitySelectionChangedByFilterDuringPhase() {
+        TestdataValue val1 = new TestdataValue("1");
+        TestdataValue val2 = new TestdataValue("2");
+
+        final TestdataEntity a = new TestdataEntity("a", val1);
+        final TestdataEntity b = new TestdataEntity("b", val2);
+        final TestdataEntity c = new TestdataEntity("c", val1);
+        final TestdataEntity d = new TestdataEntity("d", val2);
+
+        GenuineVariableDescriptor variableDescriptor = TestdataEntity.buildVariableDescriptorForValue();
+        // Like a filter that depends on the working solution: the selected entities change without an entity change
+        Object[] selectedEntities = { a, b, c };
+        EntitySelector entitySelector = SelectorTestUtils.mockEntitySelector(variableDescriptor.getEntityDescriptor(),
+                selectedEntities);
+
+        DefaultPillarSelector pillarSelector = new DefaultPillarSelector(entitySelector, List.of(variableDescriptor), false,
+                SubPillarConfigPolicy.withoutSubpillars(), true);
+
+        SolverScope<TestdataSolution> solverScope = mockSolverScope(variableDescriptor);
+        pillarSelector.solvingStarted(solverScope);
+
+        AbstractPhaseScope phaseScopeA = mock(AbstractPhaseScope.class);
+        when(phaseScopeA.getSolverScope()).thenReturn(solverScope);
+        pillarSelector.phaseStarted(phaseScopeA);
+
+        AbstractStepScope stepScopeA1 = mock(AbstractStepScope.class);
+        when(stepScopeA1.getPhaseScope()).thenReturn(phaseScopeA);
+        pillarSelector.stepStarted(stepScopeA1);
+        assertAllCodesOfPillarSelector(pillarSelector, "[a, c]", "[b]");
+        pillarSelector.stepEnded(stepScopeA1);
+
+        selectedEntities[2] = d;
+
+        AbstractStepScope stepScopeA2 = mock(AbstractStepScope.class);
+        when(stepScopeA2.getPhaseScope()).thenReturn(phaseScopeA);
+        pillarSelector.stepStarted(stepScopeA2);
+        assertAllCodesOfPillarSelector(pillarSelector, "[a]", "[b, d]");
+        pillarSelector.stepEnded(stepScopeA2);
+
+        pillarSelector.phaseEnded(phaseScopeA);
+        pillarSelector.solvingEnded(solverScope);
+    }
+
+    @Test
+    void unchangeableEntitySelectionIsNotCheckedEveryStep() {
+        TestdataValue val1 = new TestdataValue("1");
+        TestdataValue val2 = new TestdataValue("2");
+
+        final TestdataEntity a = new TestdataEntity("a", val1);
+        final TestdataEntity b = new TestdataEntity("b", val2);
+        final TestdataEntity c = new TestdataEntity("c", val1);
+
+        GenuineVariableDescriptor variableDescriptor = TestdataEntity.buildVariableDescriptorForValue();
+        EntitySelector entitySelector = SelectorTestUtils.mockEntitySelector(variableDescriptor.getEntityDescriptor(),
+                a, b, c);
+
+        DefaultPillarSelector pillarSelector = new DefaultPillarSelector(entitySelector, List.of(variableDescriptor), false,
+                SubPillarConfigPolicy.withoutSubpillars(), false);
+
+        SolverScope<TestdataSolution> solverScope = mockSolverScope(variableDescriptor);
+        pillarSelector.solvingStarted(solverScope);
+
+        AbstractPhaseScope phaseScopeA = mock(AbstractPhaseScope.class);
+        when(phaseScopeA.getSolverScope()).thenReturn(solverScope);
+        pillarSelector.phaseStarted(phaseScopeA);
+
+        AbstractStepScope stepScopeA1 = mock(AbstractStepScope.class);
+        when(stepScopeA1.getPhaseScope()).thenReturn(phaseScopeA);
+        pillarSelector.stepStarted(stepScopeA1);
+        assertAllCodesOfPillarSelector(pillarSelector, "[a, c]", "[b]");
+        pillarSelector.stepEnded(stepScopeA1);
+
+        changeValue(solverScope, variableDescriptor, c, val2);
+
+        AbstractStepScope stepScopeA2 = mock(AbstractStepScope.class);
+        when(stepScopeA2.getPhaseScope()).thenReturn(phaseScopeA);
+        pillarSelector.stepStarted(stepScopeA2);
+        assertAllCodesOfPillarSelector(pillarSelector, "[a]", "[b, c]");
+        pillarSelector.stepEnded(stepScopeA2);
+
+        pillarSelector.phaseEnded(phaseScopeA);
+        pillarSelector.solvingEnded(solverScope);
+
+        // The pillars are grouped through the spliterator, only the entity selection check uses the iterator
+        verify(entitySelector, times(1)).spliterator();
+        verify(entitySelector, never()).iterator();
     }
 
 }
@@ -114,11 +114,13 @@ class UnionMoveSelectorTest {
                         new FixedSelectorProbabilityWeightFactory<>(fixedProbabilityWeightMap));
 
         Random workingRandom = new TestRandom(
-                1.0 / 1020.0,
-                1019.0 / 1020.0,
-                1000.0 / 1020.0,
+                // Alias table columns: a (100%), b (4%, else a)
+                (0.0 + 0.5) / 2.0,
+                (1.0 + 0.01) / 2.0,
+                (1.0 + 0.02) / 2.0,
+                // b has no more moves: a is the only column left
                 0.0,
-                999.0 / 1020.0);
+                0.5);
         SolverScope<TestdataSolution> solverScope = mock(SolverScope.class);
         when(solverScope.getWorkingRandom()).thenReturn(workingRandom);
         moveSelector.solvingStarted(solverScope);
@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.optaplanner.core.impl.heuristic.selector.move.decorator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.DummyMove;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.ChangeMove;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.SwapMove;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+
+class CompactMoveListTest {
+
+    private final GenuineVariableDescriptor<TestdataSolution> variableDescriptor =
+            TestdataEntity.buildVariableDescriptorForValue();
+    private final TestdataValue v1 = new TestdataValue("v1");
+    private final TestdataValue v2 = new TestdataValue("v2");
+    private final TestdataEntity a = new TestdataEntity("a", v1);
+    private final TestdataEntity b = new TestdataEntity("b", v2);
+    private final TestdataEntity c = new TestdataEntity("c", null);
+
+    @Test
+    void changeMoves() {
+        List<Move<TestdataSolution>> originalMoveList = List.of(
+                new ChangeMove<>(variableDescriptor, a, v2),
+                new ChangeMove<>(variableDescriptor, b, v1),
+                new ChangeMove<>(variableDescriptor, c, v1),
+                new ChangeMove<>(variableDescriptor, a, null));
+        List<Move<TestdataSolution>> moveList = CompactMoveList.create(originalMoveList.iterator(), 2);
+        assertThat(moveList).isInstanceOf(CompactMoveList.class)
+                .containsExactlyElementsOf(originalMoveList);
+        ChangeMove<TestdataSolution> move = (ChangeMove<TestdataSolution>) moveList.get(2);
+        assertThat(move.getEntity()).isSameAs(c);
+        assertThat(move.getToPlanningValue()).isSameAs(v1);
+        assertThat(move.getVariableDescriptor()).isSameAs(variableDescriptor);
+    }
+
+    @Test
+    void swapMoves() {
+        List<GenuineVariableDescriptor<TestdataSolution>> variableDescriptorList = List.of(variableDescriptor);
+        List<Move<TestdataSolution>> originalMoveList = List.of(
+                new SwapMove<>(variableDescriptorList, a, b),
+                new SwapMove<>(variableDescriptorList, a, c),
+                new SwapMove<>(variableDescriptorList, b, c));
+        List<Move<TestdataSolution>> moveList = CompactMoveList.create(originalMoveList.iterator(), 3);
+        assertThat(moveList).isInstanceOf(CompactMoveList.class)
+                .containsExactlyElementsOf(originalMoveList);
+    }
+
+    @Test
+    void shuffleAndSort() {
+        List<Move<TestdataSolution>> originalMoveList = List.of(
+                new ChangeMove<>(variableDescriptor, a, v1),
+                new ChangeMove<>(variableDescriptor, a, v2),
+                new ChangeMove<>(variableDescriptor, b, v1),
+                new ChangeMove<>(variableDescriptor, b, v2),
+                new ChangeMove<>(variableDescriptor, c, v1),
+                new ChangeMove<>(variableDescriptor, c, v2));
+        List<Move<TestdataSolution>> moveList = CompactMoveList.create(originalMoveList.iterator(), 6);
+        List<Move<TestdataSolution>> expectedMoveList = new ArrayList<>(originalMoveList);
+        Collections.shuffle(moveList, new Random(37));
+        Collections.shuffle(expectedMoveList, new Random(37));
+        assertThat(moveList).containsExactlyElementsOf(expectedMoveList);
+        moveList.sort(Comparator.comparing(Move::toString));
+        expectedMoveList.sort(Comparator.comparing(Move::toString));
+        assertThat(moveList).containsExactlyElementsOf(expectedMoveList);
+    }
+
+    @Test
+    void addRemoveAndClear() {
+        ChangeMove<TestdataSolution> moveA2 = new ChangeMove<>(variableDescriptor, a, v2);
+        ChangeMove<TestdataSolution> moveB1 = new ChangeMove<>(variableDescriptor, b, v1);
+        ChangeMove<TestdataSolution> moveC1 = new ChangeMove<>(variableDescriptor, c, v1);
+        List<Move<TestdataSolution>> moveList =
+                CompactMoveList.create(List.<Move<TestdataSolution>> of(moveA2).iterator(), 1);
+        moveList.add(moveC1);
+        moveList.add(1, moveB1);
+        assertThat(moveList).isInstanceOf(CompactMoveList.class)
+                .containsExactly(moveA2, moveB1, moveC1);
+        assertThat(moveList.remove(0)).isEqualTo(moveA2);
+        assertThat(moveList).containsExactly(moveB1, moveC1);
+
+        List<Move<TestdataSolution>> refilledMoveList = List.of(moveC1, moveA2, moveB1);
+        moveList.clear();
+        assertThat(moveList).isEmpty();
+        moveList.addAll(refilledMoveList);
+        assertThat(moveList).containsExactlyElementsOf(refilledMoveList);
+        assertThatIllegalArgumentException().isThrownBy(() -> moveList.add(new DummyMove("d1")));
+    }
+
+    @Test
+    void shuffleWithoutCreatingMoves() {
+        TestdataValue[] values = {v1, v2, null};
+        TestdataEntity[] entities = {a, b, c};
+        List<Move<TestdataSolution>> originalMoveList = new ArrayList<>();
+        for (TestdataEntity entity : entities) {
+            for (TestdataValue value : values) {
+                originalMoveList.add(new ChangeMove<>(variableDescriptor, entity, value));
+            }
+        }
+        CompactMoveList<TestdataSolution> moveList =
+                (CompactMoveList<TestdataSolution>) CompactMoveList.create(originalMoveList.iterator(), 9);
+        List<Move<TestdataSolution>> expectedMoveList = new ArrayList<>(originalMoveList);
+        Random workingRandom = new Random(37);
+        Random expectedRandom = new Random(37);
+        for (int i = 0; i < 3; i++) {
+            moveList.shuffle(workingRandom);
+            Collections.shuffle(expectedMoveList, expectedRandom);
+            assertThat(moveList).containsExactlyElementsOf(expectedMoveList);
+        }
+        // Both drew the same random numbers
+        assertThat(workingRandom.nextLong()).isEqualTo(expectedRandom.nextLong());
+    }
+
+    @Test
+    void otherMovesFallBackToArrayList() {
+        List<Move<TestdataSolution>> originalMoveList = List.of(
+                new ChangeMove<>(variableDescriptor, a, v2),
+                new ChangeMove<>(variableDescriptor, b, v1),
+                new DummyMove("d1"),
+                new ChangeMove<>(variableDescriptor, c, v1));
+        List<Move<TestdataSolution>> moveList = CompactMoveList.create(originalMoveList.iterator(), 4);
+        assertThat(moveList).isInstanceOf(ArrayList.class)
+                .containsExactlyElementsOf(originalMoveList);
+        assertThat(moveList.get(2)).isSameAs(originalMoveList.get(2));
+
+        List<Move<TestdataSolution>> dummyMoveList = List.of(new DummyMove("d1"), new DummyMove("d2"));
+        assertThat(CompactMoveList.create(dummyMoveList.iterator(), 2))
+                .isInstanceOf(ArrayList.class)
+                .containsExactlyElementsOf(dummyMoveList);
+    }
+
+}
@@ -19,6 +19,7 @@
 
 package org.optaplanner.core.impl.heuristic.selector.move.decorator;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -67,11 +68,12 @@ class ProbabilityMoveSelectorTest {
                 SelectionCacheType.STEP, probabilityWeightFactory);
 
         Random workingRandom = new TestRandom(
-                1222.0 / 1234.0,
-                111.0 / 1234.0,
-                0.0,
-                1230.0 / 1234.0,
-                1199.0 / 1234.0);
+                // Alias table columns: e1 (100%), e2 (65%, else e1), e3 (10%, else e1), e4 (1%, else e1)
+                (2.0 + 0.05) / 4.0,
+                (0.0 + 0.4) / 4.0,
+                (2.0 + 0.5) / 4.0,
+                (3.0 + 0.01) / 4.0,
+                (1.0 + 0.5) / 4.0);
 
         SolverScope<TestdataSolution> solverScope = mock(SolverScope.class);
         when(solverScope.getWorkingRandom()).thenReturn(workingRandom);
@@ -84,6 +86,8 @@ class ProbabilityMoveSelectorTest {
         assertCodesOfNeverEndingMoveSelector(moveSelector, 4L, "e3", "e1", "e1", "e4", "e2");
 
         moveSelector.stepEnded(stepScopeA1);
+        // The disposed cache doesn't keep the moves reachable
+        assertThat(moveSelector.getSize()).isZero();
         moveSelector.phaseEnded(phaseScopeA);
         moveSelector.solvingEnded(solverScope);
 
@@ -19,7 +19,9 @@
 
 package org.optaplanner.core.impl.heuristic.selector.move.decorator;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -31,14 +33,22 @@ import java.util.Comparator;
 
 import org.junit.jupiter.api.Test;
 import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
+import org.optaplanner.core.config.heuristic.selector.common.decorator.SelectionSorterOrder;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import org.optaplanner.core.impl.heuristic.move.DummyMove;
+import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.heuristic.selector.SelectorTestUtils;
 import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionSorter;
+import org.optaplanner.core.impl.heuristic.selector.common.decorator.WeightFactorySelectionSorter;
 import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.ChangeMove;
 import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
 import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
 
 class SortingMoveSelectorTest {
 
@@ -123,4 +133,45 @@ class SortingMoveSelectorTest {
         verify(childMoveSelector, times(timesCalled)).getSize();
     }
 
+    @Test
+    void weightFactorySorterWithCompactCachedChangeMoves() {
+        GenuineVariableDescriptor<TestdataSolution> variableDescriptor =
+                TestdataEntity.buildVariableDescriptorForValue();
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataEntity a = new TestdataEntity("a", v1);
+        TestdataEntity b = new TestdataEntity("b", v1);
+        ChangeMove<TestdataSolution> moveA1 = new ChangeMove<>(variableDescriptor, a, v1);
+        ChangeMove<TestdataSolution> moveA2 = new ChangeMove<>(variableDescriptor, a, v2);
+        ChangeMove<TestdataSolution> moveB1 = new ChangeMove<>(variableDescriptor, b, v1);
+        ChangeMove<TestdataSolution> moveB2 = new ChangeMove<>(variableDescriptor, b, v2);
+        MoveSelector<TestdataSolution> childMoveSelector = SelectorTestUtils.mockMoveSelector(ChangeMove.class,
+                moveA1, moveA2, moveB1, moveB2);
+
+        // Sorts by value first, in descending order
+        SelectionSorter<TestdataSolution, Move<TestdataSolution>> sorter = new WeightFactorySelectionSorter<>(
+                (solution, move) -> {
+                    ChangeMove<TestdataSolution> changeMove = (ChangeMove<TestdataSolution>) move;
+                    return ((TestdataValue) changeMove.getToPlanningValue()).getCode()
+                            + ((TestdataEntity) changeMove.getEntity()).getCode();
+                }, SelectionSorterOrder.DESCENDING);
+        SortingMoveSelector<TestdataSolution> moveSelector =
+                new SortingMoveSelector<>(childMoveSelector, SelectionCacheType.PHASE, sorter);
+
+        SolverScope<TestdataSolution> solverScope = mock(SolverScope.class);
+        InnerScoreDirector<TestdataSolution, ?> scoreDirector = mock(InnerScoreDirector.class);
+        doReturn(scoreDirector).when(solverScope).getScoreDirector();
+        moveSelector.solvingStarted(solverScope);
+
+        AbstractPhaseScope<TestdataSolution> phaseScope = mock(AbstractPhaseScope.class);
+        when(phaseScope.getSolverScope()).thenReturn(solverScope);
+        moveSelector.phaseStarted(phaseScope);
+
+        assertThat(moveSelector.cachedMoveList).isInstanceOf(CompactMoveList.class);
+        assertThat(moveSelector).containsExactly(moveB2, moveA2, moveB1, moveA1);
+
+        moveSelector.phaseEnded(phaseScope);
+        moveSelector.solvingEnded(solverScope);
+    }
+
 }
@@ -53,22 +53,26 @@ class PillarDemandTest {
                 new FilteringEntitySelector<>(entitySelector, List.of(selectionFilter));
 
         PillarDemand<TestdataSolution> pillarDemand =
-                new PillarDemand<>(filteringEntitySelector, variableDescriptorList, subPillarConfigPolicy);
+                new PillarDemand<>(filteringEntitySelector, variableDescriptorList, subPillarConfigPolicy, true);
         Assertions.assertThat(pillarDemand).isEqualTo(pillarDemand);
 
         PillarDemand<TestdataSolution> samePillarDemand =
-                new PillarDemand<>(filteringEntitySelector, variableDescriptorList, subPillarConfigPolicy);
+                new PillarDemand<>(filteringEntitySelector, variableDescriptorList, subPillarConfigPolicy, true);
         Assertions.assertThat(samePillarDemand).isEqualTo(pillarDemand);
 
         PillarDemand<TestdataSolution> samePillarDemandCopiedList =
-                new PillarDemand<>(filteringEntitySelector, new ArrayList<>(variableDescriptorList), subPillarConfigPolicy);
+                new PillarDemand<>(filteringEntitySelector, new ArrayList<>(variableDescriptorList), subPillarConfigPolicy, true);
         Assertions.assertThat(samePillarDemandCopiedList).isEqualTo(pillarDemand);
 
         EntitySelector<TestdataSolution> sameEntitySelector =
                 new FilteringEntitySelector<>(entitySelector, List.of(selectionFilter));
         PillarDemand<TestdataSolution> samePillarDemandCopiedSelector =
-                new PillarDemand<>(sameEntitySelector, new ArrayList<>(variableDescriptorList), subPillarConfigPolicy);
+                new PillarDemand<>(sameEntitySelector, new ArrayList<>(variableDescriptorList), subPillarConfigPolicy, true);
         Assertions.assertThat(samePillarDemandCopiedSelector).isEqualTo(pillarDemand);
+
+        PillarDemand<TestdataSolution> unchangeablePillarDemand =
+                new PillarDemand<>(filteringEntitySelector, variableDescriptorList, subPillarConfigPolicy, false);
+        Assertions.assertThat(unchangeablePillarDemand).isNotEqualTo(pillarDemand);
     }
 
 }
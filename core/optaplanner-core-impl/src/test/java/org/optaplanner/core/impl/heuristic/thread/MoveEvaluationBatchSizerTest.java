@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.thread;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import org.junit.jupiter.api.Test;
+
+class MoveEvaluationBatchSizerTest {
+
+    @Test
+    void batchSizeAdaptsToMoveEvaluationTime() {
+        MoveEvaluationBatchSizer batchSizer = new MoveEvaluationBatchSizer(8);
+        // Nothing measured yet
+        assertThat(batchSizer.getBatchSize()).isEqualTo(1);
+        // Expensive moves are not batched
+        batchSizer.recordBatch(1, MoveEvaluationBatchSizer.TARGET_BATCH_NANOS * 2L);
+        assertThat(batchSizer.getBatchSize()).isEqualTo(1);
+        // Cheap moves are batched, up to the maximum
+        for (int i = 0; i < 100; i++) {
+            batchSizer.recordBatch(4, MoveEvaluationBatchSizer.TARGET_BATCH_NANOS);
+        }
+        assertThat(batchSizer.getBatchSize()).isBetween(3, 4);
+        for (int i = 0; i < 100; i++) {
+            batchSizer.recordBatch(10, 1_000L);
+        }
+        assertThat(batchSizer.getBatchSize()).isEqualTo(8);
+    }
+
+    @Test
+    void maximumBatchSizeMustBePositive() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new MoveEvaluationBatchSizer(0));
+    }
+
+}
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.thread;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.impl.heuristic.move.DummyMove;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+
+class MoveThreadOperationQueueTest {
+
+    private final ExecutorService executorService = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executorService.shutdownNow();
+        executorService.awaitTermination(1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void addAndTakeInOrder() throws InterruptedException {
+        MoveThreadOperationQueue<TestdataSolution> queue = new MoveThreadOperationQueue<>(3);
+        MoveEvaluationOperation<TestdataSolution> a0 = new MoveEvaluationOperation<>(0, 0, new DummyMove("a0"));
+        MoveEvaluationOperation<TestdataSolution> a1 = new MoveEvaluationOperation<>(0, 1, new DummyMove("a1"));
+        MoveEvaluationOperation<TestdataSolution> a2 = new MoveEvaluationOperation<>(0, 2, new DummyMove("a2"));
+        queue.add(a0);
+        queue.add(a1);
+        assertThat(queue.take()).isSameAs(a0);
+        queue.add(a2);
+        assertThat(queue.take()).isSameAs(a1);
+        assertThat(queue.take()).isSameAs(a2);
+    }
+
+    @Test
+    void addFailsFastWhenFull() {
+        // Capacity is rounded up to 4
+        MoveThreadOperationQueue<TestdataSolution> queue = new MoveThreadOperationQueue<>(3);
+        for (int i = 0; i < 4; i++) {
+            queue.add(new MoveEvaluationOperation<>(0, i, new DummyMove("a" + i)));
+        }
+        assertThatThrownBy(() -> queue.add(new MoveEvaluationOperation<>(0, 4, new DummyMove("a4"))))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void clear() throws InterruptedException {
+        MoveThreadOperationQueue<TestdataSolution> queue = new MoveThreadOperationQueue<>(4);
+        queue.add(new MoveEvaluationOperation<>(0, 0, new DummyMove("a0")));
+        queue.add(new MoveEvaluationOperation<>(0, 1, new DummyMove("a1")));
+        queue.clear();
+        DestroyOperation<TestdataSolution> destroyOperation = new DestroyOperation<>();
+        queue.add(destroyOperation);
+        assertThat(queue.take()).isSameAs(destroyOperation);
+    }
+
+    @Test
+    void takeBlocksUntilAdded() throws InterruptedException, ExecutionException, TimeoutException {
+        int moveThreadCount = 4;
+        int operationCount = 1000;
+        MoveThreadOperationQueue<TestdataSolution> queue = new MoveThreadOperationQueue<>(8);
+        List<Future<Integer>> futureList = new ArrayList<>(moveThreadCount);
+        for (int i = 0; i < moveThreadCount; i++) {
+            futureList.add(executorService.submit(() -> {
+                int takenCount = 0;
+                while (!(queue.take() instanceof DestroyOperation)) {
+                    takenCount++;
+                }
+                return takenCount;
+            }));
+        }
+        for (int i = 0; i < operationCount; i++) {
+            boolean added = false;
+            while (!added) {
+                try {
+                    queue.add(new MoveEvaluationOperation<>(0, i, new DummyMove("a" + i)));
+                    added = true;
+                } catch (IllegalStateException e) {
+                    // Full, wait for the move threads to take some operations
+                    Thread.onSpinWait();
+                }
+            }
+        }
+        DestroyOperation<TestdataSolution> destroyOperation = new DestroyOperation<>();
+        for (int i = 0; i < moveThreadCount; i++) {
+            while (true) {
+                try {
+                    queue.add(destroyOperation);
+                    break;
+                } catch (IllegalStateException e) {
+                    Thread.onSpinWait();
+                }
+            }
+        }
+        int takenCount = 0;
+        for (Future<Integer> future : futureList) {
+            takenCount += future.get(10, TimeUnit.SECONDS);
+        }
+        assertThat(takenCount).isEqualTo(operationCount);
+    }
+
+}
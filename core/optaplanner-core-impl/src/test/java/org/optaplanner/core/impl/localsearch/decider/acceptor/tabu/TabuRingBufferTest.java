@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.optaplanner.core.impl.localsearch.decider.acceptor.tabu;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class TabuRingBufferTest {
+
+    @Test
+    void addAndExpire() {
+        TabuRingBuffer tabuRingBuffer = new TabuRingBuffer(2);
+        tabuRingBuffer.add("a", 0);
+        tabuRingBuffer.add(null, 0);
+        tabuRingBuffer.add("b", 1);
+        assertThat(tabuRingBuffer.getStepIndex("a")).isEqualTo(0);
+        assertThat(tabuRingBuffer.getStepIndex(null)).isEqualTo(0);
+        assertThat(tabuRingBuffer.getStepIndex("b")).isEqualTo(1);
+        assertThat(tabuRingBuffer.getStepIndex("c")).isEqualTo(-1);
+        // Pushes "a" to the end of the line
+        tabuRingBuffer.add("a", 2);
+        assertThat(tabuRingBuffer.size()).isEqualTo(3);
+        assertThat(tabuRingBuffer.getStepIndex("a")).isEqualTo(2);
+
+        tabuRingBuffer.removeExpired(3, 3);
+        assertThat(tabuRingBuffer.getStepIndex(null)).isEqualTo(-1);
+        assertThat(tabuRingBuffer.getStepIndex("b")).isEqualTo(1);
+        tabuRingBuffer.removeExpired(4, 3);
+        assertThat(tabuRingBuffer.getStepIndex("b")).isEqualTo(-1);
+        assertThat(tabuRingBuffer.getStepIndex("a")).isEqualTo(2);
+        List<Object> tabuList = new ArrayList<>();
+        tabuRingBuffer.forEach(tabuList::add);
+        assertThat(tabuList).containsExactly("a");
+    }
+
+    @Test
+    void hashCodeStabilityViolation() {
+        TabuRingBuffer tabuRingBuffer = new TabuRingBuffer(2);
+        List<String> tabu = new ArrayList<>();
+        tabuRingBuffer.add(tabu, 0);
+        tabu.add("changed");
+        assertThat(tabuRingBuffer.getStepIndex(tabu)).isEqualTo(-1);
+        assertThatIllegalStateException().isThrownBy(() -> tabuRingBuffer.removeExpired(1, 1))
+                .withMessageContaining("HashCode stability violation");
+    }
+
+    @Test
+    void sameAsMapAndDeque() {
+        Random random = new Random(37);
+        TabuRingBuffer tabuRingBuffer = new TabuRingBuffer(0);
+        Map<Object, Integer> tabuToStepIndexMap = new HashMap<>();
+        Deque<Object> tabuSequenceDeque = new ArrayDeque<>();
+        for (int stepIndex = 0; stepIndex < 2000; stepIndex++) {
+            // Varying tabu sizes, like the ratio based tabu size strategies
+            int totalTabuListSize = 1 + random.nextInt(40);
+            tabuRingBuffer.removeExpired(stepIndex, totalTabuListSize);
+            for (Iterator<Object> it = tabuSequenceDeque.iterator(); it.hasNext();) {
+                Object oldTabu = it.next();
+                if (stepIndex - tabuToStepIndexMap.get(oldTabu) < totalTabuListSize) {
+                    break;
+                }
+                it.remove();
+                tabuToStepIndexMap.remove(oldTabu);
+            }
+            int tabuCount = random.nextInt(4);
+            for (int i = 0; i < tabuCount; i++) {
+                // Few distinct hashCodes, to force collisions in the table
+                CollidingTabu tabu = new CollidingTabu(random.nextInt(100));
+                tabuRingBuffer.add(tabu, stepIndex);
+                if (tabuToStepIndexMap.remove(tabu) != null) {
+                    tabuSequenceDeque.remove(tabu);
+                }
+                tabuToStepIndexMap.put(tabu, stepIndex);
+                tabuSequenceDeque.add(tabu);
+            }
+            assertThat(tabuRingBuffer.size()).isEqualTo(tabuToStepIndexMap.size());
+            for (int id = 0; id < 100; id++) {
+                CollidingTabu tabu = new CollidingTabu(id);
+                assertThat(tabuRingBuffer.getStepIndex(tabu))
+                        .isEqualTo(tabuToStepIndexMap.getOrDefault(tabu, -1));
+            }
+            List<Object> tabuList = new ArrayList<>();
+            tabuRingBuffer.forEach(tabuList::add);
+            assertThat(tabuList).containsExactlyElementsOf(tabuSequenceDeque);
+        }
+    }
+
+    private static final class CollidingTabu {
+
+        private final int id;
+
+        private CollidingTabu(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof CollidingTabu && ((CollidingTabu) o).id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            return id % 7;
+        }
+
+    }
+
+}
@@ -93,6 +93,15 @@ class ScoreDirectorFactoryFactoryTest {
                 .withMessageContaining("together");
     }
 
+    @Test
+    void incrementalScoreCalculatorWithConstraintStreamParallelPropagation_throwsException() {
+        ScoreDirectorFactoryConfig config = new ScoreDirectorFactoryConfig()
+                .withIncrementalScoreCalculatorClass(TestCustomPropertiesIncrementalScoreCalculator.class)
+                .withConstraintStreamParallelPropagationEnabled(true);
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> buildTestdataScoreDirectoryFactory(config))
+                .withMessageContaining("constraintStreamParallelPropagationEnabled (true)");
+    }
+
     private <Score_ extends Score<Score_>> ScoreDirectorFactory<TestdataSolution> buildTestdataScoreDirectoryFactory(
             ScoreDirectorFactoryConfig config, EnvironmentMode environmentMode) {
         return new ScoreDirectorFactoryFactory<TestdataSolution, Score_>(config)
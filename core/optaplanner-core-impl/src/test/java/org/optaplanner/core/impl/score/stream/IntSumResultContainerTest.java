@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import org.junit.jupiter.api.Test;
+
+class IntSumResultContainerTest {
+
+    @Test
+    void addAndUndo() {
+        IntSumResultContainer resultContainer = new IntSumResultContainer();
+        assertThat(resultContainer.getAverage()).isNull();
+
+        Runnable undo1 = resultContainer.add(3);
+        Runnable undo2 = resultContainer.add(6);
+        assertThat(resultContainer.getSum()).isEqualTo(9);
+        assertThat(resultContainer.getCount()).isEqualTo(2);
+        assertThat(resultContainer.getAverage()).isEqualTo(4.5);
+
+        undo1.run();
+        assertThat(resultContainer.getSum()).isEqualTo(6);
+        assertThat(resultContainer.getCount()).isEqualTo(1);
+        undo2.run();
+        assertThat(resultContainer.getSum()).isZero();
+        assertThat(resultContainer.getAverage()).isNull();
+    }
+
+    @Test
+    void undoIsRecycled() {
+        IntSumResultContainer resultContainer = new IntSumResultContainer();
+        Runnable undo1 = resultContainer.add(3);
+        undo1.run();
+        // Bavet runs the old undo and accumulates again on every update.
+        Runnable undo2 = resultContainer.add(4);
+        assertThat(undo2).isSameAs(undo1);
+        assertThat(resultContainer.getSum()).isEqualTo(4);
+        undo2.run();
+        assertThat(resultContainer.getSum()).isZero();
+    }
+
+    @Test
+    void undoRunTwiceFails() {
+        IntSumResultContainer resultContainer = new IntSumResultContainer();
+        Runnable undo = resultContainer.add(3);
+        undo.run();
+        assertThatIllegalStateException().isThrownBy(undo::run);
+        assertThat(resultContainer.getSum()).isZero();
+    }
+
+}
@@ -21,6 +21,7 @@ package org.optaplanner.core.impl.solver;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -93,6 +94,22 @@ class BestSolutionHolderTest {
         assertThat(problemChange).isCancelled();
     }
 
+    @Test
+    void refuseProblemChanges() {
+        BestSolutionHolder<TestdataSolution> bestSolutionHolder = new BestSolutionHolder<>();
+
+        CompletableFuture<Void> problemChange = addProblemChange(bestSolutionHolder);
+        bestSolutionHolder.refuseProblemChanges();
+
+        Solver<TestdataSolution> solver = mock(Solver.class);
+        ProblemChange<TestdataSolution> lateProblemChange = mock(ProblemChange.class);
+        assertThat(bestSolutionHolder.addProblemChange(solver, lateProblemChange)).isCancelled();
+        verify(solver, never()).addProblemChange(lateProblemChange);
+
+        bestSolutionHolder.cancelPendingChanges();
+        assertThat(problemChange).isCancelled();
+    }
+
     private CompletableFuture<Void> addProblemChange(BestSolutionHolder<TestdataSolution> bestSolutionHolder) {
         Solver<TestdataSolution> solver = mock(Solver.class);
         ProblemChange<TestdataSolution> problemChange = mock(ProblemChange.class);
@@ -24,6 +24,7 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.fail;
 import static org.mockito.Mockito.mock;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -90,6 +91,58 @@ class ConsumerSupportTest {
         }
     }
 
+    @Test
+    @Timeout(60)
+    void throttling_finalBestSolutionIsAlwaysConsumed() throws InterruptedException {
+        CountDownLatch firstConsumptionCompleted = new CountDownLatch(1);
+        CountDownLatch finalConsumptionCompleted = new CountDownLatch(1);
+        List<TestdataSolution> consumedSolutions = Collections.synchronizedList(new ArrayList<>());
+        AtomicReference<TestdataSolution> finalBestSolutionRef = new AtomicReference<>();
+        consumerSupport = new ConsumerSupport<>(1L, testdataSolution -> {
+            consumedSolutions.add(testdataSolution);
+            firstConsumptionCompleted.countDown();
+        }, finalBestSolution -> {
+            finalBestSolutionRef.set(finalBestSolution);
+            finalConsumptionCompleted.countDown();
+        }, null, new BestSolutionHolder<>(), Duration.ofHours(1), null);
+
+        consumeIntermediateBestSolution(TestdataSolution.generateSolution(1, 1));
+        firstConsumptionCompleted.await();
+        // Both solutions arrive within the throttling delay, so only the last one is consumed.
+        consumeIntermediateBestSolution(TestdataSolution.generateSolution(2, 2));
+        consumeIntermediateBestSolution(TestdataSolution.generateSolution(3, 3));
+        assertThat(consumedSolutions).hasSize(1);
+
+        TestdataSolution finalBestSolution = TestdataSolution.generateSolution(3, 3);
+        consumerSupport.consumeFinalBestSolution(finalBestSolution);
+        finalConsumptionCompleted.await();
+        assertThat(consumedSolutions).hasSize(2);
+        assertThat(consumedSolutions.get(0).getEntityList()).hasSize(1);
+        assertThat(consumedSolutions.get(1).getEntityList()).hasSize(3);
+        assertThat(finalBestSolutionRef.get()).isSameAs(finalBestSolution);
+    }
+
+    @Test
+    @Timeout(60)
+    void throttling_waitingBestSolutionIsConsumedAfterDelay() throws InterruptedException {
+        CountDownLatch firstConsumptionCompleted = new CountDownLatch(1);
+        CountDownLatch consumptionCompleted = new CountDownLatch(2);
+        List<TestdataSolution> consumedSolutions = Collections.synchronizedList(new ArrayList<>());
+        consumerSupport = new ConsumerSupport<>(1L, testdataSolution -> {
+            consumedSolutions.add(testdataSolution);
+            firstConsumptionCompleted.countDown();
+            consumptionCompleted.countDown();
+        }, null, null, new BestSolutionHolder<>(), Duration.ofMillis(100), null);
+
+        consumeIntermediateBestSolution(TestdataSolution.generateSolution(1, 1));
+        firstConsumptionCompleted.await();
+        // No further best solution arrives, so the waiting one is consumed when the throttling delay expires.
+        consumeIntermediateBestSolution(TestdataSolution.generateSolution(2, 2));
+        consumptionCompleted.await();
+        assertThat(consumedSolutions).hasSize(2);
+        assertThat(consumedSolutions.get(1).getEntityList()).hasSize(2);
+    }
+
     @Test
     @Timeout(60)
     void problemChangesComplete_afterFinalBestSolutionIsConsumed() throws ExecutionException, InterruptedException {
@@ -21,6 +21,7 @@ package org.optaplanner.core.impl.solver;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.fail;
 
 import java.util.ArrayList;
@@ -52,6 +53,7 @@ import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.api.solver.SolutionManager;
 import org.optaplanner.core.api.solver.Solver;
 import org.optaplanner.core.api.solver.SolverFactory;
+import org.optaplanner.core.api.solver.change.ProblemChange;
 import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
 import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicType;
 import org.optaplanner.core.config.constructionheuristic.placer.QueuedEntityPlacerConfig;
@@ -65,6 +67,7 @@ import org.optaplanner.core.config.localsearch.LocalSearchPhaseConfig;
 import org.optaplanner.core.config.localsearch.LocalSearchType;
 import org.optaplanner.core.config.phase.custom.CustomPhaseConfig;
 import org.optaplanner.core.config.score.director.ScoreDirectorFactoryConfig;
+import org.optaplanner.core.config.solver.EnvironmentMode;
 import org.optaplanner.core.config.solver.SolverConfig;
 import org.optaplanner.core.config.solver.monitoring.MonitoringConfig;
 import org.optaplanner.core.config.solver.monitoring.SolverMetric;
@@ -73,11 +76,14 @@ import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionFilter;
 import org.optaplanner.core.impl.heuristic.selector.move.factory.MoveListFactory;
 import org.optaplanner.core.impl.heuristic.selector.move.generic.ChangeMove;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import org.optaplanner.core.impl.phase.custom.CustomPhaseCommand;
 import org.optaplanner.core.impl.phase.custom.NoChangeCustomPhaseCommand;
 import org.optaplanner.core.impl.phase.event.PhaseLifecycleListenerAdapter;
+import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
 import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
 import org.optaplanner.core.impl.score.DummySimpleScoreEasyScoreCalculator;
+import org.optaplanner.core.impl.testdata.domain.TestdataEasyScoreCalculator;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 import org.optaplanner.core.impl.testdata.domain.TestdataValue;
@@ -97,6 +103,8 @@ import org.optaplanner.core.impl.testdata.domain.multientity.TestdataMultiEntity
 import org.optaplanner.core.impl.testdata.domain.pinned.TestdataPinnedEntity;
 import org.optaplanner.core.impl.testdata.domain.pinned.TestdataPinnedSolution;
 import org.optaplanner.core.impl.testdata.domain.score.TestdataHardSoftScoreSolution;
+import org.optaplanner.core.impl.testdata.domain.shadow.counting.TestdataCountingShadowedEntity;
+import org.optaplanner.core.impl.testdata.domain.shadow.counting.TestdataCountingShadowedSolution;
 import org.optaplanner.core.impl.testdata.util.PlannerAssert;
 import org.optaplanner.core.impl.testdata.util.PlannerTestUtils;
 import org.optaplanner.core.impl.testutil.TestMeterRegistry;
@@ -133,6 +141,48 @@ class DefaultSolverTest {
         assertThat(solution.getScore().isSolutionInitialized()).isTrue();
     }
 
+    @Test
+    void solveWithIncrementalBestSolutionCloning() {
+        TestdataSolution incrementalSolution = solveWithIncrementalBestSolutionCloning(true);
+        TestdataSolution fullSolution = solveWithIncrementalBestSolutionCloning(false);
+        assertThat(incrementalSolution.getScore()).isEqualTo(fullSolution.getScore());
+        for (int i = 0; i < fullSolution.getEntityList().size(); i++) {
+            assertThat(incrementalSolution.getEntityList().get(i).getValue().getCode())
+                    .isEqualTo(fullSolution.getEntityList().get(i).getValue().getCode());
+        }
+    }
+
+    private static TestdataSolution solveWithIncrementalBestSolutionCloning(boolean incrementalBestSolutionCloning) {
+        SolverConfig solverConfig = new SolverConfig()
+                .withSolutionClass(TestdataSolution.class)
+                .withEntityClasses(TestdataEntity.class)
+                .withEnvironmentMode(EnvironmentMode.FULL_ASSERT)
+                .withEasyScoreCalculatorClass(TestdataEasyScoreCalculator.class)
+                .withIncrementalBestSolutionCloning(incrementalBestSolutionCloning)
+                .withPhases(new ConstructionHeuristicPhaseConfig(),
+                        new LocalSearchPhaseConfig().withTerminationConfig(new TerminationConfig().withStepCountLimit(100)));
+        Solver<TestdataSolution> solver = SolverFactory.<TestdataSolution> create(solverConfig).buildSolver();
+        List<TestdataSolution> bestSolutionList = new ArrayList<>();
+        solver.addEventListener(event -> bestSolutionList.add(event.getNewBestSolution()));
+
+        TestdataSolution solution = new TestdataSolution("s1");
+        solution.setValueList(IntStream.range(0, 3)
+                .mapToObj(i -> new TestdataValue("v" + i))
+                .collect(Collectors.toList()));
+        solution.setEntityList(IntStream.range(0, 8)
+                .mapToObj(i -> new TestdataEntity("e" + i))
+                .collect(Collectors.toList()));
+        solution = solver.solve(solution);
+        assertThat(bestSolutionList).isNotEmpty();
+        // Every best solution must remain intact, even if it shares entities with later best solutions
+        TestdataEasyScoreCalculator calculator = new TestdataEasyScoreCalculator();
+        for (TestdataSolution bestSolution : bestSolutionList) {
+            assertThat(calculator.calculateScore(bestSolution)).isEqualTo(bestSolution.getScore());
+        }
+        assertThat(calculator.calculateScore(solution)).isEqualTo(solution.getScore());
+        return solution;
+    }
+
     @Test
     void checkDefaultMeters() {
         TestMeterRegistry meterRegistry = new TestMeterRegistry();
@@ -737,6 +787,200 @@ class DefaultSolverTest {
         executorService.shutdown();
     }
 
+    @Test
+    @Timeout(60)
+    void solveWithBatchedProblemChanges() throws InterruptedException {
+        TestMeterRegistry meterRegistry = new TestMeterRegistry();
+        Metrics.addRegistry(meterRegistry);
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withDaemon(true)
+                .withProblemChangeBatching(true)
+                .withMonitoringConfig(new MonitoringConfig()
+                        .withSolverMetricList(List.of(SolverMetric.PROBLEM_CHANGE_LATENCY)));
+        SolverFactory<TestdataSolution> solverFactory = SolverFactory.create(solverConfig);
+        Solver<TestdataSolution> solver = solverFactory.buildSolver();
+        final int valueCount = 4;
+        TestdataSolution solution = TestdataSolution.generateSolution(valueCount, valueCount);
+
+        AtomicReference<TestdataSolution> bestSolution = new AtomicReference<>();
+        CountDownLatch solutionWithProblemChangesReceived = new CountDownLatch(1);
+        solver.addEventListener(bestSolutionChangedEvent -> {
+            if (bestSolutionChangedEvent.isEveryProblemChangeProcessed()) {
+                TestdataSolution newBestSolution = bestSolutionChangedEvent.getNewBestSolution();
+                if (newBestSolution.getValueList().size() == valueCount + 3) {
+                    bestSolution.set(newBestSolution);
+                    solutionWithProblemChangesReceived.countDown();
+                }
+            }
+        });
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        executorService.submit(() -> {
+            solver.solve(solution);
+        });
+
+        solver.addProblemChanges(IntStream.range(0, 3)
+                .<ProblemChange<TestdataSolution>> mapToObj(i -> (workingSolution, problemChangeDirector) -> {
+                    List<TestdataValue> valueList = new ArrayList<>(workingSolution.getValueList());
+                    workingSolution.setValueList(valueList);
+                    problemChangeDirector.addProblemFact(new TestdataValue("added value " + i), valueList::add);
+                })
+                .collect(Collectors.toList()));
+
+        solutionWithProblemChangesReceived.await();
+        assertThat(bestSolution.get().getValueList()).hasSize(valueCount + 3);
+        assertThat(meterRegistry.find(SolverMetric.PROBLEM_CHANGE_LATENCY.getMeterId()).timer().count()).isEqualTo(3L);
+
+        solver.terminateEarly();
+        executorService.shutdown();
+    }
+
+    @Test
+    @Timeout(60)
+    void solveWithIncrementalRestart() throws InterruptedException {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withDaemon(true)
+                .withIncrementalRestart(true);
+        // Keep the Local Search phase running, so the problem changes arrive during it.
+        solverConfig.getPhaseConfigList().get(1).setTerminationConfig(null);
+        SolverFactory<TestdataSolution> solverFactory = SolverFactory.create(solverConfig);
+        Solver<TestdataSolution> solver = solverFactory.buildSolver();
+        final int valueCount = 4;
+        TestdataSolution solution = TestdataSolution.generateSolution(valueCount, valueCount);
+
+        CountDownLatch localSearchPhaseStarted = new CountDownLatch(1);
+        CountDownLatch localSearchPhaseRestarted = new CountDownLatch(2);
+        AtomicInteger localSearchPhaseEndedCount = new AtomicInteger();
+        ((DefaultSolver<TestdataSolution>) solver)
+                .addPhaseLifecycleListener(new PhaseLifecycleListenerAdapter<TestdataSolution>() {
+                    @Override
+                    public void phaseStarted(AbstractPhaseScope<TestdataSolution> phaseScope) {
+                        if (phaseScope instanceof LocalSearchPhaseScope) {
+                            localSearchPhaseStarted.countDown();
+                            localSearchPhaseRestarted.countDown();
+                        }
+                    }
+
+                    @Override
+                    public void phaseEnded(AbstractPhaseScope<TestdataSolution> phaseScope) {
+                        if (phaseScope instanceof LocalSearchPhaseScope) {
+                            localSearchPhaseEndedCount.incrementAndGet();
+                        }
+                    }
+                });
+        AtomicInteger localSearchPhaseEndedCountOnEntityChange = new AtomicInteger(-1);
+        AtomicInteger localSearchPhaseEndedCountOnValueAddition = new AtomicInteger(-1);
+        CountDownLatch entityChangeReceived = new CountDownLatch(1);
+        CountDownLatch valueAdditionReceived = new CountDownLatch(1);
+        solver.addEventListener(bestSolutionChangedEvent -> {
+            if (bestSolutionChangedEvent.isEveryProblemChangeProcessed()) {
+                TestdataSolution newBestSolution = bestSolutionChangedEvent.getNewBestSolution();
+                if (newBestSolution.getValueList().size() == valueCount + 1) {
+                    localSearchPhaseEndedCountOnValueAddition.compareAndSet(-1, localSearchPhaseEndedCount.get());
+                    valueAdditionReceived.countDown();
+                } else if (newBestSolution.getEntityList().get(0).getCode().equals("changed entity")) {
+                    localSearchPhaseEndedCountOnEntityChange.compareAndSet(-1, localSearchPhaseEndedCount.get());
+                    entityChangeReceived.countDown();
+                }
+            }
+        });
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        executorService.submit(() -> {
+            solver.solve(solution);
+        });
+        localSearchPhaseStarted.await();
+
+        // A problem property change is applied between 2 steps, without ending the Local Search phase.
+        solver.addProblemChange((workingSolution, problemChangeDirector) -> problemChangeDirector
+                .changeProblemProperty(workingSolution.getEntityList().get(0), entity -> entity.setCode("changed entity")));
+        entityChangeReceived.await();
+        assertThat(localSearchPhaseEndedCountOnEntityChange.get()).isZero();
+
+        // Adding a problem fact is also applied between 2 steps, but it changes the value ranges, so the solver restarts.
+        solver.addProblemChange((workingSolution, problemChangeDirector) -> {
+            List<TestdataValue> valueList = new ArrayList<>(workingSolution.getValueList());
+            workingSolution.setValueList(valueList);
+            problemChangeDirector.addProblemFact(new TestdataValue("added value"), valueList::add);
+        });
+        valueAdditionReceived.await();
+        assertThat(localSearchPhaseEndedCountOnValueAddition.get()).isZero();
+        localSearchPhaseRestarted.await();
+        assertThat(localSearchPhaseEndedCount.get()).isEqualTo(1);
+
+        solver.terminateEarly();
+        executorService.shutdown();
+    }
+
+    @Test
+    void buildSolverWithIncrementalRestartAndMoveThreadCount() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withIncrementalRestart(true)
+                .withMoveThreadCount("2");
+        SolverFactory<TestdataSolution> solverFactory = SolverFactory.create(solverConfig);
+        assertThatIllegalArgumentException().isThrownBy(solverFactory::buildSolver)
+                .withMessageContaining("incrementalRestart");
+    }
+
+    @Test
+    @Timeout(60)
+    void batchedProblemChangesTriggerVariableListenersOncePerBatch() throws InterruptedException {
+        assertThat(countVariableListenerTriggersOfProblemChanges(true)).isEqualTo(1);
+        assertThat(countVariableListenerTriggersOfProblemChanges(false)).isEqualTo(3);
+    }
+
+    /**
+     * @return the number of times the variable listeners were triggered for an entity
+     *         that each of 3 problem changes in a single batch changes
+     */
+    private int countVariableListenerTriggersOfProblemChanges(boolean problemChangeBatching)
+            throws InterruptedException {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataCountingShadowedSolution.class,
+                TestdataCountingShadowedEntity.class)
+                .withDaemon(true)
+                .withProblemChangeBatching(problemChangeBatching);
+        Solver<TestdataCountingShadowedSolution> solver = SolverFactory.<TestdataCountingShadowedSolution> create(
+                solverConfig).buildSolver();
+        TestdataCountingShadowedSolution solution = TestdataCountingShadowedSolution.generateSolution(3, 3);
+
+        AtomicInteger triggerCountBeforeProblemChanges = new AtomicInteger();
+        AtomicBoolean problemChangesApplied = new AtomicBoolean(false);
+        AtomicReference<TestdataCountingShadowedSolution> bestSolution = new AtomicReference<>();
+        CountDownLatch solutionWithProblemChangesReceived = new CountDownLatch(1);
+        // Fired on the solver thread, so the first one after the problem changes precedes any move.
+        solver.addEventListener(bestSolutionChangedEvent -> {
+            if (problemChangesApplied.get() && bestSolutionChangedEvent.isEveryProblemChangeProcessed()
+                    && bestSolution.compareAndSet(null, bestSolutionChangedEvent.getNewBestSolution())) {
+                solutionWithProblemChangesReceived.countDown();
+            }
+        });
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        executorService.submit(() -> {
+            solver.solve(solution);
+        });
+
+        solver.addProblemChanges(IntStream.range(0, 3)
+                .<ProblemChange<TestdataCountingShadowedSolution>> mapToObj(i -> (workingSolution,
+                        problemChangeDirector) -> {
+                    TestdataCountingShadowedEntity entity = workingSolution.getEntityList().get(0);
+                    if (i == 0) {
+                        triggerCountBeforeProblemChanges.set(entity.getTriggerCount());
+                    }
+                    problemChangeDirector.changeVariable(entity, "value",
+                            e -> e.setValue(workingSolution.getValueList().get(i)));
+                    if (i == 2) {
+                        problemChangesApplied.set(true);
+                    }
+                })
+                .collect(Collectors.toList()));
+
+        solutionWithProblemChangesReceived.await();
+        solver.terminateEarly();
+        executorService.shutdown();
+        return bestSolution.get().getEntityList().get(0).getTriggerCount() - triggerCountBeforeProblemChanges.get();
+    }
+
     @Test
     void solveRepeatedlyBasicVariable(SoftAssertions softly) {
         SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.optaplanner.core.impl.solver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class FairSolverJobSchedulerTest {
+
+    // The hundreds are the priority, the tens the tenant.
+    private final FairSolverJobScheduler<Integer> scheduler = new FairSolverJobScheduler<>(
+            problemId -> (problemId / 10) % 10, problemId -> problemId / 100);
+
+    @Test
+    void tenantsTakeTurns() {
+        scheduler.add(11);
+        scheduler.add(12);
+        scheduler.add(13);
+        scheduler.add(21);
+        scheduler.add(22);
+        scheduler.add(31);
+        assertThat(pollAll()).containsExactly(11, 21, 31, 12, 22, 13);
+        assertThat(scheduler.isEmpty()).isTrue();
+    }
+
+    @Test
+    void tenantThatWaitsAgainGoesLast() {
+        scheduler.add(11);
+        scheduler.add(12);
+        scheduler.add(21);
+        assertThat(scheduler.poll()).isEqualTo(11);
+        scheduler.add(11);
+        assertThat(pollAll()).containsExactly(21, 12, 11);
+    }
+
+    @Test
+    void higherPriorityFirst() {
+        scheduler.add(11);
+        scheduler.add(111);
+        scheduler.add(21);
+        scheduler.add(221);
+        scheduler.add(112);
+        assertThat(pollAll()).containsExactly(221, 111, 112, 11, 21);
+    }
+
+    @Test
+    void remove() {
+        scheduler.add(11);
+        scheduler.add(12);
+        scheduler.add(21);
+        scheduler.add(111);
+        scheduler.remove(111);
+        scheduler.remove(21);
+        scheduler.remove(99); // Not waiting.
+        assertThat(pollAll()).containsExactly(11, 12);
+        assertThat(scheduler.isEmpty()).isTrue();
+        assertThat(scheduler.poll()).isNull();
+    }
+
+    private List<Integer> pollAll() {
+        List<Integer> problemIdList = new ArrayList<>();
+        while (!scheduler.isEmpty()) {
+            problemIdList.add(scheduler.poll());
+        }
+        return problemIdList;
+    }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.optaplanner.core.impl.solver.random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class AliasTableTest {
+
+    private static final Map<String, Double> WEIGHT_MAP = Map.of("a", 1000.0, "b", 200.0, "c", 30.0, "d", 4.0, "e", 0.0);
+
+    @Test
+    void sampleProportionally() {
+        AliasTable<String> aliasTable = new AliasTable<>();
+        aliasTable.update(List.of("a", "b", "c", "d", "e"), WEIGHT_MAP::get);
+        assertThat(aliasTable.getSize()).isEqualTo(5);
+        assertThat(aliasTable.getWeightTotal()).isEqualTo(1234.0);
+
+        Random workingRandom = new Random(37);
+        int sampleCount = 1_000_000;
+        Map<String, Integer> countMap = new HashMap<>();
+        for (int i = 0; i < sampleCount; i++) {
+            countMap.merge(aliasTable.sample(workingRandom), 1, Integer::sum);
+        }
+        assertThat(countMap.get("a") / (double) sampleCount).isCloseTo(1000.0 / 1234.0, within(0.005));
+        assertThat(countMap.get("b") / (double) sampleCount).isCloseTo(200.0 / 1234.0, within(0.005));
+        assertThat(countMap.get("c") / (double) sampleCount).isCloseTo(30.0 / 1234.0, within(0.005));
+        assertThat(countMap.get("d") / (double) sampleCount).isCloseTo(4.0 / 1234.0, within(0.005));
+        assertThat(countMap).doesNotContainKey("e");
+    }
+
+    @Test
+    void updateOnlyRebuildsOnChange() {
+        AliasTable<String> aliasTable = new AliasTable<>();
+        assertThat(aliasTable.update(List.of("a", "b", "c"), WEIGHT_MAP::get)).isTrue();
+        assertThat(aliasTable.update(List.of("a", "b", "c"), WEIGHT_MAP::get)).isFalse();
+        assertThat(aliasTable.update(List.of("a", "b"), WEIGHT_MAP::get)).isTrue();
+        assertThat(aliasTable.update(List.of("a", "b"), selection -> 1.0)).isTrue();
+        assertThat(aliasTable.update(List.of("b", "a"), selection -> 1.0)).isTrue();
+        assertThat(aliasTable.getSize()).isEqualTo(2);
+        assertThat(aliasTable.getWeightTotal()).isEqualTo(2.0);
+    }
+
+    @Test
+    void sampleProportionallyAfterGrowingAndShrinking() {
+        AliasTable<String> aliasTable = new AliasTable<>();
+        aliasTable.update(List.of("a", "b"), WEIGHT_MAP::get);
+        List<String> largeSelectionList = IntStream.range(0, 40).mapToObj(i -> "x" + i).collect(Collectors.toList());
+        aliasTable.update(largeSelectionList, selection -> 1.0);
+        assertThat(aliasTable.getSize()).isEqualTo(40);
+        aliasTable.update(List.of("c", "d", "e"), WEIGHT_MAP::get);
+        assertThat(aliasTable.getSize()).isEqualTo(3);
+        assertThat(aliasTable.getWeightTotal()).isEqualTo(34.0);
+
+        Random workingRandom = new Random(37);
+        int sampleCount = 100_000;
+        Map<String, Integer> countMap = new HashMap<>();
+        for (int i = 0; i < sampleCount; i++) {
+            countMap.merge(aliasTable.sample(workingRandom), 1, Integer::sum);
+        }
+        assertThat(countMap).containsOnlyKeys("c", "d");
+        assertThat(countMap.get("c") / (double) sampleCount).isCloseTo(30.0 / 34.0, within(0.005));
+    }
+
+    @Test
+    void invalidWeights() {
+        AliasTable<String> aliasTable = new AliasTable<>();
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> aliasTable.update(List.of("a"), selection -> -1.0));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> aliasTable.update(List.of("a"), selection -> Double.NaN));
+        aliasTable.update(List.of("a", "b"), selection -> 0.0);
+        assertThatIllegalStateException()
+                .isThrownBy(() -> aliasTable.sample(new Random(37)));
+    }
+
+}
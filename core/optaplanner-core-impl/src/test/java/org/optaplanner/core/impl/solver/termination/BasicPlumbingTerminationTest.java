@@ -73,6 +73,18 @@ class BasicPlumbingTerminationTest {
         assertThat(count).hasValue(21);
     }
 
+    @Test
+    void resetTerminateEarlyForgetsRequestedRestart() {
+        BasicPlumbingTermination<TestdataSolution> basicPlumbingTermination = new BasicPlumbingTermination<>(false);
+        basicPlumbingTermination.requestRestart();
+        basicPlumbingTermination.terminateEarly();
+        assertThat(basicPlumbingTermination.waitForRestartSolverDecision()).isFalse();
+
+        // The next solve starts without the restart requested during the previous one.
+        basicPlumbingTermination.resetTerminateEarly();
+        assertThat(basicPlumbingTermination.waitForRestartSolverDecision()).isFalse();
+    }
+
     private SolverScope<TestdataSolution> mockSolverScope() {
         SolverScope<TestdataSolution> solverScope = new SolverScope<>();
         InnerScoreDirector<TestdataSolution, ?> scoreDirectorMock = mock(InnerScoreDirector.class);
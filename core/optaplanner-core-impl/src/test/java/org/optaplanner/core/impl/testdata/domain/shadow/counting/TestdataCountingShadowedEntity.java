@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.optaplanner.core.impl.testdata.domain.shadow.counting;
+
+import org.optaplanner.core.api.domain.entity.PlanningEntity;
+import org.optaplanner.core.api.domain.variable.PlanningVariable;
+import org.optaplanner.core.api.domain.variable.ShadowVariable;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.testdata.domain.DummyVariableListener;
+import org.optaplanner.core.impl.testdata.domain.TestdataObject;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+
+@PlanningEntity
+public class TestdataCountingShadowedEntity extends TestdataObject {
+
+    private TestdataValue value;
+    private Integer triggerCount = 0;
+
+    public TestdataCountingShadowedEntity() {
+    }
+
+    public TestdataCountingShadowedEntity(String code, TestdataValue value) {
+        super(code);
+        this.value = value;
+    }
+
+    @PlanningVariable(valueRangeProviderRefs = "valueRange")
+    public TestdataValue getValue() {
+        return value;
+    }
+
+    public void setValue(TestdataValue value) {
+        this.value = value;
+    }
+
+    /**
+     * @return the number of times the variable listeners were triggered after the value of this entity changed
+     */
+    @ShadowVariable(variableListenerClass = TriggerCountingVariableListener.class, sourceVariableName = "value")
+    public Integer getTriggerCount() {
+        return triggerCount;
+    }
+
+    public void setTriggerCount(Integer triggerCount) {
+        this.triggerCount = triggerCount;
+    }
+
+    // ************************************************************************
+    // Static inner classes
+    // ************************************************************************
+
+    public static class TriggerCountingVariableListener
+            extends DummyVariableListener<TestdataCountingShadowedSolution, TestdataCountingShadowedEntity> {
+
+        @Override
+        public boolean requiresUniqueEntityEvents() {
+            // Several changes of the same entity before a trigger result in a single event.
+            return true;
+        }
+
+        @Override
+        public void afterVariableChanged(ScoreDirector<TestdataCountingShadowedSolution> scoreDirector,
+                TestdataCountingShadowedEntity entity) {
+            scoreDirector.beforeVariableChanged(entity, "triggerCount");
+            entity.setTriggerCount(entity.getTriggerCount() + 1);
+            scoreDirector.afterVariableChanged(entity, "triggerCount");
+        }
+
+    }
+
+}
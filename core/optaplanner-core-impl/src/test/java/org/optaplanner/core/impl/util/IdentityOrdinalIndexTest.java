@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.optaplanner.core.impl.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIndexOutOfBoundsException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import org.junit.jupiter.api.Test;
+
+class IdentityOrdinalIndexTest {
+
+    @Test
+    void addAndLookUp() {
+        IdentityOrdinalIndex index = new IdentityOrdinalIndex();
+        String a = new String("a");
+        String otherA = new String("a");
+        assertThat(index.add(a)).isEqualTo(0);
+        assertThat(index.add(otherA)).isEqualTo(1);
+        assertThat(index.add(a)).isEqualTo(0);
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.getOrdinal(a)).isEqualTo(0);
+        assertThat(index.getOrdinal(otherA)).isEqualTo(1);
+        assertThat(index.getOrdinal(new String("a"))).isEqualTo(-1);
+        assertThat(index.getOrdinal(null)).isEqualTo(-1);
+        assertThat(index.getObject(0)).isSameAs(a);
+        assertThat(index.getObject(1)).isSameAs(otherA);
+        assertThatIndexOutOfBoundsException().isThrownBy(() -> index.getObject(2));
+    }
+
+    @Test
+    void ordinalsAreStableWhenGrowing() {
+        IdentityOrdinalIndex index = new IdentityOrdinalIndex(0);
+        Object[] objects = new Object[1000];
+        for (int i = 0; i < objects.length; i++) {
+            objects[i] = new Object();
+            assertThat(index.add(objects[i])).isEqualTo(i);
+        }
+        assertThat(index.size()).isEqualTo(objects.length);
+        for (int i = 0; i < objects.length; i++) {
+            assertThat(index.getOrdinal(objects[i])).isEqualTo(i);
+            assertThat(index.getObject(i)).isSameAs(objects[i]);
+        }
+    }
+
+    @Test
+    void addNull() {
+        IdentityOrdinalIndex index = new IdentityOrdinalIndex();
+        assertThatNullPointerException().isThrownBy(() -> index.add(null));
+    }
+
+}